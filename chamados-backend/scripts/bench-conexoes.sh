@@ -0,0 +1,129 @@
+#!/usr/bin/env bash
+# Benchmark do tempo que cada requisição segura uma conexão do pool (hikaricp.connections.usage),
+# usado para comparar o controller com repositórios + open-in-view (antes) com o ChamadoService
+# de transações explícitas e open-in-view desligado (atual).
+#
+# Uso, de dentro de chamados-backend:
+#   mvn -B package -DskipTests && scripts/bench-conexoes.sh            # só o jar atual
+#   scripts/bench-conexoes.sh atual antes                              # os dois, lado a lado
+#
+# "antes" monta o commit anterior ao service (REF_ANTES) em target/bench-antes, com o starter do
+# actuator acrescentado ao pom (ele só entrou junto com o service) para a métrica existir nos dois.
+# Cada alvo sobe com um H2 em memória próprio e os usuários padrão; a carga roda com curl em paralelo.
+set -u
+
+cd "$(dirname "$0")/.."
+
+REF_ANTES=${REF_ANTES:-f3401a8^}
+PORTA=${PORTA:-8098}
+CHAMADOS=${CHAMADOS:-300}
+AQUECIMENTO=${AQUECIMENTO:-200}
+REQUISICOES=${REQUISICOES:-1000}
+CLIENTES=${CLIENTES:-8}
+BASE="http://localhost:$PORTA"
+ARGS=(--server.port="$PORTA" --spring.profiles.active=h2 "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1"
+      --spring.jpa.show-sql=false --logging.level.root=WARN --chamados.limite.habilitado=false
+      --management.endpoints.web.exposure.include=health,metrics)
+
+relatorio=()
+
+jar_antes() {
+    local dir=target/bench-antes
+    if [ ! -f "$dir/target/Chamados-0.0.1-SNAPSHOT.jar" ]; then
+        rm -rf "$dir" && mkdir -p "$dir"
+        git -C "$(git rev-parse --show-toplevel)" archive "$REF_ANTES:$(git rev-parse --show-prefix)" | tar -x -C "$dir" || return 1
+        # Mesmo bloco do pom atual
+        sed -i 's#<artifactId>spring-boot-starter-web</artifactId>#&\n        </dependency>\n        <dependency>\n            <groupId>org.springframework.boot</groupId>\n            <artifactId>spring-boot-starter-actuator</artifactId>#' "$dir/pom.xml"
+        (cd "$dir" && mvn -B -q package -DskipTests) >&2 || return 1
+    fi
+    echo "$dir/target/Chamados-0.0.1-SNAPSHOT.jar"
+}
+
+login() {
+    curl -s -X POST "$BASE/auth/login" -H 'Content-Type: application/json' \
+         -d "{\"email\":\"$1\",\"password\":\"$2\"}" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p'
+}
+
+# COUNT e TOTAL_TIME (segundos) do timer, separados por espaço
+uso() {
+    curl -s "$BASE/actuator/metrics/hikaricp.connections.usage" -H "Authorization: Bearer $ADM" \
+        | python3 -c 'import json,sys; m={x["statistic"]: x["value"] for x in json.load(sys.stdin)["measurements"]}; print(int(m["COUNT"]), m["TOTAL_TIME"])'
+}
+
+# Mistura de leitura e escrita: lista, chamado por id, categorias e troca de status
+carga() { # quantidade -> status e tempo (s) de cada requisição, um por linha
+    local n=$1
+    for i in $(seq 1 "$n"); do
+        local id=$(( (i % CHAMADOS) + 1 ))
+        case $(( i % 4 )) in
+            0) echo "GET /chamados $USUARIO" ;;
+            1) echo "GET /chamados/$id $TI" ;;
+            2) echo "GET /categorias $USUARIO" ;;
+            3) echo "PATCH /chamados/$id/alterar-status?status=$([ $(( i % 8 )) -eq 3 ] && echo EM_ANDAMENTO || echo ABERTO) $TI" ;;
+        esac
+    done | xargs -P "$CLIENTES" -L 1 sh -c \
+        'curl -s -o /dev/null -w "%{http_code} %{time_total}\n" -X "$0" "'"$BASE"'$1" -H "Authorization: Bearer $2"'
+}
+
+rodar() { # nome, jar
+    local nome=$1 jar=$2
+    echo "== $nome: $jar"
+    java -jar "$jar" "${ARGS[@]}" > "target/bench-$nome.log" 2>&1 &
+    local pid=$!
+
+    # Espera os três usuários padrão: o DataSeeder cria um de cada vez, já com a aplicação no ar
+    ADM="" TI="" USUARIO=""
+    for _ in $(seq 1 600); do
+        [ -n "$ADM" ] || ADM=$(login admin@ti.com admin123)
+        [ -n "$TI" ] || TI=$(login tecnico@ti.com tecnico123)
+        [ -n "$USUARIO" ] || USUARIO=$(login usuario@comum.com user123)
+        [ -n "$ADM" ] && [ -n "$TI" ] && [ -n "$USUARIO" ] && break
+        kill -0 "$pid" 2>/dev/null || break
+        sleep 0.2
+    done
+    if [ -z "$ADM" ] || [ -z "$TI" ] || [ -z "$USUARIO" ]; then
+        echo "  não subiu (log em target/bench-$nome.log)"
+        kill "$pid" 2>/dev/null
+        return
+    fi
+
+    curl -s -o /dev/null -X POST "$BASE/categorias" -H "Authorization: Bearer $ADM" \
+         -H 'Content-Type: application/json' -d '{"nome":"Rede"}'
+    for i in $(seq 1 "$CHAMADOS"); do
+        echo "{\"titulo\":\"Chamado $i\",\"descricao\":\"Descrição do chamado de teste número $i\",\"categoria\":{\"id\":1}}"
+    done | xargs -P "$CLIENTES" -d '\n' -I{} curl -s -o /dev/null -X POST "$BASE/chamados" \
+         -H "Authorization: Bearer $USUARIO" -H 'Content-Type: application/json' -d {}
+
+    carga "$AQUECIMENTO" > /dev/null
+    read -r conta_antes total_antes <<< "$(uso)"
+    local tempos=$(carga "$REQUISICOES")
+    read -r conta_depois total_depois <<< "$(uso)"
+    kill "$pid"; wait "$pid" 2>/dev/null
+
+    printf '%s\n' "$tempos" > "target/bench-$nome.tempos"
+    relatorio+=("$(python3 - "$nome" "$REQUISICOES" "$conta_antes" "$total_antes" "$conta_depois" "$total_depois" \
+                   "target/bench-$nome.tempos" <<'EOF'
+import statistics, sys
+nome, requisicoes, c0, t0, c1, t1 = sys.argv[1], int(sys.argv[2]), int(sys.argv[3]), float(sys.argv[4]), int(sys.argv[5]), float(sys.argv[6])
+linhas = [linha.split() for linha in open(sys.argv[7]) if linha.strip()]
+erros = sum(1 for status, _ in linhas if not status.startswith("2"))
+tempos = sorted(float(t) * 1000 for _, t in linhas)
+retiradas = c1 - c0
+total_ms = (t1 - t0) * 1000
+print("%-8s %6d %10d %14.1f %14.2f %10.0f %10.0f" % (nome, erros, retiradas, total_ms / requisicoes,
+      total_ms / max(retiradas, 1), statistics.median(tempos), tempos[int(len(tempos) * 0.9) - 1]))
+EOF
+)")
+}
+
+for alvo in "${@:-atual}"; do
+    case $alvo in
+        atual) rodar atual target/Chamados-0.0.1-SNAPSHOT.jar ;;
+        antes) jar=$(jar_antes) && rodar antes "$jar" || echo "== antes: não foi possível montar $REF_ANTES" ;;
+    esac
+done
+
+echo
+echo "$REQUISICOES requisições, $CLIENTES clientes, $CHAMADOS chamados (depois de $AQUECIMENTO de aquecimento)"
+printf '%-8s %6s %10s %14s %14s %10s %10s\n' "alvo" "erros" "retiradas" "ms conexão/req" "ms/retirada" "p50(ms)" "p90(ms)"
+printf '%s\n' "${relatorio[@]}"
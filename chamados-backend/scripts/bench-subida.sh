@@ -0,0 +1,100 @@
+#!/usr/bin/env bash
+# Tempo de subida do backend em cada combinação usada na tabela do perfil producao:
+# perfil padrão (jar único e extraído), producao, producao + AOT, producao + CDS e producao + AOT + CDS.
+# Mede o "Started ChamadosApplication in X seconds" do log (mediana de RODADAS subidas) e o tempo
+# até essa linha aparecer, contado de fora.
+#
+# Uso, de dentro de chamados-backend (faz os dois builds, o normal e o -Paot):
+#   scripts/bench-subida.sh
+#   RODADAS=5 scripts/bench-subida.sh
+#
+# Todas as subidas usam o mesmo banco H2 em arquivo (target/subida/banco), com o esquema e os usuários
+# padrão criados antes das medições, como um banco de produção já existente.
+set -u
+
+cd "$(dirname "$0")/.."
+
+RODADAS=${RODADAS:-3}
+PORTA=${PORTA:-8099}
+DIR=target/subida
+JAR=Chamados-0.0.1-SNAPSHOT.jar # O extract mantém o nome do jar de origem (padrao.jar, aot.jar)
+ARGS=(--server.port="$PORTA" "--spring.datasource.url=jdbc:h2:file:$PWD/$DIR/banco" --spring.datasource.username=sa
+      --spring.datasource.password= --spring.datasource.driver-class-name=org.h2.Driver)
+
+relatorio=()
+
+montar() {
+    rm -rf "$DIR" && mkdir -p "$DIR"
+    echo "== build padrão"
+    mvn -B -q package -DskipTests > "$DIR/build.log" 2>&1 || { echo "build falhou ($DIR/build.log)"; exit 1; }
+    cp "target/$JAR" "$DIR/padrao.jar"
+    java -Djarmode=tools -jar "$DIR/padrao.jar" extract --destination "$DIR/padrao" > /dev/null || exit 1
+    echo "== build -Paot"
+    mvn -B -q -Paot package -DskipTests > "$DIR/build-aot.log" 2>&1 || { echo "build falhou ($DIR/build-aot.log)"; exit 1; }
+    cp "target/$JAR" "$DIR/aot.jar"
+    java -Djarmode=tools -jar "$DIR/aot.jar" extract --destination "$DIR/aot" > /dev/null || exit 1
+    mvn -B -q package -DskipTests > "$DIR/build.log" 2>&1 # Deixa o target/ como estava (sem AOT)
+
+    echo "== esquema e usuários padrão"
+    # Perfil padrão: ddl-auto=update cria as tabelas e o DataSeeder (depois do refresh) os usuários
+    subir "$DIR/preparo.log" java -jar "$DIR/padrao.jar" "${ARGS[@]}" > /dev/null || exit 1
+
+    echo "== treino CDS"
+    java -XX:ArchiveClassesAtExit="$DIR/padrao/chamados.jsa" -Dspring.context.exit=onRefresh \
+         -jar "$DIR/padrao/padrao.jar" --spring.profiles.active=producao "${ARGS[@]}" > "$DIR/treino-padrao.log" 2>&1
+    java -XX:ArchiveClassesAtExit="$DIR/aot/chamados.jsa" -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+         -jar "$DIR/aot/aot.jar" --spring.profiles.active=producao "${ARGS[@]}" > "$DIR/treino-aot.log" 2>&1
+    [ -f "$DIR/padrao/chamados.jsa" ] && [ -f "$DIR/aot/chamados.jsa" ] || { echo "treino CDS falhou (logs em $DIR)"; exit 1; }
+}
+
+# Sobe, espera a linha "Started", derruba; imprime "segundos_do_log ms_ate_a_linha"
+subir() { # log, comando...
+    local log=$1; shift
+    local inicio=$(date +%s%N)
+    "$@" > "$log" 2>&1 &
+    local pid=$!
+    local started=""
+    for _ in $(seq 1 3600); do
+        started=$(grep -o 'Started ChamadosApplication in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' | head -1)
+        [ -n "$started" ] && break
+        kill -0 "$pid" 2>/dev/null || break
+        sleep 0.05
+    done
+    local ms=$(( ($(date +%s%N) - inicio) / 1000000 ))
+    kill "$pid" 2>/dev/null; wait "$pid" 2>/dev/null
+    [ -n "$started" ] || { echo "não subiu (log em $log)" >&2; return 1; }
+    echo "$started $ms"
+}
+
+medir() { # nome, comando...
+    local nome=$1; shift
+    echo "== $nome"
+    local resultados=()
+    for i in $(seq 1 "$RODADAS"); do
+        resultados+=("$(subir "$DIR/$nome-$i.log" "$@" "${ARGS[@]}")") || return
+    done
+    relatorio+=("$(printf '%s\n' "${resultados[@]}" | python3 -c '
+import statistics, sys
+nome = sys.argv[1]
+linhas = [linha.split() for linha in sys.stdin if linha.strip()]
+segundos = [float(s) for s, _ in linhas]
+ms = [int(m) for _, m in linhas]
+print("%-22s %10.1f %12d   %s" % (nome, statistics.median(segundos), statistics.median(ms), " ".join("%.1f" % s for s in segundos)))
+' "$nome")")
+}
+
+montar
+
+PRODUCAO=--spring.profiles.active=producao
+medir padrao-jar          java -jar "$DIR/padrao.jar"
+medir padrao-extraido     java -jar "$DIR/padrao/padrao.jar"
+medir producao            java -jar "$DIR/padrao/padrao.jar" $PRODUCAO
+medir producao-aot        java -Dspring.aot.enabled=true -jar "$DIR/aot/aot.jar" $PRODUCAO
+medir producao-cds        java -XX:SharedArchiveFile="$DIR/padrao/chamados.jsa" -jar "$DIR/padrao/padrao.jar" $PRODUCAO
+medir producao-aot-cds    java -XX:SharedArchiveFile="$DIR/aot/chamados.jsa" -Dspring.aot.enabled=true \
+                               -jar "$DIR/aot/aot.jar" $PRODUCAO
+
+echo
+echo "$(nproc) CPU(s), $(java -version 2>&1 | head -1), mediana de $RODADAS subidas"
+printf '%-22s %10s %12s   %s\n' "combinação" "started(s)" "pronto(ms)" "rodadas(s)"
+printf '%s\n' "${relatorio[@]}"
@@ -0,0 +1,107 @@
+#!/usr/bin/env bash
+# Smoke test do executável nativo comparado com o jar na JVM: tempo de subida, memória (RSS)
+# e as rotas principais (login, criar/ler/fechar chamado, ETag, Smile, exportação, métricas).
+#
+# Uso, de dentro de chamados-backend, depois do build:
+#   mvn -Pnative package && scripts/smoke-nativo.sh
+#   ALVOS=jvm scripts/smoke-nativo.sh            # só a JVM (máquina sem GraalVM)
+#
+# Cada alvo sobe com um H2 em memória próprio (perfil producao, esquema criado na subida, usuários padrão).
+set -u
+
+cd "$(dirname "$0")/.."
+
+ALVOS=${ALVOS:-"jvm nativo"}
+PORTA=${PORTA:-8097}
+BASE="http://localhost:$PORTA"
+ARGS=(--server.port="$PORTA" --spring.profiles.active=producao
+      "--spring.datasource.url=jdbc:h2:mem:smoke;DB_CLOSE_DELAY=-1" --spring.datasource.username=sa
+      --spring.datasource.password= --spring.jpa.hibernate.ddl-auto=create --chamados.seeder.habilitado=true)
+
+falhas=0
+relatorio=()
+
+verificar() { # descrição, esperado, obtido
+    if [ "$2" == "$3" ]; then
+        echo "  ok    $1"
+    else
+        echo "  FALHA $1 (esperado $2, veio $3)"
+        falhas=$((falhas + 1))
+    fi
+}
+
+rss_mb() {
+    echo $(( $(ps -o rss= -p "$1") / 1024 ))
+}
+
+login() {
+    curl -s -X POST "$BASE/auth/login" -H 'Content-Type: application/json' \
+         -d "{\"email\":\"$1\",\"password\":\"$2\"}" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p'
+}
+
+rodar() { # nome, comando...
+    local nome=$1; shift
+    echo "== $nome: $*"
+    local inicio=$(date +%s%N)
+    "$@" "${ARGS[@]}" > "target/smoke-$nome.log" 2>&1 &
+    local pid=$!
+
+    local status=""
+    for _ in $(seq 1 1200); do
+        status=$(curl -s -o /dev/null -w '%{http_code}' "$BASE/actuator/health")
+        [ "$status" == "200" ] && break
+        kill -0 "$pid" 2>/dev/null || break
+        sleep 0.05
+    done
+    local pronto_ms=$(( ($(date +%s%N) - inicio) / 1000000 ))
+    if [ "$status" != "200" ]; then
+        echo "  FALHA não subiu (log em target/smoke-$nome.log)"
+        falhas=$((falhas + 1))
+        kill "$pid" 2>/dev/null
+        return
+    fi
+    local rss_subida=$(rss_mb "$pid")
+    local started=$(grep -o 'Started ChamadosApplication in [0-9.]* seconds' "target/smoke-$nome.log" | grep -o '[0-9.]*')
+
+    local adm=$(login admin@ti.com admin123)
+    local usuario=$(login usuario@comum.com user123)
+    verificar "login" "true" "$([ -n "$adm" ] && [ -n "$usuario" ] && echo true || echo false)"
+
+    curl -s -o /dev/null -X POST "$BASE/categorias" -H "Authorization: Bearer $adm" \
+         -H 'Content-Type: application/json' -d '{"nome":"Rede"}'
+    local id=$(curl -s -X POST "$BASE/chamados" -H "Authorization: Bearer $usuario" -H 'Content-Type: application/json' \
+         -d '{"titulo":"Sem rede","descricao":"Cabo solto","categoria":{"id":1},"setor":{"id":1}}' \
+         | sed -n 's/^{"id":\([0-9]*\).*/\1/p')
+    verificar "criar chamado" "true" "$([ -n "$id" ] && echo true || echo false)"
+
+    local etag=$(curl -s -D - -o /dev/null "$BASE/chamados/$id" -H "Authorization: Bearer $usuario" \
+         | tr -d '\r' | sed -n 's/^[Ee][Tt]ag: //p')
+    verificar "ETag do chamado" "\"$id-0\"" "$etag"
+    verificar "If-None-Match -> 304" "304" "$(curl -s -o /dev/null -w '%{http_code}' "$BASE/chamados/$id" \
+         -H "Authorization: Bearer $usuario" -H "If-None-Match: $etag")"
+    verificar "fechar com If-Match" "200" "$(curl -s -o /dev/null -w '%{http_code}' -X PATCH "$BASE/chamados/$id/fechar" \
+         -H "Authorization: Bearer $usuario" -H "If-Match: $etag")"
+    verificar "If-Match desatualizado -> 412" "412" "$(curl -s -o /dev/null -w '%{http_code}' -X PATCH "$BASE/chamados/$id/fechar" \
+         -H "Authorization: Bearer $usuario" -H "If-Match: $etag")"
+    verificar "listagem em Smile" "200" "$(curl -s -o /dev/null -w '%{http_code}' "$BASE/chamados" \
+         -H "Authorization: Bearer $adm" -H 'Accept: application/x-jackson-smile')"
+    verificar "exportação" "200" "$(curl -s -o /dev/null -w '%{http_code}' "$BASE/chamados/export" -H "Authorization: Bearer $adm")"
+    verificar "métricas" "200" "$(curl -s -o /dev/null -w '%{http_code}' "$BASE/actuator/metrics/hibernate.sessions.open" \
+         -H "Authorization: Bearer $adm")"
+
+    local rss_final=$(rss_mb "$pid")
+    kill "$pid"; wait "$pid" 2>/dev/null
+    relatorio+=("$(printf '%-8s %10s %12s %12s %12s' "$nome" "${started:--}" "$pronto_ms" "$rss_subida" "$rss_final")")
+}
+
+for alvo in $ALVOS; do
+    case $alvo in
+        jvm)    rodar jvm java -jar target/Chamados-0.0.1-SNAPSHOT.jar ;;
+        nativo) rodar nativo target/chamados ;;
+    esac
+done
+
+echo
+printf '%-8s %10s %12s %12s %12s\n' "alvo" "started(s)" "pronto(ms)" "RSS sub(MB)" "RSS fim(MB)"
+printf '%s\n' "${relatorio[@]}"
+[ "$falhas" -eq 0 ] || { echo "$falhas verificação(ões) falharam"; exit 1; }
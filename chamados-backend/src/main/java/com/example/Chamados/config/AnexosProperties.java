@@ -0,0 +1,23 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+// Armazenamento dos anexos dos chamados (prefixo "chamados.anexos")
+@Component
+@ConfigurationProperties(prefix = "chamados.anexos")
+public class AnexosProperties {
+
+    // Diretório onde os arquivos são gravados (relativo ao diretório de execução, como o banco H2)
+    private String diretorio = "dados/anexos";
+
+    // Tamanho máximo de um anexo. Aceita 500KB, 25MB...
+    private DataSize tamanhoMaximo = DataSize.ofMegabytes(25);
+
+    // getters e setters
+    public String getDiretorio() { return diretorio; }
+    public void setDiretorio(String diretorio) { this.diretorio = diretorio; }
+    public DataSize getTamanhoMaximo() { return tamanhoMaximo; }
+    public void setTamanhoMaximo(DataSize tamanhoMaximo) { this.tamanhoMaximo = tamanhoMaximo; }
+}
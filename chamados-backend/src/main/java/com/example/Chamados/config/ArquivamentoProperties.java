@@ -0,0 +1,30 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Arquivamento de chamados fechados (prefixo "chamados.arquivamento").
+// O horário da execução fica em chamados.arquivamento.cron.
+@Component
+@ConfigurationProperties(prefix = "chamados.arquivamento")
+public class ArquivamentoProperties {
+
+    // Liga/desliga o job
+    private boolean habilitado = true;
+
+    // Tempo desde o fechamento para o chamado sair da tabela principal
+    private Duration idade = Duration.ofDays(365);
+
+    // Chamados movidos por transação
+    private int tamanhoLote = 1000;
+
+    // getters e setters
+    public boolean isHabilitado() { return habilitado; }
+    public void setHabilitado(boolean habilitado) { this.habilitado = habilitado; }
+    public Duration getIdade() { return idade; }
+    public void setIdade(Duration idade) { this.idade = idade; }
+    public int getTamanhoLote() { return tamanhoLote; }
+    public void setTamanhoLote(int tamanhoLote) { this.tamanhoLote = tamanhoLote; }
+}
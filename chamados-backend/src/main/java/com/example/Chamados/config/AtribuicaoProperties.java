@@ -0,0 +1,36 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Configurações da atribuição automática de chamados (prefixo "chamados.atribuicao")
+@Component
+@ConfigurationProperties(prefix = "chamados.atribuicao")
+public class AtribuicaoProperties {
+
+    // Liga/desliga a atribuição automática no criarChamado
+    private boolean automatica = true;
+
+    // Quantos chamados a mais um especialista pode ter em relação ao técnico menos carregado
+    // e ainda assim ser escolhido (0 = ignora especialidades)
+    private int folgaEspecialista = 2;
+
+    // Especialidades por nome de categoria/setor -> emails dos técnicos
+    // Ex: chamados.atribuicao.categorias.Rede=joao@ti.com,maria@ti.com
+    private Map<String, List<String>> categorias = new HashMap<>();
+    private Map<String, List<String>> setores = new HashMap<>();
+
+    // getters e setters
+    public boolean isAutomatica() { return automatica; }
+    public void setAutomatica(boolean automatica) { this.automatica = automatica; }
+    public int getFolgaEspecialista() { return folgaEspecialista; }
+    public void setFolgaEspecialista(int folgaEspecialista) { this.folgaEspecialista = folgaEspecialista; }
+    public Map<String, List<String>> getCategorias() { return categorias; }
+    public void setCategorias(Map<String, List<String>> categorias) { this.categorias = categorias; }
+    public Map<String, List<String>> getSetores() { return setores; }
+    public void setSetores(Map<String, List<String>> setores) { this.setores = setores; }
+}
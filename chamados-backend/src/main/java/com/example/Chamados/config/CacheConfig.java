@@ -0,0 +1,29 @@
+package com.example.Chamados.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+// CacheManager (JCache/Caffeine) do cache de segundo nível, um por instância da aplicação.
+// O provider guarda um CacheManager por URI: sem isto, dois contextos Spring na mesma JVM
+// (ex.: o teste de invalidação entre instâncias) dividiriam o mesmo cache.
+// As regiões continuam configuradas em application.conf.
+@Configuration
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManagerHibernate(InvalidacaoProperties invalidacaoProperties) {
+        return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("chamados-" + invalidacaoProperties.getNo()), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheManagerNoHibernate(CacheManager cacheManagerHibernate) {
+        return propriedades -> propriedades.put("hibernate.javax.cache.cache_manager", cacheManagerHibernate);
+    }
+}
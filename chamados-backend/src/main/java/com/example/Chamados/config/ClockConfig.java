@@ -0,0 +1,16 @@
+package com.example.Chamados.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+// Relógio da aplicação. Fica em um bean para que os testes possam controlar o tempo.
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
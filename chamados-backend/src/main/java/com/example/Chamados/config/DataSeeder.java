@@ -6,6 +6,7 @@ import com.example.Chamados.model.Usuario;
 import com.example.Chamados.repository.SetorRepository;
 import com.example.Chamados.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,9 +26,17 @@ public class DataSeeder {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    // Desligado no perfil "producao": os usuários padrão já existem e a subida economiza as consultas
+    // e os hashes BCrypt. Lido na execução (e não com @ConditionalOnProperty) para valer também no build AOT/nativo
+    @Value("${chamados.seeder.habilitado:true}")
+    private boolean habilitado;
+
     @Bean
     public CommandLineRunner loadData() {
         return args -> {
+            if (!habilitado) {
+                return;
+            }
             
             // --- Passo 1: Garantir que o Setor "ADM" exista ---
             // (Sem mudanças aqui, ele ainda é necessário para os Chamados)
@@ -0,0 +1,28 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Carga e desempenho dos técnicos (prefixo "chamados.desempenho"), usado no gerenciamento e na atribuição.
+@Component
+@ConfigurationProperties(prefix = "chamados.desempenho")
+public class DesempenhoProperties {
+
+    // Por quanto tempo o resultado de uma janela é reaproveitado: cada tela que abre o seletor de técnico
+    // consultaria o banco; assim são no máximo três consultas agrupadas por janela a cada "validade"
+    private Duration validade = Duration.ofSeconds(30);
+
+    // Janela (em dias, até agora) dos chamados fechados, quando não informada e no máximo
+    private int diasPadrao = 30;
+    private int maximoDias = 365;
+
+    // getters e setters
+    public Duration getValidade() { return validade; }
+    public void setValidade(Duration validade) { this.validade = validade; }
+    public int getDiasPadrao() { return diasPadrao; }
+    public void setDiasPadrao(int diasPadrao) { this.diasPadrao = diasPadrao; }
+    public int getMaximoDias() { return maximoDias; }
+    public void setMaximoDias(int maximoDias) { this.maximoDias = maximoDias; }
+}
@@ -0,0 +1,46 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// Detecção de chamados duplicados (prefixo "chamados.duplicados"): índice MinHash/LSH do título + descrição
+// dos chamados abertos, consultado ao criar um chamado.
+@Component
+@ConfigurationProperties(prefix = "chamados.duplicados")
+public class DuplicadosProperties {
+
+    private boolean habilitado = true;
+
+    // Assinatura de faixas * linhas hashes. Mais linhas por faixa = menos candidatos falsos;
+    // mais faixas = menos parecidos perdidos. Com 40 x 3, um texto com similaridade 0,5
+    // cai em algum balde em mais de 99% das vezes
+    private int faixas = 40;
+    private int linhas = 3;
+
+    // Similaridade estimada (Jaccard dos trigramas, 0 a 1) para considerar um chamado possível duplicado
+    private double similaridadeMinima = 0.5;
+
+    // Quantos possíveis duplicados devolver, dos mais parecidos aos menos parecidos
+    private int maximo = 5;
+
+    // Chamado novo muito parecido (>= similaridade-vinculo) com um chamado de incidente
+    // já entra como filho desse incidente
+    private boolean vincularAoIncidente = false;
+    private double similaridadeVinculo = 0.8;
+
+    // getters e setters
+    public boolean isHabilitado() { return habilitado; }
+    public void setHabilitado(boolean habilitado) { this.habilitado = habilitado; }
+    public int getFaixas() { return faixas; }
+    public void setFaixas(int faixas) { this.faixas = faixas; }
+    public int getLinhas() { return linhas; }
+    public void setLinhas(int linhas) { this.linhas = linhas; }
+    public double getSimilaridadeMinima() { return similaridadeMinima; }
+    public void setSimilaridadeMinima(double similaridadeMinima) { this.similaridadeMinima = similaridadeMinima; }
+    public int getMaximo() { return maximo; }
+    public void setMaximo(int maximo) { this.maximo = maximo; }
+    public boolean isVincularAoIncidente() { return vincularAoIncidente; }
+    public void setVincularAoIncidente(boolean vincularAoIncidente) { this.vincularAoIncidente = vincularAoIncidente; }
+    public double getSimilaridadeVinculo() { return similaridadeVinculo; }
+    public void setSimilaridadeVinculo(double similaridadeVinculo) { this.similaridadeVinculo = similaridadeVinculo; }
+}
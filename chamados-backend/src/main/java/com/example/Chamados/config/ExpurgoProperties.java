@@ -0,0 +1,35 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Expurgo dos chamados e usuários removidos (prefixo "chamados.expurgo").
+// Remover só marca data_remocao; o expurgo apaga as linhas depois, um lote pequeno por vez.
+@Component
+@ConfigurationProperties(prefix = "chamados.expurgo")
+public class ExpurgoProperties {
+
+    // Liga/desliga o job
+    private boolean habilitado = true;
+
+    // Tempo que o removido fica no banco antes de ser apagado (dá para recuperar com um UPDATE nesse meio tempo)
+    private Duration carencia = Duration.ofDays(7);
+
+    // Chamados (e usuários) apagados por transação: locks curtos, que não seguram as requisições
+    private int tamanhoLote = 200;
+
+    // Intervalo entre um lote e o próximo: limita o expurgo a tamanhoLote / pausa linhas por segundo
+    private Duration pausa = Duration.ofSeconds(5);
+
+    // getters e setters
+    public boolean isHabilitado() { return habilitado; }
+    public void setHabilitado(boolean habilitado) { this.habilitado = habilitado; }
+    public Duration getCarencia() { return carencia; }
+    public void setCarencia(Duration carencia) { this.carencia = carencia; }
+    public int getTamanhoLote() { return tamanhoLote; }
+    public void setTamanhoLote(int tamanhoLote) { this.tamanhoLote = tamanhoLote; }
+    public Duration getPausa() { return pausa; }
+    public void setPausa(Duration pausa) { this.pausa = pausa; }
+}
@@ -0,0 +1,57 @@
+package com.example.Chamados.config;
+
+import com.example.Chamados.util.ParticoesMySql;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+
+// Usado no perfil "particionado" (hibernate.hbm2ddl.schema_filter_provider):
+// o ddl-auto deixa de criar/alterar a tabela chamado, que passa a ser mantida pelo ParticionamentoService
+// com o script db/mysql/chamado-particionado.sql. Sem isso o Hibernate tentaria recriar as chaves
+// estrangeiras de chamado a cada subida, e o MySQL não aceita FK em tabela particionada.
+public class FiltroEsquemaParticionado implements SchemaFilterProvider {
+
+    private static final SchemaFilter SEM_CHAMADO = new SchemaFilter() {
+        @Override
+        public boolean includeNamespace(Namespace namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean includeTable(Table table) {
+            return !ParticoesMySql.TABELA.equalsIgnoreCase(table.getName());
+        }
+
+        @Override
+        public boolean includeSequence(Sequence sequence) {
+            return true;
+        }
+    };
+
+    @Override
+    public SchemaFilter getCreateFilter() {
+        return SEM_CHAMADO;
+    }
+
+    @Override
+    public SchemaFilter getDropFilter() {
+        return SchemaFilter.ALL;
+    }
+
+    @Override
+    public SchemaFilter getTruncatorFilter() {
+        return SchemaFilter.ALL;
+    }
+
+    @Override
+    public SchemaFilter getMigrateFilter() {
+        return SEM_CHAMADO;
+    }
+
+    @Override
+    public SchemaFilter getValidateFilter() {
+        return SchemaFilter.ALL;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Relatório de fluxo de chamados (prefixo "chamados.fluxo"): abertos/fechados por hora, setor e categoria
+// na tabela fluxo_chamados, mantida a cada abertura e fechamento.
+@Component
+@ConfigurationProperties(prefix = "chamados.fluxo")
+public class FluxoProperties {
+
+    private boolean habilitado = true;
+
+    // As contagens ficam em memória e vão para a tabela a cada "gravacao" (um UPDATE por hora/setor/categoria
+    // alterados, em vez de um por chamado). Uma queda da instância perde no máximo esse intervalo;
+    // POST /relatorios/fluxo/recalcular refaz qualquer período a partir dos chamados
+    private Duration gravacao = Duration.ofSeconds(10);
+
+    // Máximo de períodos (horas, dias, semanas ou meses) por consulta
+    private int maximoPeriodos = 2000;
+
+    // getters e setters
+    public boolean isHabilitado() { return habilitado; }
+    public void setHabilitado(boolean habilitado) { this.habilitado = habilitado; }
+    public Duration getGravacao() { return gravacao; }
+    public void setGravacao(Duration gravacao) { this.gravacao = gravacao; }
+    public int getMaximoPeriodos() { return maximoPeriodos; }
+    public void setMaximoPeriodos(int maximoPeriodos) { this.maximoPeriodos = maximoPeriodos; }
+}
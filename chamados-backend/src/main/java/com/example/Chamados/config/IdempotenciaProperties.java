@@ -0,0 +1,50 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+// Chaves de idempotência (prefixo "chamados.idempotencia"): POST /chamados e os PATCH de chamado
+// com o cabeçalho Idempotency-Key guardam a resposta; uma repetição com a mesma chave recebe a resposta guardada.
+@Component
+@ConfigurationProperties(prefix = "chamados.idempotencia")
+public class IdempotenciaProperties {
+
+    private boolean habilitado = true;
+
+    // memoria = Caffeine local (limitado a "tamanho-maximo"); banco = tabela resposta_idempotente,
+    // vista por todas as instâncias
+    private String tipo = "memoria";
+
+    // Por quanto tempo a resposta fica guardada (o cliente deve desistir de repetir antes disso)
+    private Duration validade = Duration.ofHours(24);
+
+    private long tamanhoMaximo = 10_000;
+
+    // Uma reserva sem resposta há mais que isso (instância caiu no meio) pode ser assumida por outra tentativa
+    private Duration execucaoMaxima = Duration.ofMinutes(1);
+
+    // O corpo é lido inteiro para a impressão: acima disso a requisição recebe 413
+    private DataSize corpoMaximo = DataSize.ofKilobytes(256);
+
+    // Intervalo da limpeza das respostas vencidas na tabela (tipo=banco)
+    private Duration limpeza = Duration.ofMinutes(10);
+
+    // getters e setters
+    public boolean isHabilitado() { return habilitado; }
+    public void setHabilitado(boolean habilitado) { this.habilitado = habilitado; }
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+    public Duration getValidade() { return validade; }
+    public void setValidade(Duration validade) { this.validade = validade; }
+    public long getTamanhoMaximo() { return tamanhoMaximo; }
+    public void setTamanhoMaximo(long tamanhoMaximo) { this.tamanhoMaximo = tamanhoMaximo; }
+    public Duration getExecucaoMaxima() { return execucaoMaxima; }
+    public void setExecucaoMaxima(Duration execucaoMaxima) { this.execucaoMaxima = execucaoMaxima; }
+    public DataSize getCorpoMaximo() { return corpoMaximo; }
+    public void setCorpoMaximo(DataSize corpoMaximo) { this.corpoMaximo = corpoMaximo; }
+    public Duration getLimpeza() { return limpeza; }
+    public void setLimpeza(Duration limpeza) { this.limpeza = limpeza; }
+}
@@ -0,0 +1,45 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// Invalidação dos caches entre instâncias da aplicação (prefixo "chamados.invalidacao")
+@Component
+@ConfigurationProperties(prefix = "chamados.invalidacao")
+public class InvalidacaoProperties {
+
+    // "banco" (tabela alteracao_cache lida periodicamente por todas as instâncias) ou "redis" (pub/sub)
+    private String tipo = "banco";
+
+    // Identifica esta instância nas mensagens (cada uma ignora as próprias). Padrão: gerado na subida
+    private String no = UUID.randomUUID().toString();
+
+    // Banco: intervalo entre as leituras da tabela (atraso máximo da invalidação nas outras instâncias)
+    private Duration intervalo = Duration.ofSeconds(1);
+
+    // Banco: cada leitura relê as alterações deste período, para pegar transações que terminaram fora de ordem
+    private Duration janela = Duration.ofSeconds(30);
+
+    // Banco: alterações mais antigas que isso são apagadas da tabela
+    private Duration retencao = Duration.ofHours(1);
+
+    // Redis: canal do pub/sub
+    private String canal = "chamados:invalidacao";
+
+    // getters e setters
+    public String getTipo() { return tipo; }
+    public void setTipo(String tipo) { this.tipo = tipo; }
+    public String getNo() { return no; }
+    public void setNo(String no) { this.no = no; }
+    public Duration getIntervalo() { return intervalo; }
+    public void setIntervalo(Duration intervalo) { this.intervalo = intervalo; }
+    public Duration getJanela() { return janela; }
+    public void setJanela(Duration janela) { this.janela = janela; }
+    public Duration getRetencao() { return retencao; }
+    public void setRetencao(Duration retencao) { this.retencao = retencao; }
+    public String getCanal() { return canal; }
+    public void setCanal(String canal) { this.canal = canal; }
+}
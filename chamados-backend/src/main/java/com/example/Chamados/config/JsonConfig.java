@@ -0,0 +1,84 @@
+package com.example.Chamados.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Formatos compactos das respostas, escolhidos pelo cliente no cabeçalho Accept
+// (sem Accept, ou com application/json, nada muda para o frontend):
+// - application/vnd.chamados.compacto+json: JSON sem campos nulos e com datas em epoch millis
+// - application/x-jackson-smile: o mesmo conteúdo em Smile (JSON binário do Jackson)
+@Configuration
+public class JsonConfig implements WebMvcConfigurer {
+
+    public static final MediaType JSON_COMPACTO = MediaType.valueOf("application/vnd.chamados.compacto+json");
+    public static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    // Builder do Spring Boot (módulos e spring.jackson.*); é prototype, um por mapper
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+    @Autowired
+    private Clock clock;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // JSON compacto antes do JSON padrão, que também aceita application/*+json.
+        // Só escreve quando o Accept pede o tipo: sem Accept o padrão continua sendo application/json.
+        MappingJackson2HttpMessageConverter compacto = new MappingJackson2HttpMessageConverter(
+                compacto(builders.getObject()).build()) {
+            @Override
+            public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+                return mediaType != null && super.canWrite(clazz, mediaType);
+            }
+        };
+        compacto.setSupportedMediaTypes(List.of(JSON_COMPACTO));
+        converters.add(0, compacto);
+
+        // Smile com as mesmas regras do JSON compacto (substitui o conversor Smile padrão do Spring)
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter);
+        ObjectMapper smile = compacto(builders.getObject()).factory(new SmileFactory()).build();
+        converters.add(new MappingJackson2SmileHttpMessageConverter(smile));
+    }
+
+    private Jackson2ObjectMapperBuilder compacto(Jackson2ObjectMapperBuilder builder) {
+        SimpleModule epochMillis = new SimpleModule("epoch-millis");
+        epochMillis.addSerializer(LocalDateTime.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(LocalDateTime data, JsonGenerator gerador, SerializerProvider provider) throws IOException {
+                gerador.writeNumber(data.atZone(clock.getZone()).toInstant().toEpochMilli());
+            }
+        });
+        epochMillis.addDeserializer(LocalDateTime.class, new JsonDeserializer<>() {
+            @Override
+            public LocalDateTime deserialize(JsonParser parser, DeserializationContext contexto) throws IOException {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), clock.getZone());
+            }
+        });
+        return builder
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .modulesToInstall(modulos -> modulos.add(epochMillis)); // Depois do JavaTimeModule: prevalece
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.Chamados.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Leitura das próprias escritas com réplicas: decide, por requisição, se as leituras devem ir para o primário.
+// - Requisições que escrevem (POST/PUT/PATCH/DELETE) usam só o primário, inclusive para o findById antes do save.
+// - Depois de uma escrita, o mesmo usuário lê do primário durante a janela configurada,
+//   para não ver o estado antigo enquanto a réplica não alcança.
+// O registro local vale só para a instância que recebeu a escrita. Para as outras (balanceador sem afinidade),
+// a resposta da escrita leva o fim da janela no cabeçalho X-Leitura-Primario-Ate (epoch millis), que o cliente
+// devolve nas requisições seguintes; qualquer instância o respeita, limitado à própria janela.
+public class LeituraPropriasEscritas implements HandlerInterceptor {
+
+    public static final String CABECALHO = "X-Leitura-Primario-Ate";
+
+    // Limpa as entradas vencidas quando o mapa passa deste tamanho
+    private static final int LIMPAR_ACIMA_DE = 10_000;
+
+    private final ThreadLocal<Boolean> primarioNestaRequisicao = new ThreadLocal<>();
+    private final Map<String, Long> escritaAte = new ConcurrentHashMap<>();
+    private final Duration janela;
+    private final Clock clock;
+
+    public LeituraPropriasEscritas(Duration janela, Clock clock) {
+        this.janela = janela;
+        this.clock = clock;
+    }
+
+    // Consultado pelo RoteadorDataSource a cada conexão
+    public boolean deveUsarPrimario() {
+        return Boolean.TRUE.equals(primarioNestaRequisicao.get());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long agora = clock.millis();
+        boolean usarPrimario = escreve(request);
+        if (usarPrimario) {
+            // Aqui, antes do corpo: no afterCompletion a resposta já foi enviada. Conta do início da requisição
+            response.setHeader(CABECALHO, Long.toString(agora + janela.toMillis()));
+        } else {
+            String usuario = usuario(request);
+            usarPrimario = (usuario != null && emJanela(usuario, agora)) || emJanelaDoCliente(request.getHeader(CABECALHO), agora);
+        }
+        primarioNestaRequisicao.set(usarPrimario);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        primarioNestaRequisicao.remove();
+        String usuario = usuario(request);
+        if (usuario != null && escreve(request) && response.getStatus() < 400) {
+            registrarEscrita(usuario);
+        }
+    }
+
+    // A janela conta a partir do fim da requisição (o commit já aconteceu)
+    void registrarEscrita(String usuario) {
+        long agora = clock.millis();
+        if (escritaAte.size() > LIMPAR_ACIMA_DE) {
+            escritaAte.values().removeIf(ate -> ate <= agora);
+        }
+        escritaAte.put(usuario, agora + janela.toMillis());
+    }
+
+    // O usuário escreveu há menos de "janela" em "agora"?
+    boolean emJanela(String usuario, long agora) {
+        Long ate = escritaAte.get(usuario);
+        return ate != null && ate > agora;
+    }
+
+    // Fim de janela trazido pelo cliente: vale se ainda não passou e não vai além de uma janela a partir de "agora"
+    // (um valor forjado só manda as leituras deste cliente para o primário, e por pouco tempo)
+    boolean emJanelaDoCliente(String cabecalho, long agora) {
+        if (cabecalho == null) {
+            return false;
+        }
+        try {
+            long ate = Long.parseLong(cabecalho.trim());
+            return ate > agora && ate <= agora + janela.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean escreve(HttpServletRequest request) {
+        String metodo = request.getMethod();
+        return !"GET".equals(metodo) && !"HEAD".equals(metodo) && !"OPTIONS".equals(metodo);
+    }
+
+    private static String usuario(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : null;
+    }
+}
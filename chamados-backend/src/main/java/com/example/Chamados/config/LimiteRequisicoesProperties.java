@@ -0,0 +1,56 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Limite de requisições por usuário (prefixo "chamados.limite").
+// Cada regra é um balde de "capacidade" requisições, reposto por inteiro a cada "periodo".
+// Vale a primeira regra de "rotas" que casar com o método e o caminho; as demais requisições caem em "padrao".
+@Component
+@ConfigurationProperties(prefix = "chamados.limite")
+public class LimiteRequisicoesProperties {
+
+    public static class Regra {
+        // Método HTTP (vazio = qualquer um) e padrão do caminho (ex: /chamados/{id}/**)
+        private String metodo;
+        private String caminho = "/**";
+        private int capacidade = 300;
+        private Duration periodo = Duration.ofMinutes(1);
+        // Conta por IP em vez de por usuário (rotas chamadas antes do login)
+        private boolean porIp = false;
+
+        public String getMetodo() { return metodo; }
+        public void setMetodo(String metodo) { this.metodo = metodo; }
+        public String getCaminho() { return caminho; }
+        public void setCaminho(String caminho) { this.caminho = caminho; }
+        public int getCapacidade() { return capacidade; }
+        public void setCapacidade(int capacidade) { this.capacidade = capacidade; }
+        public Duration getPeriodo() { return periodo; }
+        public void setPeriodo(Duration periodo) { this.periodo = periodo; }
+        public boolean isPorIp() { return porIp; }
+        public void setPorIp(boolean porIp) { this.porIp = porIp; }
+    }
+
+    private boolean habilitado = true;
+
+    private Regra padrao = new Regra();
+
+    private List<Regra> rotas = new ArrayList<>();
+
+    // Intervalo da limpeza dos baldes cheios (usuários que pararam de chamar)
+    private Duration limpeza = Duration.ofMinutes(1);
+
+    // getters e setters
+    public boolean isHabilitado() { return habilitado; }
+    public void setHabilitado(boolean habilitado) { this.habilitado = habilitado; }
+    public Regra getPadrao() { return padrao; }
+    public void setPadrao(Regra padrao) { this.padrao = padrao; }
+    public List<Regra> getRotas() { return rotas; }
+    public void setRotas(List<Regra> rotas) { this.rotas = rotas; }
+    public Duration getLimpeza() { return limpeza; }
+    public void setLimpeza(Duration limpeza) { this.limpeza = limpeza; }
+}
@@ -0,0 +1,86 @@
+package com.example.Chamados.config;
+
+import com.example.Chamados.model.AlteracaoEntidadeListener;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.Entity;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+// Dicas para a imagem nativa (mvn -Pnative package): o que é usado por reflexão ou lido do classpath
+// e que o processamento AOT do Spring não descobre sozinho. Só roda no build; na JVM não faz nada.
+// Os drivers do H2 e do MySQL e o Caffeine vêm do repositório de metadados do GraalVM (native-maven-plugin).
+@Configuration
+@ImportRuntimeHints(NativoConfig.Dicas.class)
+public class NativoConfig {
+
+    static class Dicas implements RuntimeHintsRegistrar {
+
+        // JJWT 0.11: a API instancia a implementação pelo nome da classe e acha o (de)serializador Jackson
+        // e os codecs de compressão pelo ServiceLoader
+        static final List<String> CLASSES_JJWT = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+                "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+                "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        private final BindingReflectionHintsRegistrar json = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String classe : CLASSES_JJWT) {
+                hints.reflection().registerType(TypeReference.of(classe),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // Entidades: campos e construtores para o Hibernate, getters/setters para o Jackson
+            // (várias são devolvidas direto pelos controllers)
+            doPacote("com.example.Chamados.model", new AnnotationTypeFilter(Entity.class), classLoader, entidade -> {
+                hints.reflection().registerType(entidade, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+                json.registerReflectionHints(hints.reflection(), entidade);
+            });
+            hints.reflection().registerType(AlteracaoEntidadeListener.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+
+            // DTOs: também lidos/escritos fora dos controllers (importação e exportação NDJSON)
+            doPacote("com.example.Chamados.dto", (leitor, fabrica) -> true, classLoader,
+                    dto -> json.registerReflectionHints(hints.reflection(), dto));
+
+            // Cache de segundo nível: provider pedido pelo nome e configuração HOCON do Caffeine
+            hints.reflection().registerType(CaffeineCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerPattern("application.conf").registerPattern("reference.conf");
+
+            // Scripts lidos na execução (tabela particionada)
+            hints.resources().registerPattern("db/mysql/*.sql");
+        }
+
+        private static void doPacote(String pacote, TypeFilter filtro, ClassLoader classLoader, Consumer<Class<?>> acao) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter(filtro);
+            for (BeanDefinition definicao : scanner.findCandidateComponents(pacote)) {
+                acao.accept(ClassUtils.resolveClassName(definicao.getBeanClassName(), classLoader));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// Particionamento mensal da tabela chamado no MySQL (prefixo "chamados.particionamento").
+// Ligado pelo perfil "particionado"; o horário da manutenção fica em chamados.particionamento.cron.
+@Component
+@ConfigurationProperties(prefix = "chamados.particionamento")
+public class ParticionamentoProperties {
+
+    // Liga o modo particionado (só faz sentido no MySQL)
+    private boolean habilitado = false;
+
+    // Quantos meses à frente do atual devem ter partição criada
+    private int mesesAFrente = 3;
+
+    // Converte uma tabela chamado já existente (não particionada) na subida.
+    // Reescreve a tabela inteira: deixe desligado e rode em janela de manutenção.
+    private boolean converterTabelaExistente = false;
+
+    // getters e setters
+    public boolean isHabilitado() { return habilitado; }
+    public void setHabilitado(boolean habilitado) { this.habilitado = habilitado; }
+    public int getMesesAFrente() { return mesesAFrente; }
+    public void setMesesAFrente(int mesesAFrente) { this.mesesAFrente = mesesAFrente; }
+    public boolean isConverterTabelaExistente() { return converterTabelaExistente; }
+    public void setConverterTabelaExistente(boolean converterTabelaExistente) { this.converterTabelaExistente = converterTabelaExistente; }
+}
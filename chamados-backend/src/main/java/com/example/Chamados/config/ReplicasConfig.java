@@ -0,0 +1,80 @@
+package com.example.Chamados.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+// Réplicas de leitura (chamados.replicas.habilitado=true): substitui o DataSource padrão por
+// LazyConnectionDataSourceProxy -> RoteadorDataSource -> { pool do primário, pools das réplicas }.
+// Tudo que roda em @Transactional(readOnly = true) vai para as réplicas: listagens, buscarPorId,
+// exportação, categorias/setores (os métodos de leitura dos repositórios já são readOnly).
+@Configuration
+@ConditionalOnProperty(prefix = "chamados.replicas", name = "habilitado", havingValue = "true")
+public class ReplicasConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ReplicasProperties properties;
+
+    @Autowired
+    private Clock clock;
+
+    private final List<HikariDataSource> replicas = new ArrayList<>();
+
+    // Pool do primário, com as mesmas propriedades do DataSource padrão (spring.datasource.*)
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primario = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primario.setPoolName("primario");
+        return primario;
+    }
+
+    @Bean
+    public LeituraPropriasEscritas leituraPropriasEscritas() {
+        return new LeituraPropriasEscritas(properties.getJanelaLeituraPropria(), clock);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource dataSourcePrimario) {
+        for (ReplicasProperties.Fonte fonte : properties.getFontes()) {
+            HikariConfig config = new HikariConfig();
+            dataSourcePrimario.copyStateTo(config); // Mesmo driver e tamanho de pool do primário
+            config.setPoolName("replica-" + replicas.size());
+            config.setJdbcUrl(fonte.getUrl());
+            if (fonte.getUsername() != null) {
+                config.setUsername(fonte.getUsername());
+                config.setPassword(fonte.getPassword());
+            }
+            config.setReadOnly(true);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new LazyConnectionDataSourceProxy(
+                new RoteadorDataSource(dataSourcePrimario, replicas, leituraPropriasEscritas()::deveUsarPrimario));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(leituraPropriasEscritas());
+    }
+
+    @PreDestroy
+    public void fecharReplicas() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
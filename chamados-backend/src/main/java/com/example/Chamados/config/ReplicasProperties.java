@@ -0,0 +1,46 @@
+package com.example.Chamados.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Réplicas de leitura do banco (prefixo "chamados.replicas").
+// O primário continua sendo o spring.datasource.*; as réplicas herdam dele as configurações do pool (Hikari).
+@Component
+@ConfigurationProperties(prefix = "chamados.replicas")
+public class ReplicasProperties {
+
+    // Conexão de uma réplica; usuário e senha, se vazios, são os do primário
+    public static class Fonte {
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+    }
+
+    // Liga o roteamento (sem réplicas configuradas tudo continua indo para o primário)
+    private boolean habilitado = false;
+
+    private List<Fonte> fontes = new ArrayList<>();
+
+    // Depois de uma escrita, as leituras do mesmo usuário vão para o primário por este tempo
+    // (cobre o atraso de replicação: o usuário sempre vê o que acabou de gravar)
+    private Duration janelaLeituraPropria = Duration.ofSeconds(5);
+
+    // getters e setters
+    public boolean isHabilitado() { return habilitado; }
+    public void setHabilitado(boolean habilitado) { this.habilitado = habilitado; }
+    public List<Fonte> getFontes() { return fontes; }
+    public void setFontes(List<Fonte> fontes) { this.fontes = fontes; }
+    public Duration getJanelaLeituraPropria() { return janelaLeituraPropria; }
+    public void setJanelaLeituraPropria(Duration janelaLeituraPropria) { this.janelaLeituraPropria = janelaLeituraPropria; }
+}
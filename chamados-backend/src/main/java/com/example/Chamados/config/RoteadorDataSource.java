@@ -0,0 +1,52 @@
+package com.example.Chamados.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+// Escolhe o banco de cada conexão: transações readOnly vão para as réplicas (em rodízio),
+// todo o resto (escritas, DDL, código sem transação) vai para o primário.
+// "forcarPrimario" permite mandar leituras para o primário (leitura das próprias escritas).
+//
+// Precisa ficar atrás de um LazyConnectionDataSourceProxy: o gerenciador de transações pede a conexão
+// no início da transação, antes de marcá-la como readOnly; o proxy só pede a conexão real no primeiro comando.
+public class RoteadorDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARIO = "primario";
+
+    private final List<String> replicas = new ArrayList<>();
+    private final AtomicInteger proxima = new AtomicInteger();
+    private final BooleanSupplier forcarPrimario;
+
+    public RoteadorDataSource(DataSource primario, List<? extends DataSource> replicas, BooleanSupplier forcarPrimario) {
+        this.forcarPrimario = forcarPrimario;
+        Map<Object, Object> alvos = new HashMap<>();
+        alvos.put(PRIMARIO, primario);
+        for (int i = 0; i < replicas.size(); i++) {
+            String chave = "replica-" + i;
+            alvos.put(chave, replicas.get(i));
+            this.replicas.add(chave);
+        }
+        setTargetDataSources(alvos);
+        setDefaultTargetDataSource(primario);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || forcarPrimario.getAsBoolean()) {
+            return PRIMARIO;
+        }
+        return replicas.get(Math.floorMod(proxima.getAndIncrement(), replicas.size()));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.Chamados.config;
+
+import com.example.Chamados.model.Prioridade;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+// Prazos de SLA (prefixo "chamados.sla"). Durações aceitam o formato do Spring: 30m, 4h, 2d...
+@Component
+@ConfigurationProperties(prefix = "chamados.sla")
+public class SlaProperties {
+
+    // Prazos padrão
+    private Duration primeiraResposta = Duration.ofHours(4);
+    private Duration resolucao = Duration.ofHours(24);
+
+    // Prazos por nome de categoria (sobrepõem o padrão)
+    // Ex: chamados.sla.resolucao-por-categoria.Rede=8h
+    private Map<String, Duration> primeiraRespostaPorCategoria = new HashMap<>();
+    private Map<String, Duration> resolucaoPorCategoria = new HashMap<>();
+
+    // Prazos por prioridade (também sobrepõem o padrão; com categoria e prioridade configuradas, vale o mais curto)
+    // Ex: chamados.sla.resolucao-por-prioridade.CRITICA=2h
+    private Map<Prioridade, Duration> primeiraRespostaPorPrioridade = new HashMap<>();
+    private Map<Prioridade, Duration> resolucaoPorPrioridade = new HashMap<>();
+
+    // Janela padrão do endpoint de chamados em risco
+    private Duration janelaRisco = Duration.ofHours(1);
+
+    // Resolução da roda de temporização (de quanto em quanto tempo os prazos são verificados)
+    private Duration tick = Duration.ofSeconds(1);
+
+    // getters e setters
+    public Duration getPrimeiraResposta() { return primeiraResposta; }
+    public void setPrimeiraResposta(Duration primeiraResposta) { this.primeiraResposta = primeiraResposta; }
+    public Duration getResolucao() { return resolucao; }
+    public void setResolucao(Duration resolucao) { this.resolucao = resolucao; }
+    public Map<String, Duration> getPrimeiraRespostaPorCategoria() { return primeiraRespostaPorCategoria; }
+    public void setPrimeiraRespostaPorCategoria(Map<String, Duration> primeiraRespostaPorCategoria) { this.primeiraRespostaPorCategoria = primeiraRespostaPorCategoria; }
+    public Map<String, Duration> getResolucaoPorCategoria() { return resolucaoPorCategoria; }
+    public void setResolucaoPorCategoria(Map<String, Duration> resolucaoPorCategoria) { this.resolucaoPorCategoria = resolucaoPorCategoria; }
+    public Map<Prioridade, Duration> getPrimeiraRespostaPorPrioridade() { return primeiraRespostaPorPrioridade; }
+    public void setPrimeiraRespostaPorPrioridade(Map<Prioridade, Duration> primeiraRespostaPorPrioridade) { this.primeiraRespostaPorPrioridade = primeiraRespostaPorPrioridade; }
+    public Map<Prioridade, Duration> getResolucaoPorPrioridade() { return resolucaoPorPrioridade; }
+    public void setResolucaoPorPrioridade(Map<Prioridade, Duration> resolucaoPorPrioridade) { this.resolucaoPorPrioridade = resolucaoPorPrioridade; }
+    public Duration getJanelaRisco() { return janelaRisco; }
+    public void setJanelaRisco(Duration janelaRisco) { this.janelaRisco = janelaRisco; }
+    public Duration getTick() { return tick; }
+    public void setTick(Duration tick) { this.tick = tick; }
+}
@@ -0,0 +1,193 @@
+package com.example.Chamados.controller;
+
+import com.example.Chamados.config.AnexosProperties;
+import com.example.Chamados.dto.AnexoDTO;
+import com.example.Chamados.model.Anexo;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.AnexoRepository;
+import com.example.Chamados.service.AnexoService;
+import com.example.Chamados.service.ChamadoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+// Anexos (prints, logs...) de um chamado. O corpo do upload é o próprio arquivo, lido como stream,
+// e o download sai direto do disco, com suporte a Range (um intervalo por requisição).
+@RestController
+@RequestMapping("/chamados/{chamadoId}/anexos")
+public class AnexoController {
+
+    @Autowired
+    private AnexoRepository anexoRepository;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private AnexoService anexoService;
+
+    @Autowired
+    private AnexosProperties properties;
+
+    // 1. Listar os anexos do chamado
+    @GetMapping
+    public ResponseEntity<List<AnexoDTO>> listar(@PathVariable Long chamadoId,
+                                                 @AuthenticationPrincipal Usuario usuarioLogado) {
+        Optional<Boolean> acesso = chamadoService.podeAcessar(chamadoId, usuarioLogado);
+        if (acesso.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!acesso.get()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(anexoRepository.findByChamadoIdOrderByIdAsc(chamadoId).stream().map(AnexoDTO::de).toList());
+    }
+
+    // 2. Enviar um anexo: POST /chamados/{id}/anexos?nome=print.png com o arquivo no corpo
+    // O tipo do arquivo vem do Content-Type da requisição.
+    @PostMapping
+    public ResponseEntity<AnexoDTO> enviar(@PathVariable Long chamadoId,
+                                           @RequestParam String nome,
+                                           HttpServletRequest request,
+                                           @AuthenticationPrincipal Usuario usuarioLogado) throws IOException {
+        Optional<Boolean> acesso = chamadoService.podeAcessar(chamadoId, usuarioLogado);
+        if (acesso.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!acesso.get()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        String nomeArquivo = nomeSeguro(nome);
+        if (nomeArquivo.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Recusa logo pelo Content-Length, quando informado (o limite também é checado durante a leitura)
+        if (request.getContentLengthLong() > properties.getTamanhoMaximo().toBytes()) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        String contentType = request.getContentType() != null ? request.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        try (InputStream entrada = request.getInputStream()) {
+            Anexo anexo = anexoService.salvar(chamadoId, usuarioLogado, nomeArquivo, contentType, entrada);
+            return ResponseEntity.ok(AnexoDTO.de(anexo));
+        } catch (AnexoService.LimiteExcedidoException e) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+    }
+
+    // 3. Baixar um anexo (inteiro ou um intervalo, com o cabeçalho Range: bytes=inicio-fim)
+    @GetMapping("/{anexoId}")
+    public void baixar(@PathVariable Long chamadoId,
+                       @PathVariable Long anexoId,
+                       @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                       @AuthenticationPrincipal Usuario usuarioLogado,
+                       HttpServletResponse response) throws IOException {
+
+        Optional<Boolean> acesso = chamadoService.podeAcessar(chamadoId, usuarioLogado);
+        if (acesso.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        if (!acesso.get()) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        Optional<Anexo> anexoOptional = anexoRepository.findByIdAndChamadoId(anexoId, chamadoId);
+        if (anexoOptional.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        Anexo anexo = anexoOptional.get();
+        long tamanho = anexo.getTamanho();
+
+        // 1. Cabeçalhos comuns
+        response.setContentType(anexo.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(anexo.getNomeArquivo(), StandardCharsets.UTF_8).build().toString());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, "\"" + anexo.getHash() + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=86400");
+
+        // 2. Intervalo pedido (ou o arquivo inteiro)
+        long inicio = 0;
+        long fim = tamanho - 1;
+        // Range em formato que não tratamos (ex: vários intervalos) é ignorado: vai o arquivo inteiro
+        long[] intervalo = range != null ? intervalo(range, tamanho) : null;
+        if (intervalo != null) {
+            if (intervalo.length == 0) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + tamanho);
+                return;
+            } else {
+                inicio = intervalo[0];
+                fim = intervalo[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + inicio + "-" + fim + "/" + tamanho);
+            }
+        }
+        long quantidade = fim - inicio + 1;
+        response.setContentLengthLong(quantidade);
+
+        // 3. Envia os bytes do disco para a resposta
+        if (quantidade > 0) {
+            WritableByteChannel saida = Channels.newChannel(response.getOutputStream());
+            anexoService.transferir(anexo, inicio, quantidade, saida);
+        }
+    }
+
+    // Interpreta "bytes=inicio-fim", "bytes=inicio-" e "bytes=-sufixo".
+    // Retorna {inicio, fim}, um array vazio se o intervalo não cabe no arquivo ou null se o formato não é suportado.
+    private static long[] intervalo(String range, long tamanho) {
+        if (!range.startsWith("bytes=") || range.contains(",")) {
+            return null;
+        }
+        String[] partes = range.substring("bytes=".length()).trim().split("-", -1);
+        if (partes.length != 2) {
+            return null;
+        }
+        try {
+            long inicio;
+            long fim;
+            if (partes[0].isEmpty()) {
+                long sufixo = Long.parseLong(partes[1]);
+                if (sufixo <= 0) {
+                    return new long[0];
+                }
+                inicio = Math.max(0, tamanho - sufixo);
+                fim = tamanho - 1;
+            } else {
+                inicio = Long.parseLong(partes[0]);
+                fim = partes[1].isEmpty() ? tamanho - 1 : Math.min(Long.parseLong(partes[1]), tamanho - 1);
+            }
+            if (inicio < 0 || inicio >= tamanho || fim < inicio) {
+                return new long[0];
+            }
+            return new long[] { inicio, fim };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Só o nome do arquivo, sem diretórios, limitado ao tamanho da coluna
+    private static String nomeSeguro(String nome) {
+        String semCaminho = nome.replace('\\', '/');
+        semCaminho = semCaminho.substring(semCaminho.lastIndexOf('/') + 1).trim();
+        return semCaminho.length() > 255 ? semCaminho.substring(semCaminho.length() - 255) : semCaminho;
+    }
+}
@@ -1,266 +1,375 @@
 package com.example.Chamados.controller;
 
-import java.time.LocalDateTime;
 import com.example.Chamados.model.Chamado;
 import com.example.Chamados.model.Usuario;
-import com.example.Chamados.model.Role;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus; // Para enviar o status 403 (Forbidden)
-import com.example.Chamados.repository.ChamadoRepository;
-import com.example.Chamados.repository.UsuarioRepository;
-
+import com.example.Chamados.dto.OperacaoLoteDTO;
+import com.example.Chamados.dto.ResultadoLoteDTO;
+import com.example.Chamados.service.ChamadoLoteService;
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import com.example.Chamados.service.ChamadoExportService;
+import com.example.Chamados.util.EtagChamado;
+import com.example.Chamados.util.FormatoArquivo;
+import com.example.Chamados.dto.ResultadoImportacaoDTO;
+import com.example.Chamados.service.ChamadoImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import com.example.Chamados.dto.SlaRiscoDTO;
+import com.example.Chamados.service.SlaService;
+import com.example.Chamados.service.FilaChamadosService;
+import com.example.Chamados.service.ChamadoService;
+import com.example.Chamados.dto.ChamadoSemelhanteDTO;
+import com.example.Chamados.service.DuplicadosService;
+import com.example.Chamados.service.IncidenteService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/chamados")
 public class ChamadoController {
 
     @Autowired
-    private ChamadoRepository chamadoRepository;
+    private ChamadoService chamadoService;
+
+    @Autowired
+    private ChamadoLoteService chamadoLoteService;
+
+    @Autowired
+    private ChamadoExportService chamadoExportService;
+
+    @Autowired
+    private ChamadoImportService chamadoImportService;
+
+    @Autowired
+    private SlaService slaService;
+
+    @Autowired
+    private FilaChamadosService filaChamadosService;
+
+    @Autowired
+    private DuplicadosService duplicadosService;
+
+    @Autowired
+    private IncidenteService incidenteService;
 
-    @SuppressWarnings("unused")
-	@Autowired
-    private UsuarioRepository usuarioRepository;
+    // Requisição atual (proxy do Spring): o Accept escolhe a representação, e a ETag acompanha
+    @Autowired
+    private HttpServletRequest requisicao;
+
+    // Limite de ids aceitos por requisição em /chamados/lote
+    private static final int MAXIMO_IDS_LOTE = 1000;
 
- // 1. Listar todos os chamados (ADM e TI veem todos, NORMAL vê apenas os próprios)
+    // 1. Listar todos os chamados (ADM e TI veem todos, NORMAL vê apenas os próprios)
+    //    "de"/"ate" (opcionais) limitam pela data de abertura; "ate" é inclusivo.
+    //    Com "ids" (ex: ?ids=1,2,3, até 1000), só esses chamados, com a regra de acesso do GET /chamados/{id}:
+    //    uma requisição em vez de uma por id; os inexistentes ou de outro dono ficam de fora da lista
     @GetMapping
-    public List<Chamado> listarTodos(@AuthenticationPrincipal Usuario usuarioLogado) {
-        
-        // 1. Pegamos o Role (Enum) do usuário logado
-        Role roleDoUsuario = usuarioLogado.getRole();
-
-        // 2. Verificamos se o Role é TI ou ADM
-        if (roleDoUsuario.equals(Role.ROLE_TI) || roleDoUsuario.equals(Role.ROLE_ADM)) {
-            return chamadoRepository.findAll(); // TI e ADM podem ver todos os chamados
-        } else {
-            // Se não for TI nem ADM, só pode ser NORMAL
-            return chamadoRepository.findByUsuarioId(usuarioLogado.getId()); // Usuário normal vê apenas os seus
+    public ResponseEntity<List<Chamado>> listarTodos(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+                                                     @RequestParam(required = false) List<Long> ids,
+                                                     @AuthenticationPrincipal Usuario usuarioLogado) {
+        if (ids != null) {
+            if (ids.size() > MAXIMO_IDS_LOTE || ids.contains(null)) {
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok(ids.isEmpty() ? List.of() : chamadoService.buscarVarios(ids, usuarioLogado));
         }
+        return ResponseEntity.ok(chamadoService.listar(usuarioLogado,
+                de != null ? de.atStartOfDay() : null,
+                ate != null ? ate.plusDays(1).atStartOfDay() : null));
     }
 
-    // 2. Buscar um chamado por ID
+    // 2. Buscar um chamado por ID (TI/ADM ou o dono do chamado; 403 para os demais)
+    // A resposta leva a ETag "id-versao" (com a representação, se não for o JSON padrão). Com If-None-Match,
+    // o 304 sai só da consulta da versão, sem carregar o chamado (nomes de usuário/categoria/setor alterados
+    // não mudam a versão).
     @GetMapping("/{id}")
-    public ResponseEntity<Chamado> buscarPorId(@PathVariable Long id, 
+    public ResponseEntity<Chamado> buscarPorId(@PathVariable Long id,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
                                                @AuthenticationPrincipal Usuario usuarioLogado) {
-        
-        // 1. Busca o chamado no repositório
-        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
-
-        // 2. Verifica se o chamado existe
-        if (chamadoOptional.isEmpty()) {
-            return ResponseEntity.notFound().build(); // Retorna 404 Not Found
-        }
-
-        Chamado chamado = chamadoOptional.get();
-        Role roleDoUsuario = usuarioLogado.getRole();
-        // 3. Pega as informações do usuário logado (do token JWT)
-        boolean isTI = roleDoUsuario.equals(Role.ROLE_TI) || roleDoUsuario.equals(Role.ROLE_ADM);
-        
-        // 4. Pega o ID do "dono" do chamado
-        Long donoDoChamadoId = chamado.getUsuario().getId();
-
-        // 5. Lógica de Segurança
-        // O usuário pode ver o chamado SE:
-        //    a) Ele for do tipo "TI"
-        //    OU
-        //    b) O ID dele for o mesmo do "dono" do chamado
-        if (isTI || usuarioLogado.getId().equals(donoDoChamadoId)) {
-            return ResponseEntity.ok(chamado); // 200 OK - Permissão concedida
-        } else {
-            // Se não for TI nem o dono, ele não pode ver.
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build(); // 403 Forbidden
+        if (ifNoneMatch != null) {
+            Optional<String> etag = chamadoService.versao(id, usuarioLogado).map(v -> etag(id, v));
+            if (etag.isPresent() && EtagChamado.contem(ifNoneMatch, etag.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag.get())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build(); // 304
+            }
         }
+        return resposta(chamadoService.buscar(id, usuarioLogado));
     }
 
-    // 3. Criar um novo chamado
+    // 3. Criar um novo chamado (dono, data, status inicial, atribuição automática e SLA ficam no ChamadoService)
     @PostMapping
     public ResponseEntity<Chamado> criarChamado(@RequestBody Chamado chamado, 
                                                 @AuthenticationPrincipal Usuario usuarioLogado) {
-        
-        // 1. Define o usuário
-        chamado.setUsuario(usuarioLogado);
-        
-        // 2. Define a data de abertura
-        chamado.setDataAbertura(LocalDateTime.now());
-        
-        // 3. Define o status inicial (caso o front-end não envie)
-        if (chamado.getStatus() == null) {
-            chamado.setStatus("ABERTO");
-        }
-        // --------------------
-
-        Chamado novoChamado = chamadoRepository.save(chamado);
-        return ResponseEntity.ok(novoChamado);
+        return ResponseEntity.ok(chamadoService.criar(chamado, usuarioLogado));
     }
 
     // 4. Atualizar um chamado existente (Somente TI pode atualizar)
+    // PUT e PATCH aceitam If-Match com a ETag do GET: 412 se o chamado mudou desde então
     @PutMapping("/{id}")
-    public ResponseEntity<Chamado> atualizarChamado(@PathVariable Long id, @RequestBody Chamado chamadoAtualizado, @AuthenticationPrincipal Usuario usuarioLogado) {
-
-        Optional<Chamado> chamadoExistente = chamadoRepository.findById(id);
-        if (chamadoExistente.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        Chamado chamado = chamadoExistente.get();
-        
-        chamado.setDescricao(chamadoAtualizado.getDescricao());
-        chamado.setCategoria(chamadoAtualizado.getCategoria());
-        chamado.setSetor(chamadoAtualizado.getSetor());
-        chamado.setStatus(chamadoAtualizado.getStatus());
-        // Atualize outros campos conforme necessário
-        Chamado chamadoSalvo = chamadoRepository.save(chamado);
-        return ResponseEntity.ok(chamadoSalvo);
+    public ResponseEntity<Chamado> atualizarChamado(@PathVariable Long id, @RequestBody Chamado chamadoAtualizado,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    @AuthenticationPrincipal Usuario usuarioLogado) {
+        return resposta(chamadoService.atualizar(id, chamadoAtualizado, EtagChamado.versaoEsperada(ifMatch, id)));
     }
 
     // 5. Deletar um chamado
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletarChamado(@PathVariable Long id, @AuthenticationPrincipal Usuario usuarioLogado) {
-
-        if (!chamadoRepository.existsById(id)) {
+        if (chamadoService.deletar(id).getSituacao() == ChamadoService.Situacao.NAO_ENCONTRADO) {
             return ResponseEntity.notFound().build();
         }
-
-        chamadoRepository.deleteById(id);
         return ResponseEntity.noContent().build();
     }
     // 6. Alterar o status de um chamado (Somente TI/ADM)
     @PatchMapping("/{id}/alterar-status")
     public ResponseEntity<Chamado> alterarStatus(@PathVariable Long id, 
                                                  @RequestParam String status, 
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                  @AuthenticationPrincipal Usuario usuarioLogado) {
 
         // (A segurança (ROLE_TI/ADM) já é tratada pelo SecurityConfig)
-
-        Optional<Chamado> chamadoExistente = chamadoRepository.findById(id);
-        if (chamadoExistente.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        Chamado chamado = chamadoExistente.get();
-
-        // 1. Define o novo status (boa prática salvar em maiúsculas)
-        chamado.setStatus(status.toUpperCase());
-
-        // 2. Se o novo status for "FECHADO", define a data de conclusão
-        if (status.equalsIgnoreCase("FECHADO")) {
-            chamado.setDataConclusao(LocalDateTime.now());
-        } 
-        // 3. Se o chamado for reaberto, limpa a data de conclusão
-        else if (!status.equalsIgnoreCase("FECHADO") && chamado.getDataConclusao() != null) {
-            chamado.setDataConclusao(null);
-        }
-
-        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
-        return ResponseEntity.ok(chamadoAtualizado);
+        return resposta(chamadoService.alterarStatus(id, status, EtagChamado.versaoEsperada(ifMatch, id)));
     }
     
-    // 7. Endpoint para um TI assumir um chamado
+    // 7. Endpoint para um TI assumir um chamado (409 Conflict se alguém já assumiu)
     @PatchMapping("/{id}/assumir")
     public ResponseEntity<Chamado> assumirChamado(@PathVariable Long id, 
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                  @AuthenticationPrincipal Usuario tecnicoLogado) {
-        // 2. Busca o chamado
-        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
-        if (chamadoOptional.isEmpty()) {
-            return ResponseEntity.notFound().build(); // 404 Chamado não encontrado
-        }
-
-        Chamado chamado = chamadoOptional.get();
-
-        // 3. (Opcional) Verifica se o chamado já tem um técnico
-        if (chamado.getTecnico() != null) {
-            // Retorna 409 Conflict se alguém já assumiu
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(chamado); 
-        }
-
-        // 4. A Lógica Principal: Atribui o técnico logado ao chamado
-        chamado.setTecnico(tecnicoLogado);
-        
-        // (Opcional) Você pode querer mudar o status automaticamente
-        if (chamado.getStatus().equalsIgnoreCase("ABERTO")) {
-        	chamado.setStatus("EM_ANDAMENTO");
-        }
-
-        // 5. Salva e retorna o chamado atualizado
-        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
-        return ResponseEntity.ok(chamadoAtualizado);
+        return resposta(chamadoService.assumir(id, tecnicoLogado, EtagChamado.versaoEsperada(ifMatch, id)));
     }
     
     // 8. Endpoint para o PRÓPRIO USUÁRIO fechar seu chamado
+    // (403 se não for o dono, 409 Conflict se já estiver fechado)
     @PatchMapping("/{id}/fechar")
     public ResponseEntity<Chamado> fecharChamado(@PathVariable Long id, 
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                  @AuthenticationPrincipal Usuario usuarioLogado) {
+        return resposta(chamadoService.fechar(id, usuarioLogado, EtagChamado.versaoEsperada(ifMatch, id)));
+    }
+    
+    // 9. Endpoint para ADM ou TI atribuir um chamado a um técnico específico
+    // (400 se o técnico não existe ou não é TI)
+    @PatchMapping("/{id}/atribuir")
+    public ResponseEntity<Chamado> atribuirChamado(@PathVariable Long id, 
+                                                   @RequestParam Long tecnicoId, // ID do técnico vindo da URL
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                   @AuthenticationPrincipal Usuario usuarioLogado) {
+        return resposta(chamadoService.atribuir(id, tecnicoId, EtagChamado.versaoEsperada(ifMatch, id)));
+    }
 
-        // 1. Busca o chamado
-        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
-        if (chamadoOptional.isEmpty()) {
-            return ResponseEntity.notFound().build(); // 404 Chamado não encontrado
-        }
+    // 10. Operações em lote (TI/ADM): alterar status, atribuir, fechar ou deletar vários chamados
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoLoteDTO>> executarLote(@RequestBody OperacaoLoteDTO operacaoLote,
+                                                               @AuthenticationPrincipal Usuario usuarioLogado) {
 
-        Chamado chamado = chamadoOptional.get();
+        // 1. Valida a lista de ids e a operação
+        List<Long> ids = operacaoLote.getIds();
+        if (ids == null || ids.isEmpty() || ids.size() > MAXIMO_IDS_LOTE || ids.contains(null)
+                || operacaoLote.getOperacao() == null) {
+            return ResponseEntity.badRequest().build();
+        }
 
-        // 2. VERIFICAÇÃO DE SEGURANÇA (A MAIS IMPORTANTE)
-        // O usuário logado é o "dono" (solicitante) do chamado?
-        if (!chamado.getUsuario().getId().equals(usuarioLogado.getId())) {
-            // Se não for o dono, ele não pode fechar.
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build(); // 403 Acesso Negado
+        // 2. Executa a operação escolhida (cada uma vira um UPDATE/DELETE por bloco de ids)
+        switch (operacaoLote.getOperacao()) {
+            case ALTERAR_STATUS:
+                if (operacaoLote.getStatus() == null || operacaoLote.getStatus().isBlank()) {
+                    return ResponseEntity.badRequest().build(); // 400 - Status não informado
+                }
+                return ResponseEntity.ok(chamadoLoteService.alterarStatus(ids, operacaoLote.getStatus()));
+
+            case ATRIBUIR:
+                // Mesmas verificações do atribuirChamado: o técnico precisa existir e ser TI
+                if (operacaoLote.getTecnicoId() == null) {
+                    return ResponseEntity.badRequest().build();
+                }
+                Optional<Usuario> tecnicoOptional = chamadoService.buscarTecnico(operacaoLote.getTecnicoId());
+                if (tecnicoOptional.isEmpty()) {
+                    return ResponseEntity.badRequest().build();
+                }
+                return ResponseEntity.ok(chamadoLoteService.atribuir(ids, tecnicoOptional.get()));
+
+            case FECHAR:
+                return ResponseEntity.ok(chamadoLoteService.fechar(ids));
+
+            case DELETAR:
+                // Deletar continua exclusivo do ADM, como no DELETE /chamados/{id}: para os demais, PROIBIDO por id
+                return ResponseEntity.ok(chamadoLoteService.deletar(ids, usuarioLogado));
+
+            default:
+                return ResponseEntity.badRequest().build();
         }
+    }
 
-        // 3. (Opcional) Verifica se o chamado já está fechado
-        if (chamado.getStatus().equalsIgnoreCase("FECHADO")) {
-             // Retorna 409 Conflict se já estiver fechado
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(chamado);
+    // 11. Exportação completa dos chamados em CSV ou NDJSON (TI/ADM)
+    // Os dados são escritos direto na resposta, linha a linha, sem montar a lista em memória.
+    @GetMapping("/export")
+    public void exportar(@RequestParam(defaultValue = "csv") String formato,
+                         @RequestParam(required = false) String status,
+                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+                         @RequestParam(required = false) Long setorId,
+                         @RequestParam(required = false) Long categoriaId,
+                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                         HttpServletResponse response) throws IOException {
+
+        // 1. Valida o formato pedido
+        FormatoArquivo formatoExportacao;
+        try {
+            formatoExportacao = FormatoArquivo.valueOf(formato.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value()); // 400 - Use csv ou ndjson
+            return;
         }
 
-        // 4. A Lógica Principal: Fecha o chamado
-        chamado.setStatus("FECHADO");
-        chamado.setDataConclusao(LocalDateTime.now()); // Define a data de conclusão
+        // 2. Monta o filtro ("ate" é inclusivo: vai até o fim do dia informado)
+        FiltroChamadoDTO filtro = new FiltroChamadoDTO();
+        filtro.setStatus(status);
+        filtro.setAbertoDe(de != null ? de.atStartOfDay() : null);
+        filtro.setAbertoAte(ate != null ? ate.plusDays(1).atStartOfDay() : null);
+        filtro.setSetorId(setorId);
+        filtro.setCategoriaId(categoriaId);
+
+        // 3. Cabeçalhos da resposta
+        response.setContentType(formatoExportacao.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"chamados." + formatoExportacao.getExtensao() + "\"");
+
+        // 4. Compacta com gzip se o cliente aceitar
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
 
-        // 5. Salva e retorna o chamado atualizado
-        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
-        return ResponseEntity.ok(chamadoAtualizado);
+        OutputStream saida = gzip ? new GZIPOutputStream(response.getOutputStream(), 64 * 1024) : response.getOutputStream();
+        chamadoExportService.exportar(filtro, formatoExportacao, saida);
+        saida.close(); // Finaliza o gzip (se houver)
     }
-    
-    // 9. Endpoint para ADM ou TI atribuir um chamado a um técnico específico
-    @PatchMapping("/{id}/atribuir")
-    public ResponseEntity<Chamado> atribuirChamado(@PathVariable Long id, 
-                                                   @RequestParam Long tecnicoId, // ID do técnico vindo da URL
-                                                   @AuthenticationPrincipal Usuario usuarioLogado) {
 
-        // 1. Busca o chamado
-        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
-        if (chamadoOptional.isEmpty()) {
-            return ResponseEntity.notFound().build(); // Chamado não existe
+    // 12. Importação em massa de chamados (ADM) a partir de CSV ou NDJSON
+    // O corpo da requisição é lido como stream; o formato vem do Content-Type.
+    @PostMapping(value = "/importacao", consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<ResultadoImportacaoDTO> importar(HttpServletRequest request) throws IOException {
+
+        FormatoArquivo formato = request.getContentType().toLowerCase().startsWith(FormatoArquivo.CSV.getContentType())
+                ? FormatoArquivo.CSV
+                : FormatoArquivo.NDJSON;
+
+        try (InputStream entrada = request.getInputStream()) {
+            return ResponseEntity.ok(chamadoImportService.importar(entrada, formato));
         }
-        Chamado chamado = chamadoOptional.get();
+    }
 
-        // 2. Busca o técnico
-        Optional<Usuario> tecnicoOptional = usuarioRepository.findById(tecnicoId);
-        if (tecnicoOptional.isEmpty()) {
-            return ResponseEntity.badRequest().build(); // 400 - ID do técnico é inválido
+    // 13. Chamados com prazo de SLA vencendo nos próximos "minutos" (TI/ADM), do mais urgente ao menos urgente
+    // Sem o parâmetro, usa a janela de chamados.sla.janela-risco.
+    @GetMapping("/sla/em-risco")
+    public ResponseEntity<List<SlaRiscoDTO>> chamadosEmRisco(@RequestParam(required = false) Long minutos) {
+        if (minutos != null && minutos < 0) {
+            return ResponseEntity.badRequest().build();
         }
-        Usuario tecnico = tecnicoOptional.get();
+        return ResponseEntity.ok(slaService.chamadosEmRisco(minutos != null ? Duration.ofMinutes(minutos) : null));
+    }
 
-        // 3. Verificação de segurança extra: O usuário sendo atribuído é realmente um TI?
-        if (!tecnico.getRole().equals(Role.ROLE_TI)) {
-             // 400 - Você não pode atribuir um chamado a um usuário NORMAL ou ADM
+    // 14. Técnico pega o próximo chamado da fila (maior prioridade e, empatando, o mais antigo)
+    // Retorna 204 quando não há chamado aguardando técnico.
+    @PostMapping("/proximo")
+    public ResponseEntity<Chamado> pegarProximo(@AuthenticationPrincipal Usuario tecnicoLogado) {
+        return filaChamadosService.proximo(tecnicoLogado)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    // 15. Chamados abertos com título + descrição parecidos com os do chamado (TI/ADM, para a triagem)
+    @GetMapping("/{id}/semelhantes")
+    public ResponseEntity<List<ChamadoSemelhanteDTO>> semelhantes(@PathVariable Long id) {
+        return duplicadosService.semelhantesA(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // 16. Incidente (TI/ADM): liga chamados ao chamado {id}, que passa a ser o pai. Fechar ou mudar o status
+    // do pai muda o de todos os filhos de uma vez. 404 se o pai não existe, 409 se ele é filho de outro
+    // incidente; cada id recebe um resultado, como no /lote
+    @PostMapping("/{id}/filhos")
+    public ResponseEntity<List<ResultadoLoteDTO>> vincularFilhos(@PathVariable Long id, @RequestBody List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAXIMO_IDS_LOTE || ids.contains(null)) {
             return ResponseEntity.badRequest().build();
         }
+        switch (incidenteService.situacaoComoPai(id)) {
+            case OK:
+                return ResponseEntity.ok(chamadoLoteService.vincular(ids, id));
+            case NAO_ENCONTRADO:
+                return ResponseEntity.notFound().build();
+            default:
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
 
-        // 4. A Lógica Principal: Atribui o técnico
-        chamado.setTecnico(tecnico);
+    // 17. Filhos do incidente (TI/ADM)
+    @GetMapping("/{id}/filhos")
+    public ResponseEntity<List<Chamado>> listarFilhos(@PathVariable Long id) {
+        return incidenteService.filhos(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
-        // 5. (Opcional) Mudar o status se estiver "ABERTO"
-        if (chamado.getStatus().equalsIgnoreCase("ABERTO")) {
-           chamado.setStatus("EM_ANDAMENTO");
+    // 18. Tira o chamado do incidente (TI/ADM); o status continua o mesmo
+    @PatchMapping("/{id}/desvincular")
+    public ResponseEntity<Chamado> desvincular(@PathVariable Long id) {
+        return resposta(incidenteService.desvincular(id));
+    }
+
+    // Alteração concorrente percebida só no commit (@Version): 412 para quem mandou If-Match, 409 para os demais
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> alteracaoConcorrente(HttpServletRequest request) {
+        return ResponseEntity.status(request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT).build();
+    }
+
+    // Traduz o resultado do ChamadoService para a resposta HTTP (com a ETag quando há chamado)
+    private ResponseEntity<Chamado> resposta(ChamadoService.Resultado resultado) {
+        switch (resultado.getSituacao()) {
+            case OK:
+                return ResponseEntity.ok()
+                        .eTag(etag(resultado.getChamado().getId(), resultado.getChamado().getVersao()))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(resultado.getChamado());
+            case NAO_ENCONTRADO:
+                return ResponseEntity.notFound().build(); // 404
+            case PROIBIDO:
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build(); // 403
+            case CONFLITO:
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(resultado.getChamado()); // 409
+            case PRECONDICAO_FALHOU:
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED) // 412, com o estado atual
+                        .eTag(etag(resultado.getChamado().getId(), resultado.getChamado().getVersao()))
+                        .body(resultado.getChamado());
+            default:
+                return ResponseEntity.badRequest().build(); // 400
         }
+    }
 
-        // 6. Salva e retorna o chamado atualizado
-        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
-        return ResponseEntity.ok(chamadoAtualizado);
+    // ETag da representação que o Accept desta requisição recebe
+    private String etag(Long id, long versao) {
+        return EtagChamado.de(id, versao, EtagChamado.representacao(requisicao.getHeader(HttpHeaders.ACCEPT)));
     }
 }
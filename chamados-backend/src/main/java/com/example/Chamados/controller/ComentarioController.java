@@ -0,0 +1,79 @@
+package com.example.Chamados.controller;
+
+import com.example.Chamados.dto.ComentarioDTO;
+import com.example.Chamados.dto.PaginaDTO;
+import com.example.Chamados.model.Comentario;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.ComentarioRepository;
+import com.example.Chamados.service.ChamadoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// Conversa de um chamado. Pode ver e comentar quem pode ver o chamado (dono, TI ou ADM).
+@RestController
+@RequestMapping("/chamados/{chamadoId}/comentarios")
+public class ComentarioController {
+
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    @Autowired
+    private ComentarioRepository comentarioRepository;
+
+    @Autowired
+    private ChamadoService chamadoService;
+
+    // 1. Listar os comentários do chamado, do mais antigo para o mais novo, paginados
+    @GetMapping
+    public ResponseEntity<PaginaDTO<ComentarioDTO>> listar(@PathVariable Long chamadoId,
+                                                          @RequestParam(defaultValue = "0") int pagina,
+                                                          @RequestParam(defaultValue = "20") int tamanho,
+                                                          @AuthenticationPrincipal Usuario usuarioLogado) {
+
+        Optional<Boolean> acesso = chamadoService.podeAcessar(chamadoId, usuarioLogado);
+        if (acesso.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!acesso.get()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (pagina < 0 || tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        PageRequest pageRequest = PageRequest.of(pagina, tamanho, Sort.by("id"));
+        return ResponseEntity.ok(PaginaDTO.de(comentarioRepository.findByChamadoId(chamadoId, pageRequest), ComentarioDTO::de));
+    }
+
+    // 2. Adicionar um comentário (só o "texto" do corpo é usado)
+    @PostMapping
+    public ResponseEntity<ComentarioDTO> comentar(@PathVariable Long chamadoId,
+                                                  @RequestBody ComentarioDTO dados,
+                                                  @AuthenticationPrincipal Usuario usuarioLogado) {
+
+        Optional<Boolean> acesso = chamadoService.podeAcessar(chamadoId, usuarioLogado);
+        if (acesso.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!acesso.get()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (dados.getTexto() == null || dados.getTexto().isBlank() || dados.getTexto().length() > 2000) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Comentario comentario = new Comentario();
+        comentario.setChamadoId(chamadoId);
+        comentario.setAutor(usuarioLogado);
+        comentario.setTexto(dados.getTexto().trim());
+        comentario.setDataCriacao(LocalDateTime.now());
+        return ResponseEntity.ok(ComentarioDTO.de(comentarioRepository.save(comentario)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.Chamados.controller;
+
+import com.example.Chamados.config.FluxoProperties;
+import com.example.Chamados.dto.FluxoChamadosDTO;
+import com.example.Chamados.dto.FluxoChamadosDTO.Agrupamento;
+import com.example.Chamados.dto.FluxoChamadosDTO.Granularidade;
+import com.example.Chamados.service.FluxoChamadosService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/relatorios")
+public class RelatorioController {
+
+    private static final int DIAS_PADRAO = 30;
+
+    @Autowired
+    private FluxoChamadosService fluxoChamadosService;
+
+    @Autowired
+    private FluxoProperties fluxoProperties;
+
+    @Autowired
+    private Clock clock;
+
+    // 1. Fluxo de chamados (abertos x fechados) de "de" até "ate", inclusive; padrão: últimos 30 dias.
+    // Ex: /relatorios/fluxo?de=2025-01-01&ate=2025-03-31&granularidade=SEMANA&agruparPor=SETOR
+    @GetMapping("/fluxo")
+    public ResponseEntity<List<FluxoChamadosDTO>> fluxo(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+                                                        @RequestParam(defaultValue = "DIA") Granularidade granularidade,
+                                                        @RequestParam(required = false) Long setorId,
+                                                        @RequestParam(required = false) Long categoriaId,
+                                                        @RequestParam(defaultValue = "NENHUM") Agrupamento agruparPor) {
+        LocalDate fim = ate != null ? ate : LocalDate.now(clock);
+        LocalDate inicio = de != null ? de : fim.minusDays(DIAS_PADRAO - 1);
+        if (inicio.isAfter(fim)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocalDateTime deHora = inicio.atStartOfDay();
+        LocalDateTime ateHora = fim.plusDays(1).atStartOfDay();
+        if (fluxoChamadosService.contarPeriodos(deHora, ateHora, granularidade) > fluxoProperties.getMaximoPeriodos()) {
+            return ResponseEntity.badRequest().build(); // 400 - Período longo demais para a granularidade
+        }
+        return ResponseEntity.ok(fluxoChamadosService.consultar(deHora, ateHora, granularidade, setorId, categoriaId, agruparPor));
+    }
+
+    // 2. Refaz o fluxo de "de" até "ate" (inclusive) a partir dos chamados; sem datas, refaz tudo
+    @PostMapping("/fluxo/recalcular")
+    public ResponseEntity<Void> recalcularFluxo(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        if (de != null && ate != null && de.isAfter(ate)) {
+            return ResponseEntity.badRequest().build();
+        }
+        fluxoChamadosService.recalcular(de != null ? de.atStartOfDay() : null,
+                ate != null ? ate.plusDays(1).atStartOfDay() : null);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -10,10 +10,21 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import com.example.Chamados.repository.UsuarioRepository;
+import com.example.Chamados.service.AtribuicaoAutomaticaService;
+import com.example.Chamados.config.DesempenhoProperties;
+import com.example.Chamados.dto.DesempenhoTecnicoDTO;
+import com.example.Chamados.service.DesempenhoTecnicosService;
 
 
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @RestController
@@ -24,6 +35,14 @@ public class UsuarioController {
     private UsuarioRepository usuarioRepository;
     @Autowired 
     private PasswordEncoder passwordEncoder;
+    @Autowired
+    private AtribuicaoAutomaticaService atribuicaoAutomaticaService;
+    @Autowired
+    private DesempenhoTecnicosService desempenhoTecnicosService;
+    @Autowired
+    private DesempenhoProperties desempenhoProperties;
+    @Autowired
+    private Clock clock;
 
     // Mock do usuário autenticado para validação
     // Substitua isso por um serviço de autenticação real no futuro.
@@ -35,32 +54,62 @@ public class UsuarioController {
         return usuario;
     }*/
 
-    // 1. Listar todos os usuários
+    // Limite de ids aceitos em GET /usuarios?ids=
+    private static final int MAXIMO_IDS = 1000;
+
+    // Hora da remoção no e-mail marcado do usuário removido
+    private static final DateTimeFormatter REMOCAO = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    // 1. Listar todos os usuários (só ADM).
+    //    Com "ids" (ex: ?ids=1,2,3, até 1000), qualquer usuário autenticado busca só esses, como no GET /usuarios/{id},
+    //    com uma consulta IN; na ordem pedida, sem os inexistentes e os removidos
     @GetMapping
-    public List<Usuario> listarTodos() {
-        return usuarioRepository.findAll();
+    public ResponseEntity<List<Usuario>> listarTodos(@RequestParam(required = false) List<Long> ids,
+                                                     @AuthenticationPrincipal Usuario usuarioLogado) {
+        if (ids == null) {
+            if (!usuarioLogado.getRole().equals(Role.ROLE_ADM)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build(); // Lista completa é só do ADM
+            }
+            return ResponseEntity.ok(usuarioRepository.findNaoRemovidos());
+        }
+        if (ids.size() > MAXIMO_IDS || ids.stream().anyMatch(Objects::isNull)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (ids.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+
+        Map<Long, Usuario> encontrados = new HashMap<>();
+        for (Usuario usuario : usuarioRepository.findByIdInAndDataRemocaoIsNull(new LinkedHashSet<>(ids))) {
+            encontrados.put(usuario.getId(), usuario);
+        }
+        return ResponseEntity.ok(ids.stream().distinct().map(encontrados::get).filter(Objects::nonNull).toList());
     }
 
     // 2. Buscar um usuário por ID
     @GetMapping("/{id}")
     public ResponseEntity<Usuario> buscarPorId(@PathVariable Long id) {
-        Optional<Usuario> usuario = usuarioRepository.findById(id);
+        Optional<Usuario> usuario = usuarioRepository.findByIdAndDataRemocaoIsNull(id);
         return usuario.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    // 3. Criar um novo usuário 
+    // 3. Criar um novo usuário (409 se o e-mail já é de outro usuário)
     @PostMapping
     public ResponseEntity<Usuario> criarUsuario(@RequestBody Usuario usuario) {
+        if (usuario.getEmail() != null && usuarioRepository.findByEmail(usuario.getEmail()).isPresent()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
         usuario.setPassword(passwordEncoder.encode(usuario.getPassword())); // Hasheia a senha
         Usuario novoUsuario = usuarioRepository.save(usuario);
+        atribuicaoAutomaticaService.sincronizarTecnico(novoUsuario); // Se for TI, entra na atribuição automática
         return ResponseEntity.ok(novoUsuario);
     }
 
     // 4. Atualizar um usuário existente
     @PutMapping("/{id}")
     public ResponseEntity<Usuario> atualizarUsuario(@PathVariable Long id, @RequestBody Usuario usuarioAtualizado, @AuthenticationPrincipal Usuario usuarioLogado) {
-        Optional<Usuario> usuarioExistente = usuarioRepository.findById(id);
+        Optional<Usuario> usuarioExistente = usuarioRepository.findByIdAndDataRemocaoIsNull(id);
 
         if (usuarioExistente.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -69,24 +118,37 @@ public class UsuarioController {
         Usuario usuario = usuarioExistente.get();
         usuario.setNome(usuarioAtualizado.getNome());
         usuario.setEmail(usuarioAtualizado.getEmail());
-        usuario.setPassword(usuarioAtualizado.getPassword());
         usuario.setRole(usuarioAtualizado.getRole());
+        // Sem senha no corpo, mantém o hash gravado (a senha não sai no JSON, então o front não tem como reenviá-la)
         if (usuarioAtualizado.getPassword() != null && !usuarioAtualizado.getPassword().isEmpty()) {
             usuario.setPassword(passwordEncoder.encode(usuarioAtualizado.getPassword())); // Hasheia a nova senha
         }
 
         Usuario usuarioSalvo = usuarioRepository.save(usuario);
+        atribuicaoAutomaticaService.sincronizarTecnico(usuarioSalvo);
         return ResponseEntity.ok(usuarioSalvo);
     }
 
-    // 5. Deletar um usuário
+    // 5. Deletar um usuário: marca como removido e inativo (não entra mais, some das listas);
+    //    os chamados e comentários dele continuam com o nome. O ExpurgoService apaga o registro quando nada mais o usa
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletarUsuario(@PathVariable Long id, @AuthenticationPrincipal Usuario usuarioLogado) {
 
-        if (!usuarioRepository.existsById(id)) {
+        Optional<Usuario> usuarioExistente = usuarioRepository.findByIdAndDataRemocaoIsNull(id);
+        if (usuarioExistente.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        usuarioRepository.deleteById(id);
+        Usuario usuario = usuarioExistente.get();
+        LocalDateTime agora = LocalDateTime.now(clock);
+        usuario.setDataRemocao(agora);
+        usuario.setAtivo(false);
+        // E-mail (e username) são únicos e o removido fica na tabela até o expurgo: marca o dele com o id e a hora
+        // para a mesma pessoa poder ser cadastrada de novo. O antigo continua legível nos chamados que ele abriu
+        String emailRemovido = usuario.getEmail() + "#removido-" + id + "-" + agora.format(REMOCAO);
+        usuario.setEmail(emailRemovido);
+        usuario.setUsername(emailRemovido);
+        usuarioRepository.save(usuario);
+        atribuicaoAutomaticaService.removerTecnico(id);
         return ResponseEntity.noContent().build();
     }
 
@@ -103,7 +165,7 @@ public class UsuarioController {
         }
 
         // --- (Sem mudança) Busca o usuário que será modificado ---
-        Optional<Usuario> usuarioExistente = usuarioRepository.findById(id);
+        Optional<Usuario> usuarioExistente = usuarioRepository.findByIdAndDataRemocaoIsNull(id);
 
         if (usuarioExistente.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -125,6 +187,7 @@ public class UsuarioController {
         // --- MUDANÇA 3: Seta o novo Role usando o Enum ---
         usuario.setRole(novoRole);
         Usuario usuarioAtualizado = usuarioRepository.save(usuario);
+        atribuicaoAutomaticaService.sincronizarTecnico(usuarioAtualizado); // Entra/sai da atribuição automática
 
         return ResponseEntity.ok(usuarioAtualizado);
     }
@@ -142,4 +205,14 @@ public class UsuarioController {
         // Se um usuário NORMAL tentar acessar, negamos.
         return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
     }
+
+    // 8. Carga e desempenho de cada técnico (abertos agora; fechados, mediana e p90 dos últimos "dias" dias)
+    @GetMapping("/tecnicos/desempenho")
+    public ResponseEntity<List<DesempenhoTecnicoDTO>> desempenhoTecnicos(@RequestParam(required = false) Integer dias) {
+        int janela = dias != null ? dias : desempenhoProperties.getDiasPadrao();
+        if (janela < 1 || janela > desempenhoProperties.getMaximoDias()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(desempenhoTecnicosService.desempenho(janela));
+    }
 }
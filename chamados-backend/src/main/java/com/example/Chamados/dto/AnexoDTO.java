@@ -0,0 +1,47 @@
+// src/main/java/com/example/Chamados/dto/AnexoDTO.java
+package com.example.Chamados.dto;
+
+import com.example.Chamados.model.Anexo;
+import java.time.LocalDateTime;
+
+public class AnexoDTO {
+    private Long id;
+    private Long chamadoId;
+    private String autorNome;
+    private String nomeArquivo;
+    private String contentType;
+    private long tamanho;
+    private String hash;
+    private LocalDateTime dataEnvio;
+
+    public static AnexoDTO de(Anexo anexo) {
+        AnexoDTO dto = new AnexoDTO();
+        dto.id = anexo.getId();
+        dto.chamadoId = anexo.getChamadoId();
+        dto.autorNome = anexo.getAutor().getNome();
+        dto.nomeArquivo = anexo.getNomeArquivo();
+        dto.contentType = anexo.getContentType();
+        dto.tamanho = anexo.getTamanho();
+        dto.hash = anexo.getHash();
+        dto.dataEnvio = anexo.getDataEnvio();
+        return dto;
+    }
+
+    // getters e setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getChamadoId() { return chamadoId; }
+    public void setChamadoId(Long chamadoId) { this.chamadoId = chamadoId; }
+    public String getAutorNome() { return autorNome; }
+    public void setAutorNome(String autorNome) { this.autorNome = autorNome; }
+    public String getNomeArquivo() { return nomeArquivo; }
+    public void setNomeArquivo(String nomeArquivo) { this.nomeArquivo = nomeArquivo; }
+    public String getContentType() { return contentType; }
+    public void setContentType(String contentType) { this.contentType = contentType; }
+    public long getTamanho() { return tamanho; }
+    public void setTamanho(long tamanho) { this.tamanho = tamanho; }
+    public String getHash() { return hash; }
+    public void setHash(String hash) { this.hash = hash; }
+    public LocalDateTime getDataEnvio() { return dataEnvio; }
+    public void setDataEnvio(LocalDateTime dataEnvio) { this.dataEnvio = dataEnvio; }
+}
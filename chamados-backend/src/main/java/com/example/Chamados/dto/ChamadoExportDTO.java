@@ -0,0 +1,73 @@
+// src/main/java/com/example/Chamados/dto/ChamadoExportDTO.java
+package com.example.Chamados.dto;
+
+import com.example.Chamados.model.Chamado;
+import java.time.LocalDateTime;
+
+// Linha "achatada" de um chamado, usada nos arquivos CSV/NDJSON.
+// Usuários são identificados pelo email e categoria/setor pelo nome.
+public class ChamadoExportDTO {
+
+    // Ordem das colunas no CSV
+    public static final String[] COLUNAS = {
+            "id", "titulo", "descricao", "status", "prioridade", "categoria", "setor",
+            "usuario", "tecnico", "dataAbertura", "dataConclusao"
+    };
+
+    private Long id;
+    private String titulo;
+    private String descricao;
+    private String status;
+    private String prioridade;
+    private String categoria;
+    private String setor;
+    private String usuario;
+    private String tecnico;
+    private LocalDateTime dataAbertura;
+    private LocalDateTime dataConclusao;
+
+    public static ChamadoExportDTO de(Chamado chamado) {
+        ChamadoExportDTO dto = new ChamadoExportDTO();
+        dto.id = chamado.getId();
+        dto.titulo = chamado.getTitulo();
+        dto.descricao = chamado.getDescricao();
+        dto.status = chamado.getStatus();
+        dto.prioridade = chamado.getPrioridade() != null ? chamado.getPrioridade().name() : null;
+        dto.categoria = chamado.getCategoria() != null ? chamado.getCategoria().getNome() : null;
+        dto.setor = chamado.getSetor() != null ? chamado.getSetor().getNome() : null;
+        dto.usuario = chamado.getUsuario() != null ? chamado.getUsuario().getEmail() : null;
+        dto.tecnico = chamado.getTecnico() != null ? chamado.getTecnico().getEmail() : null;
+        dto.dataAbertura = chamado.getDataAbertura();
+        dto.dataConclusao = chamado.getDataConclusao();
+        return dto;
+    }
+
+    // Valores na mesma ordem de COLUNAS
+    public Object[] valores() {
+        return new Object[] { id, titulo, descricao, status, prioridade, categoria, setor, usuario, tecnico, dataAbertura, dataConclusao };
+    }
+
+    // getters e setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getTitulo() { return titulo; }
+    public void setTitulo(String titulo) { this.titulo = titulo; }
+    public String getDescricao() { return descricao; }
+    public void setDescricao(String descricao) { this.descricao = descricao; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getPrioridade() { return prioridade; }
+    public void setPrioridade(String prioridade) { this.prioridade = prioridade; }
+    public String getCategoria() { return categoria; }
+    public void setCategoria(String categoria) { this.categoria = categoria; }
+    public String getSetor() { return setor; }
+    public void setSetor(String setor) { this.setor = setor; }
+    public String getUsuario() { return usuario; }
+    public void setUsuario(String usuario) { this.usuario = usuario; }
+    public String getTecnico() { return tecnico; }
+    public void setTecnico(String tecnico) { this.tecnico = tecnico; }
+    public LocalDateTime getDataAbertura() { return dataAbertura; }
+    public void setDataAbertura(LocalDateTime dataAbertura) { this.dataAbertura = dataAbertura; }
+    public LocalDateTime getDataConclusao() { return dataConclusao; }
+    public void setDataConclusao(LocalDateTime dataConclusao) { this.dataConclusao = dataConclusao; }
+}
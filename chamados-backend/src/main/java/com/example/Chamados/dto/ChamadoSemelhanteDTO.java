@@ -0,0 +1,19 @@
+// src/main/java/com/example/Chamados/dto/ChamadoSemelhanteDTO.java
+package com.example.Chamados.dto;
+
+// Chamado aberto com texto parecido e a similaridade estimada (0 a 1)
+public class ChamadoSemelhanteDTO {
+    private Long chamadoId;
+    private double similaridade;
+
+    public ChamadoSemelhanteDTO(Long chamadoId, double similaridade) {
+        this.chamadoId = chamadoId;
+        this.similaridade = similaridade;
+    }
+
+    // getters e setters
+    public Long getChamadoId() { return chamadoId; }
+    public void setChamadoId(Long chamadoId) { this.chamadoId = chamadoId; }
+    public double getSimilaridade() { return similaridade; }
+    public void setSimilaridade(double similaridade) { this.similaridade = similaridade; }
+}
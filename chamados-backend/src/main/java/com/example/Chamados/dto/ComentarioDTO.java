@@ -0,0 +1,40 @@
+// src/main/java/com/example/Chamados/dto/ComentarioDTO.java
+package com.example.Chamados.dto;
+
+import com.example.Chamados.model.Comentario;
+import java.time.LocalDateTime;
+
+// Comentário de um chamado. No POST só o "texto" é usado; o resto vem do servidor.
+public class ComentarioDTO {
+    private Long id;
+    private Long chamadoId;
+    private Long autorId;
+    private String autorNome;
+    private String texto;
+    private LocalDateTime dataCriacao;
+
+    public static ComentarioDTO de(Comentario comentario) {
+        ComentarioDTO dto = new ComentarioDTO();
+        dto.id = comentario.getId();
+        dto.chamadoId = comentario.getChamadoId();
+        dto.autorId = comentario.getAutor().getId();
+        dto.autorNome = comentario.getAutor().getNome();
+        dto.texto = comentario.getTexto();
+        dto.dataCriacao = comentario.getDataCriacao();
+        return dto;
+    }
+
+    // getters e setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getChamadoId() { return chamadoId; }
+    public void setChamadoId(Long chamadoId) { this.chamadoId = chamadoId; }
+    public Long getAutorId() { return autorId; }
+    public void setAutorId(Long autorId) { this.autorId = autorId; }
+    public String getAutorNome() { return autorNome; }
+    public void setAutorNome(String autorNome) { this.autorNome = autorNome; }
+    public String getTexto() { return texto; }
+    public void setTexto(String texto) { this.texto = texto; }
+    public LocalDateTime getDataCriacao() { return dataCriacao; }
+    public void setDataCriacao(LocalDateTime dataCriacao) { this.dataCriacao = dataCriacao; }
+}
@@ -0,0 +1,36 @@
+// src/main/java/com/example/Chamados/dto/DesempenhoTecnicoDTO.java
+package com.example.Chamados.dto;
+
+// Carga atual e desempenho de um técnico na janela consultada
+public class DesempenhoTecnicoDTO {
+    private Long tecnicoId;
+    private String nome;
+    private long abertos;               // Chamados não fechados atribuídos a ele agora
+    private long fechados;              // Chamados dele fechados na janela
+    private Long medianaMinutos;        // Tempo de resolução (abertura até conclusão) dos fechados na janela;
+    private Long p90Minutos;            // null se não fechou nenhum
+
+    public DesempenhoTecnicoDTO(Long tecnicoId, String nome, long abertos, long fechados,
+                                Long medianaMinutos, Long p90Minutos) {
+        this.tecnicoId = tecnicoId;
+        this.nome = nome;
+        this.abertos = abertos;
+        this.fechados = fechados;
+        this.medianaMinutos = medianaMinutos;
+        this.p90Minutos = p90Minutos;
+    }
+
+    // getters e setters
+    public Long getTecnicoId() { return tecnicoId; }
+    public void setTecnicoId(Long tecnicoId) { this.tecnicoId = tecnicoId; }
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; }
+    public long getAbertos() { return abertos; }
+    public void setAbertos(long abertos) { this.abertos = abertos; }
+    public long getFechados() { return fechados; }
+    public void setFechados(long fechados) { this.fechados = fechados; }
+    public Long getMedianaMinutos() { return medianaMinutos; }
+    public void setMedianaMinutos(Long medianaMinutos) { this.medianaMinutos = medianaMinutos; }
+    public Long getP90Minutos() { return p90Minutos; }
+    public void setP90Minutos(Long p90Minutos) { this.p90Minutos = p90Minutos; }
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/example/Chamados/dto/FiltroChamadoDTO.java
+package com.example.Chamados.dto;
+
+import java.time.LocalDateTime;
+
+// Filtros opcionais usados nas consultas de listagem/exportação (campos nulos são ignorados)
+public class FiltroChamadoDTO {
+    private String status;
+    private LocalDateTime abertoDe;   // data de abertura >= abertoDe
+    private LocalDateTime abertoAte;  // data de abertura <  abertoAte
+    private Long setorId;
+    private Long categoriaId;
+
+    // getters e setters
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public LocalDateTime getAbertoDe() { return abertoDe; }
+    public void setAbertoDe(LocalDateTime abertoDe) { this.abertoDe = abertoDe; }
+    public LocalDateTime getAbertoAte() { return abertoAte; }
+    public void setAbertoAte(LocalDateTime abertoAte) { this.abertoAte = abertoAte; }
+    public Long getSetorId() { return setorId; }
+    public void setSetorId(Long setorId) { this.setorId = setorId; }
+    public Long getCategoriaId() { return categoriaId; }
+    public void setCategoriaId(Long categoriaId) { this.categoriaId = categoriaId; }
+}
@@ -0,0 +1,41 @@
+// src/main/java/com/example/Chamados/dto/FluxoChamadosDTO.java
+package com.example.Chamados.dto;
+
+import java.time.LocalDateTime;
+
+// Chamados abertos e fechados em um período (hora, dia, semana ou mês), opcionalmente por setor ou categoria
+public class FluxoChamadosDTO {
+
+    public enum Granularidade { HORA, DIA, SEMANA, MES }
+
+    public enum Agrupamento { NENHUM, SETOR, CATEGORIA }
+
+    private LocalDateTime inicio; // Início do período (semanas começam na segunda-feira)
+    private Long setorId;         // Só com agruparPor=SETOR (null = sem setor)
+    private Long categoriaId;     // Só com agruparPor=CATEGORIA
+    private long abertos;
+    private long fechados;
+
+    public FluxoChamadosDTO(LocalDateTime inicio, Long setorId, Long categoriaId) {
+        this.inicio = inicio;
+        this.setorId = setorId;
+        this.categoriaId = categoriaId;
+    }
+
+    public void somar(long abertos, long fechados) {
+        this.abertos += abertos;
+        this.fechados += fechados;
+    }
+
+    // getters e setters
+    public LocalDateTime getInicio() { return inicio; }
+    public void setInicio(LocalDateTime inicio) { this.inicio = inicio; }
+    public Long getSetorId() { return setorId; }
+    public void setSetorId(Long setorId) { this.setorId = setorId; }
+    public Long getCategoriaId() { return categoriaId; }
+    public void setCategoriaId(Long categoriaId) { this.categoriaId = categoriaId; }
+    public long getAbertos() { return abertos; }
+    public void setAbertos(long abertos) { this.abertos = abertos; }
+    public long getFechados() { return fechados; }
+    public void setFechados(long fechados) { this.fechados = fechados; }
+}
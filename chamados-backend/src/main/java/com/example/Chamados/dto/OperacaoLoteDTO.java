@@ -0,0 +1,30 @@
+// src/main/java/com/example/Chamados/dto/OperacaoLoteDTO.java
+package com.example.Chamados.dto;
+
+import java.util.List;
+
+public class OperacaoLoteDTO {
+
+    // Operações suportadas pelo endpoint /chamados/lote
+    public enum Operacao {
+        ALTERAR_STATUS, // Exige o campo "status"
+        ATRIBUIR,       // Exige o campo "tecnicoId"
+        FECHAR,
+        DELETAR         // Somente ADM
+    }
+
+    private List<Long> ids;
+    private Operacao operacao;
+    private String status;
+    private Long tecnicoId;
+
+    // getters e setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+    public Operacao getOperacao() { return operacao; }
+    public void setOperacao(Operacao operacao) { this.operacao = operacao; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public Long getTecnicoId() { return tecnicoId; }
+    public void setTecnicoId(Long tecnicoId) { this.tecnicoId = tecnicoId; }
+}
@@ -0,0 +1,37 @@
+// src/main/java/com/example/Chamados/dto/PaginaDTO.java
+package com.example.Chamados.dto;
+
+import org.springframework.data.domain.Page;
+import java.util.List;
+import java.util.function.Function;
+
+// Página de resultados em um formato estável para o front-end (em vez de serializar o Page do Spring)
+public class PaginaDTO<T> {
+    private List<T> itens;
+    private int pagina;
+    private int tamanho;
+    private long totalItens;
+    private int totalPaginas;
+
+    public static <E, T> PaginaDTO<T> de(Page<E> page, Function<E, T> conversor) {
+        PaginaDTO<T> dto = new PaginaDTO<>();
+        dto.itens = page.getContent().stream().map(conversor).toList();
+        dto.pagina = page.getNumber();
+        dto.tamanho = page.getSize();
+        dto.totalItens = page.getTotalElements();
+        dto.totalPaginas = page.getTotalPages();
+        return dto;
+    }
+
+    // getters e setters
+    public List<T> getItens() { return itens; }
+    public void setItens(List<T> itens) { this.itens = itens; }
+    public int getPagina() { return pagina; }
+    public void setPagina(int pagina) { this.pagina = pagina; }
+    public int getTamanho() { return tamanho; }
+    public void setTamanho(int tamanho) { this.tamanho = tamanho; }
+    public long getTotalItens() { return totalItens; }
+    public void setTotalItens(long totalItens) { this.totalItens = totalItens; }
+    public int getTotalPaginas() { return totalPaginas; }
+    public void setTotalPaginas(int totalPaginas) { this.totalPaginas = totalPaginas; }
+}
@@ -0,0 +1,40 @@
+// src/main/java/com/example/Chamados/dto/ResultadoImportacaoDTO.java
+package com.example.Chamados.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResultadoImportacaoDTO {
+
+    // Erro de uma linha específica do arquivo importado
+    public static class ErroLinha {
+        private long linha;
+        private String mensagem;
+
+        public ErroLinha(long linha, String mensagem) {
+            this.linha = linha;
+            this.mensagem = mensagem;
+        }
+
+        // getters e setters
+        public long getLinha() { return linha; }
+        public void setLinha(long linha) { this.linha = linha; }
+        public String getMensagem() { return mensagem; }
+        public void setMensagem(String mensagem) { this.mensagem = mensagem; }
+    }
+
+    private long linhasLidas;
+    private long importados;
+    private long comErro;
+    private List<ErroLinha> erros = new ArrayList<>(); // Limitado; "comErro" tem o total
+
+    // getters e setters
+    public long getLinhasLidas() { return linhasLidas; }
+    public void setLinhasLidas(long linhasLidas) { this.linhasLidas = linhasLidas; }
+    public long getImportados() { return importados; }
+    public void setImportados(long importados) { this.importados = importados; }
+    public long getComErro() { return comErro; }
+    public void setComErro(long comErro) { this.comErro = comErro; }
+    public List<ErroLinha> getErros() { return erros; }
+    public void setErros(List<ErroLinha> erros) { this.erros = erros; }
+}
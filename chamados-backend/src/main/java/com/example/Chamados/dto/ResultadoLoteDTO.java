@@ -0,0 +1,30 @@
+// src/main/java/com/example/Chamados/dto/ResultadoLoteDTO.java
+package com.example.Chamados.dto;
+
+public class ResultadoLoteDTO {
+
+    public enum Resultado {
+        OK,
+        NAO_ENCONTRADO,
+        PROIBIDO, // Ex: remover sem ser ADM
+        CONFLITO  // Ex: fechar um chamado que já está fechado
+    }
+
+    private Long id;
+    private Resultado resultado;
+    private String mensagem;
+
+    public ResultadoLoteDTO(Long id, Resultado resultado, String mensagem) {
+        this.id = id;
+        this.resultado = resultado;
+        this.mensagem = mensagem;
+    }
+
+    // getters e setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Resultado getResultado() { return resultado; }
+    public void setResultado(Resultado resultado) { this.resultado = resultado; }
+    public String getMensagem() { return mensagem; }
+    public void setMensagem(String mensagem) { this.mensagem = mensagem; }
+}
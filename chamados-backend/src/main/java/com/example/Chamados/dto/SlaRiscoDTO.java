@@ -0,0 +1,30 @@
+// src/main/java/com/example/Chamados/dto/SlaRiscoDTO.java
+package com.example.Chamados.dto;
+
+import com.example.Chamados.model.TipoSla;
+import java.time.LocalDateTime;
+
+// Prazo de SLA pendente que vence dentro da janela consultada
+public class SlaRiscoDTO {
+    private Long chamadoId;
+    private TipoSla tipo;
+    private LocalDateTime prazo;
+    private long minutosRestantes;
+
+    public SlaRiscoDTO(Long chamadoId, TipoSla tipo, LocalDateTime prazo, long minutosRestantes) {
+        this.chamadoId = chamadoId;
+        this.tipo = tipo;
+        this.prazo = prazo;
+        this.minutosRestantes = minutosRestantes;
+    }
+
+    // getters e setters
+    public Long getChamadoId() { return chamadoId; }
+    public void setChamadoId(Long chamadoId) { this.chamadoId = chamadoId; }
+    public TipoSla getTipo() { return tipo; }
+    public void setTipo(TipoSla tipo) { this.tipo = tipo; }
+    public LocalDateTime getPrazo() { return prazo; }
+    public void setPrazo(LocalDateTime prazo) { this.prazo = prazo; }
+    public long getMinutosRestantes() { return minutosRestantes; }
+    public void setMinutosRestantes(long minutosRestantes) { this.minutosRestantes = minutosRestantes; }
+}
@@ -0,0 +1,68 @@
+// src/main/java/com/example/Chamados/event/ChamadoEvento.java
+package com.example.Chamados.event;
+
+import com.example.Chamados.model.Chamado;
+
+// Evento publicado sempre que um chamado é criado, alterado ou removido.
+// Carrega o estado anterior e o novo (status e técnico) para que os índices em memória
+// possam se atualizar sem consultar o banco.
+public class ChamadoEvento {
+
+    public enum Tipo {
+        CRIADO,
+        ATUALIZADO,      // PUT /chamados/{id}
+        STATUS_ALTERADO, // alterar-status, fechar
+        ASSUMIDO,        // Técnico assumiu o chamado
+        ATRIBUIDO,       // Chamado atribuído a um técnico (manual ou automático)
+        VINCULADO,       // Ligado a um incidente pai ou desligado dele (status e técnico não mudam)
+        REMOVIDO
+    }
+
+    private final Tipo tipo;
+    private final Long chamadoId;
+    private final String statusAnterior;
+    private final String status;
+    private final Long tecnicoAnteriorId;
+    private final Long tecnicoId;
+    private final Chamado chamado; // Entidade salva, quando disponível (null nas operações em lote)
+
+    public ChamadoEvento(Tipo tipo, Long chamadoId, String statusAnterior, String status,
+                         Long tecnicoAnteriorId, Long tecnicoId) {
+        this(tipo, chamadoId, statusAnterior, status, tecnicoAnteriorId, tecnicoId, null);
+    }
+
+    private ChamadoEvento(Tipo tipo, Long chamadoId, String statusAnterior, String status,
+                          Long tecnicoAnteriorId, Long tecnicoId, Chamado chamado) {
+        this.tipo = tipo;
+        this.chamadoId = chamadoId;
+        this.statusAnterior = statusAnterior;
+        this.status = status;
+        this.tecnicoAnteriorId = tecnicoAnteriorId;
+        this.tecnicoId = tecnicoId;
+        this.chamado = chamado;
+    }
+
+    // Monta o evento a partir do chamado já salvo e do estado que ele tinha antes da alteração
+    public static ChamadoEvento de(Tipo tipo, Chamado chamado, String statusAnterior, Long tecnicoAnteriorId) {
+        return new ChamadoEvento(tipo, chamado.getId(), statusAnterior, chamado.getStatus(),
+                tecnicoAnteriorId, chamado.getTecnico() != null ? chamado.getTecnico().getId() : null, chamado);
+    }
+
+    // Um chamado está "aberto" enquanto não estiver FECHADO (e não tiver sido removido)
+    public boolean estavaAberto() {
+        return statusAnterior != null && !statusAnterior.equalsIgnoreCase("FECHADO");
+    }
+
+    public boolean estaAberto() {
+        return tipo != Tipo.REMOVIDO && status != null && !status.equalsIgnoreCase("FECHADO");
+    }
+
+    // getters
+    public Tipo getTipo() { return tipo; }
+    public Long getChamadoId() { return chamadoId; }
+    public String getStatusAnterior() { return statusAnterior; }
+    public String getStatus() { return status; }
+    public Long getTecnicoAnteriorId() { return tecnicoAnteriorId; }
+    public Long getTecnicoId() { return tecnicoId; }
+    public Chamado getChamado() { return chamado; }
+}
@@ -0,0 +1,20 @@
+// src/main/java/com/example/Chamados/event/ChamadosImportadosEvento.java
+package com.example.Chamados.event;
+
+import java.time.LocalDateTime;
+
+// Publicado ao fim de uma importação em massa. Como os chamados são gravados via JDBC
+// (sem passar pelas entidades), os índices em memória devem ser reconstruídos a partir do banco.
+public class ChamadosImportadosEvento {
+
+    private final long importados;
+    private final LocalDateTime primeiraAbertura; // Menor data de abertura entre os importados
+
+    public ChamadosImportadosEvento(long importados, LocalDateTime primeiraAbertura) {
+        this.importados = importados;
+        this.primeiraAbertura = primeiraAbertura;
+    }
+
+    public long getImportados() { return importados; }
+    public LocalDateTime getPrimeiraAbertura() { return primeiraAbertura; }
+}
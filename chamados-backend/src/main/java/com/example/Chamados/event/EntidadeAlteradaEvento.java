@@ -0,0 +1,19 @@
+// src/main/java/com/example/Chamados/event/EntidadeAlteradaEvento.java
+package com.example.Chamados.event;
+
+// Publicado nesta instância quando OUTRA instância altera um usuário, categoria ou setor
+// (recebido pelo BarramentoInvalidacao). O cache de segundo nível já foi invalidado;
+// serve para os índices em memória se atualizarem a partir do banco.
+public class EntidadeAlteradaEvento {
+
+    private final String entidade; // "usuario", "categoria" ou "setor" (nome da região do cache)
+    private final Long id;         // null = todas as linhas da entidade
+
+    public EntidadeAlteradaEvento(String entidade, Long id) {
+        this.entidade = entidade;
+        this.id = id;
+    }
+
+    public String getEntidade() { return entidade; }
+    public Long getId() { return id; }
+}
@@ -0,0 +1,24 @@
+// src/main/java/com/example/Chamados/event/SlaViolacaoEvento.java
+package com.example.Chamados.event;
+
+import com.example.Chamados.model.TipoSla;
+import java.time.LocalDateTime;
+
+// Publicado quando um prazo de SLA de um chamado aberto vence
+public class SlaViolacaoEvento {
+
+    private final Long chamadoId;
+    private final TipoSla tipo;
+    private final LocalDateTime prazo;
+
+    public SlaViolacaoEvento(Long chamadoId, TipoSla tipo, LocalDateTime prazo) {
+        this.chamadoId = chamadoId;
+        this.tipo = tipo;
+        this.prazo = prazo;
+    }
+
+    // getters
+    public Long getChamadoId() { return chamadoId; }
+    public TipoSla getTipo() { return tipo; }
+    public LocalDateTime getPrazo() { return prazo; }
+}
@@ -0,0 +1,41 @@
+// src/main/java/com/example/Chamados/event/StatusPropagadoEvento.java
+package com.example.Chamados.event;
+
+import java.util.List;
+
+// Publicado uma vez quando o status dos incidentes é levado aos filhos (IncidenteService.propagarStatus),
+// no lugar de um ChamadoEvento por filho: assim cada índice em memória trata os filhos de uma vez,
+// com uma consulta IN (ou um UPDATE) para todos, mesmo em uma queda com milhares de chamados.
+// O técnico dos filhos não muda; o status anterior vem de cada filho.
+public class StatusPropagadoEvento {
+
+    public record Filho(Long id, String statusAnterior, Long tecnicoId) {}
+
+    private final List<Filho> filhos;
+    private final String status;
+
+    public StatusPropagadoEvento(List<Filho> filhos, String status) {
+        this.filhos = List.copyOf(filhos);
+        this.status = status;
+    }
+
+    public boolean estaAberto() {
+        return status != null && !status.equalsIgnoreCase("FECHADO");
+    }
+
+    // Cada filho como o ChamadoEvento STATUS_ALTERADO (sem a entidade) que ele teria gerado sozinho
+    public List<ChamadoEvento> eventos() {
+        return filhos.stream()
+                .map(filho -> new ChamadoEvento(ChamadoEvento.Tipo.STATUS_ALTERADO, filho.id(),
+                        filho.statusAnterior(), status, filho.tecnicoId(), filho.tecnicoId()))
+                .toList();
+    }
+
+    public List<Long> getChamadoIds() {
+        return filhos.stream().map(Filho::id).toList();
+    }
+
+    // getters
+    public List<Filho> getFilhos() { return filhos; }
+    public String getStatus() { return status; }
+}
@@ -0,0 +1,36 @@
+package com.example.Chamados.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Registro de alteração de uma entidade em cache (usuário, categoria, setor), gravado na mesma
+// transação da alteração e lido por todas as instâncias (BarramentoInvalidacaoBanco).
+// A entidade só existe para o Hibernate criar a tabela: a gravação e a leitura são via JDBC.
+@Entity
+@Table(name = "alteracao_cache", indexes = @Index(name = "idx_alteracao_cache_data", columnList = "data_criacao"))
+public class AlteracaoCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String entidade; // Região do cache: "usuario", "categoria" ou "setor"
+
+    @Column(name = "entidade_id")
+    private Long entidadeId; // null = todas
+
+    @Column(nullable = false, length = 100)
+    private String origem; // Instância que fez a alteração (chamados.invalidacao.no)
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao; // Relógio do banco (CURRENT_TIMESTAMP), igual para todas as instâncias
+
+    // Getters
+
+    public Long getId() { return id; }
+    public String getEntidade() { return entidade; }
+    public Long getEntidadeId() { return entidadeId; }
+    public String getOrigem() { return origem; }
+    public LocalDateTime getDataCriacao() { return dataCriacao; }
+}
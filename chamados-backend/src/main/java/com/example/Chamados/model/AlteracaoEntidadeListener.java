@@ -0,0 +1,31 @@
+package com.example.Chamados.model;
+
+import com.example.Chamados.service.BarramentoInvalidacao;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+// Listener JPA das entidades em cache (Usuario, Categoria, Setor): cada gravação ou remoção vai
+// para o BarramentoInvalidacao, para as outras instâncias invalidarem o próprio cache.
+// Criado pelo Spring (SpringBeanContainer do Hibernate); o barramento é resolvido só no uso
+// porque depende do EntityManagerFactory que está criando este listener.
+public class AlteracaoEntidadeListener {
+
+    @Autowired
+    private ObjectProvider<BarramentoInvalidacao> barramento;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void aoAlterar(Object entidade) {
+        if (entidade instanceof Usuario usuario) {
+            barramento.getObject().publicar("usuario", usuario.getId());
+        } else if (entidade instanceof Categoria categoria) {
+            barramento.getObject().publicar("categoria", categoria.getId());
+        } else if (entidade instanceof Setor setor) {
+            barramento.getObject().publicar("setor", setor.getId());
+        }
+    }
+}
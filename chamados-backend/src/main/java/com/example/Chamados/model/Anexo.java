@@ -0,0 +1,121 @@
+package com.example.Chamados.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Metadados de um arquivo anexado a um chamado.
+// O conteúdo fica no disco, endereçado pelo SHA-256 ("hash"): anexos iguais compartilham o mesmo arquivo.
+@Entity
+@Table(name = "anexo", indexes = {
+        @Index(name = "idx_anexo_chamado", columnList = "chamado_id"),
+        @Index(name = "idx_anexo_hash", columnList = "hash")
+})
+public class Anexo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Só o id do chamado (sem chave estrangeira), como em Comentario
+    @Column(name = "chamado_id", nullable = false)
+    private Long chamadoId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "autor_id", nullable = false)
+    private Usuario autor;
+
+    @Column(nullable = false)
+    private String nomeArquivo;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long tamanho; // Em bytes
+
+    @Column(nullable = false, length = 64)
+    private String hash; // SHA-256 em hexadecimal
+
+    @Column(nullable = false)
+    private LocalDateTime dataEnvio;
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getChamadoId() {
+        return chamadoId;
+    }
+
+    public void setChamadoId(Long chamadoId) {
+        this.chamadoId = chamadoId;
+    }
+
+    public Usuario getAutor() {
+        return autor;
+    }
+
+    public void setAutor(Usuario autor) {
+        this.autor = autor;
+    }
+
+    public String getNomeArquivo() {
+        return nomeArquivo;
+    }
+
+    public void setNomeArquivo(String nomeArquivo) {
+        this.nomeArquivo = nomeArquivo;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(long tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public LocalDateTime getDataEnvio() {
+        return dataEnvio;
+    }
+
+    public void setDataEnvio(LocalDateTime dataEnvio) {
+        this.dataEnvio = dataEnvio;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Anexo anexo = (Anexo) o;
+        return Objects.equals(id, anexo.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
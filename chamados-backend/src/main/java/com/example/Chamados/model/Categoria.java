@@ -1,12 +1,17 @@
 package com.example.Chamados.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 import java.util.Objects;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 @Entity
 @Table(name = "categoria")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categoria") // Cache de segundo nível: carregada com cada chamado
+@EntityListeners(AlteracaoEntidadeListener.class) // Avisa as outras instâncias para invalidarem o cache
 public class Categoria {
 
     @Id
@@ -17,7 +22,7 @@ public class Categoria {
     private String nome; // Nome da categoria (ex.: "Hardware", "Software", "Rede")
 
     @OneToMany(mappedBy = "categoria")
-    @JsonIgnoreProperties("categoria")
+    @JsonIgnore // Não vai no JSON: carregaria todos os chamados da categoria (e fora de transação)
     private List<Chamado> chamados; // Chamados relacionados a esta categoria
 
     // Getters e Setters
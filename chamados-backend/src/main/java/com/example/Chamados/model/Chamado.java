@@ -2,11 +2,23 @@ package com.example.Chamados.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
+// Chamados removidos (data_remocao preenchida) somem de todas as consultas JPA/HQL pela restrição abaixo;
+// o ExpurgoService os apaga de fato depois, em lotes pequenos. SQL nativo precisa filtrar por conta própria
 @Entity
-@Table(name = "chamado")
+@Table(name = "chamado", indexes = {
+        @Index(name = "idx_chamado_incidente_pai", columnList = "incidente_pai_id"),
+        @Index(name = "idx_chamado_remocao", columnList = "data_remocao")
+})
+@SQLRestriction("data_remocao is null")
 public class Chamado {
 
     @Id
@@ -44,6 +56,50 @@ public class Chamado {
 
     private LocalDateTime dataConclusao;
 
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'MEDIA'")
+    @Column(nullable = false, length = 10)
+    private Prioridade prioridade = Prioridade.MEDIA;
+
+    // --- SLA (calculado no criarChamado) ---
+    private LocalDateTime prazoPrimeiraResposta;
+
+    private LocalDateTime prazoResolucao;
+
+    private LocalDateTime dataPrimeiraResposta;
+
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean slaRespostaViolado;
+
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean slaResolucaoViolado;
+
+    // Incrementada a cada alteração (os UPDATEs em massa do ChamadoRepository são "update versioned").
+    // É a ETag do GET /chamados/{id} e a base do If-Match; salvar uma versão desatualizada falha
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long versao;
+
+    // Incidente pai: outro chamado que agrupa este (ex: todos os "internet caiu" de uma queda de rede).
+    // Mudanças de status do pai valem para todos os filhos (IncidenteService). Um nível só: o pai não tem pai
+    @Column(name = "incidente_pai_id")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long incidentePaiId;
+
+    // Quando o chamado foi removido (DELETE /chamados/{id}); null = ativo
+    @Column(name = "data_remocao")
+    @JsonIgnore
+    private LocalDateTime dataRemocao;
+
+    // Ids dos chamados abertos parecidos (DuplicadosService). Só vem na resposta do POST /chamados
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<Long> possiveisDuplicados;
+
     // Getters e Setters
 
     public Long getId() {
@@ -126,6 +182,86 @@ public class Chamado {
         this.dataConclusao = dataConclusao;
     }
 
+    public Prioridade getPrioridade() {
+        return prioridade;
+    }
+
+    public void setPrioridade(Prioridade prioridade) {
+        this.prioridade = prioridade;
+    }
+
+    public LocalDateTime getPrazoPrimeiraResposta() {
+        return prazoPrimeiraResposta;
+    }
+
+    public void setPrazoPrimeiraResposta(LocalDateTime prazoPrimeiraResposta) {
+        this.prazoPrimeiraResposta = prazoPrimeiraResposta;
+    }
+
+    public LocalDateTime getPrazoResolucao() {
+        return prazoResolucao;
+    }
+
+    public void setPrazoResolucao(LocalDateTime prazoResolucao) {
+        this.prazoResolucao = prazoResolucao;
+    }
+
+    public LocalDateTime getDataPrimeiraResposta() {
+        return dataPrimeiraResposta;
+    }
+
+    public void setDataPrimeiraResposta(LocalDateTime dataPrimeiraResposta) {
+        this.dataPrimeiraResposta = dataPrimeiraResposta;
+    }
+
+    public boolean isSlaRespostaViolado() {
+        return slaRespostaViolado;
+    }
+
+    public void setSlaRespostaViolado(boolean slaRespostaViolado) {
+        this.slaRespostaViolado = slaRespostaViolado;
+    }
+
+    public boolean isSlaResolucaoViolado() {
+        return slaResolucaoViolado;
+    }
+
+    public void setSlaResolucaoViolado(boolean slaResolucaoViolado) {
+        this.slaResolucaoViolado = slaResolucaoViolado;
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(long versao) {
+        this.versao = versao;
+    }
+
+    public Long getIncidentePaiId() {
+        return incidentePaiId;
+    }
+
+    public void setIncidentePaiId(Long incidentePaiId) {
+        this.incidentePaiId = incidentePaiId;
+    }
+
+    public LocalDateTime getDataRemocao() {
+        return dataRemocao;
+    }
+
+    public void setDataRemocao(LocalDateTime dataRemocao) {
+        this.dataRemocao = dataRemocao;
+    }
+
+    public List<Long> getPossiveisDuplicados() {
+        return possiveisDuplicados;
+    }
+
+    public void setPossiveisDuplicados(List<Long> possiveisDuplicados) {
+        this.possiveisDuplicados = possiveisDuplicados;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
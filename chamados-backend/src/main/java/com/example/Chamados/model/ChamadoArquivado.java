@@ -0,0 +1,114 @@
+package com.example.Chamados.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Chamado fechado há muito tempo, movido da tabela "chamado" pelo ArquivamentoService.
+// Tem as mesmas colunas (e o mesmo id) do chamado original, mais a data de arquivamento.
+// Só é lido: buscarPorId e a exportação recorrem a esta tabela quando o chamado não está mais na principal.
+@Entity
+@Table(name = "chamado_arquivado")
+public class ChamadoArquivado {
+
+    @Id
+    private Long id; // Mesmo id do chamado original
+
+    @Column(nullable = false)
+    private String titulo;
+
+    @Column(nullable = false, length = 500)
+    private String descricao;
+
+    @ManyToOne
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+
+    @ManyToOne
+    @JoinColumn(name = "tecnico_id")
+    private Usuario tecnico;
+
+    @ManyToOne
+    @JoinColumn(name = "categoria_id", nullable = false)
+    private Categoria categoria;
+
+    @ManyToOne
+    @JoinColumn(name = "setor_id")
+    private Setor setor;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Prioridade prioridade;
+
+    @Column(nullable = false)
+    private LocalDateTime dataAbertura;
+
+    private LocalDateTime dataConclusao;
+
+    private LocalDateTime prazoPrimeiraResposta;
+
+    private LocalDateTime prazoResolucao;
+
+    private LocalDateTime dataPrimeiraResposta;
+
+    @Column(nullable = false)
+    private boolean slaRespostaViolado;
+
+    @Column(nullable = false)
+    private boolean slaResolucaoViolado;
+
+    @Column(name = "incidente_pai_id")
+    private Long incidentePaiId;
+
+    @Column(nullable = false)
+    private LocalDateTime dataArquivamento;
+
+    // Cópia (não gerenciada pelo JPA) no formato de Chamado, para as respostas da API continuarem iguais
+    public Chamado paraChamado() {
+        Chamado chamado = new Chamado();
+        chamado.setId(id);
+        chamado.setTitulo(titulo);
+        chamado.setDescricao(descricao);
+        chamado.setUsuario(usuario);
+        chamado.setTecnico(tecnico);
+        chamado.setCategoria(categoria);
+        chamado.setSetor(setor);
+        chamado.setStatus(status);
+        chamado.setPrioridade(prioridade);
+        chamado.setDataAbertura(dataAbertura);
+        chamado.setDataConclusao(dataConclusao);
+        chamado.setPrazoPrimeiraResposta(prazoPrimeiraResposta);
+        chamado.setPrazoResolucao(prazoResolucao);
+        chamado.setDataPrimeiraResposta(dataPrimeiraResposta);
+        chamado.setSlaRespostaViolado(slaRespostaViolado);
+        chamado.setSlaResolucaoViolado(slaResolucaoViolado);
+        chamado.setIncidentePaiId(incidentePaiId);
+        return chamado;
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getDataArquivamento() {
+        return dataArquivamento;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ChamadoArquivado arquivado = (ChamadoArquivado) o;
+        return Objects.equals(id, arquivado.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.Chamados.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "comentario", indexes = @Index(name = "idx_comentario_chamado", columnList = "chamado_id, id"))
+public class Comentario {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Só o id do chamado (sem chave estrangeira), para o chamado poder ser arquivado sem levar os comentários
+    @Column(name = "chamado_id", nullable = false)
+    private Long chamadoId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "autor_id", nullable = false)
+    private Usuario autor;
+
+    @Column(nullable = false, length = 2000)
+    private String texto;
+
+    @Column(nullable = false)
+    private LocalDateTime dataCriacao;
+
+    // Getters e Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getChamadoId() {
+        return chamadoId;
+    }
+
+    public void setChamadoId(Long chamadoId) {
+        this.chamadoId = chamadoId;
+    }
+
+    public Usuario getAutor() {
+        return autor;
+    }
+
+    public void setAutor(Usuario autor) {
+        this.autor = autor;
+    }
+
+    public String getTexto() {
+        return texto;
+    }
+
+    public void setTexto(String texto) {
+        this.texto = texto;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Comentario comentario = (Comentario) o;
+        return Objects.equals(id, comentario.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
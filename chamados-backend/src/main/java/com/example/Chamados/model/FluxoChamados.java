@@ -0,0 +1,60 @@
+package com.example.Chamados.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Chamados abertos e fechados por hora, setor e categoria (FluxoChamadosService): os relatórios de fluxo
+// somam estas linhas em vez de varrer a tabela chamado. A entidade só existe para o Hibernate criar a tabela:
+// a gravação e a leitura são via JDBC. A chave começa pela hora, então um período é uma faixa da chave primária.
+@Entity
+@Table(name = "fluxo_chamados")
+@IdClass(FluxoChamados.Chave.class)
+public class FluxoChamados {
+
+    @Id
+    private LocalDateTime hora; // Início da hora (minutos e segundos zerados)
+
+    @Id
+    @Column(name = "setor_id")
+    private Long setorId; // 0 = chamado sem setor
+
+    @Id
+    @Column(name = "categoria_id")
+    private Long categoriaId;
+
+    @Column(nullable = false)
+    private long abertos;
+
+    @Column(nullable = false)
+    private long fechados;
+
+    public static class Chave implements Serializable {
+        private LocalDateTime hora;
+        private Long setorId;
+        private Long categoriaId;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Chave chave = (Chave) o;
+            return Objects.equals(hora, chave.hora) && Objects.equals(setorId, chave.setorId)
+                    && Objects.equals(categoriaId, chave.categoriaId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hora, setorId, categoriaId);
+        }
+    }
+
+    // Getters
+
+    public LocalDateTime getHora() { return hora; }
+    public Long getSetorId() { return setorId; }
+    public Long getCategoriaId() { return categoriaId; }
+    public long getAbertos() { return abertos; }
+    public long getFechados() { return fechados; }
+}
@@ -0,0 +1,31 @@
+package com.example.Chamados.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Recálculo do fluxo de chamados feito por alguma instância (FluxoChamadosService.recalcular), gravado na
+// mesma transação da recontagem. Nas gravações, cada instância descarta as somas em memória do intervalo
+// anteriores ao recálculo: a recontagem já as leu dos chamados.
+// A entidade só existe para o Hibernate criar a tabela: a gravação e a leitura são via JDBC.
+@Entity
+@Table(name = "fluxo_recalculo", indexes = @Index(name = "idx_fluxo_recalculo_data", columnList = "data_criacao"))
+public class FluxoRecalculo {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDateTime inicio; // Início do intervalo recontado (null = sem limite)
+
+    private LocalDateTime fim;    // Fim, exclusivo (null = sem limite)
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao; // Antes da leitura dos chamados, pelo relógio da instância que recontou
+
+    // Getters
+
+    public Long getId() { return id; }
+    public LocalDateTime getInicio() { return inicio; }
+    public LocalDateTime getFim() { return fim; }
+    public LocalDateTime getDataCriacao() { return dataCriacao; }
+}
@@ -0,0 +1,8 @@
+package com.example.Chamados.model;
+
+public enum Prioridade {
+    BAIXA,
+    MEDIA,   // Padrão dos chamados novos
+    ALTA,
+    CRITICA
+}
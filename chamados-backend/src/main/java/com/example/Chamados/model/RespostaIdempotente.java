@@ -0,0 +1,42 @@
+package com.example.Chamados.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Resposta guardada de uma requisição com Idempotency-Key (chamados.idempotencia.tipo=banco).
+// A entidade só existe para o Hibernate criar a tabela: a gravação e a leitura são via JDBC (RegistroIdempotenciaBanco).
+@Entity
+@Table(name = "resposta_idempotente", indexes = @Index(name = "idx_resposta_idempotente_data", columnList = "data_criacao"))
+public class RespostaIdempotente {
+
+    @Id
+    @Column(length = 64)
+    private String chave; // SHA-256 do usuário + Idempotency-Key
+
+    @Column(nullable = false, length = 64)
+    private String impressao; // SHA-256 do método, caminho e corpo da requisição
+
+    private Integer status; // null = primeira requisição ainda em execução
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(length = 100)
+    private String etag;
+
+    @Lob
+    private byte[] corpo;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    // Getters
+
+    public String getChave() { return chave; }
+    public String getImpressao() { return impressao; }
+    public Integer getStatus() { return status; }
+    public String getContentType() { return contentType; }
+    public String getEtag() { return etag; }
+    public byte[] getCorpo() { return corpo; }
+    public LocalDateTime getDataCriacao() { return dataCriacao; }
+}
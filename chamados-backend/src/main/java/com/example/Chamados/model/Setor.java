@@ -1,10 +1,15 @@
 package com.example.Chamados.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Objects;
 
 @Entity
 @Table(name = "setor")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "setor") // Cache de segundo nível: carregado com cada chamado
+@EntityListeners(AlteracaoEntidadeListener.class) // Avisa as outras instâncias para invalidarem o cache
 public class Setor {
 
     @Id
@@ -0,0 +1,6 @@
+package com.example.Chamados.model;
+
+public enum TipoSla {
+    PRIMEIRA_RESPOSTA, // Até um técnico agir no chamado (assumir ou mudar o status)
+    RESOLUCAO          // Até o chamado ser fechado
+}
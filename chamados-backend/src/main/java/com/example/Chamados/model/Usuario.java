@@ -1,15 +1,23 @@
 package com.example.Chamados.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Collection;
 import java.util.Collections;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Entity
 @Table(name = "usuario")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuario") // Cache de segundo nível: lido em toda requisição autenticada
+@EntityListeners(AlteracaoEntidadeListener.class) // Avisa as outras instâncias para invalidarem o cache
 // --- MUDANÇA AQUI ---
 public class Usuario implements UserDetails {
 	private static final long serialVersionUID = 1L;
@@ -22,6 +30,7 @@ public class Usuario implements UserDetails {
     private String username;
 
     @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY) // Recebida no cadastro, nunca devolvida (nem o hash)
     private String password; // Senha (criptografada)
 
     @Column(nullable = false)
@@ -37,6 +46,14 @@ public class Usuario implements UserDetails {
     @Column(nullable = false)
     private boolean ativo; // Para verificar se o usuário está ativo no sistema
 
+    // Quando o usuário foi removido (DELETE /usuarios/{id}); null = não removido.
+    // Sem restrição na entidade (como em Chamado): o removido continua sendo o dono/autor dos chamados e
+    // comentários antigos. As consultas de usuários do UsuarioRepository é que filtram; o ExpurgoService
+    // o apaga quando nada mais o referencia
+    @Column(name = "data_remocao")
+    @JsonIgnore
+    private LocalDateTime dataRemocao;
+
     // --- Getters e Setters (Os que você já tinha) ---
     public Long getId() {
         return id;
@@ -97,9 +114,19 @@ public class Usuario implements UserDetails {
         this.ativo = ativo;
     }
 
+    public LocalDateTime getDataRemocao() {
+        return dataRemocao;
+    }
+
+    public void setDataRemocao(LocalDateTime dataRemocao) {
+        this.dataRemocao = dataRemocao;
+    }
+
     // --- MÉTODOS OBRIGATÓRIOS DO 'UserDetails' ---
+    // Fora do JSON: derivados de role/ativo e repetidos em todo chamado, comentário e anexo
 
     @Override
+    @JsonIgnore
     public Collection<? extends GrantedAuthority> getAuthorities() {
         if (this.role == null) {
             return Collections.emptyList();
@@ -108,21 +135,25 @@ public class Usuario implements UserDetails {
     }
 
     @Override
+    @JsonIgnore
     public boolean isAccountNonExpired() {
         return true; // Você pode adicionar lógica para expirar contas se quiser
     }
 
     @Override
+    @JsonIgnore
     public boolean isAccountNonLocked() {
         return true; // Você pode adicionar lógica de bloqueio de conta
     }
 
     @Override
+    @JsonIgnore
     public boolean isCredentialsNonExpired() {
         return true; // Você pode adicionar lógica de expiração de senha
     }
 
     @Override
+    @JsonIgnore
     public boolean isEnabled() {
         return this.ativo; // Usamos nosso campo 'ativo'
     }
@@ -0,0 +1,33 @@
+package com.example.Chamados.repository;
+
+import com.example.Chamados.model.Anexo;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AnexoRepository extends JpaRepository<Anexo, Long> {
+
+    // Anexos de um chamado, na ordem de envio
+    @EntityGraph(attributePaths = "autor")
+    List<Anexo> findByChamadoIdOrderByIdAsc(Long chamadoId);
+
+    // Anexo de um chamado específico (evita baixar o anexo de outro chamado trocando o id na URL)
+    Optional<Anexo> findByIdAndChamadoId(Long id, Long chamadoId);
+
+    // Anexos dos chamados expurgados: os hashes (para apagar os arquivos que ficarem sem uso) e o DELETE
+    @Query("select distinct a.hash from Anexo a where a.chamadoId in :chamadoIds")
+    List<String> findHashesByChamadoIdIn(@Param("chamadoIds") Collection<Long> chamadoIds);
+
+    @Modifying
+    @Query("delete from Anexo a where a.chamadoId in :chamadoIds")
+    int deletarPorChamados(@Param("chamadoIds") Collection<Long> chamadoIds);
+
+    // Hashes que ainda têm anexo (arquivo compartilhado por outro chamado)
+    @Query("select distinct a.hash from Anexo a where a.hash in :hashes")
+    List<String> findHashesEmUso(@Param("hashes") Collection<String> hashes);
+}
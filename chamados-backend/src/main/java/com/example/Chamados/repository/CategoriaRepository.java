@@ -1,11 +1,20 @@
 package com.example.Chamados.repository;
 
 import com.example.Chamados.model.Categoria;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoriaRepository extends JpaRepository<Categoria, Long> {
 
+    // Lista completa (formulários do front), no cache de consultas
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Categoria> findAll();
+
     // Método para buscar uma categoria pelo nome
     Optional<Categoria> findByNome(String nome);
 
@@ -0,0 +1,60 @@
+package com.example.Chamados.repository;
+
+import com.example.Chamados.model.ChamadoArquivado;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChamadoArquivadoRepository extends JpaRepository<ChamadoArquivado, Long>, ChamadoArquivadoRepositoryCustom {
+
+    // Id do dono (quem abriu) do chamado arquivado
+    @Query("select c.usuario.id from ChamadoArquivado c where c.id = :id")
+    Optional<Long> findUsuarioIdById(@Param("id") Long id);
+
+    // Mesma busca em lote do ChamadoRepository (ids que não estão mais na tabela principal)
+    @Query("select c from ChamadoArquivado c join fetch c.usuario join fetch c.categoria left join fetch c.tecnico "
+            + "left join fetch c.setor where c.id in :ids and (:usuarioId is null or c.usuario.id = :usuarioId)")
+    List<ChamadoArquivado> findVisiveisByIdIn(@Param("ids") Collection<Long> ids, @Param("usuarioId") Long usuarioId);
+
+    // Mesmas contagens do ChamadoRepository para os arquivados (o fluxo de chamados inclui os dois)
+    @Query("select year(c.dataAbertura) as ano, month(c.dataAbertura) as mes, day(c.dataAbertura) as dia, "
+            + "hour(c.dataAbertura) as hora, s.id as setorId, c.categoria.id as categoriaId, count(c) as total "
+            + "from ChamadoArquivado c left join c.setor s "
+            + "where (:de is null or c.dataAbertura >= :de) and (:ate is null or c.dataAbertura < :ate) "
+            + "group by year(c.dataAbertura), month(c.dataAbertura), day(c.dataAbertura), hour(c.dataAbertura), "
+            + "s.id, c.categoria.id")
+    List<ChamadoRepository.ContagemHora> contarAbertosPorHora(@Param("de") LocalDateTime de,
+                                                             @Param("ate") LocalDateTime ate);
+
+    @Query("select year(c.dataConclusao) as ano, month(c.dataConclusao) as mes, day(c.dataConclusao) as dia, "
+            + "hour(c.dataConclusao) as hora, s.id as setorId, c.categoria.id as categoriaId, count(c) as total "
+            + "from ChamadoArquivado c left join c.setor s where c.dataConclusao is not null "
+            + "and (:de is null or c.dataConclusao >= :de) and (:ate is null or c.dataConclusao < :ate) "
+            + "group by year(c.dataConclusao), month(c.dataConclusao), day(c.dataConclusao), hour(c.dataConclusao), "
+            + "s.id, c.categoria.id")
+    List<ChamadoRepository.ContagemHora> contarFechadosPorHora(@Param("de") LocalDateTime de,
+                                                              @Param("ate") LocalDateTime ate);
+
+    // Copia os chamados da tabela principal para o arquivo com um único INSERT ... SELECT
+    // (SQL nativo, como o INSERT da importação, para não passar pelas entidades).
+    // A dica de "spaces" diz ao Hibernate que só chamado_arquivado muda; sem ela, um UPDATE nativo
+    // esvazia todo o cache de segundo nível (usuários, categorias, setores).
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chamado_arquivado"))
+    @Query(value = "insert into chamado_arquivado (id, titulo, descricao, usuario_id, tecnico_id, categoria_id, setor_id, "
+            + "status, prioridade, data_abertura, data_conclusao, prazo_primeira_resposta, prazo_resolucao, "
+            + "data_primeira_resposta, sla_resposta_violado, sla_resolucao_violado, incidente_pai_id, data_arquivamento) "
+            + "select id, titulo, descricao, usuario_id, tecnico_id, categoria_id, setor_id, "
+            + "status, prioridade, data_abertura, data_conclusao, prazo_primeira_resposta, prazo_resolucao, "
+            + "data_primeira_resposta, sla_resposta_violado, sla_resolucao_violado, incidente_pai_id, :agora "
+            + "from chamado where id in (:ids)", nativeQuery = true)
+    int copiarDaTabelaPrincipal(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,12 @@
+package com.example.Chamados.repository;
+
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import com.example.Chamados.model.ChamadoArquivado;
+import java.util.stream.Stream;
+
+// Consultas montadas dinamicamente (implementadas em ChamadoArquivadoRepositoryImpl)
+public interface ChamadoArquivadoRepositoryCustom {
+
+    // Mesmo contrato de ChamadoRepositoryCustom.streamPorFiltro, sobre os chamados arquivados
+    Stream<ChamadoArquivado> streamPorFiltro(FiltroChamadoDTO filtro, int fetchSize);
+}
@@ -0,0 +1,19 @@
+package com.example.Chamados.repository;
+
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import com.example.Chamados.model.ChamadoArquivado;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.stream.Stream;
+
+public class ChamadoArquivadoRepositoryImpl implements ChamadoArquivadoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<ChamadoArquivado> streamPorFiltro(FiltroChamadoDTO filtro, int fetchSize) {
+        return ConsultaPorFiltro.stream(entityManager, ChamadoArquivado.class, filtro, fetchSize);
+    }
+}
@@ -1,15 +1,88 @@
 package com.example.Chamados.repository;
 
 import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Usuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ChamadoRepository extends JpaRepository<Chamado, Long> {
+public interface ChamadoRepository extends JpaRepository<Chamado, Long>, ChamadoRepositoryCustom {
+
+    // Projeção leve usada pelas operações em lote (evita carregar o grafo inteiro do chamado)
+    interface EstadoChamado {
+        Long getId();
+        String getStatus();
+        Long getTecnicoId();
+    }
+
+    // Prazos de SLA de um chamado (usados para remontar a roda de temporização)
+    interface PrazosSla {
+        Long getId();
+        LocalDateTime getDataAbertura();
+        String getCategoriaNome();
+        Prioridade getPrioridade();
+        LocalDateTime getPrazoPrimeiraResposta();
+        LocalDateTime getPrazoResolucao();
+        LocalDateTime getDataPrimeiraResposta();
+        boolean getSlaRespostaViolado();
+        boolean getSlaResolucaoViolado();
+    }
+
+    // Chamado sem técnico na fila de trabalho (ordenada por prioridade e idade)
+    interface ItemFila {
+        Long getId();
+        Prioridade getPrioridade();
+        LocalDateTime getDataAbertura();
+        String getStatus();
+    }
+
+    // Versão e dono de um chamado: basta para responder um GET condicional (If-None-Match) sem montar o grafo
+    interface VersaoChamado {
+        long getVersao();
+        Long getUsuarioId();
+    }
+
+    // Texto de um chamado aberto (para o índice de possíveis duplicados)
+    interface TextoChamado {
+        Long getId();
+        String getTitulo();
+        String getDescricao();
+    }
+
+    // Quantidade de chamados de uma hora, setor e categoria (preenchimento do fluxo_chamados)
+    interface ContagemHora {
+        Integer getAno();
+        Integer getMes();
+        Integer getDia();
+        Integer getHora();
+        Long getSetorId();
+        Long getCategoriaId();
+        Long getTotal();
+    }
+
+    // Quantidade de chamados abertos por técnico
+    interface CargaTecnico {
+        Long getTecnicoId();
+        Long getTotal();
+    }
 
     // Método para buscar um chamado pelo ID
     Optional<Chamado> findById(Long id);
 
+    // Só a versão (e o dono, para checar o acesso), sem join
+    @Query("select c.versao as versao, c.usuario.id as usuarioId from Chamado c where c.id = :id")
+    Optional<VersaoChamado> findVersaoById(@Param("id") Long id);
+
     // Método para buscar chamados por status (Ex: "aberto", "em progresso", "fechado")
     List<Chamado> findByStatus(String status);
 
@@ -21,4 +94,209 @@ public interface ChamadoRepository extends JpaRepository<Chamado, Long> {
 
     // Método para buscar chamados por setor
     List<Chamado> findBySetorId(Long setorId);
+
+    // Chamados de uma lista de ids em uma consulta (IN, com os relacionamentos no mesmo SELECT).
+    // Com "usuarioId", só os chamados desse dono: a regra de acesso do buscarPorId aplicada no banco
+    @Query("select c from Chamado c join fetch c.usuario join fetch c.categoria left join fetch c.tecnico "
+            + "left join fetch c.setor where c.id in :ids and (:usuarioId is null or c.usuario.id = :usuarioId)")
+    List<Chamado> findVisiveisByIdIn(@Param("ids") Collection<Long> ids, @Param("usuarioId") Long usuarioId);
+
+    // Id do dono (quem abriu) do chamado, sem carregar a entidade
+    @Query("select c.usuario.id from Chamado c where c.id = :id")
+    Optional<Long> findUsuarioIdById(@Param("id") Long id);
+
+    // Conta os chamados não fechados de cada técnico em uma única consulta agrupada
+    @Query("select c.tecnico.id as tecnicoId, count(c) as total from Chamado c "
+            + "where c.tecnico is not null and c.status <> 'FECHADO' group by c.tecnico.id")
+    List<CargaTecnico> contarAbertosPorTecnico();
+
+    // Chamados não fechados de um técnico só (técnico novo ou promovido a TI na atribuição automática)
+    @Query("select count(c) from Chamado c where c.tecnico.id = :tecnicoId and c.status <> 'FECHADO'")
+    long contarAbertosDoTecnico(@Param("tecnicoId") Long tecnicoId);
+
+    // Tempo de resolução (em segundos) de cada técnico nas posições da mediana e do p90 (percentil por
+    // posição: a ceil(n * p)-ésima menor), entre os chamados fechados em [de, ate). Uma consulta só: as funções
+    // de janela numeram os tempos de cada técnico e só as duas posições de cada um voltam do banco
+    interface PercentilTecnico {
+        Long getTecnicoId();
+        Long getFechados();
+        Long getPosicao();
+        Long getSegundos();
+    }
+
+    @Query(value = "select tecnico_id as tecnicoId, fechados, posicao, segundos from ("
+            + "select tecnico_id, timestampdiff(second, data_abertura, data_conclusao) as segundos, "
+            + "row_number() over (partition by tecnico_id "
+            + "order by timestampdiff(second, data_abertura, data_conclusao)) as posicao, "
+            + "count(*) over (partition by tecnico_id) as fechados from chamado "
+            + "where tecnico_id is not null and status = 'FECHADO' and data_remocao is null "
+            + "and data_conclusao >= :de and data_conclusao < :ate) t "
+            + "where posicao = ceil(fechados * 0.5) or posicao = ceil(fechados * 0.9)", nativeQuery = true)
+    List<PercentilTecnico> findPercentisResolucaoPorTecnico(@Param("de") LocalDateTime de, @Param("ate") LocalDateTime ate);
+
+    // --- Arquivamento ---
+
+    // Ids dos chamados fechados antes de "limite" (os sem data de conclusão usam a de abertura)
+    @Query("select c.id from Chamado c where c.status = 'FECHADO' and (c.dataConclusao < :limite "
+            + "or (c.dataConclusao is null and c.dataAbertura < :limite)) order by c.id")
+    List<Long> findIdsParaArquivar(@Param("limite") LocalDateTime limite, Pageable pageable);
+
+    // --- Fila de trabalho ---
+
+    // Chamados não fechados que ainda não têm técnico
+    @Query("select c.id as id, c.prioridade as prioridade, c.dataAbertura as dataAbertura, c.status as status "
+            + "from Chamado c where c.tecnico is null and c.status <> 'FECHADO'")
+    List<ItemFila> findFilaSemTecnico();
+
+    @Query("select c.id as id, c.prioridade as prioridade, c.dataAbertura as dataAbertura, c.status as status "
+            + "from Chamado c where c.id in :ids")
+    List<ItemFila> findItemFilaByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Entrega o chamado ao técnico só se ninguém o assumiu antes (retorna 0 se perdeu a corrida)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Chamado c set c.tecnico = :tecnico, "
+            + "c.status = case when c.status = 'ABERTO' then 'EM_ANDAMENTO' else c.status end "
+            + "where c.id = :id and c.tecnico is null and c.status <> 'FECHADO'")
+    int assumirSeLivre(@Param("id") Long id, @Param("tecnico") Usuario tecnico);
+
+    // --- Possíveis duplicados ---
+
+    // Título e descrição dos chamados não fechados
+    @Query("select c.id as id, c.titulo as titulo, c.descricao as descricao from Chamado c where c.status <> 'FECHADO'")
+    List<TextoChamado> findTextosAbertos();
+
+    @Query("select c.id as id, c.titulo as titulo, c.descricao as descricao from Chamado c where c.id in :ids")
+    List<TextoChamado> findTextoByIdIn(@Param("ids") Collection<Long> ids);
+
+    // --- Incidentes (pai e filhos) ---
+
+    // Filhos dos incidentes que ainda não estão no status informado
+    @Query("select c.id as id, c.status as status, t.id as tecnicoId "
+            + "from Chamado c left join c.tecnico t where c.incidentePaiId in :paiIds and c.status <> :status")
+    List<EstadoChamado> findEstadoFilhosEmOutroStatus(@Param("paiIds") Collection<Long> paiIds,
+                                                     @Param("status") String status);
+
+    // Leva o status (e a data de conclusão) do pai a todos os filhos com um único UPDATE.
+    // Sem clearAutomatically: o pai continua gerenciado na transação de quem chamou
+    @Modifying(flushAutomatically = true)
+    @Query("update versioned Chamado c set c.status = :status, c.dataConclusao = :dataConclusao "
+            + "where c.incidentePaiId in :paiIds and c.status <> :status")
+    int atualizarStatusDosFilhos(@Param("paiIds") Collection<Long> paiIds,
+                                 @Param("status") String status,
+                                 @Param("dataConclusao") LocalDateTime dataConclusao);
+
+    // Liga vários chamados ao incidente pai com um único UPDATE
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Chamado c set c.incidentePaiId = :paiId where c.id in :ids")
+    int vincularEmLote(@Param("ids") Collection<Long> ids, @Param("paiId") Long paiId);
+
+    // Solta os filhos dos incidentes (antes de remover os pais)
+    @Modifying(flushAutomatically = true)
+    @Query("update versioned Chamado c set c.incidentePaiId = null where c.incidentePaiId in :paiIds")
+    int desvincularFilhos(@Param("paiIds") Collection<Long> paiIds);
+
+    // Quais dos ids são pais de algum incidente
+    @Query("select distinct c.incidentePaiId from Chamado c where c.incidentePaiId in :ids")
+    List<Long> findIncidentesPaiEntre(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.incidentePaiId from Chamado c where c.id = :id")
+    Long findIncidentePaiIdById(@Param("id") Long id);
+
+    boolean existsByIncidentePaiId(Long incidentePaiId);
+
+    List<Chamado> findByIncidentePaiIdOrderById(Long incidentePaiId);
+
+    // --- Fluxo de chamados (preenchimento do fluxo_chamados; o GROUP BY é feito pelo banco) ---
+
+    @Query("select year(c.dataAbertura) as ano, month(c.dataAbertura) as mes, day(c.dataAbertura) as dia, "
+            + "hour(c.dataAbertura) as hora, s.id as setorId, c.categoria.id as categoriaId, count(c) as total "
+            + "from Chamado c left join c.setor s "
+            + "where (:de is null or c.dataAbertura >= :de) and (:ate is null or c.dataAbertura < :ate) "
+            + "group by year(c.dataAbertura), month(c.dataAbertura), day(c.dataAbertura), hour(c.dataAbertura), "
+            + "s.id, c.categoria.id")
+    List<ContagemHora> contarAbertosPorHora(@Param("de") LocalDateTime de, @Param("ate") LocalDateTime ate);
+
+    @Query("select year(c.dataConclusao) as ano, month(c.dataConclusao) as mes, day(c.dataConclusao) as dia, "
+            + "hour(c.dataConclusao) as hora, s.id as setorId, c.categoria.id as categoriaId, count(c) as total "
+            + "from Chamado c left join c.setor s where c.dataConclusao is not null "
+            + "and (:de is null or c.dataConclusao >= :de) and (:ate is null or c.dataConclusao < :ate) "
+            + "group by year(c.dataConclusao), month(c.dataConclusao), day(c.dataConclusao), hour(c.dataConclusao), "
+            + "s.id, c.categoria.id")
+    List<ContagemHora> contarFechadosPorHora(@Param("de") LocalDateTime de, @Param("ate") LocalDateTime ate);
+
+    // --- SLA ---
+
+    // Prazos de todos os chamados não fechados
+    @Query("select c.id as id, c.dataAbertura as dataAbertura, c.categoria.nome as categoriaNome, "
+            + "c.prioridade as prioridade, c.prazoPrimeiraResposta as prazoPrimeiraResposta, c.prazoResolucao as prazoResolucao, "
+            + "c.dataPrimeiraResposta as dataPrimeiraResposta, c.slaRespostaViolado as slaRespostaViolado, "
+            + "c.slaResolucaoViolado as slaResolucaoViolado "
+            + "from Chamado c where c.status <> 'FECHADO'")
+    List<PrazosSla> findPrazosSlaAbertos();
+
+    @Query("select c.id as id, c.dataAbertura as dataAbertura, c.categoria.nome as categoriaNome, "
+            + "c.prioridade as prioridade, c.prazoPrimeiraResposta as prazoPrimeiraResposta, c.prazoResolucao as prazoResolucao, "
+            + "c.dataPrimeiraResposta as dataPrimeiraResposta, c.slaRespostaViolado as slaRespostaViolado, "
+            + "c.slaResolucaoViolado as slaResolucaoViolado "
+            + "from Chamado c where c.id in :ids")
+    List<PrazosSla> findPrazosSlaByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Primeira resposta de vários chamados com um único UPDATE (filhos de incidente que mudaram de status).
+    // Sem clearAutomatically: o pai continua gerenciado na transação de quem publicou o evento
+    @Modifying(flushAutomatically = true)
+    @Query("update versioned Chamado c set c.dataPrimeiraResposta = :agora "
+            + "where c.id in :ids and c.dataPrimeiraResposta is null")
+    int registrarPrimeiraRespostaEmLote(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("update versioned Chamado c set c.slaRespostaViolado = true where c.id = :id")
+    int marcarSlaRespostaViolado(@Param("id") Long id);
+
+    @Modifying
+    @Query("update versioned Chamado c set c.slaResolucaoViolado = true where c.id = :id")
+    int marcarSlaResolucaoViolado(@Param("id") Long id);
+
+    // --- Operações em lote (set-based) ---
+
+    // Busca id, status e técnico de vários chamados em uma única consulta
+    @Query("select c.id as id, c.status as status, t.id as tecnicoId "
+            + "from Chamado c left join c.tecnico t where c.id in :ids")
+    List<EstadoChamado> findEstadoByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Altera o status (e a data de conclusão) de vários chamados com um único UPDATE
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Chamado c set c.status = :status, c.dataConclusao = :dataConclusao where c.id in :ids")
+    int atualizarStatusEmLote(@Param("ids") Collection<Long> ids,
+                              @Param("status") String status,
+                              @Param("dataConclusao") LocalDateTime dataConclusao);
+
+    // Atribui o técnico a vários chamados; os que estavam "ABERTO" passam para "EM_ANDAMENTO"
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Chamado c set c.tecnico = :tecnico, "
+            + "c.status = case when c.status = 'ABERTO' then 'EM_ANDAMENTO' else c.status end "
+            + "where c.id in :ids")
+    int atribuirTecnicoEmLote(@Param("ids") Collection<Long> ids, @Param("tecnico") Usuario tecnico);
+
+    // Apaga vários chamados com um único DELETE (arquivamento, depois de copiados para o arquivo)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Chamado c where c.id in :ids")
+    int deletarEmLote(@Param("ids") Collection<Long> ids);
+
+    // Marca vários chamados como removidos com um único UPDATE: saem de todas as consultas na hora
+    // e o ExpurgoService os apaga depois, sem segurar locks de um DELETE grande na requisição
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Chamado c set c.dataRemocao = :agora where c.id in :ids")
+    int marcarRemovidosEmLote(@Param("ids") Collection<Long> ids, @Param("agora") LocalDateTime agora);
+
+    // --- Expurgo (SQL nativo: a restrição de Chamado esconde os removidos de todo HQL) ---
+
+    // Os removidos antes de "limite", pelo índice de data_remocao (as linhas com null, a grande maioria, ficam fora do intervalo)
+    @Query(value = "select id from chamado where data_remocao < :limite order by data_remocao limit :quantidade",
+            nativeQuery = true)
+    List<Long> findIdsRemovidosAntesDe(@Param("limite") LocalDateTime limite, @Param("quantidade") int quantidade);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "chamado"))
+    @Query(value = "delete from chamado where id in (:ids) and data_remocao is not null", nativeQuery = true)
+    int expurgarRemovidos(@Param("ids") Collection<Long> ids);
 }
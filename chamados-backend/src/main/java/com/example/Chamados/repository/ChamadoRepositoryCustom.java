@@ -0,0 +1,21 @@
+package com.example.Chamados.repository;
+
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import com.example.Chamados.model.Chamado;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Consultas montadas dinamicamente (implementadas em ChamadoRepositoryImpl)
+public interface ChamadoRepositoryCustom {
+
+    // Percorre os chamados do filtro com um cursor forward-only, buscando "fetchSize" linhas por vez.
+    // O Stream precisa ser consumido (e fechado) dentro de uma transação.
+    Stream<Chamado> streamPorFiltro(FiltroChamadoDTO filtro, int fetchSize);
+
+    // Chamados abertos no período [de, ate) (limites opcionais). Com a tabela particionada por
+    // data_abertura (perfil "particionado"), o MySQL só lê as partições do período.
+    List<Chamado> findAbertosNoPeriodo(LocalDateTime de, LocalDateTime ate);
+
+    List<Chamado> findByUsuarioIdAbertosNoPeriodo(Long usuarioId, LocalDateTime de, LocalDateTime ate);
+}
@@ -0,0 +1,57 @@
+package com.example.Chamados.repository;
+
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import com.example.Chamados.model.Chamado;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class ChamadoRepositoryImpl implements ChamadoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Chamado> streamPorFiltro(FiltroChamadoDTO filtro, int fetchSize) {
+        return ConsultaPorFiltro.stream(entityManager, Chamado.class, filtro, fetchSize);
+    }
+
+    @Override
+    public List<Chamado> findAbertosNoPeriodo(LocalDateTime de, LocalDateTime ate) {
+        return abertosNoPeriodo(null, de, ate);
+    }
+
+    @Override
+    public List<Chamado> findByUsuarioIdAbertosNoPeriodo(Long usuarioId, LocalDateTime de, LocalDateTime ate) {
+        return abertosNoPeriodo(usuarioId, de, ate);
+    }
+
+    // Só entram no SQL os limites informados, como no ConsultaPorFiltro: um "(? is null or ...)" vira
+    // um prepared statement no servidor (useCursorFetch=true) e o MySQL não poda as partições por ele
+    private List<Chamado> abertosNoPeriodo(Long usuarioId, LocalDateTime de, LocalDateTime ate) {
+        StringBuilder jpql = new StringBuilder("select c from Chamado c where 1 = 1");
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        if (usuarioId != null) {
+            jpql.append(" and c.usuario.id = :usuarioId");
+            parametros.put("usuarioId", usuarioId);
+        }
+        if (de != null) {
+            jpql.append(" and c.dataAbertura >= :de");
+            parametros.put("de", de);
+        }
+        if (ate != null) {
+            jpql.append(" and c.dataAbertura < :ate");
+            parametros.put("ate", ate);
+        }
+
+        TypedQuery<Chamado> query = entityManager.createQuery(jpql.toString(), Chamado.class);
+        parametros.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
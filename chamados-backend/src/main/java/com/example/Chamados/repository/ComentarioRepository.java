@@ -0,0 +1,23 @@
+package com.example.Chamados.repository;
+
+import com.example.Chamados.model.Comentario;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+
+public interface ComentarioRepository extends JpaRepository<Comentario, Long> {
+
+    // Comentários de um chamado, paginados (o autor vem no mesmo SELECT)
+    @EntityGraph(attributePaths = "autor")
+    Page<Comentario> findByChamadoId(Long chamadoId, Pageable pageable);
+
+    // Comentários dos chamados expurgados
+    @Modifying
+    @Query("delete from Comentario c where c.chamadoId in :chamadoIds")
+    int deletarPorChamados(@Param("chamadoIds") Collection<Long> chamadoIds);
+}
@@ -0,0 +1,62 @@
+package com.example.Chamados.repository;
+
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Consulta por FiltroChamadoDTO, comum à tabela principal (Chamado) e ao arquivo (ChamadoArquivado),
+// que têm os mesmos atributos
+final class ConsultaPorFiltro {
+
+    private ConsultaPorFiltro() {
+    }
+
+    static <T> Stream<T> stream(EntityManager entityManager, Class<T> entidade, FiltroChamadoDTO filtro, int fetchSize) {
+
+        // 1. Busca as associações no mesmo SELECT para não gerar uma consulta extra por linha
+        StringBuilder jpql = new StringBuilder("select c from " + entidade.getSimpleName() + " c "
+                + "join fetch c.usuario "
+                + "left join fetch c.tecnico "
+                + "join fetch c.categoria "
+                + "left join fetch c.setor "
+                + "where 1 = 1");
+
+        // 2. Só entram no SQL os filtros informados
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        if (filtro.getStatus() != null) {
+            jpql.append(" and c.status = :status");
+            parametros.put("status", filtro.getStatus().toUpperCase());
+        }
+        if (filtro.getAbertoDe() != null) {
+            jpql.append(" and c.dataAbertura >= :abertoDe");
+            parametros.put("abertoDe", filtro.getAbertoDe());
+        }
+        if (filtro.getAbertoAte() != null) {
+            jpql.append(" and c.dataAbertura < :abertoAte");
+            parametros.put("abertoAte", filtro.getAbertoAte());
+        }
+        if (filtro.getSetorId() != null) {
+            jpql.append(" and c.setor.id = :setorId");
+            parametros.put("setorId", filtro.getSetorId());
+        }
+        if (filtro.getCategoriaId() != null) {
+            jpql.append(" and c.categoria.id = :categoriaId");
+            parametros.put("categoriaId", filtro.getCategoriaId());
+        }
+        jpql.append(" order by c.id");
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), entidade);
+        parametros.forEach(query::setParameter);
+
+        // 3. Cursor forward-only: o driver traz "fetchSize" linhas por ida ao banco
+        //    e as entidades não são rastreadas para dirty checking
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+}
@@ -1,12 +1,21 @@
 package com.example.Chamados.repository;
 
 import com.example.Chamados.model.Setor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SetorRepository extends JpaRepository<Setor, Long> {
 
+    // Lista completa (formulários do front), no cache de consultas
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Setor> findAll();
+
     // Método para buscar um setor pelo nome
     Optional<Setor> findByNome(String nome);
 }
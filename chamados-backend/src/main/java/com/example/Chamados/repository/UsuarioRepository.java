@@ -2,17 +2,69 @@ package com.example.Chamados.repository;
 
 import com.example.Chamados.model.Usuario;
 import com.example.Chamados.model.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
-    // Método para buscar um usuário pelo email
+
+    // Projeção com apenas id, email e papel (usada para montar mapas de busca em memória)
+    interface IdEmail {
+        Long getId();
+        String getEmail();
+        Role getRole();
+    }
+
+    // Método para buscar um usuário pelo email (chamado pelo filtro JWT em toda requisição)
+    // Resultado no cache de consultas; invalidado pelo Hibernate quando a tabela usuario é alterada
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Usuario> findByEmail(String email);
 
-    // Método para buscar usuários por role (NORMAL ou TI ou ADM)
-    List<Usuario> findByRole(Role role);
+    // Método para buscar usuários por role (NORMAL ou TI ou ADM), sem os removidos
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select u from Usuario u where u.role = :role and u.dataRemocao is null")
+    List<Usuario> findByRole(@Param("role") Role role);
+
+    // --- Usuários não removidos (findById/findAll também trazem os removidos, que seguem donos de chamados antigos) ---
+
+    @Query("select u from Usuario u where u.dataRemocao is null")
+    List<Usuario> findNaoRemovidos();
+
+    Optional<Usuario> findByIdAndDataRemocaoIsNull(Long id);
+
+    List<Usuario> findByIdInAndDataRemocaoIsNull(Collection<Long> ids);
 
     // Método para buscar usuários pelo nome
     List<Usuario> findByNomeContainingIgnoreCase(String nome);
+
+    // Método para buscar id, email e papel de todos os usuários, sem carregar as entidades
+    @Query("select u.id as id, u.email as email, u.role as role from Usuario u where u.dataRemocao is null")
+    List<IdEmail> findAllIdEmail();
+
+    // --- Expurgo ---
+
+    // Removidos antes de "limite" que nada mais referencia (chamados, inclusive os arquivados e os ainda não
+    // expurgados, comentários e anexos): só esses podem ser apagados sem violar chave estrangeira
+    @Query(value = "select u.id from usuario u where u.data_remocao < :limite "
+            + "and not exists (select 1 from chamado c where c.usuario_id = u.id) "
+            + "and not exists (select 1 from chamado c where c.tecnico_id = u.id) "
+            + "and not exists (select 1 from chamado_arquivado a where a.usuario_id = u.id or a.tecnico_id = u.id) "
+            + "and not exists (select 1 from comentario m where m.autor_id = u.id) "
+            + "and not exists (select 1 from anexo x where x.autor_id = u.id) "
+            + "order by u.id limit :quantidade", nativeQuery = true)
+    List<Long> findIdsRemovidosSemReferencias(@Param("limite") LocalDateTime limite, @Param("quantidade") int quantidade);
+
+    // A dica de "spaces" limita a invalidação do cache de segundo nível à região de usuário
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "usuario"))
+    @Query(value = "delete from usuario where id in (:ids) and data_remocao is not null", nativeQuery = true)
+    int expurgarRemovidos(@Param("ids") Collection<Long> ids);
 }
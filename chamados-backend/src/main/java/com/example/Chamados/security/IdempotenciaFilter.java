@@ -0,0 +1,227 @@
+// src/main/java/com/example/Chamados/security/IdempotenciaFilter.java
+package com.example.Chamados.security;
+
+import com.example.Chamados.config.IdempotenciaProperties;
+import com.example.Chamados.service.RegistroIdempotencia;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// Idempotency-Key em POST /chamados e nos PATCH de chamado (assumir, fechar, alterar-status, atribuir):
+// a primeira requisição com a chave é executada e a resposta (status, tipo, ETag e corpo) fica guardada;
+// as repetições recebem a mesma resposta, com "Idempotent-Replayed: true", sem executar de novo.
+// - A chave vale por usuário: a mesma chave de outro usuário é outra chave.
+// - Repetição enquanto a primeira ainda executa: 409 com Retry-After.
+// - Mesma chave com outra requisição (método, caminho ou corpo diferentes): 422.
+// - Respostas 5xx não são guardadas (a repetição executa de novo).
+// - Corpo acima de "corpo-maximo": 413, sem executar.
+// Roda depois do JwtAuthFilter e do limite de requisições, antes da autorização.
+@Component
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    public static final String CABECALHO = "Idempotency-Key";
+    public static final String CABECALHO_REPETIDA = "Idempotent-Replayed";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+    private static final PathPattern CRIAR = PathPatternParser.defaultInstance.parse("/chamados");
+    private static final PathPattern ALTERAR = PathPatternParser.defaultInstance.parse("/chamados/{id}/*");
+
+    @Autowired
+    private IdempotenciaProperties properties;
+
+    @Autowired
+    private RegistroIdempotencia registro;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isHabilitado() || request.getHeader(CABECALHO) == null) {
+            return true;
+        }
+        PathContainer caminho = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        return switch (request.getMethod()) {
+            case "POST" -> !CRIAR.matches(caminho);
+            case "PATCH" -> !ALTERAR.matches(caminho);
+            default -> true;
+        };
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String usuario = usuario();
+        String chaveCliente = request.getHeader(CABECALHO);
+        if (usuario == null) {
+            filterChain.doFilter(request, response); // Sem login não há o que guardar (a autorização responde 401/403)
+            return;
+        }
+        if (chaveCliente.isBlank() || chaveCliente.length() > TAMANHO_MAXIMO_CHAVE) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        int corpoMaximo = (int) properties.getCorpoMaximo().toBytes();
+        if (request.getContentLengthLong() > corpoMaximo) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        // Lê no máximo um byte além do limite: sem Content-Length (chunked) é assim que se descobre o excesso
+        byte[] corpo = request.getInputStream().readNBytes(corpoMaximo + 1);
+        if (corpo.length > corpoMaximo) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        String chave = sha256((usuario + "\n" + chaveCliente).getBytes(StandardCharsets.UTF_8));
+        String impressao = sha256((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString()
+                + "\n").getBytes(StandardCharsets.UTF_8), corpo);
+
+        RegistroIdempotencia.Entrada existente = registro.reservar(chave, impressao);
+        if (existente != null) {
+            responderRepeticao(existente, impressao, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper resposta = new ContentCachingResponseWrapper(response);
+        boolean guardada = false;
+        try {
+            filterChain.doFilter(new CorpoLido(request, corpo), resposta);
+            if (resposta.getStatus() < 500) {
+                registro.concluir(chave, new RegistroIdempotencia.Resposta(resposta.getStatus(),
+                        resposta.getContentType(), resposta.getHeader(HttpHeaders.ETAG), resposta.getContentAsByteArray()));
+                guardada = true;
+            }
+        } finally {
+            if (!guardada) {
+                registro.liberar(chave);
+            }
+            resposta.copyBodyToResponse();
+        }
+    }
+
+    private void responderRepeticao(RegistroIdempotencia.Entrada existente, String impressao, HttpServletResponse response)
+            throws IOException {
+        String resultado;
+        if (!existente.impressao().equals(impressao)) {
+            resultado = "outra_requisicao";
+            response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        } else if (existente.emAndamento()) {
+            resultado = "em_andamento";
+            response.setStatus(HttpStatus.CONFLICT.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        } else {
+            resultado = "repetida";
+            RegistroIdempotencia.Resposta guardada = existente.resposta();
+            response.setStatus(guardada.status());
+            response.setHeader(CABECALHO_REPETIDA, "true");
+            if (guardada.etag() != null) {
+                response.setHeader(HttpHeaders.ETAG, guardada.etag());
+            }
+            if (guardada.contentType() != null) {
+                response.setContentType(guardada.contentType());
+            }
+            if (guardada.corpo() != null && guardada.corpo().length > 0) {
+                response.setContentLength(guardada.corpo().length);
+                response.getOutputStream().write(guardada.corpo());
+            }
+        }
+        meterRegistry.counter("chamados.idempotencia.repeticoes", "resultado", resultado).increment();
+    }
+
+    private static String usuario() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    private static String sha256(byte[]... partes) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            for (byte[] parte : partes) {
+                sha256.update(parte);
+            }
+            return HexFormat.of().formatHex(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Requisição com o corpo já lido (para a impressão), entregue de novo ao controller
+    private static class CorpoLido extends HttpServletRequestWrapper {
+
+        private final byte[] corpo;
+
+        CorpoLido(HttpServletRequest request, byte[] corpo) {
+            super(request);
+            this.corpo = corpo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(corpo);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
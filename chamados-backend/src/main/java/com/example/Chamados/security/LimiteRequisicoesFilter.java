@@ -0,0 +1,129 @@
+// src/main/java/com/example/Chamados/security/LimiteRequisicoesFilter.java
+package com.example.Chamados.security;
+
+import com.example.Chamados.config.LimiteRequisicoesProperties;
+import com.example.Chamados.util.BaldeFichas;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Limite de requisições (chamados.limite): roda logo depois do JwtAuthFilter, então já sabe quem é o usuário.
+// Cada usuário (ou IP, nas regras "por-ip" e em requisições sem token) tem um balde por regra;
+// sem ficha, a requisição volta com 429 e Retry-After, sem chegar no controller.
+// Os baldes ficam na memória desta instância: com N instâncias atrás do balanceador, o limite efetivo é até N vezes maior.
+// Recusas contadas em /actuator/metrics/chamados.limite.recusadas (tag "regra").
+@Component
+public class LimiteRequisicoesFilter extends OncePerRequestFilter {
+
+    private record RegraAtiva(String nome, String metodo, PathPattern caminho, int capacidade, Duration periodo,
+                              boolean porIp, Counter recusadas) {
+
+        boolean casa(HttpServletRequest request, PathContainer caminhoRequisicao) {
+            return (metodo == null || metodo.equalsIgnoreCase(request.getMethod())) && caminho.matches(caminhoRequisicao);
+        }
+    }
+
+    @Autowired
+    private LimiteRequisicoesProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<RegraAtiva> regras = new ArrayList<>();
+    private final Map<String, BaldeFichas> baldes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void montarRegras() {
+        for (LimiteRequisicoesProperties.Regra regra : properties.getRotas()) {
+            regras.add(ativa(regra));
+        }
+        regras.add(ativa(properties.getPadrao())); // Última: casa com tudo que sobrou
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Preflight do CORS não conta
+        return !properties.isHabilitado() || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        PathContainer caminho = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        RegraAtiva regra = regras.stream().filter(r -> r.casa(request, caminho)).findFirst().orElse(null);
+        if (regra == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long agora = System.nanoTime(); // Monotônico: não anda para trás com ajustes do relógio
+        BaldeFichas balde = baldes.computeIfAbsent(regra.nome() + "|" + chave(request, regra),
+                k -> new BaldeFichas(regra.capacidade(), regra.periodo(), agora));
+
+        long espera = balde.consumir(agora);
+        if (espera > 0) {
+            regra.recusadas().increment();
+            long segundos = Math.max(1, (espera + 999_999_999L) / 1_000_000_000L); // Arredonda para cima
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Descarta os baldes cheios: quem parou de chamar não ocupa memória.
+    // Um consumo que corra junto com a remoção se perde (no máximo uma ficha a mais para o usuário)
+    @Scheduled(fixedDelayString = "#{@limiteRequisicoesProperties.limpeza.toMillis()}")
+    public void limpar() {
+        long agora = System.nanoTime();
+        baldes.values().removeIf(balde -> balde.cheio(agora));
+    }
+
+    private RegraAtiva ativa(LimiteRequisicoesProperties.Regra regra) {
+        String metodo = StringUtils.hasText(regra.getMetodo()) ? regra.getMetodo().trim() : null;
+        String nome = (metodo != null ? metodo + " " : "") + regra.getCaminho();
+        Counter recusadas = Counter.builder("chamados.limite.recusadas")
+                .description("Requisições recusadas com 429 pelo limite de requisições")
+                .tag("regra", nome)
+                .register(meterRegistry);
+        return new RegraAtiva(nome, metodo, PathPatternParser.defaultInstance.parse(regra.getCaminho()),
+                regra.getCapacidade(), regra.getPeriodo(), regra.isPorIp(), recusadas);
+    }
+
+    private static String chave(HttpServletRequest request, RegraAtiva regra) {
+        if (!regra.porIp()) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+                return "usuario:" + auth.getName();
+            }
+        }
+        // Atrás do balanceador, o Tomcat já troca o endereço pelo do X-Forwarded-For (server.forward-headers-strategy)
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -1,6 +1,7 @@
 // src/main/java/com/example/Chamados/security/SecurityConfig.java
 package com.example.Chamados.security;
 
+import com.example.Chamados.config.LeituraPropriasEscritas;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,6 +32,12 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthFilter jwtAuthFilter;
 
+    @Autowired
+    private LimiteRequisicoesFilter limiteRequisicoesFilter;
+
+    @Autowired
+    private IdempotenciaFilter idempotenciaFilter;
+
     // Este Bean diz ao Spring como verificar as senhas
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -70,6 +77,10 @@ public class SecurityConfig {
         config.addAllowedMethod("DELETE");
         config.addAllowedMethod("OPTIONS");
         config.addAllowedMethod("PATCH");
+        config.addExposedHeader("ETag"); // Lida pelo frontend para o If-None-Match/If-Match dos chamados
+        config.addExposedHeader(IdempotenciaFilter.CABECALHO_REPETIDA);
+        config.addExposedHeader("Retry-After"); // 409 da Idempotency-Key em andamento (o frontend espera e repete) e 429 do limite
+        config.addExposedHeader(LeituraPropriasEscritas.CABECALHO); // Devolvido pelo frontend depois de uma escrita (réplicas)
         
         source.registerCorsConfiguration("/**", config); 
         return source;
@@ -94,21 +105,31 @@ public class SecurityConfig {
             	.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
             	.requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                 .requestMatchers("/auth/login", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
 
                 // 2. Regras de ADM
                 .requestMatchers(HttpMethod.POST, "/usuarios/**", "/setores/**", "/categorias/**").hasAuthority("ROLE_ADM")
                 .requestMatchers(HttpMethod.PUT, "/usuarios/**", "/setores/**", "/categorias/**").hasAuthority("ROLE_ADM")
                 .requestMatchers(HttpMethod.DELETE, "/usuarios/**", "/setores/**", "/categorias/**").hasAuthority("ROLE_ADM")
-                .requestMatchers(HttpMethod.GET, "/usuarios").hasAuthority("ROLE_ADM") // Lista completa de usuários
+                // GET /usuarios: a lista completa é só do ADM, mas a busca por ids (?ids=) é de todos; checado no UsuarioController
                 .requestMatchers(HttpMethod.DELETE, "/chamados/**").hasAuthority("ROLE_ADM")
+                .requestMatchers(HttpMethod.POST, "/chamados/importacao").hasAuthority("ROLE_ADM")
+                .requestMatchers("/actuator/**").hasAuthority("ROLE_ADM") // Métricas (pool de conexões etc.)
+                .requestMatchers("/relatorios/**").hasAuthority("ROLE_ADM") // Fluxo de chamados e recálculo
 
                 // 3. Regras de TI / ADM
                 .requestMatchers("/chamados/{id}/assumir").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
                 .requestMatchers("/chamados/{id}/alterar-status").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
                 
                 // --- NOVAS REGRAS AQUI ---
-                .requestMatchers(HttpMethod.GET, "/usuarios/tecnicos").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
+                .requestMatchers(HttpMethod.GET, "/usuarios/tecnicos", "/usuarios/tecnicos/desempenho").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
                 .requestMatchers(HttpMethod.PATCH, "/chamados/{id}/atribuir").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
+                .requestMatchers(HttpMethod.POST, "/chamados/lote").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
+                .requestMatchers(HttpMethod.GET, "/chamados/export").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
+                .requestMatchers(HttpMethod.GET, "/chamados/sla/em-risco").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
+                .requestMatchers(HttpMethod.POST, "/chamados/proximo").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
+                .requestMatchers(HttpMethod.GET, "/chamados/{id}/semelhantes").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
+                .requestMatchers("/chamados/{id}/filhos", "/chamados/{id}/desvincular").hasAnyAuthority("ROLE_TI", "ROLE_ADM")
                 // -------------------------
 
                 // 4. Regras de Usuário Autenticado (Comuns)
@@ -122,7 +143,11 @@ public class SecurityConfig {
             )
             // ------------------------------------
             
-            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            // Limite de requisições depois do JWT (conta por usuário) e antes da autorização
+            .addFilterAfter(limiteRequisicoesFilter, JwtAuthFilter.class)
+            // Idempotency-Key: repetições recebem a resposta guardada sem executar de novo
+            .addFilterAfter(idempotenciaFilter, LimiteRequisicoesFilter.class);
 
         return http.build();
     }
@@ -19,6 +19,7 @@ public class UserDetailServiceImpl implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         // Buscamos o usuário pelo email (que é o "username" no seu sistema)
     	Usuario usuario = usuarioRepository.findByEmail(email)
+    	        .filter(u -> u.getDataRemocao() == null) // Removido: o token dele deixa de valer na hora
     	        .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado com o email: " + email));
 
         return usuario;
@@ -0,0 +1,176 @@
+// src/main/java/com/example/Chamados/service/AnexoService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.AnexosProperties;
+import com.example.Chamados.model.Anexo;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.AnexoRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+
+// Anexos dos chamados em um armazenamento local endereçado por conteúdo.
+// O upload é gravado em um arquivo temporário enquanto o SHA-256 é calculado e depois movido para
+// <diretorio>/<2 primeiros caracteres do hash>/<hash>; se o arquivo já existe, o temporário é descartado
+// (arquivos iguais são guardados uma vez só). Nada é mantido inteiro em memória, nem no upload nem no download.
+@Service
+public class AnexoService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnexoService.class);
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    // Upload maior que chamados.anexos.tamanho-maximo
+    public static class LimiteExcedidoException extends RuntimeException {
+        public LimiteExcedidoException(long limite) {
+            super("Anexo maior que o limite de " + limite + " bytes");
+        }
+    }
+
+    @Autowired
+    private AnexosProperties properties;
+
+    @Autowired
+    private AnexoRepository anexoRepository;
+
+    private Path raiz;
+    private Path temporarios;
+
+    @PostConstruct
+    public void inicializar() throws IOException {
+        raiz = Paths.get(properties.getDiretorio()).toAbsolutePath().normalize();
+        temporarios = raiz.resolve("tmp");
+        Files.createDirectories(temporarios);
+    }
+
+    // 1. Grava o conteúdo (stream) e registra o anexo no chamado
+    public Anexo salvar(Long chamadoId, Usuario autor, String nomeArquivo, String contentType, InputStream entrada)
+            throws IOException {
+
+        long limite = properties.getTamanhoMaximo().toBytes();
+        Path temporario = Files.createTempFile(temporarios, "upload-", ".tmp");
+        try {
+            MessageDigest sha256 = novoSha256();
+            long tamanho = 0;
+            try (OutputStream saida = new DigestOutputStream(Files.newOutputStream(temporario), sha256)) {
+                byte[] buffer = new byte[TAMANHO_BUFFER];
+                int lidos;
+                while ((lidos = entrada.read(buffer)) != -1) {
+                    tamanho += lidos;
+                    if (tamanho > limite) {
+                        throw new LimiteExcedidoException(limite);
+                    }
+                    saida.write(buffer, 0, lidos);
+                }
+            }
+
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            Path destino = caminho(hash);
+            if (Files.exists(destino)) {
+                Files.delete(temporario); // Conteúdo repetido: reaproveita o arquivo existente
+                // Arquivo recém-reaproveitado: o expurgo não apaga enquanto este anexo ainda não foi gravado
+                Files.setLastModifiedTime(destino, FileTime.from(Instant.now()));
+            } else {
+                Files.createDirectories(destino.getParent());
+                try {
+                    Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    Files.delete(temporario); // Outro upload igual terminou antes
+                }
+            }
+
+            Anexo anexo = new Anexo();
+            anexo.setChamadoId(chamadoId);
+            anexo.setAutor(autor);
+            anexo.setNomeArquivo(nomeArquivo);
+            anexo.setContentType(contentType);
+            anexo.setTamanho(tamanho);
+            anexo.setHash(hash);
+            anexo.setDataEnvio(LocalDateTime.now());
+            return anexoRepository.save(anexo);
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    // 2. Envia "quantidade" bytes do anexo a partir de "inicio" direto do arquivo para a saída.
+    // FileChannel.transferTo deixa a cópia com o sistema operacional quando o destino permite
+    // (sendfile); caso contrário o JDK copia em blocos pequenos. Em nenhum caso o arquivo vai inteiro para o heap.
+    public void transferir(Anexo anexo, long inicio, long quantidade, WritableByteChannel destino) throws IOException {
+        try (FileChannel arquivo = FileChannel.open(caminho(anexo.getHash()), StandardOpenOption.READ)) {
+            long posicao = inicio;
+            long fim = inicio + quantidade;
+            while (posicao < fim) {
+                long enviados = arquivo.transferTo(posicao, fim - posicao, destino);
+                if (enviados <= 0) {
+                    break; // Arquivo menor do que o registrado
+                }
+                posicao += enviados;
+            }
+        }
+    }
+
+    // 3. Apaga os arquivos destes hashes que nenhum anexo usa mais (anexos de chamados expurgados).
+    // Arquivos alterados há menos de "carencia" ficam: podem ter sido reaproveitados por um upload em andamento.
+    // Retorna quantos foram apagados
+    public int removerArquivosSemUso(Collection<String> hashes, Duration carencia) {
+        if (hashes.isEmpty()) {
+            return 0;
+        }
+        Set<String> emUso = new HashSet<>(anexoRepository.findHashesEmUso(hashes));
+        Instant limite = Instant.now().minus(carencia);
+        int apagados = 0;
+        for (String hash : hashes) {
+            if (emUso.contains(hash)) {
+                continue;
+            }
+            Path arquivo = caminho(hash);
+            try {
+                if (Files.exists(arquivo) && Files.getLastModifiedTime(arquivo).toInstant().isBefore(limite)) {
+                    Files.delete(arquivo);
+                    apagados++;
+                }
+            } catch (IOException e) {
+                log.warn("Não foi possível apagar o arquivo de anexo {}", arquivo, e); // Fica órfão no disco
+            }
+        }
+        return apagados;
+    }
+
+    private Path caminho(String hash) {
+        return raiz.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static MessageDigest novoSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // Todo JDK tem SHA-256
+        }
+    }
+}
@@ -0,0 +1,76 @@
+// src/main/java/com/example/Chamados/service/ArquivamentoService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.ArquivamentoProperties;
+import com.example.Chamados.repository.ChamadoArquivadoRepository;
+import com.example.Chamados.repository.ChamadoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Move os chamados fechados há mais de chamados.arquivamento.idade para a tabela chamado_arquivado,
+// mantendo a tabela principal (e seus índices) só com o que ainda é trabalhado.
+// Cada lote é um INSERT ... SELECT seguido de um DELETE na mesma transação.
+@Service
+public class ArquivamentoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArquivamentoService.class);
+
+    @Autowired
+    private ArquivamentoProperties properties;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ChamadoArquivadoRepository chamadoArquivadoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @Scheduled(cron = "${chamados.arquivamento.cron:0 30 3 * * *}")
+    public void executarAgendado() {
+        if (properties.isHabilitado()) {
+            arquivar();
+        }
+    }
+
+    // Arquiva em lotes até não sobrar chamado elegível; retorna o total movido
+    public long arquivar() {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        LocalDateTime limite = agora.minus(properties.getIdade());
+        PageRequest lote = PageRequest.of(0, properties.getTamanhoLote());
+        long total = 0;
+
+        while (true) {
+            Integer movidos = transactionTemplate.execute(status -> {
+                List<Long> ids = chamadoRepository.findIdsParaArquivar(limite, lote);
+                if (!ids.isEmpty()) {
+                    chamadoArquivadoRepository.copiarDaTabelaPrincipal(ids, agora);
+                    chamadoRepository.deletarEmLote(ids);
+                }
+                return ids.size();
+            });
+            total += movidos;
+            if (movidos < properties.getTamanhoLote()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("{} chamados fechados antes de {} movidos para o arquivo", total, limite);
+        }
+        return total;
+    }
+}
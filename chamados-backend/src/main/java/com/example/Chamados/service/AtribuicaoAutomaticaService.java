@@ -0,0 +1,261 @@
+// src/main/java/com/example/Chamados/service/AtribuicaoAutomaticaService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.AtribuicaoProperties;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.event.ChamadosImportadosEvento;
+import com.example.Chamados.event.EntidadeAlteradaEvento;
+import com.example.Chamados.event.StatusPropagadoEvento;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.CategoriaRepository;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.repository.SetorRepository;
+import com.example.Chamados.repository.UsuarioRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+// Escolhe o técnico de um chamado novo pelo menor número de chamados abertos.
+// A carga de cada técnico fica em um índice em memória (TreeSet ordenado por carga),
+// mantido pelos ChamadoEvento, então escolher um técnico custa O(log n) e não faz COUNT no banco.
+// Em caso de empate, vence quem recebeu chamado há mais tempo (round-robin).
+@Service
+public class AtribuicaoAutomaticaService {
+
+    private static final Logger log = LoggerFactory.getLogger(AtribuicaoAutomaticaService.class);
+
+    // Carga de um técnico. Só é alterada por quem segura o lock do serviço,
+    // sempre removendo do TreeSet antes e reinserindo depois.
+    private static final class Carga {
+        private final Usuario tecnico;
+        private int abertos;
+        private long ultimaAtribuicao;
+
+        private Carga(Usuario tecnico, int abertos) {
+            this.tecnico = tecnico;
+            this.abertos = abertos;
+        }
+    }
+
+    private static final Comparator<Carga> POR_CARGA = Comparator
+            .comparingInt((Carga c) -> c.abertos)
+            .thenComparingLong(c -> c.ultimaAtribuicao)
+            .thenComparing(c -> c.tecnico.getId());
+
+    @Autowired
+    private AtribuicaoProperties properties;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    private final Map<Long, Carga> cargas = new HashMap<>();
+    private final TreeSet<Carga> ordem = new TreeSet<>(POR_CARGA);
+    private long sequencia;
+
+    // 1. Monta o índice na subida da aplicação: uma consulta de técnicos + uma contagem agrupada
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        Map<Long, Long> abertosPorTecnico = new HashMap<>();
+        for (ChamadoRepository.CargaTecnico carga : chamadoRepository.contarAbertosPorTecnico()) {
+            abertosPorTecnico.put(carga.getTecnicoId(), carga.getTotal());
+        }
+
+        List<Usuario> tecnicos = usuarioRepository.findByRole(Role.ROLE_TI);
+        synchronized (this) {
+            cargas.clear();
+            ordem.clear();
+            for (Usuario tecnico : tecnicos) {
+                if (tecnico.isAtivo()) {
+                    inserir(new Carga(tecnico, abertosPorTecnico.getOrDefault(tecnico.getId(), 0L).intValue()));
+                }
+            }
+        }
+        log.info("Índice de atribuição automática montado com {} técnicos", tecnicos.size());
+    }
+
+    // Importações gravam via JDBC, sem eventos por chamado: recalcula tudo
+    @EventListener
+    public void aoImportar(ChamadosImportadosEvento evento) {
+        reconstruir();
+    }
+
+    // Usuário alterado em outra instância (o controller desta instância já chama sincronizarTecnico)
+    @EventListener
+    public void aoAlterarEntidade(EntidadeAlteradaEvento evento) {
+        if (!evento.getEntidade().equals("usuario")) {
+            return;
+        }
+        if (evento.getId() == null) {
+            reconstruir();
+            return;
+        }
+        Optional<Usuario> usuario = usuarioRepository.findById(evento.getId());
+        if (usuario.isPresent()) {
+            sincronizarTecnico(usuario.get());
+        } else {
+            removerTecnico(evento.getId());
+        }
+    }
+
+    // 2. Escolhe o técnico para um chamado novo (não altera a carga; isso vem com o evento CRIADO)
+    public Optional<Usuario> escolherTecnico(Chamado chamado) {
+        if (!properties.isAutomatica()) {
+            return Optional.empty();
+        }
+        // Resolvido fora do lock porque pode consultar o nome da categoria/setor
+        List<String> especialistas = especialistas(chamado);
+
+        synchronized (this) {
+            if (ordem.isEmpty()) {
+                return Optional.empty();
+            }
+            Carga escolhida = ordem.first();
+
+            // Especialistas na categoria/setor podem ser escolhidos com até "folgaEspecialista" chamados a mais
+            if (!especialistas.isEmpty()) {
+                int limite = escolhida.abertos + properties.getFolgaEspecialista();
+                for (Carga carga : ordem) {
+                    if (carga.abertos > limite) {
+                        break;
+                    }
+                    if (especialistas.contains(carga.tecnico.getEmail().toLowerCase(Locale.ROOT))) {
+                        escolhida = carga;
+                        break;
+                    }
+                }
+            }
+
+            // Vai para o fim da fila entre os de mesma carga (round-robin nos empates)
+            ordem.remove(escolhida);
+            escolhida.ultimaAtribuicao = ++sequencia;
+            ordem.add(escolhida);
+            return Optional.of(escolhida.tecnico);
+        }
+    }
+
+    // 3. Mantém o índice em dia com as mudanças dos chamados (após o commit, quando houver transação)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarChamado(ChamadoEvento evento) {
+        boolean contavaAntes = evento.getTecnicoAnteriorId() != null && evento.estavaAberto();
+        boolean contaAgora = evento.getTecnicoId() != null && evento.estaAberto();
+
+        if (contavaAntes && contaAgora && evento.getTecnicoAnteriorId().equals(evento.getTecnicoId())) {
+            return; // Mesmo técnico, continua aberto: nada muda
+        }
+        if (contavaAntes) {
+            ajustar(evento.getTecnicoAnteriorId(), -1);
+        }
+        if (contaAgora) {
+            ajustar(evento.getTecnicoId(), +1);
+        }
+    }
+
+    // Filhos de incidente que mudaram junto com o pai (o técnico não muda, só se conta ou não)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoPropagarStatus(StatusPropagadoEvento evento) {
+        evento.eventos().forEach(this::aoAlterarChamado);
+    }
+
+    // 4. Mantém o conjunto de técnicos em dia com o cadastro de usuários.
+    // A contagem do técnico é feita antes de pegar o lock, para não travar o escolherTecnico durante a consulta
+    public void sincronizarTecnico(Usuario usuario) {
+        boolean tecnico = usuario.getRole() == Role.ROLE_TI && usuario.isAtivo();
+        long abertosNoBanco = tecnico ? chamadoRepository.contarAbertosDoTecnico(usuario.getId()) : 0;
+
+        synchronized (this) {
+            Carga atual = cargas.remove(usuario.getId());
+            if (atual != null) {
+                ordem.remove(atual);
+            }
+            if (tecnico) {
+                // Já no índice: a carga em memória (mantida pelos eventos) vale mais que a contagem;
+                // técnico novo (ou promovido a TI) pode já ter chamados atribuídos
+                inserir(new Carga(usuario, atual != null ? atual.abertos : (int) abertosNoBanco));
+            }
+        }
+    }
+
+    public synchronized void removerTecnico(Long usuarioId) {
+        Carga atual = cargas.remove(usuarioId);
+        if (atual != null) {
+            ordem.remove(atual);
+        }
+    }
+
+    // Carga atual (em memória) de cada técnico, por id
+    public synchronized Map<Long, Integer> cargasAtuais() {
+        Map<Long, Integer> copia = new HashMap<>();
+        cargas.forEach((id, carga) -> copia.put(id, carga.abertos));
+        return copia;
+    }
+
+    private void ajustar(Long tecnicoId, int delta) {
+        Carga carga = cargas.get(tecnicoId);
+        if (carga == null) {
+            return; // Não é (mais) um técnico ativo
+        }
+        ordem.remove(carga);
+        carga.abertos = Math.max(0, carga.abertos + delta);
+        ordem.add(carga);
+    }
+
+    private void inserir(Carga carga) {
+        cargas.put(carga.tecnico.getId(), carga);
+        ordem.add(carga);
+    }
+
+    // Emails dos especialistas na categoria/setor do chamado (o corpo do POST costuma trazer só os ids)
+    private List<String> especialistas(Chamado chamado) {
+        List<String> emails = new ArrayList<>();
+        if (!properties.getCategorias().isEmpty() && chamado.getCategoria() != null) {
+            String nome = chamado.getCategoria().getNome();
+            if (nome == null && chamado.getCategoria().getId() != null) {
+                nome = categoriaRepository.findById(chamado.getCategoria().getId()).map(c -> c.getNome()).orElse(null);
+            }
+            adicionar(emails, properties.getCategorias(), nome);
+        }
+        if (!properties.getSetores().isEmpty() && chamado.getSetor() != null) {
+            String nome = chamado.getSetor().getNome();
+            if (nome == null && chamado.getSetor().getId() != null) {
+                nome = setorRepository.findById(chamado.getSetor().getId()).map(s -> s.getNome()).orElse(null);
+            }
+            adicionar(emails, properties.getSetores(), nome);
+        }
+        return emails;
+    }
+
+    private static void adicionar(List<String> emails, Map<String, List<String>> especialidades, String nome) {
+        if (nome == null) {
+            return;
+        }
+        especialidades.forEach((chave, lista) -> {
+            if (chave.equalsIgnoreCase(nome)) {
+                lista.forEach(email -> emails.add(email.trim().toLowerCase(Locale.ROOT)));
+            }
+        });
+    }
+}
@@ -0,0 +1,12 @@
+// src/main/java/com/example/Chamados/service/BarramentoInvalidacao.java
+package com.example.Chamados.service;
+
+// Leva as alterações de usuários, categorias e setores de uma instância para todas as outras,
+// que então invalidam o próprio cache (InvalidacaoCacheService.receber).
+// Implementações: BarramentoInvalidacaoBanco (padrão) e BarramentoInvalidacaoRedis,
+// escolhidas por chamados.invalidacao.tipo.
+public interface BarramentoInvalidacao {
+
+    // Chamado no flush da alteração, dentro da transação. id null = todas as linhas da entidade
+    void publicar(String entidade, Long id);
+}
@@ -0,0 +1,89 @@
+// src/main/java/com/example/Chamados/service/BarramentoInvalidacaoBanco.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.InvalidacaoProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Barramento padrão, sem infraestrutura extra: as alterações vão para a tabela alteracao_cache
+// na mesma transação (se ela for desfeita, o registro também some) e cada instância lê a tabela
+// a cada chamados.invalidacao.intervalo.
+//
+// A leitura é por data (relógio do banco), relendo sempre a última "janela": um id menor pode ser
+// confirmado depois de um maior, então ler só "id > último" poderia perder alterações.
+// Os ids já aplicados ficam em memória enquanto estão dentro da janela, para não aplicar duas vezes.
+@Service
+@ConditionalOnProperty(prefix = "chamados.invalidacao", name = "tipo", havingValue = "banco", matchIfMissing = true)
+public class BarramentoInvalidacaoBanco implements BarramentoInvalidacao {
+
+    private record Alteracao(long id, String entidade, Long entidadeId, String origem, Timestamp data) {}
+
+    @Autowired
+    private InvalidacaoProperties properties;
+
+    @Autowired
+    private InvalidacaoCacheService invalidacaoCacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    // Maior data_criacao já lida (null = ainda não leu) e ids aplicados dentro da janela
+    private Timestamp lidoAte;
+    private final Map<Long, Timestamp> aplicados = new HashMap<>();
+
+    @Override
+    public void publicar(String entidade, Long id) {
+        jdbcTemplate.update("INSERT INTO alteracao_cache (entidade, entidade_id, origem, data_criacao) "
+                + "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", entidade, id, properties.getNo());
+    }
+
+    @Scheduled(fixedDelayString = "#{@invalidacaoProperties.intervalo.toMillis()}")
+    public synchronized void ler() {
+        if (lidoAte == null) {
+            // Primeira leitura: o cache desta instância acabou de nascer, só interessa o que vier depois
+            lidoAte = jdbcTemplate.queryForObject("SELECT MAX(data_criacao) FROM alteracao_cache", Timestamp.class);
+            if (lidoAte == null) {
+                lidoAte = new Timestamp(0);
+            }
+            return;
+        }
+
+        Timestamp desde = new Timestamp(lidoAte.getTime() - properties.getJanela().toMillis());
+        List<Alteracao> alteracoes = jdbcTemplate.query(
+                "SELECT id, entidade, entidade_id, origem, data_criacao FROM alteracao_cache "
+                        + "WHERE data_criacao >= ? ORDER BY id",
+                (rs, i) -> new Alteracao(rs.getLong(1), rs.getString(2), rs.getObject(3, Long.class),
+                        rs.getString(4), rs.getTimestamp(5)),
+                desde);
+
+        for (Alteracao alteracao : alteracoes) {
+            if (aplicados.putIfAbsent(alteracao.id(), alteracao.data()) == null) {
+                invalidacaoCacheService.receber(alteracao.entidade(), alteracao.entidadeId(), alteracao.origem());
+            }
+            if (alteracao.data().after(lidoAte)) {
+                lidoAte = alteracao.data();
+            }
+        }
+        aplicados.values().removeIf(data -> data.before(desde));
+    }
+
+    // Apaga o que nenhuma instância vai reler (qualquer instância pode apagar; é idempotente)
+    @Scheduled(fixedDelayString = "#{@invalidacaoProperties.retencao.toMillis()}",
+            initialDelayString = "#{@invalidacaoProperties.retencao.toMillis()}")
+    public void limpar() {
+        jdbcTemplate.update("DELETE FROM alteracao_cache WHERE data_criacao < ?",
+                new Timestamp(clock.millis() - properties.getRetencao().toMillis()));
+    }
+}
@@ -0,0 +1,88 @@
+// src/main/java/com/example/Chamados/service/BarramentoInvalidacaoRedis.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.InvalidacaoProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+
+// Barramento por pub/sub do Redis (chamados.invalidacao.tipo=redis, conexão em spring.data.redis.*):
+// entrega imediata, sem consultas periódicas ao banco. A mensagem só sai depois do commit,
+// para as outras instâncias não recarregarem o estado antigo.
+// Pub/sub não guarda mensagens: uma instância desconectada perde as alterações do período
+// (o cache expira sozinho em 10 minutos, ver application.conf).
+@Service
+@ConditionalOnProperty(prefix = "chamados.invalidacao", name = "tipo", havingValue = "redis")
+public class BarramentoInvalidacaoRedis implements BarramentoInvalidacao, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(BarramentoInvalidacaoRedis.class);
+
+    @Autowired
+    private InvalidacaoProperties properties;
+
+    @Autowired
+    private InvalidacaoCacheService invalidacaoCacheService;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private RedisMessageListenerContainer container;
+
+    @PostConstruct
+    public void assinar() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this, new ChannelTopic(properties.getCanal()));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    public void encerrar() throws Exception {
+        container.destroy();
+    }
+
+    // Mensagem: "entidade:id:origem" (id vazio = todas)
+    @Override
+    public void publicar(String entidade, Long id) {
+        String mensagem = entidade + ":" + (id != null ? id : "") + ":" + properties.getNo();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisTemplate.convertAndSend(properties.getCanal(), mensagem);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisTemplate.convertAndSend(properties.getCanal(), mensagem);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] partes = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        if (partes.length != 3) {
+            log.warn("Mensagem de invalidação inválida ignorada");
+            return;
+        }
+        Long id = partes[1].isEmpty() ? null : Long.valueOf(partes[1]);
+        invalidacaoCacheService.receber(partes[0], id, partes[2]);
+    }
+}
@@ -0,0 +1,136 @@
+// src/main/java/com/example/Chamados/service/ChamadoExportService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.ChamadoExportDTO;
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.ChamadoArquivado;
+import com.example.Chamados.repository.ChamadoArquivadoRepository;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.util.Csv;
+import com.example.Chamados.util.FormatoArquivo;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Exporta chamados em CSV ou NDJSON escrevendo direto no OutputStream da resposta.
+// As linhas vêm de um cursor do banco, então o uso de memória não cresce com o total exportado.
+// Se o filtro pode incluir chamados fechados, os arquivados saem depois dos da tabela principal.
+@Service
+public class ChamadoExportService {
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ChamadoArquivadoRepository chamadoArquivadoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Quantidade de linhas buscadas por ida ao banco (e limpas do contexto de persistência)
+    @Value("${chamados.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public long exportar(FiltroChamadoDTO filtro, FormatoArquivo formato, OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 64 * 1024);
+        LinhaWriter linhaWriter = formato == FormatoArquivo.CSV ? new CsvLinhaWriter(writer) : new NdjsonLinhaWriter(writer);
+        long total = 0;
+
+        // 1. Tabela principal
+        try (Stream<Chamado> chamados = chamadoRepository.streamPorFiltro(filtro, fetchSize)) {
+            total = escrever(chamados.iterator(), linhaWriter, total);
+        }
+
+        // 2. Arquivo (só há chamados FECHADO lá)
+        if (filtro.getStatus() == null || filtro.getStatus().equalsIgnoreCase("FECHADO")) {
+            try (Stream<ChamadoArquivado> arquivados = chamadoArquivadoRepository.streamPorFiltro(filtro, fetchSize)) {
+                total = escrever(arquivados.map(ChamadoArquivado::paraChamado).iterator(), linhaWriter, total);
+            }
+        }
+
+        linhaWriter.finalizar();
+        writer.flush();
+        return total;
+    }
+
+    private long escrever(Iterator<Chamado> iterator, LinhaWriter linhaWriter, long total) throws IOException {
+        while (iterator.hasNext()) {
+            linhaWriter.escrever(ChamadoExportDTO.de(iterator.next()));
+            total++;
+
+            // Solta as entidades já escritas para manter a memória constante
+            if (total % fetchSize == 0) {
+                entityManager.clear();
+            }
+        }
+        return total;
+    }
+
+    private interface LinhaWriter {
+        void escrever(ChamadoExportDTO linha) throws IOException;
+
+        default void finalizar() throws IOException {
+        }
+    }
+
+    private static class CsvLinhaWriter implements LinhaWriter {
+        private final Writer writer;
+
+        CsvLinhaWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            Csv.escreverLinha(writer, (Object[]) ChamadoExportDTO.COLUNAS); // Cabeçalho
+        }
+
+        @Override
+        public void escrever(ChamadoExportDTO linha) throws IOException {
+            Csv.escreverLinha(writer, linha.valores());
+        }
+    }
+
+    private class NdjsonLinhaWriter implements LinhaWriter {
+        private final JsonGenerator generator;
+        private final ObjectWriter objectWriter;
+
+        NdjsonLinhaWriter(Writer writer) throws IOException {
+            // O generator não pode fechar o writer (que é da resposta HTTP);
+            // cada objeto é separado apenas pela quebra de linha escrita abaixo
+            this.generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            // Sem flush a cada linha: quem decide quando enviar é o buffer do writer
+            this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void escrever(ChamadoExportDTO linha) throws IOException {
+            objectWriter.writeValue(generator, linha);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,382 @@
+// src/main/java/com/example/Chamados/service/ChamadoImportService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.ChamadoExportDTO;
+import com.example.Chamados.dto.ResultadoImportacaoDTO;
+import com.example.Chamados.event.ChamadosImportadosEvento;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Setor;
+import com.example.Chamados.repository.CategoriaRepository;
+import com.example.Chamados.repository.SetorRepository;
+import com.example.Chamados.repository.UsuarioRepository;
+import com.example.Chamados.util.Csv;
+import com.example.Chamados.util.FormatoArquivo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Importa chamados de um CSV/NDJSON lendo o arquivo como stream.
+// Nomes de categoria/setor e emails são resolvidos por mapas em memória e as linhas válidas
+// são gravadas com INSERT em batch JDBC, com um commit por lote.
+@Service
+public class ChamadoImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChamadoImportService.class);
+
+    // Quantidade máxima de erros detalhados na resposta (o total continua sendo contado)
+    private static final int MAXIMO_ERROS_DETALHADOS = 1000;
+
+    private static final String SQL_INSERT = "insert into chamado "
+            + "(titulo, descricao, usuario_id, tecnico_id, categoria_id, setor_id, status, prioridade, data_abertura, data_conclusao) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int INDICE_DATA_ABERTURA = 8; // Posição de data_abertura nos parâmetros do SQL_INSERT
+
+    // Os mesmos status que o restante da aplicação usa
+    private static final Set<String> STATUS_VALIDOS = Set.of("ABERTO", "EM_ANDAMENTO", "FECHADO");
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Clock clock;
+
+    // Linhas por INSERT em batch (e por commit)
+    @Value("${chamados.importacao.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    public ResultadoImportacaoDTO importar(InputStream entrada, FormatoArquivo formato) throws IOException {
+
+        // 1. Monta os mapas de busca (nome/email em minúsculas -> id) uma única vez
+        Map<String, Long> categorias = new HashMap<>();
+        for (Categoria categoria : categoriaRepository.findAll()) {
+            categorias.put(chave(categoria.getNome()), categoria.getId());
+        }
+        Map<String, Long> setores = new HashMap<>();
+        for (Setor setor : setorRepository.findAll()) {
+            setores.put(chave(setor.getNome()), setor.getId());
+        }
+        Map<String, Long> usuarios = new HashMap<>();
+        Set<Long> tecnicos = new HashSet<>();
+        for (UsuarioRepository.IdEmail usuario : usuarioRepository.findAllIdEmail()) {
+            usuarios.put(chave(usuario.getEmail()), usuario.getId());
+            if (usuario.getRole() == Role.ROLE_TI) {
+                tecnicos.add(usuario.getId());
+            }
+        }
+
+        ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+        LocalDateTime primeiraAbertura = null;
+        List<Object[]> lote = new ArrayList<>(tamanhoLote);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 64 * 1024);
+        LeitorLinhas leitor = formato == FormatoArquivo.CSV ? new LeitorCsv(reader) : new LeitorNdjson(reader);
+
+        // 2. Lê, valida e acumula linha a linha; a cada lote cheio grava e faz commit
+        while (true) {
+            ChamadoExportDTO linha;
+            try {
+                linha = leitor.proxima();
+            } catch (LinhaInvalidaException e) {
+                resultado.setLinhasLidas(resultado.getLinhasLidas() + 1);
+                registrarErro(resultado, e.linha, e.getMessage());
+                continue;
+            }
+            if (linha == null) {
+                break;
+            }
+            resultado.setLinhasLidas(resultado.getLinhasLidas() + 1);
+
+            Object[] parametros;
+            try {
+                parametros = converter(linha, categorias, setores, usuarios, tecnicos);
+            } catch (IllegalArgumentException e) {
+                registrarErro(resultado, leitor.linhaAtual(), e.getMessage());
+                continue;
+            }
+            lote.add(parametros);
+            LocalDateTime abertura = ((Timestamp) parametros[INDICE_DATA_ABERTURA]).toLocalDateTime();
+            if (primeiraAbertura == null || abertura.isBefore(primeiraAbertura)) {
+                primeiraAbertura = abertura;
+            }
+
+            if (lote.size() >= tamanhoLote) {
+                gravar(lote, resultado);
+            }
+        }
+        gravar(lote, resultado);
+
+        log.info("Importação concluída: {} linhas lidas, {} importadas, {} com erro",
+                resultado.getLinhasLidas(), resultado.getImportados(), resultado.getComErro());
+
+        // 3. Avisa os índices em memória (atribuição, etc.) que há chamados novos no banco
+        if (resultado.getImportados() > 0) {
+            eventPublisher.publishEvent(new ChamadosImportadosEvento(resultado.getImportados(), primeiraAbertura));
+        }
+        return resultado;
+    }
+
+    // Grava o lote em uma transação própria (commit periódico) e registra o progresso
+    private void gravar(List<Object[]> lote, ResultadoImportacaoDTO resultado) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(SQL_INSERT, lote));
+        resultado.setImportados(resultado.getImportados() + lote.size());
+        lote.clear();
+
+        log.info("Importação em andamento: {} linhas lidas, {} importadas, {} com erro",
+                resultado.getLinhasLidas(), resultado.getImportados(), resultado.getComErro());
+    }
+
+    // Valida a linha e devolve os parâmetros do INSERT (na ordem de SQL_INSERT)
+    private Object[] converter(ChamadoExportDTO linha, Map<String, Long> categorias,
+                               Map<String, Long> setores, Map<String, Long> usuarios, Set<Long> tecnicos) {
+
+        if (vazio(linha.getTitulo())) {
+            throw new IllegalArgumentException("Título é obrigatório");
+        }
+        if (linha.getTitulo().length() > 255) {
+            throw new IllegalArgumentException("Título maior que 255 caracteres");
+        }
+        if (vazio(linha.getDescricao())) {
+            throw new IllegalArgumentException("Descrição é obrigatória");
+        }
+        if (linha.getDescricao().length() > 500) {
+            throw new IllegalArgumentException("Descrição maior que 500 caracteres");
+        }
+
+        Long categoriaId = buscar(categorias, linha.getCategoria(), "Categoria", true);
+        Long setorId = buscar(setores, linha.getSetor(), "Setor", false);
+        Long usuarioId = buscar(usuarios, linha.getUsuario(), "Usuário", true);
+        Long tecnicoId = buscar(usuarios, linha.getTecnico(), "Técnico", false);
+        if (tecnicoId != null && !tecnicos.contains(tecnicoId)) {
+            throw new IllegalArgumentException("Técnico não é da equipe de TI: " + linha.getTecnico());
+        }
+
+        String status = vazio(linha.getStatus()) ? "ABERTO" : linha.getStatus().trim().toUpperCase(Locale.ROOT);
+        if (!STATUS_VALIDOS.contains(status)) {
+            throw new IllegalArgumentException("Status inválido: " + linha.getStatus() + " (use ABERTO, EM_ANDAMENTO ou FECHADO)");
+        }
+        Prioridade prioridade = Prioridade.MEDIA;
+        if (!vazio(linha.getPrioridade())) {
+            try {
+                prioridade = Prioridade.valueOf(linha.getPrioridade().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Prioridade inválida: " + linha.getPrioridade());
+            }
+        }
+        LocalDateTime dataAbertura = linha.getDataAbertura() != null ? linha.getDataAbertura() : LocalDateTime.now(clock);
+
+        // Mesma regra do alterarStatus: só o FECHADO tem data de conclusão, e ela não vem antes da abertura
+        LocalDateTime dataConclusao = linha.getDataConclusao();
+        if (status.equals("FECHADO") && dataConclusao == null) {
+            throw new IllegalArgumentException("Chamado FECHADO sem dataConclusao");
+        }
+        if (!status.equals("FECHADO") && dataConclusao != null) {
+            throw new IllegalArgumentException("dataConclusao informada para chamado " + status);
+        }
+        if (dataConclusao != null && dataConclusao.isBefore(dataAbertura)) {
+            throw new IllegalArgumentException("dataConclusao anterior à dataAbertura");
+        }
+
+        return new Object[] {
+                linha.getTitulo(), linha.getDescricao(), usuarioId, tecnicoId, categoriaId, setorId, status, prioridade.name(),
+                Timestamp.valueOf(dataAbertura),
+                dataConclusao != null ? Timestamp.valueOf(dataConclusao) : null
+        };
+    }
+
+    private Long buscar(Map<String, Long> mapa, String valor, String nomeCampo, boolean obrigatorio) {
+        if (vazio(valor)) {
+            if (obrigatorio) {
+                throw new IllegalArgumentException(nomeCampo + " é obrigatório(a)");
+            }
+            return null;
+        }
+        Long id = mapa.get(chave(valor));
+        if (id == null) {
+            throw new IllegalArgumentException(nomeCampo + " não encontrado(a): " + valor);
+        }
+        return id;
+    }
+
+    private void registrarErro(ResultadoImportacaoDTO resultado, long linha, String mensagem) {
+        resultado.setComErro(resultado.getComErro() + 1);
+        if (resultado.getErros().size() < MAXIMO_ERROS_DETALHADOS) {
+            resultado.getErros().add(new ResultadoImportacaoDTO.ErroLinha(linha, mensagem));
+        }
+    }
+
+    private static String chave(String valor) {
+        return valor.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean vazio(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    // --- Leitores de linha (um por formato) ---
+
+    private interface LeitorLinhas {
+        // Próxima linha do arquivo ou null no fim
+        ChamadoExportDTO proxima() throws IOException;
+
+        // Número da linha (no arquivo) do último registro lido
+        long linhaAtual();
+    }
+
+    private static class LinhaInvalidaException extends RuntimeException {
+        private final long linha;
+
+        LinhaInvalidaException(long linha, String mensagem) {
+            super(mensagem);
+            this.linha = linha;
+        }
+    }
+
+    private static class LeitorCsv implements LeitorLinhas {
+        private final Csv.Leitor leitor;
+        private Map<String, Integer> colunas;
+
+        LeitorCsv(BufferedReader reader) {
+            this.leitor = new Csv.Leitor(reader);
+        }
+
+        @Override
+        public ChamadoExportDTO proxima() throws IOException {
+            // O cabeçalho define a posição de cada coluna (a ordem é livre)
+            if (colunas == null) {
+                List<String> cabecalho = leitor.proximoRegistro();
+                if (cabecalho == null) {
+                    return null;
+                }
+                colunas = new HashMap<>();
+                for (int i = 0; i < cabecalho.size(); i++) {
+                    colunas.put(cabecalho.get(i).trim().replace("\uFEFF", ""), i);
+                }
+            }
+
+            List<String> campos = leitor.proximoRegistro();
+            while (campos != null && campos.size() == 1 && campos.get(0).isBlank()) {
+                campos = leitor.proximoRegistro(); // Ignora linhas em branco
+            }
+            if (campos == null) {
+                return null;
+            }
+
+            try {
+                ChamadoExportDTO linha = new ChamadoExportDTO();
+                linha.setTitulo(campo(campos, "titulo"));
+                linha.setDescricao(campo(campos, "descricao"));
+                linha.setStatus(campo(campos, "status"));
+                linha.setPrioridade(campo(campos, "prioridade"));
+                linha.setCategoria(campo(campos, "categoria"));
+                linha.setSetor(campo(campos, "setor"));
+                linha.setUsuario(campo(campos, "usuario"));
+                linha.setTecnico(campo(campos, "tecnico"));
+                linha.setDataAbertura(data(campo(campos, "dataAbertura")));
+                linha.setDataConclusao(data(campo(campos, "dataConclusao")));
+                return linha;
+            } catch (DateTimeParseException e) {
+                throw new LinhaInvalidaException(linhaAtual(), "Data inválida: " + e.getParsedString());
+            }
+        }
+
+        @Override
+        public long linhaAtual() {
+            return leitor.getLinhaDoRegistro();
+        }
+
+        private String campo(List<String> campos, String nome) {
+            Integer indice = colunas.get(nome);
+            if (indice == null || indice >= campos.size() || campos.get(indice).isEmpty()) {
+                return null;
+            }
+            return campos.get(indice);
+        }
+
+        // Aceita data e hora ISO (2024-01-31T10:00:00) ou só a data (2024-01-31)
+        private static LocalDateTime data(String valor) {
+            if (valor == null) {
+                return null;
+            }
+            return valor.length() == 10 ? LocalDate.parse(valor).atStartOfDay() : LocalDateTime.parse(valor);
+        }
+    }
+
+    private class LeitorNdjson implements LeitorLinhas {
+        private final BufferedReader reader;
+        private long linha;
+
+        LeitorNdjson(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ChamadoExportDTO proxima() throws IOException {
+            String texto;
+            do {
+                texto = reader.readLine();
+                linha++;
+            } while (texto != null && texto.isBlank());
+
+            if (texto == null) {
+                return null;
+            }
+            try {
+                return objectMapper.readValue(texto, ChamadoExportDTO.class);
+            } catch (JsonProcessingException e) {
+                throw new LinhaInvalidaException(linha, "JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public long linhaAtual() {
+            return linha;
+        }
+    }
+}
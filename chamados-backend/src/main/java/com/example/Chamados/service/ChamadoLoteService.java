@@ -0,0 +1,174 @@
+// src/main/java/com/example/Chamados/service/ChamadoLoteService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.ResultadoLoteDTO;
+import com.example.Chamados.dto.ResultadoLoteDTO.Resultado;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.event.ChamadoEvento.Tipo;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.repository.ChamadoRepository.EstadoChamado;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Executa as operações de /chamados/lote com UPDATE/DELETE em conjunto,
+// em vez de um findById + save por chamado.
+@Service
+public class ChamadoLoteService {
+
+    // Tamanho máximo de cada cláusula IN enviada ao banco
+    private static final int TAMANHO_BLOCO = 500;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private IncidenteService incidenteService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Clock clock;
+
+    // Altera o status de todos os chamados encontrados (mesma regra do alterarStatus, inclusive nos filhos de incidentes)
+    @Transactional
+    public List<ResultadoLoteDTO> alterarStatus(List<Long> ids, String status) {
+        String novoStatus = status.toUpperCase();
+        LocalDateTime dataConclusao = novoStatus.equals("FECHADO") ? LocalDateTime.now(clock) : null;
+
+        return executar(ids, estado -> false, estado -> null,
+                elegiveis -> alterarStatusComFilhos(elegiveis, novoStatus, dataConclusao),
+                estado -> new ChamadoEvento(Tipo.STATUS_ALTERADO, estado.getId(), estado.getStatus(), novoStatus,
+                        estado.getTecnicoId(), estado.getTecnicoId()));
+    }
+
+    // Atribui o técnico (já validado pelo controller) a todos os chamados encontrados
+    @Transactional
+    public List<ResultadoLoteDTO> atribuir(List<Long> ids, Usuario tecnico) {
+        return executar(ids, estado -> false, estado -> null,
+                elegiveis -> chamadoRepository.atribuirTecnicoEmLote(elegiveis, tecnico),
+                estado -> new ChamadoEvento(Tipo.ATRIBUIDO, estado.getId(), estado.getStatus(),
+                        "ABERTO".equalsIgnoreCase(estado.getStatus()) ? "EM_ANDAMENTO" : estado.getStatus(),
+                        estado.getTecnicoId(), tecnico.getId()));
+    }
+
+    // Fecha os chamados (e os filhos dos incidentes); os que já estão fechados retornam CONFLITO
+    @Transactional
+    public List<ResultadoLoteDTO> fechar(List<Long> ids) {
+        LocalDateTime agora = LocalDateTime.now(clock);
+
+        return executar(ids, estado -> false,
+                estado -> "FECHADO".equalsIgnoreCase(estado.getStatus()) ? "Chamado já está fechado" : null,
+                elegiveis -> alterarStatusComFilhos(elegiveis, "FECHADO", agora),
+                estado -> new ChamadoEvento(Tipo.STATUS_ALTERADO, estado.getId(), estado.getStatus(), "FECHADO",
+                        estado.getTecnicoId(), estado.getTecnicoId()));
+    }
+
+    // Remove os chamados encontrados; só o ADM remove, para os demais cada chamado volta PROIBIDO.
+    // Filhos de um incidente removido ficam soltos. Como no deletar do ChamadoService, só marca a remoção
+    @Transactional
+    public List<ResultadoLoteDTO> deletar(List<Long> ids, Usuario usuarioLogado) {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        boolean adm = usuarioLogado.getRole() == Role.ROLE_ADM;
+        return executar(ids, estado -> !adm, estado -> null,
+                elegiveis -> {
+                    chamadoRepository.desvincularFilhos(elegiveis);
+                    return chamadoRepository.marcarRemovidosEmLote(elegiveis, agora);
+                },
+                estado -> new ChamadoEvento(Tipo.REMOVIDO, estado.getId(), estado.getStatus(), null,
+                        estado.getTecnicoId(), null));
+    }
+
+    // Liga os chamados ao incidente pai (já conferido com IncidenteService.situacaoComoPai).
+    // Retornam CONFLITO o próprio pai e os chamados que já são pais de outros (um nível só)
+    @Transactional
+    public List<ResultadoLoteDTO> vincular(List<Long> ids, Long paiId) {
+        Set<Long> pais = new HashSet<>(chamadoRepository.findIncidentesPaiEntre(ids));
+
+        return executar(ids, estado -> false,
+                estado -> estado.getId().equals(paiId) ? "É o próprio incidente pai"
+                        : pais.contains(estado.getId()) ? "Chamado é pai de outro incidente" : null,
+                elegiveis -> chamadoRepository.vincularEmLote(elegiveis, paiId),
+                estado -> new ChamadoEvento(Tipo.VINCULADO, estado.getId(), estado.getStatus(), estado.getStatus(),
+                        estado.getTecnicoId(), estado.getTecnicoId()));
+    }
+
+    // Um UPDATE para os chamados do bloco e outro para os filhos dos que forem pais de incidente
+    private int alterarStatusComFilhos(List<Long> ids, String status, LocalDateTime dataConclusao) {
+        int alterados = chamadoRepository.atualizarStatusEmLote(ids, status, dataConclusao);
+        incidenteService.propagarStatus(ids, status, dataConclusao);
+        return alterados;
+    }
+
+    // Fluxo comum: carrega o estado dos chamados em blocos, separa os que não existem, os proibidos
+    // ao usuário e os que estão em conflito e aplica a operação de uma vez nos elegíveis.
+    // Um ChamadoEvento por chamado alterado é publicado (e entregue após o commit).
+    private List<ResultadoLoteDTO> executar(List<Long> ids,
+                                            Predicate<EstadoChamado> proibido,
+                                            Function<EstadoChamado, String> conflito,
+                                            Function<List<Long>, Integer> operacao,
+                                            Function<EstadoChamado, ChamadoEvento> evento) {
+
+        // 1. Remove ids repetidos mantendo a ordem da requisição
+        List<Long> idsUnicos = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, ResultadoLoteDTO> resultados = new LinkedHashMap<>();
+
+        for (int inicio = 0; inicio < idsUnicos.size(); inicio += TAMANHO_BLOCO) {
+            List<Long> bloco = idsUnicos.subList(inicio, Math.min(inicio + TAMANHO_BLOCO, idsUnicos.size()));
+
+            // 2. Uma consulta por bloco para saber quais chamados existem
+            Map<Long, EstadoChamado> estados = new HashMap<>();
+            for (EstadoChamado estado : chamadoRepository.findEstadoByIdIn(bloco)) {
+                estados.put(estado.getId(), estado);
+            }
+
+            // 3. Classifica cada id
+            List<Long> elegiveis = new ArrayList<>();
+            List<ChamadoEvento> eventos = new ArrayList<>();
+            for (Long id : bloco) {
+                EstadoChamado estado = estados.get(id);
+                if (estado == null) {
+                    resultados.put(id, new ResultadoLoteDTO(id, Resultado.NAO_ENCONTRADO, "Chamado não encontrado"));
+                    continue;
+                }
+                if (proibido.test(estado)) {
+                    resultados.put(id, new ResultadoLoteDTO(id, Resultado.PROIBIDO, "Operação não permitida ao usuário"));
+                    continue;
+                }
+                String motivoConflito = conflito.apply(estado);
+                if (motivoConflito != null) {
+                    resultados.put(id, new ResultadoLoteDTO(id, Resultado.CONFLITO, motivoConflito));
+                    continue;
+                }
+                elegiveis.add(id);
+                eventos.add(evento.apply(estado));
+                resultados.put(id, new ResultadoLoteDTO(id, Resultado.OK, null));
+            }
+
+            // 4. Um único UPDATE/DELETE para todos os elegíveis do bloco
+            if (!elegiveis.isEmpty()) {
+                operacao.apply(elegiveis);
+                eventos.forEach(eventPublisher::publishEvent);
+            }
+        }
+
+        return new ArrayList<>(resultados.values());
+    }
+}
@@ -0,0 +1,376 @@
+// src/main/java/com/example/Chamados/service/ChamadoService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.ChamadoSemelhanteDTO;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.ChamadoArquivado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.ChamadoArquivadoRepository;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.repository.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+// Operações de um chamado por vez, cada uma em UMA transação explícita:
+// o findById e o save usam a mesma conexão, e as leituras são readOnly (vão para as réplicas, se houver).
+// Com spring.jpa.open-in-view=false a conexão volta ao pool no fim do método,
+// antes do JSON da resposta ser montado. Os ChamadoEvento saem no commit.
+// As alterações recebem a versão esperada (If-Match; null = qualquer uma): se o chamado já mudou,
+// nada é gravado. Uma alteração concorrente depois da checagem falha no commit (@Version).
+@Service
+public class ChamadoService {
+
+    // Como a operação terminou (o controller traduz para o status HTTP)
+    public enum Situacao { OK, NAO_ENCONTRADO, PROIBIDO, CONFLITO, INVALIDO, PRECONDICAO_FALHOU }
+
+    public static class Resultado {
+        private final Situacao situacao;
+        private final Chamado chamado;
+
+        private Resultado(Situacao situacao, Chamado chamado) {
+            this.situacao = situacao;
+            this.chamado = chamado;
+        }
+
+        static Resultado ok(Chamado chamado) { return new Resultado(Situacao.OK, chamado); }
+        static Resultado de(Situacao situacao) { return new Resultado(situacao, null); }
+
+        public Situacao getSituacao() { return situacao; }
+        public Chamado getChamado() { return chamado; }
+    }
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ChamadoArquivadoRepository chamadoArquivadoRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private AtribuicaoAutomaticaService atribuicaoAutomaticaService;
+
+    @Autowired
+    private SlaService slaService;
+
+    @Autowired
+    private DuplicadosService duplicadosService;
+
+    @Autowired
+    private IncidenteService incidenteService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private Clock clock;
+
+    // 1. TI e ADM veem todos os chamados; NORMAL só os próprios. Período opcional [de, ate)
+    @Transactional(readOnly = true)
+    public List<Chamado> listar(Usuario usuarioLogado, LocalDateTime de, LocalDateTime ate) {
+        boolean temPeriodo = de != null || ate != null;
+        if (ehTecnicoOuAdm(usuarioLogado)) {
+            return temPeriodo ? chamadoRepository.findAbertosNoPeriodo(de, ate) : chamadoRepository.findAll();
+        }
+        return temPeriodo
+                ? chamadoRepository.findByUsuarioIdAbertosNoPeriodo(usuarioLogado.getId(), de, ate)
+                : chamadoRepository.findByUsuarioId(usuarioLogado.getId());
+    }
+
+    // 2. Chamado por id (cai no arquivo se já saiu da tabela principal); só TI/ADM ou o dono
+    @Transactional(readOnly = true)
+    public Resultado buscar(Long id, Usuario usuarioLogado) {
+        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
+        if (chamadoOptional.isEmpty()) {
+            chamadoOptional = chamadoArquivadoRepository.findById(id).map(ChamadoArquivado::paraChamado);
+        }
+        if (chamadoOptional.isEmpty()) {
+            return Resultado.de(Situacao.NAO_ENCONTRADO);
+        }
+
+        Chamado chamado = chamadoOptional.get();
+        if (ehTecnicoOuAdm(usuarioLogado) || usuarioLogado.getId().equals(chamado.getUsuario().getId())) {
+            return Resultado.ok(chamado);
+        }
+        return Resultado.de(Situacao.PROIBIDO);
+    }
+
+    // Vários chamados por id, com a mesma regra do buscar: TI/ADM veem todos, os demais só os próprios.
+    // Na ordem dos ids pedidos; os que não existem ou não podem ser vistos ficam de fora (sem distinguir os dois).
+    // Uma consulta na tabela principal e, se faltar algum, uma no arquivo
+    @Transactional(readOnly = true)
+    public List<Chamado> buscarVarios(Collection<Long> ids, Usuario usuarioLogado) {
+        Set<Long> pedidos = new LinkedHashSet<>(ids);
+        Long dono = ehTecnicoOuAdm(usuarioLogado) ? null : usuarioLogado.getId();
+
+        Map<Long, Chamado> encontrados = new HashMap<>();
+        for (Chamado chamado : chamadoRepository.findVisiveisByIdIn(pedidos, dono)) {
+            encontrados.put(chamado.getId(), chamado);
+        }
+        if (encontrados.size() < pedidos.size()) {
+            List<Long> faltando = pedidos.stream().filter(id -> !encontrados.containsKey(id)).toList();
+            for (ChamadoArquivado arquivado : chamadoArquivadoRepository.findVisiveisByIdIn(faltando, dono)) {
+                encontrados.put(arquivado.getId(), arquivado.paraChamado());
+            }
+        }
+        return pedidos.stream().map(encontrados::get).filter(Objects::nonNull).toList();
+    }
+
+    // Versão atual de um chamado visível ao usuário (vazio se não existe na tabela principal ou é de outro usuário).
+    // Uma consulta de duas colunas, para o GET condicional não carregar o chamado inteiro
+    @Transactional(readOnly = true)
+    public Optional<Long> versao(Long id, Usuario usuarioLogado) {
+        return chamadoRepository.findVersaoById(id)
+                .filter(v -> ehTecnicoOuAdm(usuarioLogado) || usuarioLogado.getId().equals(v.getUsuarioId()))
+                .map(ChamadoRepository.VersaoChamado::getVersao);
+    }
+
+    // Se o usuário pode ver o chamado e o que pendura nele (comentários, anexos): mesma regra do buscar,
+    // inclusive para chamados arquivados, mas lendo só o dono. Vazio se o chamado não existe
+    @Transactional(readOnly = true)
+    public Optional<Boolean> podeAcessar(Long id, Usuario usuarioLogado) {
+        boolean tecnicoOuAdm = ehTecnicoOuAdm(usuarioLogado);
+        return chamadoRepository.findUsuarioIdById(id)
+                .or(() -> chamadoArquivadoRepository.findUsuarioIdById(id))
+                .map(donoId -> tecnicoOuAdm || donoId.equals(usuarioLogado.getId()));
+    }
+
+    // 3. Abre o chamado: dono, data, status/prioridade padrão, atribuição automática e prazos de SLA.
+    // A resposta leva os chamados abertos com texto parecido (possíveis duplicados, sem ir ao banco);
+    // com chamados.duplicados.vincular-ao-incidente, um quase igual a um chamado de incidente já entra nele
+    @Transactional
+    public Chamado criar(Chamado chamado, Usuario usuarioLogado) {
+        chamado.setUsuario(usuarioLogado);
+        chamado.setDataAbertura(LocalDateTime.now(clock));
+        if (chamado.getStatus() == null) {
+            chamado.setStatus("ABERTO");
+        }
+        if (chamado.getPrioridade() == null) {
+            chamado.setPrioridade(Prioridade.MEDIA);
+        }
+
+        if (chamado.getTecnico() == null) {
+            atribuicaoAutomaticaService.escolherTecnico(chamado).ifPresent(tecnico -> {
+                chamado.setTecnico(tecnico);
+                if (chamado.getStatus().equalsIgnoreCase("ABERTO")) {
+                    chamado.setStatus("EM_ANDAMENTO");
+                }
+            });
+        }
+
+        slaService.calcularPrazos(chamado);
+
+        List<ChamadoSemelhanteDTO> semelhantes = duplicadosService.semelhantes(chamado.getTitulo(), chamado.getDescricao());
+        chamado.setIncidentePaiId(incidenteService.incidenteDoDuplicado(semelhantes).orElse(null));
+
+        Chamado novoChamado = chamadoRepository.save(chamado);
+        novoChamado.setPossiveisDuplicados(semelhantes.stream().map(ChamadoSemelhanteDTO::getChamadoId).toList());
+        eventPublisher.publishEvent(ChamadoEvento.de(ChamadoEvento.Tipo.CRIADO, novoChamado, null, null));
+        return novoChamado;
+    }
+
+    // 4. Atualiza descrição, categoria, setor, status e (se informada) prioridade
+    @Transactional
+    public Resultado atualizar(Long id, Chamado dados, Long versaoEsperada) {
+        Optional<Chamado> chamadoExistente = chamadoRepository.findById(id);
+        if (chamadoExistente.isEmpty()) {
+            return Resultado.de(Situacao.NAO_ENCONTRADO);
+        }
+
+        Chamado chamado = chamadoExistente.get();
+        if (versaoDiferente(chamado, versaoEsperada)) {
+            return new Resultado(Situacao.PRECONDICAO_FALHOU, chamado);
+        }
+        String statusAnterior = chamado.getStatus();
+        chamado.setDescricao(dados.getDescricao());
+        chamado.setCategoria(dados.getCategoria());
+        chamado.setSetor(dados.getSetor());
+        chamado.setStatus(dados.getStatus());
+        if (dados.getPrioridade() != null) {
+            chamado.setPrioridade(dados.getPrioridade());
+        }
+
+        Chamado chamadoSalvo = chamadoRepository.save(chamado);
+        eventPublisher.publishEvent(ChamadoEvento.de(ChamadoEvento.Tipo.ATUALIZADO, chamadoSalvo,
+                statusAnterior, idDoTecnico(chamadoSalvo)));
+        if (!statusAnterior.equalsIgnoreCase(chamadoSalvo.getStatus())) {
+            propagarAosFilhos(chamadoSalvo);
+        }
+        return Resultado.ok(chamadoSalvo);
+    }
+
+    // 5. Remove o chamado (os filhos, se for pai de incidente, saem do incidente).
+    // Só marca a remoção: o chamado some das consultas na hora e o ExpurgoService apaga a linha depois
+    @Transactional
+    public Resultado deletar(Long id) {
+        Optional<Chamado> chamadoExistente = chamadoRepository.findById(id);
+        if (chamadoExistente.isEmpty()) {
+            return Resultado.de(Situacao.NAO_ENCONTRADO);
+        }
+
+        Chamado chamado = chamadoExistente.get();
+        chamadoRepository.desvincularFilhos(List.of(id)); // Filhos de um incidente removido ficam soltos
+        chamadoRepository.marcarRemovidosEmLote(List.of(id), LocalDateTime.now(clock));
+        eventPublisher.publishEvent(new ChamadoEvento(ChamadoEvento.Tipo.REMOVIDO, id,
+                chamado.getStatus(), null, idDoTecnico(chamado), null));
+        return Resultado.de(Situacao.OK);
+    }
+
+    // 6. Novo status (em maiúsculas); FECHADO ganha data de conclusão, reabrir a limpa.
+    // Em um pai de incidente, o status vai junto para todos os filhos
+    @Transactional
+    public Resultado alterarStatus(Long id, String status, Long versaoEsperada) {
+        Optional<Chamado> chamadoExistente = chamadoRepository.findById(id);
+        if (chamadoExistente.isEmpty()) {
+            return Resultado.de(Situacao.NAO_ENCONTRADO);
+        }
+
+        Chamado chamado = chamadoExistente.get();
+        if (versaoDiferente(chamado, versaoEsperada)) {
+            return new Resultado(Situacao.PRECONDICAO_FALHOU, chamado);
+        }
+        String statusAnterior = chamado.getStatus();
+        chamado.setStatus(status.toUpperCase());
+        if (status.equalsIgnoreCase("FECHADO")) {
+            chamado.setDataConclusao(LocalDateTime.now(clock));
+        } else if (chamado.getDataConclusao() != null) {
+            chamado.setDataConclusao(null);
+        }
+
+        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
+        eventPublisher.publishEvent(ChamadoEvento.de(ChamadoEvento.Tipo.STATUS_ALTERADO, chamadoAtualizado,
+                statusAnterior, idDoTecnico(chamadoAtualizado)));
+        propagarAosFilhos(chamadoAtualizado);
+        return Resultado.ok(chamadoAtualizado);
+    }
+
+    // 7. Técnico assume um chamado sem técnico (CONFLITO se alguém já assumiu)
+    @Transactional
+    public Resultado assumir(Long id, Usuario tecnicoLogado, Long versaoEsperada) {
+        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
+        if (chamadoOptional.isEmpty()) {
+            return Resultado.de(Situacao.NAO_ENCONTRADO);
+        }
+
+        Chamado chamado = chamadoOptional.get();
+        if (versaoDiferente(chamado, versaoEsperada)) {
+            return new Resultado(Situacao.PRECONDICAO_FALHOU, chamado);
+        }
+        if (chamado.getTecnico() != null) {
+            return new Resultado(Situacao.CONFLITO, chamado);
+        }
+
+        String statusAnterior = chamado.getStatus();
+        chamado.setTecnico(tecnicoLogado);
+        if (chamado.getStatus().equalsIgnoreCase("ABERTO")) {
+            chamado.setStatus("EM_ANDAMENTO");
+        }
+
+        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
+        eventPublisher.publishEvent(ChamadoEvento.de(ChamadoEvento.Tipo.ASSUMIDO, chamadoAtualizado,
+                statusAnterior, null));
+        return Resultado.ok(chamadoAtualizado);
+    }
+
+    // 8. O próprio dono fecha o chamado (PROIBIDO para outros, CONFLITO se já fechado); fecha os filhos do incidente
+    @Transactional
+    public Resultado fechar(Long id, Usuario usuarioLogado, Long versaoEsperada) {
+        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
+        if (chamadoOptional.isEmpty()) {
+            return Resultado.de(Situacao.NAO_ENCONTRADO);
+        }
+
+        Chamado chamado = chamadoOptional.get();
+        if (!chamado.getUsuario().getId().equals(usuarioLogado.getId())) {
+            return Resultado.de(Situacao.PROIBIDO);
+        }
+        if (versaoDiferente(chamado, versaoEsperada)) {
+            return new Resultado(Situacao.PRECONDICAO_FALHOU, chamado);
+        }
+        if (chamado.getStatus().equalsIgnoreCase("FECHADO")) {
+            return new Resultado(Situacao.CONFLITO, chamado);
+        }
+
+        String statusAnterior = chamado.getStatus();
+        chamado.setStatus("FECHADO");
+        chamado.setDataConclusao(LocalDateTime.now(clock));
+
+        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
+        eventPublisher.publishEvent(ChamadoEvento.de(ChamadoEvento.Tipo.STATUS_ALTERADO, chamadoAtualizado,
+                statusAnterior, idDoTecnico(chamadoAtualizado)));
+        propagarAosFilhos(chamadoAtualizado);
+        return Resultado.ok(chamadoAtualizado);
+    }
+
+    // 9. ADM/TI atribui o chamado a um técnico (INVALIDO se o usuário não existe ou não é TI)
+    @Transactional
+    public Resultado atribuir(Long id, Long tecnicoId, Long versaoEsperada) {
+        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
+        if (chamadoOptional.isEmpty()) {
+            return Resultado.de(Situacao.NAO_ENCONTRADO);
+        }
+        Optional<Usuario> tecnicoOptional = buscarTecnico(tecnicoId);
+        if (tecnicoOptional.isEmpty()) {
+            return Resultado.de(Situacao.INVALIDO);
+        }
+
+        Chamado chamado = chamadoOptional.get();
+        if (versaoDiferente(chamado, versaoEsperada)) {
+            return new Resultado(Situacao.PRECONDICAO_FALHOU, chamado);
+        }
+        String statusAnterior = chamado.getStatus();
+        Long tecnicoAnteriorId = idDoTecnico(chamado);
+        chamado.setTecnico(tecnicoOptional.get());
+        if (chamado.getStatus().equalsIgnoreCase("ABERTO")) {
+            chamado.setStatus("EM_ANDAMENTO");
+        }
+
+        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
+        eventPublisher.publishEvent(ChamadoEvento.de(ChamadoEvento.Tipo.ATRIBUIDO, chamadoAtualizado,
+                statusAnterior, tecnicoAnteriorId));
+        return Resultado.ok(chamadoAtualizado);
+    }
+
+    // Usuário com ROLE_TI (vazio se não existe ou tem outro papel)
+    @Transactional(readOnly = true)
+    public Optional<Usuario> buscarTecnico(Long tecnicoId) {
+        return usuarioRepository.findByIdAndDataRemocaoIsNull(tecnicoId).filter(usuario -> usuario.getRole().equals(Role.ROLE_TI));
+    }
+
+    // Pai de incidente: o status novo vale também para os filhos (um UPDATE para todos). Filho não tem filhos
+    private void propagarAosFilhos(Chamado chamado) {
+        if (chamado.getIncidentePaiId() == null) {
+            incidenteService.propagarStatus(List.of(chamado.getId()), chamado.getStatus(), chamado.getDataConclusao());
+        }
+    }
+
+    private static boolean ehTecnicoOuAdm(Usuario usuario) {
+        return usuario.getRole().equals(Role.ROLE_TI) || usuario.getRole().equals(Role.ROLE_ADM);
+    }
+
+    private static boolean versaoDiferente(Chamado chamado, Long versaoEsperada) {
+        return versaoEsperada != null && versaoEsperada != chamado.getVersao();
+    }
+
+    // Id do técnico responsável (ou null se ninguém assumiu)
+    private static Long idDoTecnico(Chamado chamado) {
+        return chamado.getTecnico() != null ? chamado.getTecnico().getId() : null;
+    }
+}
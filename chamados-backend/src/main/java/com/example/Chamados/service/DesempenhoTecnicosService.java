@@ -0,0 +1,97 @@
+// src/main/java/com/example/Chamados/service/DesempenhoTecnicosService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.DesempenhoProperties;
+import com.example.Chamados.dto.DesempenhoTecnicoDTO;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.repository.UsuarioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Carga (chamados não fechados) e desempenho (fechados, mediana e p90 do tempo de resolução) de cada técnico.
+// Três consultas para todos os técnicos juntos, sem laço por técnico: os técnicos (cache de consultas do
+// Hibernate), a contagem agrupada dos abertos e os percentis por funções de janela.
+// O resultado de cada janela fica em cache por chamados.desempenho.validade (pode atrasar esse tempo).
+@Service
+public class DesempenhoTecnicosService {
+
+    @Autowired
+    private DesempenhoProperties properties;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private Clock clock;
+
+    // Chave: janela em dias
+    private Cache<Integer, List<DesempenhoTecnicoDTO>> resultados;
+
+    @PostConstruct
+    public void criarCache() {
+        resultados = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximoDias())
+                .expireAfterWrite(properties.getValidade())
+                .build();
+    }
+
+    // Técnicos (ROLE_TI) por nome, com os fechados dos últimos "dias" dias
+    public List<DesempenhoTecnicoDTO> desempenho(int dias) {
+        return resultados.get(dias, this::calcular);
+    }
+
+    private List<DesempenhoTecnicoDTO> calcular(int dias) {
+        LocalDateTime ate = LocalDateTime.now(clock);
+
+        Map<Long, Long> abertos = new HashMap<>();
+        for (ChamadoRepository.CargaTecnico carga : chamadoRepository.contarAbertosPorTecnico()) {
+            abertos.put(carga.getTecnicoId(), carga.getTotal());
+        }
+
+        // Até duas linhas por técnico: a da mediana e a do p90 (a mesma, com poucos fechados)
+        Map<Long, long[]> percentis = new HashMap<>(); // {fechados, mediana, p90} em segundos
+        for (ChamadoRepository.PercentilTecnico p : chamadoRepository.findPercentisResolucaoPorTecnico(ate.minusDays(dias), ate)) {
+            long[] valores = percentis.computeIfAbsent(p.getTecnicoId(), k -> new long[3]);
+            long fechados = p.getFechados();
+            valores[0] = fechados;
+            if (p.getPosicao() == posicao(fechados, 50)) {
+                valores[1] = p.getSegundos();
+            }
+            if (p.getPosicao() == posicao(fechados, 90)) {
+                valores[2] = p.getSegundos();
+            }
+        }
+
+        return usuarioRepository.findByRole(Role.ROLE_TI).stream()
+                .sorted(Comparator.comparing(Usuario::getNome, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+                .map(tecnico -> {
+                    long[] valores = percentis.get(tecnico.getId());
+                    return new DesempenhoTecnicoDTO(tecnico.getId(), tecnico.getNome(),
+                            abertos.getOrDefault(tecnico.getId(), 0L),
+                            valores != null ? valores[0] : 0,
+                            valores != null ? valores[1] / 60 : null,
+                            valores != null ? valores[2] / 60 : null);
+                })
+                .toList();
+    }
+
+    // Mesma posição que a consulta: ceil(n * percentil / 100)
+    static long posicao(long total, int percentil) {
+        return (total * percentil + 99) / 100;
+    }
+}
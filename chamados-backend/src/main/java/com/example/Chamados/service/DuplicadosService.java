@@ -0,0 +1,166 @@
+// src/main/java/com/example/Chamados/service/DuplicadosService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.DuplicadosProperties;
+import com.example.Chamados.dto.ChamadoSemelhanteDTO;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.event.ChamadosImportadosEvento;
+import com.example.Chamados.event.StatusPropagadoEvento;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.util.IndiceMinHash;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Possíveis duplicados: índice MinHash/LSH (IndiceMinHash) do título + descrição dos chamados abertos.
+// Em queda de rede chegam dezenas de "internet caiu" / "sem rede": o chamado novo já sai com os abertos
+// parecidos, e a busca não vai ao banco (alguns microssegundos; tempo em /actuator/metrics/chamados.duplicados.busca).
+// O índice é montado na subida e mantido pelos ChamadoEvento, como a fila de trabalho (FilaChamadosService).
+@Service
+public class DuplicadosService {
+
+    private static final Logger log = LoggerFactory.getLogger(DuplicadosService.class);
+
+    @Autowired
+    private DuplicadosProperties properties;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Trocado inteiro na remontagem: as buscas continuam no índice antigo enquanto o novo é montado
+    private volatile IndiceMinHash indice;
+    private Timer tempoBusca;
+
+    @PostConstruct
+    public void iniciar() {
+        indice = novoIndice();
+        tempoBusca = meterRegistry.timer("chamados.duplicados.busca");
+        meterRegistry.gauge("chamados.duplicados.indice", this, s -> s.indice.tamanho());
+    }
+
+    // 1. Monta o índice na subida da aplicação com uma única consulta
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconstruir() {
+        if (!properties.isHabilitado()) {
+            return;
+        }
+        IndiceMinHash novo = novoIndice();
+        for (ChamadoRepository.TextoChamado texto : chamadoRepository.findTextosAbertos()) {
+            int[] assinatura = novo.assinatura(texto(texto.getTitulo(), texto.getDescricao()));
+            if (assinatura != null) {
+                novo.colocar(texto.getId(), assinatura);
+            }
+        }
+        indice = novo;
+        log.info("Índice de possíveis duplicados montado com {} chamados abertos", novo.tamanho());
+    }
+
+    // Importações gravam via JDBC, sem eventos por chamado: remonta o índice
+    @EventListener
+    public void aoImportar(ChamadosImportadosEvento evento) {
+        reconstruir();
+    }
+
+    // 2. Chamados abertos com título + descrição parecidos, do mais parecido ao menos parecido
+    public List<ChamadoSemelhanteDTO> semelhantes(String titulo, String descricao) {
+        return buscar(texto(titulo, descricao), null);
+    }
+
+    // Parecidos com um chamado existente (vazio se o chamado não existe)
+    public Optional<List<ChamadoSemelhanteDTO>> semelhantesA(Long id) {
+        return chamadoRepository.findById(id)
+                .map(chamado -> buscar(texto(chamado.getTitulo(), chamado.getDescricao()), id));
+    }
+
+    // 3. Mantém o índice em dia com as mudanças dos chamados (após o commit, quando houver transação)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarChamado(ChamadoEvento evento) {
+        if (!properties.isHabilitado()) {
+            return;
+        }
+        Long id = evento.getChamadoId();
+        if (!evento.estaAberto()) {
+            indice.remover(id); // Fechado ou removido
+            return;
+        }
+
+        Chamado chamado = evento.getChamado();
+        if (chamado != null) {
+            colocar(id, chamado); // Criado, texto alterado ou reaberto
+        } else if (!indice.contem(id)) {
+            // Operações em lote não trazem a entidade: só busca o texto de um chamado reaberto
+            chamadoRepository.findById(id).ifPresent(c -> colocar(id, c));
+        }
+    }
+
+    // Filhos de incidente que mudaram junto com o pai: fechados saem do índice; os reabertos que
+    // faltam no índice têm o texto lido com uma consulta só
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoPropagarStatus(StatusPropagadoEvento evento) {
+        if (!properties.isHabilitado()) {
+            return;
+        }
+        if (!evento.estaAberto()) {
+            evento.getChamadoIds().forEach(indice::remover);
+            return;
+        }
+        List<Long> faltando = evento.getChamadoIds().stream().filter(id -> !indice.contem(id)).toList();
+        if (!faltando.isEmpty()) {
+            for (ChamadoRepository.TextoChamado texto : chamadoRepository.findTextoByIdIn(faltando)) {
+                colocar(texto.getId(), texto.getTitulo(), texto.getDescricao());
+            }
+        }
+    }
+
+    private List<ChamadoSemelhanteDTO> buscar(String texto, Long ignorar) {
+        if (!properties.isHabilitado()) {
+            return List.of();
+        }
+        long inicio = System.nanoTime();
+        IndiceMinHash atual = indice;
+        int[] assinatura = atual.assinatura(texto);
+        List<ChamadoSemelhanteDTO> semelhantes = assinatura == null ? List.of()
+                : atual.semelhantes(assinatura, properties.getSimilaridadeMinima(), properties.getMaximo(), ignorar)
+                        .stream()
+                        .map(s -> new ChamadoSemelhanteDTO(s.id(), s.similaridade()))
+                        .toList();
+        tempoBusca.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        return semelhantes;
+    }
+
+    private void colocar(Long id, Chamado chamado) {
+        colocar(id, chamado.getTitulo(), chamado.getDescricao());
+    }
+
+    private void colocar(Long id, String titulo, String descricao) {
+        int[] assinatura = indice.assinatura(texto(titulo, descricao));
+        if (assinatura != null) {
+            indice.colocar(id, assinatura);
+        } else {
+            indice.remover(id);
+        }
+    }
+
+    private IndiceMinHash novoIndice() {
+        return new IndiceMinHash(properties.getFaixas(), properties.getLinhas());
+    }
+
+    private static String texto(String titulo, String descricao) {
+        return (titulo != null ? titulo : "") + "\n" + (descricao != null ? descricao : "");
+    }
+}
@@ -0,0 +1,114 @@
+// src/main/java/com/example/Chamados/service/ExpurgoService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.ExpurgoProperties;
+import com.example.Chamados.repository.AnexoRepository;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.repository.ComentarioRepository;
+import com.example.Chamados.repository.UsuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Apaga de fato os chamados e usuários removidos há mais de chamados.expurgo.carencia.
+// DELETE /chamados e DELETE /usuarios só marcam data_remocao (um UPDATE curto na requisição); aqui cada execução
+// apaga UM lote pequeno de cada, em transações separadas, e a próxima só vem depois de chamados.expurgo.pausa:
+// nenhum DELETE grande segura locks na tabela chamado enquanto os usuários trabalham.
+// - Chamado: junto vão os comentários e anexos dele (e os arquivos de anexo que mais nenhum anexo usa).
+// - Usuário: só quando nada mais o referencia (chamados, arquivados, comentários, anexos); até lá fica
+//   marcado como removido, sem acesso e fora das listas, e continua aparecendo como dono dos chamados antigos.
+@Service
+public class ExpurgoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpurgoService.class);
+
+    // Arquivo de anexo reaproveitado há menos que isso fica (upload igual em andamento)
+    private static final Duration CARENCIA_ARQUIVOS = Duration.ofHours(1);
+
+    @Autowired
+    private ExpurgoProperties properties;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ComentarioRepository comentarioRepository;
+
+    @Autowired
+    private AnexoRepository anexoRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private AnexoService anexoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Clock clock;
+
+    private Counter chamadosExpurgados;
+    private Counter usuariosExpurgados;
+
+    @PostConstruct
+    public void iniciar() {
+        chamadosExpurgados = meterRegistry.counter("chamados.expurgo.removidos", "tipo", "chamado");
+        usuariosExpurgados = meterRegistry.counter("chamados.expurgo.removidos", "tipo", "usuario");
+    }
+
+    @Scheduled(fixedDelayString = "#{@expurgoProperties.pausa.toMillis()}")
+    public void executarAgendado() {
+        if (properties.isHabilitado()) {
+            expurgarLote();
+        }
+    }
+
+    // Um lote de chamados e um de usuários; retorna quantas linhas foram apagadas (0 = nada pendente)
+    public int expurgarLote() {
+        LocalDateTime limite = LocalDateTime.now(clock).minus(properties.getCarencia());
+        List<String> hashes = new ArrayList<>();
+
+        Integer chamados = transactionTemplate.execute(status -> {
+            List<Long> ids = chamadoRepository.findIdsRemovidosAntesDe(limite, properties.getTamanhoLote());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            comentarioRepository.deletarPorChamados(ids);
+            hashes.addAll(anexoRepository.findHashesByChamadoIdIn(ids));
+            anexoRepository.deletarPorChamados(ids);
+            return chamadoRepository.expurgarRemovidos(ids);
+        });
+        // Depois do commit: se a transação falhar, os arquivos continuam lá para os anexos que continuam
+        anexoService.removerArquivosSemUso(hashes, CARENCIA_ARQUIVOS);
+
+        // Depois dos chamados: os recém-apagados podem ter sido a última referência do usuário
+        Integer usuarios = transactionTemplate.execute(status -> {
+            List<Long> ids = usuarioRepository.findIdsRemovidosSemReferencias(limite, properties.getTamanhoLote());
+            return ids.isEmpty() ? 0 : usuarioRepository.expurgarRemovidos(ids);
+        });
+
+        chamadosExpurgados.increment(chamados);
+        usuariosExpurgados.increment(usuarios);
+        if (chamados > 0 || usuarios > 0) {
+            log.info("Expurgo: {} chamados e {} usuários removidos antes de {} apagados", chamados, usuarios, limite);
+        }
+        return chamados + usuarios;
+    }
+}
@@ -0,0 +1,195 @@
+// src/main/java/com/example/Chamados/service/FilaChamadosService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.event.ChamadosImportadosEvento;
+import com.example.Chamados.event.StatusPropagadoEvento;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.ChamadoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Fila de trabalho dos técnicos: chamados abertos sem técnico, do mais prioritário
+// (e, na mesma prioridade, do mais antigo) para o menos prioritário.
+// A fila fica em memória (ConcurrentSkipListSet) e é mantida pelos ChamadoEvento;
+// pegar o próximo é um pollFirst(), atômico, então dois técnicos nunca recebem o mesmo item.
+// O UPDATE condicional no banco (tecnico is null) garante a entrega mesmo se a fila estiver desatualizada.
+@Service
+public class FilaChamadosService {
+
+    private static final Logger log = LoggerFactory.getLogger(FilaChamadosService.class);
+
+    // Item imutável da fila; o status só acompanha o item (não entra na ordenação)
+    private static final class Item {
+        private final Long id;
+        private final Prioridade prioridade;
+        private final LocalDateTime dataAbertura;
+        private final String status;
+
+        private Item(Long id, Prioridade prioridade, LocalDateTime dataAbertura, String status) {
+            this.id = id;
+            this.prioridade = prioridade != null ? prioridade : Prioridade.MEDIA;
+            this.dataAbertura = dataAbertura;
+            this.status = status;
+        }
+    }
+
+    private static final Comparator<Item> POR_PRIORIDADE = Comparator
+            .comparing((Item i) -> i.prioridade, Comparator.reverseOrder())
+            .thenComparing(i -> i.dataAbertura, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(i -> i.id);
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ConcurrentSkipListSet<Item> fila = new ConcurrentSkipListSet<>(POR_PRIORIDADE);
+    private final Map<Long, Item> itens = new ConcurrentHashMap<>();
+
+    // 1. Monta a fila na subida da aplicação com uma única consulta
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconstruir() {
+        fila.clear();
+        itens.clear();
+        for (ChamadoRepository.ItemFila item : chamadoRepository.findFilaSemTecnico()) {
+            inserir(new Item(item.getId(), item.getPrioridade(), item.getDataAbertura(), item.getStatus()));
+        }
+        log.info("Fila de chamados sem técnico montada com {} chamados", itens.size());
+    }
+
+    // Importações gravam via JDBC, sem eventos por chamado: remonta a fila
+    @EventListener
+    public void aoImportar(ChamadosImportadosEvento evento) {
+        reconstruir();
+    }
+
+    // 2. Entrega ao técnico o próximo chamado da fila (vazio se não houver nenhum)
+    public Optional<Chamado> proximo(Usuario tecnico) {
+        Item item;
+        while ((item = fila.pollFirst()) != null) {
+            itens.remove(item.id, item);
+            Item retirado = item;
+
+            Chamado chamado;
+            try {
+                // Cada tentativa em sua própria transação: o evento ASSUMIDO sai no commit
+                chamado = transactionTemplate.execute(status -> {
+                    if (chamadoRepository.assumirSeLivre(retirado.id, tecnico) == 0) {
+                        return null; // Já assumido/fechado por outro caminho: item velho, segue para o próximo
+                    }
+                    Chamado assumido = chamadoRepository.findById(retirado.id).orElseThrow();
+                    eventPublisher.publishEvent(ChamadoEvento.de(ChamadoEvento.Tipo.ASSUMIDO, assumido,
+                            retirado.status, null));
+                    return assumido;
+                });
+            } catch (RuntimeException e) {
+                // Falhou no banco: devolve o item para outro técnico tentar
+                inserirSeAusente(retirado);
+                throw e;
+            }
+            if (chamado != null) {
+                return Optional.of(chamado);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Quantidade de chamados aguardando técnico
+    public int tamanho() {
+        return itens.size();
+    }
+
+    // 3. Mantém a fila em dia com as mudanças dos chamados (após o commit, quando houver transação)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarChamado(ChamadoEvento evento) {
+        Long id = evento.getChamadoId();
+        boolean naFila = evento.getTecnicoId() == null && evento.estaAberto();
+
+        if (!naFila) {
+            remover(id);
+            return;
+        }
+
+        Chamado chamado = evento.getChamado();
+        Item atual = itens.get(id);
+        if (chamado != null) {
+            substituir(atual, new Item(id, chamado.getPrioridade(), chamado.getDataAbertura(), evento.getStatus()));
+        } else if (atual != null) {
+            // Operações em lote não trazem a entidade: só o status muda
+            substituir(atual, new Item(id, atual.prioridade, atual.dataAbertura, evento.getStatus()));
+        } else {
+            chamadoRepository.findById(id).ifPresent(c ->
+                    inserir(new Item(id, c.getPrioridade(), c.getDataAbertura(), evento.getStatus())));
+        }
+    }
+
+    // Filhos de incidente que mudaram junto com o pai: os que entram na fila e ainda não estão nela
+    // são lidos com uma consulta só
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoPropagarStatus(StatusPropagadoEvento evento) {
+        List<Long> faltando = new ArrayList<>();
+        for (StatusPropagadoEvento.Filho filho : evento.getFilhos()) {
+            Item atual = itens.get(filho.id());
+            if (filho.tecnicoId() != null || !evento.estaAberto()) {
+                remover(filho.id());
+            } else if (atual != null) {
+                substituir(atual, new Item(filho.id(), atual.prioridade, atual.dataAbertura, evento.getStatus()));
+            } else {
+                faltando.add(filho.id());
+            }
+        }
+        if (!faltando.isEmpty()) {
+            for (ChamadoRepository.ItemFila item : chamadoRepository.findItemFilaByIdIn(faltando)) {
+                inserir(new Item(item.getId(), item.getPrioridade(), item.getDataAbertura(), evento.getStatus()));
+            }
+        }
+    }
+
+    private void inserir(Item item) {
+        itens.put(item.id, item);
+        fila.add(item);
+    }
+
+    private synchronized void inserirSeAusente(Item item) {
+        if (itens.putIfAbsent(item.id, item) == null) {
+            fila.add(item);
+        }
+    }
+
+    private void substituir(Item atual, Item novo) {
+        if (atual != null) {
+            fila.remove(atual);
+        }
+        inserir(novo);
+    }
+
+    private void remover(Long id) {
+        Item atual = itens.remove(id);
+        if (atual != null) {
+            fila.remove(atual);
+        }
+    }
+}
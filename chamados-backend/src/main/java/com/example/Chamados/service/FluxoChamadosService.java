@@ -0,0 +1,442 @@
+// src/main/java/com/example/Chamados/service/FluxoChamadosService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.FluxoProperties;
+import com.example.Chamados.dto.FluxoChamadosDTO;
+import com.example.Chamados.dto.FluxoChamadosDTO.Agrupamento;
+import com.example.Chamados.dto.FluxoChamadosDTO.Granularidade;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.event.ChamadosImportadosEvento;
+import com.example.Chamados.event.StatusPropagadoEvento;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.repository.ChamadoArquivadoRepository;
+import com.example.Chamados.repository.ChamadoRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Fluxo de chamados: abertos e fechados por hora, setor e categoria na tabela fluxo_chamados.
+// - Cada abertura/fechamento soma 1 em memória; a cada chamados.fluxo.gravacao as somas vão para a tabela
+//   (um UPDATE por hora/setor/categoria alterados, somando, então várias instâncias podem gravar juntas).
+//   Assim a requisição do chamado não disputa a mesma linha do fluxo com as outras aberturas da hora.
+// - Fechamento conta na hora em que aconteceu: fechar, reabrir e fechar de novo conta dois fechamentos.
+//   O recálculo (backfill) conta pela data de conclusão atual de cada chamado, inclusive os arquivados.
+// - Remover um chamado desconta a abertura e a conclusão atual dele: o recálculo também não conta os removidos.
+// - Cada recálculo fica registrado em fluxo_recalculo; na gravação, toda instância descarta as somas em memória
+//   do intervalo feitas antes dele (a recontagem já as leu dos chamados).
+// - Os relatórios somam as linhas de hora em dia, semana ou mês sem tocar na tabela chamado.
+@Service
+public class FluxoChamadosService {
+
+    private static final Logger log = LoggerFactory.getLogger(FluxoChamadosService.class);
+
+    private static final long SEM_SETOR = 0L; // setor_id faz parte da chave primária, não pode ser null
+    private static final int TAMANHO_BLOCO = 500;
+    private static final Duration RETENCAO_RECALCULO = Duration.ofDays(1); // Bem mais que qualquer soma em memória
+
+    private record Chave(LocalDateTime hora, long setorId, long categoriaId) {}
+
+    // Soma em memória: a linha do fluxo e o segundo em que foi somada (para os recálculos de outras instâncias)
+    private record Pendente(Chave chave, LocalDateTime somadaEm) {}
+
+    // Eventos que não trazem setor e categoria, buscados na gravação (uma consulta por bloco): fechamentos em lote,
+    // que contam na hora do evento, e remoções, que descontam a abertura e a conclusão do chamado
+    private record SemDados(Long chamadoId, LocalDateTime somadoEm, boolean remocao) {}
+
+    private record DadosChamado(long setorId, long categoriaId, LocalDateTime abertura, LocalDateTime conclusao) {}
+
+    // Somas retiradas da memória para uma gravação ou recálculo
+    private record Pendentes(Map<Pendente, long[]> somas, List<SemDados> semDados) {
+        boolean vazio() {
+            return somas.isEmpty() && semDados.isEmpty();
+        }
+    }
+
+    @Autowired
+    private FluxoProperties properties;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private ChamadoArquivadoRepository chamadoArquivadoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    // Somas ainda não gravadas: {abertos, fechados} por chave (protegidas por "this")
+    private Map<Pendente, long[]> pendentes = new HashMap<>();
+    private List<SemDados> semDados = new ArrayList<>();
+
+    // Uma gravação/recálculo por vez
+    private final Object gravacao = new Object();
+
+    // 1. Conta aberturas, fechamentos e remoções (após o commit)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarChamado(ChamadoEvento evento) {
+        if (!properties.isHabilitado()) {
+            return;
+        }
+        Chamado chamado = evento.getChamado();
+        LocalDateTime agora = LocalDateTime.now(clock);
+        if (evento.getTipo() == ChamadoEvento.Tipo.CRIADO && chamado != null) {
+            somar(new Pendente(chave(chamado.getDataAbertura(), chamado), segundo(agora)), 1, 0);
+        } else if (evento.getTipo() == ChamadoEvento.Tipo.REMOVIDO) {
+            adicionar(new SemDados(evento.getChamadoId(), segundo(agora), true));
+        } else if (evento.estavaAberto() && !evento.estaAberto()) {
+            if (chamado != null && chamado.getDataConclusao() != null) {
+                somar(new Pendente(chave(chamado.getDataConclusao(), chamado), segundo(agora)), 0, 1);
+            } else {
+                adicionar(new SemDados(evento.getChamadoId(), segundo(agora), false));
+            }
+        }
+    }
+
+    // Filhos de incidente fechados junto com o pai: sem a entidade, vão para os fechamentos sem dados,
+    // resolvidos na gravação com uma consulta só
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoPropagarStatus(StatusPropagadoEvento evento) {
+        evento.eventos().forEach(this::aoAlterarChamado);
+    }
+
+    // 2. Grava as somas pendentes, todas em uma transação; se falhar, voltam para a próxima tentativa
+    @Scheduled(fixedDelayString = "#{@fluxoProperties.gravacao.toMillis()}")
+    public void gravar() {
+        synchronized (gravacao) {
+            Pendentes lote = retirarPendentes();
+            if (lote.vazio()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Map<Pendente, long[]> somas = resolver(lote);
+                    descartarRecontadas(somas);
+                    porChave(somas).forEach(this::gravarSoma);
+                });
+            } catch (DataAccessException e) {
+                log.warn("Falha ao gravar o fluxo de chamados ({} linhas); nova tentativa na próxima gravação",
+                        lote.somas().size(), e);
+                devolver(lote);
+            }
+        }
+    }
+
+    // Grava o que ainda está em memória antes de a aplicação parar
+    @PreDestroy
+    public void aoDesligar() {
+        gravar();
+    }
+
+    // 3. Refaz as linhas de [de, ate) a partir dos chamados (e dos arquivados); null = sem limite.
+    // As somas em memória são retiradas na mesma seção da recontagem, e não numa gravação antes dela:
+    // um evento chegando entre as duas somaria de novo o que a recontagem já leu dos chamados.
+    // As do intervalo são descartadas (a recontagem as inclui) e as de fora são gravadas na mesma transação;
+    // as das outras instâncias saem nas gravações delas, pelo registro em fluxo_recalculo.
+    // Retorna quantas linhas foram gravadas
+    public int recalcular(LocalDateTime de, LocalDateTime ate) {
+        LocalDateTime inicio = de != null ? hora(de) : null;
+        LocalDateTime fim = ate != null ? hora(ate.plusHours(1).minusNanos(1)) : null; // Arredonda para cima
+
+        synchronized (gravacao) {
+            Pendentes lote = retirarPendentes();
+            Integer gravadas;
+            try {
+                gravadas = transactionTemplate.execute(status -> {
+                    Map<Pendente, long[]> foraDoIntervalo = resolver(lote);
+                    descartarRecontadas(foraDoIntervalo);
+                    foraDoIntervalo.keySet().removeIf(p -> dentro(p.chave().hora(), inicio, fim));
+                    porChave(foraDoIntervalo).forEach(this::gravarSoma);
+
+                    // Registrado antes de ler os chamados: o que as outras instâncias somaram antes disto a recontagem lê
+                    LocalDateTime agora = LocalDateTime.now(clock);
+                    jdbcTemplate.update("DELETE FROM fluxo_recalculo WHERE data_criacao < ?",
+                            Timestamp.valueOf(agora.minus(RETENCAO_RECALCULO)));
+                    jdbcTemplate.update("INSERT INTO fluxo_recalculo (inicio, fim, data_criacao) VALUES (?, ?, ?)",
+                            inicio != null ? Timestamp.valueOf(inicio) : null, fim != null ? Timestamp.valueOf(fim) : null,
+                            Timestamp.valueOf(agora));
+
+                    Map<Chave, long[]> somas = new HashMap<>();
+                    acumular(somas, chamadoRepository.contarAbertosPorHora(inicio, fim), 0);
+                    acumular(somas, chamadoArquivadoRepository.contarAbertosPorHora(inicio, fim), 0);
+                    acumular(somas, chamadoRepository.contarFechadosPorHora(inicio, fim), 1);
+                    acumular(somas, chamadoArquivadoRepository.contarFechadosPorHora(inicio, fim), 1);
+
+                    List<Object> limites = new ArrayList<>();
+                    StringBuilder delete = new StringBuilder("DELETE FROM fluxo_chamados WHERE 1 = 1");
+                    if (inicio != null) {
+                        delete.append(" AND hora >= ?");
+                        limites.add(Timestamp.valueOf(inicio));
+                    }
+                    if (fim != null) {
+                        delete.append(" AND hora < ?");
+                        limites.add(Timestamp.valueOf(fim));
+                    }
+                    jdbcTemplate.update(delete.toString(), limites.toArray());
+
+                    List<Object[]> linhas = new ArrayList<>(somas.size());
+                    somas.forEach((chave, soma) -> linhas.add(new Object[] {
+                            Timestamp.valueOf(chave.hora()), chave.setorId(), chave.categoriaId(), soma[0], soma[1] }));
+                    jdbcTemplate.batchUpdate("INSERT INTO fluxo_chamados (hora, setor_id, categoria_id, abertos, fechados) "
+                            + "VALUES (?, ?, ?, ?, ?)", linhas);
+                    return linhas.size();
+                });
+            } catch (RuntimeException e) {
+                devolver(lote); // Nada foi gravado: as somas voltam para a próxima gravação
+                throw e;
+            }
+            log.info("Fluxo de chamados recalculado de {} até {}: {} linhas", inicio, fim, gravadas);
+            return gravadas;
+        }
+    }
+
+    // Primeira subida com o fluxo (tabela vazia): preenche com todo o histórico
+    @EventListener(ApplicationReadyEvent.class)
+    public void preencherSeVazio() {
+        if (!properties.isHabilitado()) {
+            return;
+        }
+        Long linhas = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM fluxo_chamados", Long.class);
+        if (linhas != null && linhas == 0) {
+            try {
+                recalcular(null, null);
+            } catch (DuplicateKeyException e) {
+                log.info("Fluxo de chamados já preenchido por outra instância");
+            }
+        }
+    }
+
+    // Importações gravam via JDBC, sem eventos por chamado: refaz do chamado importado mais antigo em diante
+    @EventListener
+    public void aoImportar(ChamadosImportadosEvento evento) {
+        if (properties.isHabilitado() && evento.getPrimeiraAbertura() != null) {
+            recalcular(evento.getPrimeiraAbertura(), null);
+        }
+    }
+
+    // 4. Relatório de [de, ate): uma linha por período (e por setor/categoria, se agrupado), do mais antigo
+    // ao mais recente. Períodos sem movimento (ou zerados por remoções) não aparecem; as somas ainda em memória (até
+    // chamados.fluxo.gravacao) também não
+    @Transactional(readOnly = true)
+    public List<FluxoChamadosDTO> consultar(LocalDateTime de, LocalDateTime ate, Granularidade granularidade,
+                                            Long setorId, Long categoriaId, Agrupamento agruparPor) {
+        String grupo = switch (agruparPor) {
+            case SETOR -> "setor_id";
+            case CATEGORIA -> "categoria_id";
+            case NENHUM -> "0";
+        };
+        StringBuilder sql = new StringBuilder("SELECT hora, ").append(grupo)
+                .append(", SUM(abertos), SUM(fechados) FROM fluxo_chamados WHERE hora >= ? AND hora < ?");
+        List<Object> parametros = new ArrayList<>(List.of(Timestamp.valueOf(de), Timestamp.valueOf(ate)));
+        if (setorId != null) {
+            sql.append(" AND setor_id = ?");
+            parametros.add(setorId);
+        }
+        if (categoriaId != null) {
+            sql.append(" AND categoria_id = ?");
+            parametros.add(categoriaId);
+        }
+        sql.append(" GROUP BY hora").append(agruparPor == Agrupamento.NENHUM ? "" : ", " + grupo)
+                .append(" HAVING SUM(abertos) <> 0 OR SUM(fechados) <> 0");
+
+        Map<Chave, FluxoChamadosDTO> periodos = new LinkedHashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            LocalDateTime inicio = inicioDoPeriodo(rs.getTimestamp(1).toLocalDateTime(), granularidade);
+            long id = rs.getLong(2);
+            periodos.computeIfAbsent(new Chave(inicio, id, 0), k -> new FluxoChamadosDTO(inicio,
+                    agruparPor == Agrupamento.SETOR && id != SEM_SETOR ? id : null,
+                    agruparPor == Agrupamento.CATEGORIA ? id : null))
+                    .somar(rs.getLong(3), rs.getLong(4));
+        }, parametros.toArray());
+
+        List<FluxoChamadosDTO> resultado = new ArrayList<>(periodos.values());
+        resultado.sort(Comparator.comparing(FluxoChamadosDTO::getInicio)
+                .thenComparing(d -> d.getSetorId() != null ? d.getSetorId() : d.getCategoriaId(),
+                        Comparator.nullsFirst(Comparator.naturalOrder())));
+        return resultado;
+    }
+
+    // Quantos períodos a consulta de [de, ate) teria (para limitar em chamados.fluxo.maximo-periodos)
+    public long contarPeriodos(LocalDateTime de, LocalDateTime ate, Granularidade granularidade) {
+        return switch (granularidade) {
+            case HORA -> ChronoUnit.HOURS.between(de, ate);
+            case DIA -> ChronoUnit.DAYS.between(de, ate);
+            case SEMANA -> ChronoUnit.WEEKS.between(de, ate);
+            case MES -> ChronoUnit.MONTHS.between(de, ate);
+        };
+    }
+
+    static LocalDateTime inicioDoPeriodo(LocalDateTime hora, Granularidade granularidade) {
+        return switch (granularidade) {
+            case HORA -> hora;
+            case DIA -> hora.truncatedTo(ChronoUnit.DAYS);
+            case SEMANA -> hora.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MES -> hora.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    // Troca as somas em memória por listas novas e devolve as antigas
+    private synchronized Pendentes retirarPendentes() {
+        Pendentes lote = new Pendentes(pendentes, semDados);
+        pendentes = new HashMap<>();
+        semDados = new ArrayList<>();
+        return lote;
+    }
+
+    private synchronized void devolver(Pendentes lote) {
+        lote.somas().forEach((pendente, soma) -> somar(pendente, soma[0], soma[1]));
+        semDados.addAll(lote.semDados());
+    }
+
+    private synchronized void somar(Pendente pendente, long abertos, long fechados) {
+        acrescentar(pendentes, pendente, abertos, fechados);
+    }
+
+    private synchronized void adicionar(SemDados evento) {
+        semDados.add(evento);
+    }
+
+    // Somas do lote com os eventos sem dados já resolvidos, em um mapa novo (o lote volta intacto se a gravação falhar)
+    private Map<Pendente, long[]> resolver(Pendentes lote) {
+        Map<Pendente, long[]> somas = new HashMap<>();
+        lote.somas().forEach((pendente, soma) -> acrescentar(somas, pendente, soma[0], soma[1]));
+
+        List<SemDados> eventos = lote.semDados();
+        for (int inicio = 0; inicio < eventos.size(); inicio += TAMANHO_BLOCO) {
+            List<SemDados> bloco = eventos.subList(inicio, Math.min(inicio + TAMANHO_BLOCO, eventos.size()));
+            List<Long> ids = bloco.stream().map(SemDados::chamadoId).distinct().toList();
+            // SQL direto: a consulta JPA não vê os removidos (@SQLRestriction), e a remoção precisa deles
+            Map<Long, DadosChamado> dados = new HashMap<>();
+            jdbcTemplate.query("SELECT id, setor_id, categoria_id, data_abertura, data_conclusao FROM chamado WHERE id IN ("
+                    + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", rs -> {
+                Timestamp conclusao = rs.getTimestamp(5);
+                dados.put(rs.getLong(1), new DadosChamado(rs.getLong(2), rs.getLong(3), // setor null = 0 = SEM_SETOR
+                        rs.getTimestamp(4).toLocalDateTime(), conclusao != null ? conclusao.toLocalDateTime() : null));
+            }, ids.toArray());
+
+            for (SemDados evento : bloco) {
+                DadosChamado chamado = dados.get(evento.chamadoId());
+                if (chamado == null) { // Já expurgado: fica de fora
+                    continue;
+                }
+                if (!evento.remocao()) {
+                    acrescentar(somas, pendente(evento.somadoEm(), chamado, evento), 0, 1);
+                    continue;
+                }
+                acrescentar(somas, pendente(chamado.abertura(), chamado, evento), -1, 0);
+                if (chamado.conclusao() != null) {
+                    acrescentar(somas, pendente(chamado.conclusao(), chamado, evento), 0, -1);
+                }
+            }
+        }
+        return somas;
+    }
+
+    // Tira as somas que um recálculo (desta ou de outra instância) já contou: as do intervalo dele, feitas antes dele
+    private void descartarRecontadas(Map<Pendente, long[]> somas) {
+        LocalDateTime maisAntiga = somas.keySet().stream().map(Pendente::somadaEm)
+                .min(Comparator.naturalOrder()).orElse(null);
+        if (maisAntiga == null) {
+            return;
+        }
+        jdbcTemplate.query("SELECT inicio, fim, data_criacao FROM fluxo_recalculo WHERE data_criacao > ?", rs -> {
+            Timestamp inicio = rs.getTimestamp(1);
+            Timestamp fim = rs.getTimestamp(2);
+            LocalDateTime data = rs.getTimestamp(3).toLocalDateTime();
+            somas.keySet().removeIf(p -> p.somadaEm().isBefore(data) && dentro(p.chave().hora(),
+                    inicio != null ? inicio.toLocalDateTime() : null, fim != null ? fim.toLocalDateTime() : null));
+        }, Timestamp.valueOf(maisAntiga));
+    }
+
+    private static Map<Chave, long[]> porChave(Map<Pendente, long[]> somas) {
+        Map<Chave, long[]> total = new HashMap<>();
+        somas.forEach((pendente, soma) -> {
+            long[] linha = total.computeIfAbsent(pendente.chave(), k -> new long[2]);
+            linha[0] += soma[0];
+            linha[1] += soma[1];
+        });
+        return total;
+    }
+
+    private static void acrescentar(Map<Pendente, long[]> somas, Pendente pendente, long abertos, long fechados) {
+        long[] soma = somas.computeIfAbsent(pendente, k -> new long[2]);
+        soma[0] += abertos;
+        soma[1] += fechados;
+    }
+
+    // Soma na linha existente; se ela ainda não existe, cria (outra instância pode ter criado no meio: soma de novo)
+    private void gravarSoma(Chave chave, long[] soma) {
+        Object[] parametros = { soma[0], soma[1], Timestamp.valueOf(chave.hora()), chave.setorId(), chave.categoriaId() };
+        String update = "UPDATE fluxo_chamados SET abertos = abertos + ?, fechados = fechados + ? "
+                + "WHERE hora = ? AND setor_id = ? AND categoria_id = ?";
+        if (jdbcTemplate.update(update, parametros) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO fluxo_chamados (hora, setor_id, categoria_id, abertos, fechados) "
+                    + "VALUES (?, ?, ?, ?, ?)", parametros[2], parametros[3], parametros[4], soma[0], soma[1]);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(update, parametros);
+        }
+    }
+
+    private static void acumular(Map<Chave, long[]> somas, List<ChamadoRepository.ContagemHora> contagens, int coluna) {
+        for (ChamadoRepository.ContagemHora c : contagens) {
+            Chave chave = new Chave(LocalDateTime.of(c.getAno(), c.getMes(), c.getDia(), c.getHora(), 0),
+                    c.getSetorId() != null ? c.getSetorId() : SEM_SETOR, c.getCategoriaId());
+            somas.computeIfAbsent(chave, k -> new long[2])[coluna] += c.getTotal();
+        }
+    }
+
+    private static Chave chave(LocalDateTime data, Chamado chamado) {
+        return new Chave(hora(data), chamado.getSetor() != null ? chamado.getSetor().getId() : SEM_SETOR,
+                chamado.getCategoria().getId());
+    }
+
+    private static Pendente pendente(LocalDateTime data, DadosChamado chamado, SemDados evento) {
+        return new Pendente(new Chave(hora(data), chamado.setorId(), chamado.categoriaId()), evento.somadoEm());
+    }
+
+    private static boolean dentro(LocalDateTime hora, LocalDateTime inicio, LocalDateTime fim) {
+        return (inicio == null || !hora.isBefore(inicio)) && (fim == null || hora.isBefore(fim));
+    }
+
+    private static LocalDateTime hora(LocalDateTime data) {
+        return data.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    private static LocalDateTime segundo(LocalDateTime data) {
+        return data.truncatedTo(ChronoUnit.SECONDS);
+    }
+}
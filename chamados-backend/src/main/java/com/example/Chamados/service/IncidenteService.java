@@ -0,0 +1,111 @@
+// src/main/java/com/example/Chamados/service/IncidenteService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.DuplicadosProperties;
+import com.example.Chamados.dto.ChamadoSemelhanteDTO;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.event.StatusPropagadoEvento;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.repository.ChamadoRepository.EstadoChamado;
+import com.example.Chamados.service.ChamadoService.Resultado;
+import com.example.Chamados.service.ChamadoService.Situacao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Incidentes: um chamado pai agrupa os filhos (ex: os "internet caiu" de uma queda de rede).
+// Mudar o status do pai muda o de todos os filhos com UM UPDATE, em vez de um alterarStatus por filho,
+// e um único StatusPropagadoEvento com os filhos alterados é publicado na mesma transação (entregue no commit):
+// resolver uma queda com 2.000 chamados é uma requisição, e os índices em memória tratam os filhos de uma vez.
+// Um nível só: o pai não é filho de ninguém e um filho não tem filhos.
+@Service
+public class IncidenteService {
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private DuplicadosProperties duplicadosProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // 1. Leva o status (e a data de conclusão) dos pais aos filhos que ainda não estão nele.
+    // Chamado dentro da transação de quem alterou os pais; retorna quantos filhos mudaram
+    @Transactional
+    public int propagarStatus(Collection<Long> paiIds, String status, LocalDateTime dataConclusao) {
+        if (paiIds.isEmpty()) {
+            return 0;
+        }
+        List<EstadoChamado> filhos = chamadoRepository.findEstadoFilhosEmOutroStatus(paiIds, status);
+        if (filhos.isEmpty()) {
+            return 0;
+        }
+        chamadoRepository.atualizarStatusDosFilhos(paiIds, status, dataConclusao);
+        eventPublisher.publishEvent(new StatusPropagadoEvento(filhos.stream()
+                .map(filho -> new StatusPropagadoEvento.Filho(filho.getId(), filho.getStatus(), filho.getTecnicoId()))
+                .toList(), status));
+        return filhos.size();
+    }
+
+    // 2. Se o chamado pode receber filhos: NAO_ENCONTRADO, ou CONFLITO se ele mesmo é filho de outro incidente
+    @Transactional(readOnly = true)
+    public Situacao situacaoComoPai(Long paiId) {
+        return chamadoRepository.findById(paiId)
+                .map(pai -> pai.getIncidentePaiId() == null ? Situacao.OK : Situacao.CONFLITO)
+                .orElse(Situacao.NAO_ENCONTRADO);
+    }
+
+    // 3. Filhos do incidente (vazio se o pai não existe)
+    @Transactional(readOnly = true)
+    public Optional<List<Chamado>> filhos(Long paiId) {
+        if (!chamadoRepository.existsById(paiId)) {
+            return Optional.empty();
+        }
+        return Optional.of(chamadoRepository.findByIncidentePaiIdOrderById(paiId));
+    }
+
+    // 4. Tira o chamado do incidente (o status fica como está)
+    @Transactional
+    public Resultado desvincular(Long id) {
+        Optional<Chamado> chamadoOptional = chamadoRepository.findById(id);
+        if (chamadoOptional.isEmpty()) {
+            return Resultado.de(Situacao.NAO_ENCONTRADO);
+        }
+
+        Chamado chamado = chamadoOptional.get();
+        if (chamado.getIncidentePaiId() == null) {
+            return Resultado.ok(chamado); // Já estava fora de incidente
+        }
+        chamado.setIncidentePaiId(null);
+        Chamado chamadoAtualizado = chamadoRepository.save(chamado);
+        Long tecnicoId = chamadoAtualizado.getTecnico() != null ? chamadoAtualizado.getTecnico().getId() : null;
+        eventPublisher.publishEvent(ChamadoEvento.de(ChamadoEvento.Tipo.VINCULADO, chamadoAtualizado,
+                chamadoAtualizado.getStatus(), tecnicoId));
+        return Resultado.ok(chamadoAtualizado);
+    }
+
+    // 5. Incidente em que um chamado novo deve entrar: o do possível duplicado mais parecido, se a
+    // similaridade passar de chamados.duplicados.similaridade-vinculo e ele fizer parte de um incidente
+    // (como filho ou como pai). Vazio com chamados.duplicados.vincular-ao-incidente=false
+    @Transactional(readOnly = true)
+    public Optional<Long> incidenteDoDuplicado(List<ChamadoSemelhanteDTO> semelhantes) {
+        if (!duplicadosProperties.isVincularAoIncidente() || semelhantes.isEmpty()
+                || semelhantes.get(0).getSimilaridade() < duplicadosProperties.getSimilaridadeVinculo()) {
+            return Optional.empty();
+        }
+        Long duplicadoId = semelhantes.get(0).getChamadoId();
+        Long paiId = chamadoRepository.findIncidentePaiIdById(duplicadoId);
+        if (paiId != null) {
+            return Optional.of(paiId);
+        }
+        return chamadoRepository.existsByIncidentePaiId(duplicadoId) ? Optional.of(duplicadoId) : Optional.empty();
+    }
+}
@@ -0,0 +1,64 @@
+// src/main/java/com/example/Chamados/service/InvalidacaoCacheService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.InvalidacaoProperties;
+import com.example.Chamados.event.EntidadeAlteradaEvento;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Setor;
+import com.example.Chamados.model.Usuario;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+// Aplica nesta instância as alterações feitas em outra (entregues pelo BarramentoInvalidacao):
+// tira a entidade do cache de segundo nível, descarta os resultados de consultas em cache
+// (findByEmail, findByRole, findAll de categorias/setores) e avisa os índices em memória.
+@Service
+public class InvalidacaoCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidacaoCacheService.class);
+
+    // Região do cache -> entidade
+    private static final Map<String, Class<?>> ENTIDADES = Map.of(
+            "usuario", Usuario.class,
+            "categoria", Categoria.class,
+            "setor", Setor.class);
+
+    @Autowired
+    private InvalidacaoProperties properties;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public void receber(String entidade, Long id, String origem) {
+        if (properties.getNo().equals(origem)) {
+            return; // Alteração desta instância: o Hibernate já atualizou o cache local
+        }
+        Class<?> classe = ENTIDADES.get(entidade);
+        if (classe == null) {
+            log.warn("Invalidação de entidade desconhecida ignorada: {}", entidade);
+            return;
+        }
+
+        Cache cache = entityManagerFactory.getCache();
+        if (id != null) {
+            cache.evict(classe, id);
+        } else {
+            cache.evict(classe);
+        }
+        // O cache de consultas não sabe das escritas de outras instâncias: descarta tudo (alterações são raras)
+        cache.unwrap(org.hibernate.Cache.class).evictQueryRegions();
+
+        log.debug("Cache invalidado por {}: {} {}", origem, entidade, id);
+        eventPublisher.publishEvent(new EntidadeAlteradaEvento(entidade, id));
+    }
+}
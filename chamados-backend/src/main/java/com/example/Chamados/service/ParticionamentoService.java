@@ -0,0 +1,142 @@
+// src/main/java/com/example/Chamados/service/ParticionamentoService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.ParticionamentoProperties;
+import com.example.Chamados.util.ParticoesMySql;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+// Modo particionado da tabela chamado (MySQL): uma partição por mês de data_abertura.
+// As consultas que filtram por data_abertura (listagem e exportação com de/ate) só leem as partições
+// do intervalo, e os meses antigos podem ser descartados/arquivados partição a partição.
+//
+// 1. Na subida: cria a tabela já particionada (banco novo) ou converte a existente, se configurado.
+// 2. Todo dia: garante partições para os próximos chamados.particionamento.meses-a-frente meses,
+//    separando-as de p_futuro enquanto ela ainda está vazia (operação só de metadados). Se p_futuro já
+//    tem linhas (a manutenção ficou parada mais que meses-a-frente), não reorganiza: o REORGANIZE copiaria
+//    as linhas com a tabela bloqueada, e isso fica para uma janela de manutenção.
+// O "habilitado" é lido na execução (e não com @ConditionalOnProperty) para valer também no build AOT/nativo,
+// gerado só com o perfil "producao".
+@Service
+@DependsOn("entityManagerFactory") // O ddl-auto cria as outras tabelas antes
+public class ParticionamentoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticionamentoService.class);
+
+    private static final String SCRIPT_TABELA = "db/mysql/chamado-particionado.sql";
+
+    @Autowired
+    private ParticionamentoProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    private boolean ativo;
+
+    @PostConstruct
+    public void preparar() {
+        if (!properties.isHabilitado()) {
+            return;
+        }
+        String banco = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(banco) && !"MariaDB".equalsIgnoreCase(banco)) {
+            log.warn("Particionamento de chamados só é suportado no MySQL (banco atual: {}); ignorado", banco);
+            return;
+        }
+
+        if (!tabelaExiste()) {
+            // Banco novo: cria a tabela e já particiona a partir do mês atual
+            new ResourceDatabasePopulator(new ClassPathResource(SCRIPT_TABELA)).execute(jdbcTemplate.getDataSource());
+            YearMonth atual = YearMonth.now(clock);
+            jdbcTemplate.execute(ParticoesMySql.particionar(atual, atual.plusMonths(properties.getMesesAFrente())));
+            log.info("Tabela chamado criada com particionamento mensal");
+        } else if (particoes().isEmpty()) {
+            if (!properties.isConverterTabelaExistente()) {
+                log.warn("Tabela chamado existe e não é particionada; ligue chamados.particionamento."
+                        + "converter-tabela-existente para convertê-la (reescreve a tabela inteira)");
+                return;
+            }
+            converter();
+        }
+
+        ativo = true;
+        criarParticoesFuturas();
+    }
+
+    // 2. Manutenção diária das partições futuras
+    @Scheduled(cron = "${chamados.particionamento.cron:0 0 2 * * *}")
+    public synchronized void criarParticoesFuturas() {
+        if (!ativo) {
+            return;
+        }
+        YearMonth atual = YearMonth.now(clock);
+        List<YearMonth> faltando = ParticoesMySql.mesesFaltando(particoes(), atual,
+                atual.plusMonths(properties.getMesesAFrente()));
+        if (faltando.isEmpty()) {
+            return;
+        }
+        if (!jdbcTemplate.queryForList(ParticoesMySql.linhaNoFuturo()).isEmpty()) {
+            log.warn("Partição {} de chamado tem linhas: {} partições mensais não criadas para não reescrevê-las; "
+                            + "rode em uma janela de manutenção: {}", ParticoesMySql.PARTICAO_FUTURO, faltando.size(),
+                    ParticoesMySql.criarParticoes(faltando));
+            return;
+        }
+        jdbcTemplate.execute(ParticoesMySql.criarParticoes(faltando));
+        log.info("Criadas {} partições mensais em chamado (até {})", faltando.size(),
+                ParticoesMySql.nomeParticao(faltando.get(faltando.size() - 1)));
+    }
+
+    // Converte a tabela criada pelo Hibernate: remove as FKs, inclui data_abertura na chave primária
+    // e particiona desde o mês do chamado mais antigo
+    private void converter() {
+        List<Map<String, Object>> chaves = jdbcTemplate.queryForList(
+                "SELECT table_name AS tabela, constraint_name AS nome FROM information_schema.referential_constraints "
+                        + "WHERE constraint_schema = DATABASE() AND (table_name = ? OR referenced_table_name = ?)",
+                ParticoesMySql.TABELA, ParticoesMySql.TABELA);
+        for (Map<String, Object> chave : chaves) {
+            jdbcTemplate.execute("ALTER TABLE " + chave.get("tabela") + " DROP FOREIGN KEY " + chave.get("nome"));
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + ParticoesMySql.TABELA
+                + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, data_abertura)");
+
+        Timestamp maisAntigo = jdbcTemplate.queryForObject(
+                "SELECT MIN(data_abertura) FROM " + ParticoesMySql.TABELA, Timestamp.class);
+        YearMonth atual = YearMonth.now(clock);
+        YearMonth primeiro = maisAntigo != null ? YearMonth.from(maisAntigo.toLocalDateTime()) : atual;
+        jdbcTemplate.execute(ParticoesMySql.particionar(primeiro, atual.plusMonths(properties.getMesesAFrente())));
+        log.info("Tabela chamado convertida para particionamento mensal a partir de {}", primeiro);
+    }
+
+    private boolean tabelaExiste() {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                Integer.class, ParticoesMySql.TABELA);
+        return total != null && total > 0;
+    }
+
+    private List<String> particoes() {
+        return jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL",
+                String.class, ParticoesMySql.TABELA);
+    }
+}
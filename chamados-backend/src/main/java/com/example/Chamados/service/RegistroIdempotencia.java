@@ -0,0 +1,28 @@
+// src/main/java/com/example/Chamados/service/RegistroIdempotencia.java
+package com.example.Chamados.service;
+
+// Onde ficam as respostas das requisições com Idempotency-Key (chamados.idempotencia.tipo):
+// RegistroIdempotenciaMemoria (padrão, por instância) ou RegistroIdempotenciaBanco (compartilhado).
+public interface RegistroIdempotencia {
+
+    // Resposta guardada, devolvida igual nas repetições
+    record Resposta(int status, String contentType, String etag, byte[] corpo) {}
+
+    // O que já existe para a chave: "impressao" identifica a requisição (método, caminho e corpo);
+    // resposta null = a primeira requisição ainda está sendo executada
+    record Entrada(String impressao, Resposta resposta) {
+
+        public boolean emAndamento() {
+            return resposta == null;
+        }
+    }
+
+    // Reserva a chave para quem chamou e devolve null; se ela já existe, devolve a entrada existente
+    Entrada reservar(String chave, String impressao);
+
+    // Guarda a resposta da requisição que reservou a chave
+    void concluir(String chave, Resposta resposta);
+
+    // Desfaz a reserva (erro na execução): a próxima repetição executa de novo
+    void liberar(String chave);
+}
@@ -0,0 +1,83 @@
+// src/main/java/com/example/Chamados/service/RegistroIdempotenciaBanco.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.IdempotenciaProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.List;
+
+// Registro compartilhado entre as instâncias (chamados.idempotencia.tipo=banco): tabela resposta_idempotente.
+// A reserva é o próprio INSERT (chave primária): só uma requisição consegue; as outras leem a linha existente.
+// Cada comando roda sozinho (auto-commit), fora da transação do chamado, para a reserva ser vista na hora.
+@Service
+@ConditionalOnProperty(prefix = "chamados.idempotencia", name = "tipo", havingValue = "banco")
+public class RegistroIdempotenciaBanco implements RegistroIdempotencia {
+
+    @Autowired
+    private IdempotenciaProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @Override
+    public Entrada reservar(String chave, String impressao) {
+        Timestamp agora = new Timestamp(clock.millis());
+        try {
+            jdbcTemplate.update("INSERT INTO resposta_idempotente (chave, impressao, data_criacao) VALUES (?, ?, ?)",
+                    chave, impressao, agora);
+            return null;
+        } catch (DuplicateKeyException e) {
+            // Já existe: se for uma reserva abandonada (instância caiu no meio) ou uma resposta vencida
+            // que a limpeza ainda não apagou, assume a chave; o UPDATE condicional garante um só vencedor
+            int assumidas = jdbcTemplate.update("UPDATE resposta_idempotente SET impressao = ?, status = NULL, "
+                            + "content_type = NULL, etag = NULL, corpo = NULL, data_criacao = ? "
+                            + "WHERE chave = ? AND ((status IS NULL AND data_criacao < ?) OR data_criacao < ?)",
+                    impressao, agora, chave,
+                    new Timestamp(agora.getTime() - properties.getExecucaoMaxima().toMillis()),
+                    new Timestamp(agora.getTime() - properties.getValidade().toMillis()));
+            if (assumidas == 1) {
+                return null;
+            }
+        }
+
+        List<Entrada> existentes = jdbcTemplate.query(
+                "SELECT impressao, status, content_type, etag, corpo FROM resposta_idempotente WHERE chave = ?",
+                (rs, i) -> {
+                    Integer status = rs.getObject(2, Integer.class);
+                    return new Entrada(rs.getString(1), status == null ? null
+                            : new Resposta(status, rs.getString(3), rs.getString(4), rs.getBytes(5)));
+                },
+                chave);
+        // Sumiu entre o INSERT e o SELECT (liberada pela outra requisição): trata como em andamento,
+        // o cliente repete e encontra a chave livre
+        return existentes.isEmpty() ? new Entrada(impressao, null) : existentes.get(0);
+    }
+
+    @Override
+    public void concluir(String chave, Resposta resposta) {
+        jdbcTemplate.update("UPDATE resposta_idempotente SET status = ?, content_type = ?, etag = ?, corpo = ? WHERE chave = ?",
+                resposta.status(), resposta.contentType(), resposta.etag(), resposta.corpo(), chave);
+    }
+
+    @Override
+    public void liberar(String chave) {
+        jdbcTemplate.update("DELETE FROM resposta_idempotente WHERE chave = ? AND status IS NULL", chave);
+    }
+
+    @Scheduled(fixedDelayString = "#{@idempotenciaProperties.limpeza.toMillis()}",
+            initialDelayString = "#{@idempotenciaProperties.limpeza.toMillis()}")
+    public void limpar() {
+        jdbcTemplate.update("DELETE FROM resposta_idempotente WHERE data_criacao < ?",
+                new Timestamp(clock.millis() - properties.getValidade().toMillis()));
+    }
+}
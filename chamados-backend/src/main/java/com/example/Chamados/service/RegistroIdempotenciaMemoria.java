@@ -0,0 +1,45 @@
+// src/main/java/com/example/Chamados/service/RegistroIdempotenciaMemoria.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.IdempotenciaProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+// Registro padrão: Caffeine na memória da instância, limitado em quantidade e em tempo (chamados.idempotencia.*).
+// Com várias instâncias, só vale se a repetição cair na mesma (sessão afinada no balanceador); senão, tipo=banco.
+@Service
+@ConditionalOnProperty(prefix = "chamados.idempotencia", name = "tipo", havingValue = "memoria", matchIfMissing = true)
+public class RegistroIdempotenciaMemoria implements RegistroIdempotencia {
+
+    @Autowired
+    private IdempotenciaProperties properties;
+
+    private Cache<String, Entrada> entradas;
+
+    @PostConstruct
+    public void criarCache() {
+        entradas = Caffeine.newBuilder()
+                .maximumSize(properties.getTamanhoMaximo())
+                .expireAfterWrite(properties.getValidade())
+                .build();
+    }
+
+    @Override
+    public Entrada reservar(String chave, String impressao) {
+        return entradas.asMap().putIfAbsent(chave, new Entrada(impressao, null));
+    }
+
+    @Override
+    public void concluir(String chave, Resposta resposta) {
+        entradas.asMap().computeIfPresent(chave, (k, entrada) -> new Entrada(entrada.impressao(), resposta));
+    }
+
+    @Override
+    public void liberar(String chave) {
+        entradas.asMap().computeIfPresent(chave, (k, entrada) -> entrada.emAndamento() ? null : entrada);
+    }
+}
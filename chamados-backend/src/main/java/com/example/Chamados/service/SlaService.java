@@ -0,0 +1,410 @@
+// src/main/java/com/example/Chamados/service/SlaService.java
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.SlaProperties;
+import com.example.Chamados.dto.SlaRiscoDTO;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.event.ChamadosImportadosEvento;
+import com.example.Chamados.event.SlaViolacaoEvento;
+import com.example.Chamados.event.StatusPropagadoEvento;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.TipoSla;
+import com.example.Chamados.repository.CategoriaRepository;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.util.RodaTemporizacao;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Controle de SLA dos chamados (primeira resposta e resolução), com prazos por categoria e prioridade.
+// Os prazos são calculados no criarChamado e os pendentes ficam em uma roda de temporização
+// em memória, remontada a partir do banco na subida. A cada tick a roda avança e os prazos
+// vencidos são marcados no chamado e publicados como SlaViolacaoEvento, sem varrer a tabela.
+@Service
+public class SlaService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaService.class);
+
+    // Baldes por nível da roda (64 ticks de 1s = ~1min no nível 0, ~68min no 1, ~3 dias no 2...)
+    private static final int BALDES_POR_NIVEL = 64;
+
+    // Chave de um prazo pendente na roda
+    private static final class ChaveSla {
+        private final Long chamadoId;
+        private final TipoSla tipo;
+
+        private ChaveSla(Long chamadoId, TipoSla tipo) {
+            this.chamadoId = chamadoId;
+            this.tipo = tipo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ChaveSla)) return false;
+            ChaveSla outra = (ChaveSla) o;
+            return chamadoId.equals(outra.chamadoId) && tipo == outra.tipo;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(chamadoId, tipo);
+        }
+    }
+
+    // Alteração de um prazo pendente: agenda com o prazo ou, sem prazo, cancela
+    private static final class Operacao {
+        private final ChaveSla chave;
+        private final LocalDateTime prazo;
+
+        private Operacao(ChaveSla chave, LocalDateTime prazo) {
+            this.chave = chave;
+            this.prazo = prazo;
+        }
+    }
+
+    @Autowired
+    private SlaProperties properties;
+
+    @Autowired
+    private ChamadoRepository chamadoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    // Roda e prazos pendentes: sempre alterados juntos, sob o lock do serviço
+    private RodaTemporizacao<ChaveSla> roda;
+    private Map<ChaveSla, LocalDateTime> pendentes = new HashMap<>();
+
+    // Durante uma reconstrução (não null), as alterações feitas na roda atual também ficam aqui,
+    // para serem repetidas na roda nova: a consulta ao banco pode ter sido feita antes delas
+    private List<Operacao> alteracoesDuranteReconstrucao;
+
+    // Uma reconstrução por vez (subida e importações podem coincidir)
+    private final Object reconstrucao = new Object();
+
+    @PostConstruct
+    public void inicializar() {
+        roda = new RodaTemporizacao<>(properties.getTick().toMillis(), BALDES_POR_NIVEL, clock.millis());
+    }
+
+    // 1. Calcula os prazos de um chamado novo (chamado antes do save no criarChamado)
+    public void calcularPrazos(Chamado chamado) {
+        String categoria = nomeDaCategoria(chamado);
+        Prioridade prioridade = chamado.getPrioridade();
+        chamado.setPrazoPrimeiraResposta(chamado.getDataAbertura().plus(prazo(TipoSla.PRIMEIRA_RESPOSTA, categoria, prioridade)));
+        chamado.setPrazoResolucao(chamado.getDataAbertura().plus(prazo(TipoSla.RESOLUCAO, categoria, prioridade)));
+        chamado.setDataPrimeiraResposta(null);
+        chamado.setSlaRespostaViolado(false);
+        chamado.setSlaResolucaoViolado(false);
+    }
+
+    // 2. Remonta a roda com os prazos pendentes dos chamados abertos.
+    // A consulta roda fora do lock (os eventos continuam indo para a roda atual enquanto isso);
+    // na troca, o que mudou durante a consulta é repetido na roda nova
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        synchronized (reconstrucao) {
+            synchronized (this) {
+                alteracoesDuranteReconstrucao = new ArrayList<>();
+            }
+            try {
+                RodaTemporizacao<ChaveSla> novaRoda =
+                        new RodaTemporizacao<>(properties.getTick().toMillis(), BALDES_POR_NIVEL, clock.millis());
+                Map<ChaveSla, LocalDateTime> novosPendentes = new HashMap<>();
+
+                for (ChamadoRepository.PrazosSla prazos : chamadoRepository.findPrazosSlaAbertos()) {
+                    // Chamados sem prazo gravado (anteriores ao SLA ou importados) usam a regra atual
+                    if (prazos.getDataPrimeiraResposta() == null && !prazos.getSlaRespostaViolado()) {
+                        LocalDateTime prazo = prazos.getPrazoPrimeiraResposta() != null ? prazos.getPrazoPrimeiraResposta()
+                                : prazos.getDataAbertura().plus(prazo(TipoSla.PRIMEIRA_RESPOSTA,
+                                        prazos.getCategoriaNome(), prazos.getPrioridade()));
+                        agendar(novaRoda, novosPendentes, new ChaveSla(prazos.getId(), TipoSla.PRIMEIRA_RESPOSTA), prazo);
+                    }
+                    if (!prazos.getSlaResolucaoViolado()) {
+                        LocalDateTime prazo = prazos.getPrazoResolucao() != null ? prazos.getPrazoResolucao()
+                                : prazos.getDataAbertura().plus(prazo(TipoSla.RESOLUCAO,
+                                        prazos.getCategoriaNome(), prazos.getPrioridade()));
+                        agendar(novaRoda, novosPendentes, new ChaveSla(prazos.getId(), TipoSla.RESOLUCAO), prazo);
+                    }
+                }
+
+                synchronized (this) {
+                    for (Operacao operacao : alteracoesDuranteReconstrucao) {
+                        executar(novaRoda, novosPendentes, operacao);
+                    }
+                    roda = novaRoda;
+                    pendentes = novosPendentes;
+                }
+                log.info("Roda de SLA montada com {} prazos pendentes", novosPendentes.size());
+            } finally {
+                synchronized (this) {
+                    alteracoesDuranteReconstrucao = null;
+                }
+            }
+        }
+    }
+
+    @EventListener
+    public void aoImportar(ChamadosImportadosEvento evento) {
+        reconstruir();
+    }
+
+    // 3. Acompanha o ciclo de vida do chamado
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarChamado(ChamadoEvento evento) {
+        aplicar(operacoes(evento));
+    }
+
+    // Filhos de incidente que mudaram junto com o pai: os mesmos casos do aoAlterarChamado, com uma
+    // consulta só para os prazos dos reabertos
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoPropagarStatus(StatusPropagadoEvento evento) {
+        List<Operacao> operacoes = new ArrayList<>();
+        List<Long> reabertos = new ArrayList<>();
+        for (ChamadoEvento filho : evento.eventos()) {
+            if (filho.estaAberto() && !filho.estavaAberto()) {
+                reabertos.add(filho.getChamadoId());
+            } else {
+                operacoes.addAll(operacoes(filho));
+            }
+        }
+        if (!reabertos.isEmpty()) {
+            for (ChamadoRepository.PrazosSla prazos : chamadoRepository.findPrazosSlaByIdIn(reabertos)) {
+                if (!prazos.getSlaResolucaoViolado() && prazos.getPrazoResolucao() != null) {
+                    operacoes.add(new Operacao(new ChaveSla(prazos.getId(), TipoSla.RESOLUCAO), prazos.getPrazoResolucao()));
+                }
+            }
+        }
+        aplicar(operacoes);
+    }
+
+    // O que o evento muda nos prazos pendentes (fora do lock: o chamado reaberto é lido do banco)
+    private List<Operacao> operacoes(ChamadoEvento evento) {
+        Long id = evento.getChamadoId();
+
+        // Chamado novo: agenda os dois prazos
+        if (evento.getTipo() == ChamadoEvento.Tipo.CRIADO && evento.getChamado() != null) {
+            Chamado chamado = evento.getChamado();
+            if (evento.estaAberto() && chamado.getPrazoResolucao() != null) {
+                return List.of(new Operacao(new ChaveSla(id, TipoSla.PRIMEIRA_RESPOSTA), chamado.getPrazoPrimeiraResposta()),
+                        new Operacao(new ChaveSla(id, TipoSla.RESOLUCAO), chamado.getPrazoResolucao()));
+            }
+            return List.of();
+        }
+
+        // Fechado ou removido: nada mais a cumprir
+        if (!evento.estaAberto()) {
+            return List.of(new Operacao(new ChaveSla(id, TipoSla.PRIMEIRA_RESPOSTA), null),
+                    new Operacao(new ChaveSla(id, TipoSla.RESOLUCAO), null));
+        }
+
+        // Reaberto: volta a contar a resolução (com o prazo original, se ainda não foi violado)
+        if (!evento.estavaAberto()) {
+            return chamadoRepository.findById(id)
+                    .filter(chamado -> !chamado.isSlaResolucaoViolado() && chamado.getPrazoResolucao() != null)
+                    .map(chamado -> List.of(new Operacao(new ChaveSla(id, TipoSla.RESOLUCAO), chamado.getPrazoResolucao())))
+                    .orElse(List.of());
+        }
+
+        // Técnico agiu no chamado: a primeira resposta foi cumprida
+        if (evento.getTipo() == ChamadoEvento.Tipo.ASSUMIDO || evento.getTipo() == ChamadoEvento.Tipo.STATUS_ALTERADO) {
+            return List.of(new Operacao(new ChaveSla(id, TipoSla.PRIMEIRA_RESPOSTA), null));
+        }
+        return List.of();
+    }
+
+    // Aplica na roda atual e, se uma reconstrução estiver em andamento, guarda para a roda nova
+    private synchronized void aplicar(List<Operacao> operacoes) {
+        for (Operacao operacao : operacoes) {
+            executar(roda, pendentes, operacao);
+        }
+        if (alteracoesDuranteReconstrucao != null) {
+            alteracoesDuranteReconstrucao.addAll(operacoes);
+        }
+    }
+
+    // Grava a data da primeira resposta na mesma transação de quem publicou o evento.
+    // (Depois do commit seria preciso uma transação nova, com uma segunda conexão por requisição.)
+    // Altera o chamado já carregado na transação em vez de um UPDATE à parte: sai no mesmo UPDATE,
+    // com um só incremento da versão, e a resposta de quem publicou já traz a data e a ETag certas.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void registrarPrimeiraResposta(ChamadoEvento evento) {
+        if (!evento.estaAberto()) {
+            return;
+        }
+        boolean pendente;
+        synchronized (this) {
+            pendente = pendentes.containsKey(new ChaveSla(evento.getChamadoId(), TipoSla.PRIMEIRA_RESPOSTA));
+        }
+        if (evento.getTipo() == ChamadoEvento.Tipo.ASSUMIDO
+                || (evento.getTipo() == ChamadoEvento.Tipo.STATUS_ALTERADO && pendente)) {
+            LocalDateTime agora = LocalDateTime.now(clock);
+            transactionTemplate.executeWithoutResult(status -> chamadoRepository.findById(evento.getChamadoId())
+                    .filter(chamado -> chamado.getDataPrimeiraResposta() == null)
+                    .ifPresent(chamado -> chamado.setDataPrimeiraResposta(agora)));
+        }
+    }
+
+    // Filhos de incidente: um UPDATE para todos os que ainda esperavam a primeira resposta
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void registrarPrimeirasRespostas(StatusPropagadoEvento evento) {
+        if (!evento.estaAberto()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        synchronized (this) {
+            for (Long id : evento.getChamadoIds()) {
+                if (pendentes.containsKey(new ChaveSla(id, TipoSla.PRIMEIRA_RESPOSTA))) {
+                    ids.add(id);
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            LocalDateTime agora = LocalDateTime.now(clock);
+            transactionTemplate.executeWithoutResult(status -> chamadoRepository.registrarPrimeiraRespostaEmLote(ids, agora));
+        }
+    }
+
+    // 4. Avança a roda e trata os prazos vencidos
+    @Scheduled(fixedDelayString = "#{@slaProperties.tick.toMillis()}")
+    public void verificarPrazos() {
+        List<ChaveSla> vencidos;
+        Map<ChaveSla, LocalDateTime> prazos = new HashMap<>();
+        synchronized (this) {
+            vencidos = roda.avancar(clock.millis());
+            for (ChaveSla chave : vencidos) {
+                LocalDateTime prazo = pendentes.remove(chave);
+                if (prazo != null) {
+                    prazos.put(chave, prazo);
+                    if (alteracoesDuranteReconstrucao != null) {
+                        // A roda nova não pode reagendar um prazo já tratado aqui
+                        alteracoesDuranteReconstrucao.add(new Operacao(chave, null));
+                    }
+                }
+            }
+        }
+
+        for (ChaveSla chave : vencidos) {
+            LocalDateTime prazo = prazos.get(chave);
+            if (prazo == null) {
+                continue;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                if (chave.tipo == TipoSla.PRIMEIRA_RESPOSTA) {
+                    chamadoRepository.marcarSlaRespostaViolado(chave.chamadoId);
+                } else {
+                    chamadoRepository.marcarSlaResolucaoViolado(chave.chamadoId);
+                }
+            });
+            log.warn("SLA de {} do chamado {} violado (prazo {})", chave.tipo, chave.chamadoId, prazo);
+            eventPublisher.publishEvent(new SlaViolacaoEvento(chave.chamadoId, chave.tipo, prazo));
+        }
+    }
+
+    // 5. Prazos pendentes que vencem dentro da janela, do mais urgente para o menos urgente
+    public List<SlaRiscoDTO> chamadosEmRisco(Duration janela) {
+        LocalDateTime agora = LocalDateTime.now(clock);
+        LocalDateTime limite = agora.plus(janela != null ? janela : properties.getJanelaRisco());
+
+        List<SlaRiscoDTO> emRisco = new ArrayList<>();
+        synchronized (this) {
+            pendentes.forEach((chave, prazo) -> {
+                if (!prazo.isAfter(limite)) {
+                    emRisco.add(new SlaRiscoDTO(chave.chamadoId, chave.tipo, prazo,
+                            Duration.between(agora, prazo).toMinutes()));
+                }
+            });
+        }
+        emRisco.sort(Comparator.comparing(SlaRiscoDTO::getPrazo));
+        return emRisco;
+    }
+
+    // Prazo configurado para o tipo de SLA: o da categoria e o da prioridade sobrepõem o padrão
+    // e, havendo os dois, vale o mais curto (ex: Rede=8h e CRITICA=2h -> 2h; Rede=8h e BAIXA=48h -> 8h)
+    private Duration prazo(TipoSla tipo, String categoria, Prioridade prioridade) {
+        Map<String, Duration> porCategoria = tipo == TipoSla.PRIMEIRA_RESPOSTA
+                ? properties.getPrimeiraRespostaPorCategoria()
+                : properties.getResolucaoPorCategoria();
+        Map<Prioridade, Duration> porPrioridade = tipo == TipoSla.PRIMEIRA_RESPOSTA
+                ? properties.getPrimeiraRespostaPorPrioridade()
+                : properties.getResolucaoPorPrioridade();
+
+        Duration daCategoria = null;
+        if (categoria != null) {
+            for (Map.Entry<String, Duration> entrada : porCategoria.entrySet()) {
+                if (entrada.getKey().equalsIgnoreCase(categoria)) {
+                    daCategoria = entrada.getValue();
+                    break;
+                }
+            }
+        }
+        Duration daPrioridade = prioridade != null ? porPrioridade.get(prioridade) : null;
+
+        if (daCategoria == null && daPrioridade == null) {
+            return tipo == TipoSla.PRIMEIRA_RESPOSTA ? properties.getPrimeiraResposta() : properties.getResolucao();
+        }
+        if (daCategoria == null || daPrioridade == null) {
+            return daCategoria != null ? daCategoria : daPrioridade;
+        }
+        return daCategoria.compareTo(daPrioridade) <= 0 ? daCategoria : daPrioridade;
+    }
+
+    // O corpo do POST /chamados normalmente traz só o id da categoria
+    private String nomeDaCategoria(Chamado chamado) {
+        if (chamado.getCategoria() == null) {
+            return null;
+        }
+        if (chamado.getCategoria().getNome() != null || chamado.getCategoria().getId() == null) {
+            return chamado.getCategoria().getNome();
+        }
+        if (properties.getPrimeiraRespostaPorCategoria().isEmpty() && properties.getResolucaoPorCategoria().isEmpty()) {
+            return null; // Sem prazos por categoria, o nome não importa
+        }
+        return categoriaRepository.findById(chamado.getCategoria().getId()).map(c -> c.getNome()).orElse(null);
+    }
+
+    private void agendar(RodaTemporizacao<ChaveSla> roda, Map<ChaveSla, LocalDateTime> pendentes,
+                         ChaveSla chave, LocalDateTime prazo) {
+        roda.agendar(chave, prazo.atZone(clock.getZone()).toInstant().toEpochMilli());
+        pendentes.put(chave, prazo);
+    }
+
+    private void executar(RodaTemporizacao<ChaveSla> roda, Map<ChaveSla, LocalDateTime> pendentes, Operacao operacao) {
+        if (operacao.prazo != null) {
+            agendar(roda, pendentes, operacao.chave, operacao.prazo);
+        } else {
+            pendentes.remove(operacao.chave);
+            roda.cancelar(operacao.chave);
+        }
+    }
+}
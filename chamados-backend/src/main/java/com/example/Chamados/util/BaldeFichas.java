@@ -0,0 +1,53 @@
+// src/main/java/com/example/Chamados/util/BaldeFichas.java
+package com.example.Chamados.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Balde de fichas (token bucket) sem trava: "capacidade" fichas, repostas uma a cada periodo / capacidade.
+// Em vez de guardar fichas + instante da última reposição, o estado é um único long:
+// o instante em que o balde volta a ficar cheio. Consumir uma ficha empurra esse instante
+// um intervalo para frente; se ele passar de "agora + capacidade * intervalo", não há ficha.
+// Assim cada consumo é um compareAndSet, sem synchronized.
+//
+// O tempo é sempre informado por quem chama (em nanossegundos, ex: System.nanoTime()).
+public class BaldeFichas {
+
+    private final long intervalo; // Nanossegundos para repor uma ficha
+    private final long rajada;    // Tempo para encher o balde vazio (capacidade * intervalo)
+    private final AtomicLong cheioEm;
+
+    public BaldeFichas(int capacidade, Duration periodo, long agora) {
+        if (capacidade < 1 || periodo.isNegative() || periodo.isZero()) {
+            throw new IllegalArgumentException("Capacidade e período do balde devem ser positivos");
+        }
+        this.intervalo = Math.max(1, periodo.toNanos() / capacidade);
+        this.rajada = intervalo * capacidade;
+        this.cheioEm = new AtomicLong(agora);
+    }
+
+    // Consome uma ficha. Retorna 0 se conseguiu; senão, quantos nanossegundos faltam para a próxima ficha
+    public long consumir(long agora) {
+        while (true) {
+            long atual = cheioEm.get();
+            long novo = Math.max(atual, agora) + intervalo;
+            long espera = novo - agora - rajada;
+            if (espera > 0) {
+                return espera;
+            }
+            if (cheioEm.compareAndSet(atual, novo)) {
+                return 0;
+            }
+        }
+    }
+
+    // Fichas disponíveis em "agora"
+    public long restantes(long agora) {
+        return (rajada - Math.max(0, cheioEm.get() - agora)) / intervalo;
+    }
+
+    // Balde cheio não guarda estado nenhum: pode ser descartado e recriado depois
+    public boolean cheio(long agora) {
+        return cheioEm.get() <= agora;
+    }
+}
@@ -0,0 +1,120 @@
+// src/main/java/com/example/Chamados/util/Csv.java
+package com.example.Chamados.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+// Utilitário mínimo de CSV (RFC 4180): separador ",", aspas duplas e "\r\n" no fim da linha
+public final class Csv {
+
+    private Csv() {
+    }
+
+    // Escreve uma linha com os valores informados (null vira campo vazio)
+    public static void escreverLinha(Writer writer, Object... valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (valores[i] != null) {
+                writer.write(escapar(valores[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // Coloca o campo entre aspas quando ele contém separador, aspas ou quebra de linha
+    public static String escapar(String valor) {
+        boolean precisaAspas = false;
+        for (int i = 0; i < valor.length() && !precisaAspas; i++) {
+            char c = valor.charAt(i);
+            precisaAspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!precisaAspas) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    // Lê um CSV registro a registro, sem carregar o arquivo inteiro.
+    // Campos entre aspas podem conter separador, aspas duplicadas e quebras de linha.
+    public static class Leitor {
+        private final Reader reader;
+        private int proximo = -2; // -2 = ainda não lido
+        private long linhaAtual = 1;
+        private long linhaDoRegistro;
+
+        public Leitor(Reader reader) {
+            this.reader = reader;
+        }
+
+        // Linha física em que começou o último registro lido (útil para mensagens de erro)
+        public long getLinhaDoRegistro() {
+            return linhaDoRegistro;
+        }
+
+        // Retorna os campos do próximo registro ou null no fim do arquivo
+        public List<String> proximoRegistro() throws IOException {
+            int c = ler();
+            if (c == -1) {
+                return null;
+            }
+            linhaDoRegistro = linhaAtual;
+
+            List<String> campos = new ArrayList<>();
+            StringBuilder campo = new StringBuilder();
+            boolean entreAspas = false;
+
+            while (true) {
+                if (entreAspas) {
+                    if (c == -1) {
+                        throw new IOException("Aspas não fechadas no registro da linha " + linhaDoRegistro);
+                    }
+                    if (c == '"') {
+                        if (espiar() == '"') {
+                            ler();
+                            campo.append('"');
+                        } else {
+                            entreAspas = false;
+                        }
+                    } else {
+                        campo.append((char) c);
+                    }
+                } else if (c == '"' && campo.length() == 0) {
+                    entreAspas = true;
+                } else if (c == ',') {
+                    campos.add(campo.toString());
+                    campo.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r' && espiar() == '\n') {
+                        ler();
+                    }
+                    campos.add(campo.toString());
+                    return campos;
+                } else {
+                    campo.append((char) c);
+                }
+                c = ler();
+            }
+        }
+
+        private int ler() throws IOException {
+            int c = proximo != -2 ? proximo : reader.read();
+            proximo = -2;
+            if (c == '\n') {
+                linhaAtual++;
+            }
+            return c;
+        }
+
+        private int espiar() throws IOException {
+            if (proximo == -2) {
+                proximo = reader.read();
+            }
+            return proximo;
+        }
+    }
+}
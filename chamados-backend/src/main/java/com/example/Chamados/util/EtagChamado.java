@@ -0,0 +1,100 @@
+// src/main/java/com/example/Chamados/util/EtagChamado.java
+package com.example.Chamados.util;
+
+import com.example.Chamados.config.JsonConfig;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+// ETag de um chamado (forte) e leitura dos cabeçalhos condicionais que a usam.
+// Cada representação tem a sua: "id-versao" no JSON padrão, "id-versao-compacto" e "id-versao-smile"
+// nos formatos do JsonConfig (uma ETag forte não pode ser a mesma para corpos diferentes).
+// If-None-Match compara com qualquer ETag da lista (comparação fraca, RFC 9110);
+// If-Match só aceita ETag forte deste mesmo chamado, de qualquer representação: a versão é a mesma.
+public final class EtagChamado {
+
+    public static final String JSON = "";
+    public static final String COMPACTO = "compacto";
+    public static final String SMILE = "smile";
+
+    // Versão que nunca confere (If-Match com ETag de outro chamado, fraca ou malformada)
+    public static final long NENHUMA = -1;
+
+    private EtagChamado() {
+    }
+
+    public static String de(Long id, long versao) {
+        return de(id, versao, JSON);
+    }
+
+    public static String de(Long id, long versao, String representacao) {
+        return "\"" + id + "-" + versao + (representacao.isEmpty() ? "" : "-" + representacao) + "\"";
+    }
+
+    // Representação que o Accept escolhe, na ordem da negociação do Spring: o tipo aceito de maior
+    // preferência decide; curingas (*/*, application/*) ficam com o JSON padrão. Sem Accept, JSON
+    public static String representacao(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> aceitos;
+        try {
+            aceitos = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(aceitos);
+        for (MediaType aceito : aceitos) {
+            if (aceito.equalsTypeAndSubtype(JsonConfig.JSON_COMPACTO)) {
+                return COMPACTO;
+            }
+            if (aceito.equalsTypeAndSubtype(JsonConfig.SMILE)) {
+                return SMILE;
+            }
+            if (aceito.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return JSON;
+            }
+        }
+        return JSON;
+    }
+
+    // O cabeçalho If-None-Match inclui a ETag? ("*" inclui qualquer uma)
+    public static boolean contem(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String valor : ifNoneMatch.split(",")) {
+            valor = valor.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals("*") || valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Versão exigida pelo If-Match: null sem cabeçalho ou com "*"; NENHUMA se não há ETag forte deste chamado
+    public static Long versaoEsperada(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefixo = "\"" + id + "-";
+        for (String valor : ifMatch.split(",")) {
+            valor = valor.trim();
+            if (valor.startsWith(prefixo) && valor.endsWith("\"") && valor.length() > prefixo.length() + 1) {
+                String versao = valor.substring(prefixo.length(), valor.length() - 1);
+                int representacao = versao.indexOf('-');
+                try {
+                    return Long.parseLong(representacao < 0 ? versao : versao.substring(0, representacao));
+                } catch (NumberFormatException e) {
+                    // Segue para o próximo valor
+                }
+            }
+        }
+        return NENHUMA;
+    }
+}
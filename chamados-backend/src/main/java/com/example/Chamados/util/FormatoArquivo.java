@@ -0,0 +1,19 @@
+// src/main/java/com/example/Chamados/util/FormatoArquivo.java
+package com.example.Chamados.util;
+
+// Formatos de arquivo aceitos na exportação e na importação de chamados
+public enum FormatoArquivo {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoArquivo(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() { return contentType; }
+    public String getExtensao() { return extensao; }
+}
@@ -0,0 +1,176 @@
+// src/main/java/com/example/Chamados/util/IndiceMinHash.java
+package com.example.Chamados.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Índice de textos parecidos por MinHash + LSH (locality-sensitive hashing).
+// - O texto vira o conjunto dos seus trigramas de caracteres (sem acento, minúsculo, pontuação vira espaço),
+//   o que aguenta bem textos curtos como "internet caiu" / "caiu a internet".
+// - A assinatura guarda, para cada uma de faixas * linhas funções de hash, o menor hash entre os trigramas:
+//   a fração de posições iguais entre duas assinaturas estima a similaridade de Jaccard dos dois conjuntos.
+// - LSH: a assinatura é cortada em "faixas" de "linhas" valores; cada faixa é a chave de um balde.
+//   Os candidatos de uma busca são só os ids que dividem algum balde com ela (sem varrer o índice),
+//   e a similaridade estimada de cada candidato decide o que é devolvido.
+//
+// Buscas podem rodar em paralelo com as alterações; as alterações devem ser feitas por uma thread por vez.
+public class IndiceMinHash {
+
+    // Id parecido com o texto buscado e a similaridade estimada (0 a 1)
+    public record Semelhante(long id, double similaridade) {}
+
+    private static final int TAMANHO_TRIGRAMA = 3;
+
+    private final int faixas;
+    private final int linhas;
+    private final long[] sementes; // Uma por função de hash
+
+    private final Map<Long, int[]> assinaturas = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> baldes = new ConcurrentHashMap<>();
+
+    public IndiceMinHash(int faixas, int linhas) {
+        if (faixas < 1 || linhas < 1) {
+            throw new IllegalArgumentException("Faixas e linhas do índice devem ser positivas");
+        }
+        this.faixas = faixas;
+        this.linhas = linhas;
+        this.sementes = new long[faixas * linhas];
+        long semente = 0x5DEECE66DL;
+        for (int i = 0; i < sementes.length; i++) {
+            semente = misturar(semente + i);
+            sementes[i] = semente;
+        }
+    }
+
+    // Assinatura MinHash do texto (null se não sobra nenhuma letra ou dígito)
+    public int[] assinatura(String texto) {
+        String normal = normalizar(texto);
+        if (normal.isBlank()) {
+            return null;
+        }
+        int[] assinatura = new int[sementes.length];
+        Arrays.fill(assinatura, Integer.MAX_VALUE);
+        for (int inicio = 0; inicio + TAMANHO_TRIGRAMA <= normal.length(); inicio++) {
+            // Três chars de 16 bits cabem num long: o trigrama vira um número sem colisão
+            long trigrama = ((long) normal.charAt(inicio) << 32) | ((long) normal.charAt(inicio + 1) << 16)
+                    | normal.charAt(inicio + 2);
+            for (int i = 0; i < sementes.length; i++) {
+                int hash = (int) (misturar(trigrama ^ sementes[i]) >>> 33);
+                if (hash < assinatura[i]) {
+                    assinatura[i] = hash;
+                }
+            }
+        }
+        return assinatura;
+    }
+
+    // Inclui (ou substitui) o id no índice
+    public void colocar(long id, int[] assinatura) {
+        remover(id);
+        assinaturas.put(id, assinatura);
+        for (int faixa = 0; faixa < faixas; faixa++) {
+            baldes.computeIfAbsent(chaveBalde(assinatura, faixa), k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public void remover(long id) {
+        int[] assinatura = assinaturas.remove(id);
+        if (assinatura == null) {
+            return;
+        }
+        for (int faixa = 0; faixa < faixas; faixa++) {
+            baldes.computeIfPresent(chaveBalde(assinatura, faixa), (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public void limpar() {
+        assinaturas.clear();
+        baldes.clear();
+    }
+
+    public boolean contem(long id) {
+        return assinaturas.containsKey(id);
+    }
+
+    public int tamanho() {
+        return assinaturas.size();
+    }
+
+    // Até "maximo" ids com similaridade estimada >= "minima", do mais parecido ao menos parecido.
+    // "ignorar" fica de fora (o próprio chamado, ao buscar os parecidos com um chamado do índice)
+    public List<Semelhante> semelhantes(int[] assinatura, double minima, int maximo, Long ignorar) {
+        Set<Long> candidatos = new HashSet<>();
+        for (int faixa = 0; faixa < faixas; faixa++) {
+            Set<Long> ids = baldes.get(chaveBalde(assinatura, faixa));
+            if (ids != null) {
+                candidatos.addAll(ids);
+            }
+        }
+        if (ignorar != null) {
+            candidatos.remove(ignorar);
+        }
+
+        List<Semelhante> semelhantes = new ArrayList<>();
+        for (Long candidato : candidatos) {
+            int[] outra = assinaturas.get(candidato);
+            if (outra == null) {
+                continue; // Removido durante a busca
+            }
+            double similaridade = similaridade(assinatura, outra);
+            if (similaridade >= minima) {
+                semelhantes.add(new Semelhante(candidato, similaridade));
+            }
+        }
+        semelhantes.sort(Comparator.comparingDouble(Semelhante::similaridade).reversed()
+                .thenComparingLong(Semelhante::id));
+        return semelhantes.size() > maximo ? List.copyOf(semelhantes.subList(0, maximo)) : semelhantes;
+    }
+
+    // Fração de posições iguais: estimativa da similaridade de Jaccard entre os trigramas dos dois textos
+    public static double similaridade(int[] a, int[] b) {
+        int iguais = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                iguais++;
+            }
+        }
+        return (double) iguais / a.length;
+    }
+
+    private long chaveBalde(int[] assinatura, int faixa) {
+        long chave = faixa;
+        for (int i = faixa * linhas; i < (faixa + 1) * linhas; i++) {
+            chave = chave * 0x100000001B3L ^ assinatura[i];
+        }
+        return misturar(chave);
+    }
+
+    // Sem acentos, minúsculo, só letras/dígitos separados por um espaço, com espaço nas pontas
+    // (assim o começo e o fim das palavras também viram trigramas)
+    static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcento = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+        String palavras = semAcento.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", " ").trim();
+        return palavras.isEmpty() ? "" : " " + palavras + " ";
+    }
+
+    // Finalizador do SplitMix64: espalha bem os bits de entradas parecidas
+    private static long misturar(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
@@ -0,0 +1,89 @@
+// src/main/java/com/example/Chamados/util/ParticoesMySql.java
+package com.example.Chamados.util;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+// Gera o DDL do particionamento mensal da tabela "chamado" no MySQL:
+// RANGE COLUMNS(data_abertura), uma partição por mês (p202601, p202602, ...) e uma última
+// partição "p_futuro" (MAXVALUE) que recebe o que ainda não tem mês próprio.
+// Só monta strings: quem executa e decide quais meses criar é o ParticionamentoService.
+public final class ParticoesMySql {
+
+    public static final String TABELA = "chamado";
+    public static final String PARTICAO_FUTURO = "p_futuro";
+
+    private static final DateTimeFormatter NOME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private ParticoesMySql() {
+    }
+
+    // Nome da partição de um mês (ex: p202610)
+    public static String nomeParticao(YearMonth mes) {
+        return mes.format(NOME);
+    }
+
+    // Mês de uma partição mensal; null para p_futuro ou nomes fora do padrão
+    public static YearMonth mesDaParticao(String nome) {
+        if (nome == null || !nome.matches("p\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(nome, NOME);
+    }
+
+    // Particiona a tabela com um mês por partição, de "primeiro" até "ultimo" (inclusive)
+    public static String particionar(YearMonth primeiro, YearMonth ultimo) {
+        return "ALTER TABLE " + TABELA + " PARTITION BY RANGE COLUMNS(data_abertura) "
+                + definicoes(meses(primeiro, ultimo));
+    }
+
+    // Separa de p_futuro as partições dos meses informados (devem vir depois da última partição mensal).
+    // Com p_futuro vazia a reorganização é só de metadados.
+    public static String criarParticoes(List<YearMonth> meses) {
+        if (meses.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum mês informado");
+        }
+        return "ALTER TABLE " + TABELA + " REORGANIZE PARTITION " + PARTICAO_FUTURO + " INTO " + definicoes(meses);
+    }
+
+    // Uma linha de p_futuro, se houver: com linhas lá, o REORGANIZE deixa de ser só de metadados e reescreve a partição
+    public static String linhaNoFuturo() {
+        return "SELECT 1 FROM " + TABELA + " PARTITION (" + PARTICAO_FUTURO + ") LIMIT 1";
+    }
+
+    // Meses que ainda faltam para ter partição até "ate", a partir da última partição mensal existente.
+    // Sem nenhuma partição mensal, começa em "atual".
+    public static List<YearMonth> mesesFaltando(Collection<String> existentes, YearMonth atual, YearMonth ate) {
+        YearMonth ultimo = null;
+        for (String nome : existentes) {
+            YearMonth mes = mesDaParticao(nome);
+            if (mes != null && (ultimo == null || mes.isAfter(ultimo))) {
+                ultimo = mes;
+            }
+        }
+        return meses(ultimo != null ? ultimo.plusMonths(1) : atual, ate);
+    }
+
+    // Meses de "primeiro" até "ultimo" (inclusive); vazio se "primeiro" vier depois
+    public static List<YearMonth> meses(YearMonth primeiro, YearMonth ultimo) {
+        List<YearMonth> meses = new ArrayList<>();
+        for (YearMonth mes = primeiro; !mes.isAfter(ultimo); mes = mes.plusMonths(1)) {
+            meses.add(mes);
+        }
+        return meses;
+    }
+
+    // "(PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'), ..., PARTITION p_futuro VALUES LESS THAN (MAXVALUE))"
+    private static String definicoes(List<YearMonth> meses) {
+        StringJoiner partes = new StringJoiner(", ", "(", ")");
+        for (YearMonth mes : meses) {
+            partes.add("PARTITION " + nomeParticao(mes) + " VALUES LESS THAN ('" + mes.plusMonths(1).atDay(1) + " 00:00:00')");
+        }
+        partes.add("PARTITION " + PARTICAO_FUTURO + " VALUES LESS THAN (MAXVALUE)");
+        return partes.toString();
+    }
+}
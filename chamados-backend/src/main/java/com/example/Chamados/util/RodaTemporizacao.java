@@ -0,0 +1,162 @@
+// src/main/java/com/example/Chamados/util/RodaTemporizacao.java
+package com.example.Chamados.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Roda de temporização hierárquica (hierarchical timing wheel).
+// Cada nível tem "tamanho" baldes; o nível 0 anda de "tick" em "tick" e cada nível acima
+// cobre o intervalo inteiro do nível de baixo em um único balde. Agendar e cancelar custam O(1)
+// e avançar o relógio só mexe nos baldes que vencem, sem varrer todos os prazos.
+// Níveis novos são criados sob demanda para prazos distantes.
+//
+// O tempo é sempre informado por quem chama (em milissegundos), então a roda não depende do relógio do sistema.
+public class RodaTemporizacao<K> {
+
+    private static final class Entrada<K> {
+        private final K chave;
+        private final long expiracao;
+        private Set<Entrada<K>> balde;
+
+        private Entrada(K chave, long expiracao) {
+            this.chave = chave;
+            this.expiracao = expiracao;
+        }
+    }
+
+    private static final class Nivel<K> {
+        private final long tick;
+        private final long intervalo;
+        private final List<Set<Entrada<K>>> baldes;
+        private long atual; // Início do tick corrente (sempre múltiplo de "tick")
+
+        private Nivel(long tick, int tamanho, long inicio) {
+            this.tick = tick;
+            this.intervalo = tick * tamanho;
+            this.atual = inicio - (inicio % tick);
+            this.baldes = new ArrayList<>(tamanho);
+            for (int i = 0; i < tamanho; i++) {
+                baldes.add(new LinkedHashSet<>());
+            }
+        }
+
+        private Set<Entrada<K>> balde(long instante) {
+            return baldes.get((int) ((instante / tick) % baldes.size()));
+        }
+    }
+
+    private final int tamanho;
+    private final List<Nivel<K>> niveis = new ArrayList<>();
+    private final Map<K, Entrada<K>> entradas = new HashMap<>();
+    private final List<K> vencidosAoAgendar = new ArrayList<>();
+
+    public RodaTemporizacao(long tickMs, int tamanho, long inicioMs) {
+        if (tickMs <= 0 || tamanho < 2) {
+            throw new IllegalArgumentException("tick deve ser positivo e tamanho >= 2");
+        }
+        this.tamanho = tamanho;
+        niveis.add(new Nivel<>(tickMs, tamanho, inicioMs));
+    }
+
+    // Agenda (ou reagenda) a chave para vencer em "expiracaoMs".
+    // O prazo é arredondado para cima até o próximo tick: a chave nunca vence antes da hora,
+    // no máximo um tick depois. Prazos que já passaram são devolvidos no próximo avancar().
+    public synchronized void agendar(K chave, long expiracaoMs) {
+        cancelar(chave);
+        long tick = niveis.get(0).tick;
+        long resto = Math.floorMod(expiracaoMs, tick);
+        Entrada<K> entrada = new Entrada<>(chave, resto == 0 ? expiracaoMs : expiracaoMs - resto + tick);
+        entradas.put(chave, entrada);
+        if (!inserir(entrada)) {
+            entradas.remove(chave);
+            vencidosAoAgendar.add(chave);
+        }
+    }
+
+    // Remove a chave da roda; retorna false se ela não estava agendada
+    public synchronized boolean cancelar(K chave) {
+        vencidosAoAgendar.remove(chave);
+        Entrada<K> entrada = entradas.remove(chave);
+        if (entrada == null) {
+            return false;
+        }
+        entrada.balde.remove(entrada);
+        return true;
+    }
+
+    // Avança o relógio até "agoraMs" e devolve as chaves vencidas, em ordem de vencimento por tick
+    public synchronized List<K> avancar(long agoraMs) {
+        List<K> vencidos = new ArrayList<>(vencidosAoAgendar);
+        vencidosAoAgendar.clear();
+
+        Nivel<K> base = niveis.get(0);
+        while (base.atual + base.tick <= agoraMs) {
+            // Roda vazia: não há o que percorrer, só alinha os níveis com o relógio
+            if (entradas.isEmpty()) {
+                for (Nivel<K> nivel : niveis) {
+                    nivel.atual = agoraMs - (agoraMs % nivel.tick);
+                }
+                break;
+            }
+
+            long novo = base.atual + base.tick;
+
+            // 1. Atualiza o "atual" de todos os níveis cujo tick virou neste instante
+            List<Set<Entrada<K>>> paraDrenar = new ArrayList<>();
+            for (int i = niveis.size() - 1; i >= 0; i--) {
+                Nivel<K> nivel = niveis.get(i);
+                if (novo % nivel.tick == 0 || i == 0) {
+                    nivel.atual = novo - (novo % nivel.tick);
+                    paraDrenar.add(nivel.balde(novo));
+                }
+            }
+
+            // 2. Redistribui o conteúdo dos baldes que viraram: o que venceu sai,
+            //    o resto desce para um nível mais fino
+            for (Set<Entrada<K>> balde : paraDrenar) {
+                List<Entrada<K>> conteudo = new ArrayList<>(balde);
+                balde.clear();
+                for (Entrada<K> entrada : conteudo) {
+                    if (!inserir(entrada)) {
+                        entradas.remove(entrada.chave);
+                        vencidos.add(entrada.chave);
+                    }
+                }
+            }
+        }
+        return vencidos;
+    }
+
+    public synchronized int tamanho() {
+        return entradas.size() + vencidosAoAgendar.size();
+    }
+
+    public synchronized boolean contem(K chave) {
+        return entradas.containsKey(chave) || vencidosAoAgendar.contains(chave);
+    }
+
+    // Coloca a entrada no nível mais fino que cobre o prazo. Retorna false se o prazo já venceu.
+    private boolean inserir(Entrada<K> entrada) {
+        Nivel<K> base = niveis.get(0);
+        if (entrada.expiracao < base.atual + base.tick) {
+            return false;
+        }
+        for (int i = 0; ; i++) {
+            if (i == niveis.size()) {
+                Nivel<K> abaixo = niveis.get(i - 1);
+                niveis.add(new Nivel<>(abaixo.intervalo, tamanho, abaixo.atual));
+            }
+            Nivel<K> nivel = niveis.get(i);
+            if (entrada.expiracao < nivel.atual + nivel.intervalo) {
+                Set<Entrada<K>> balde = nivel.balde(entrada.expiracao);
+                balde.add(entrada);
+                entrada.balde = balde;
+                return true;
+            }
+        }
+    }
+}
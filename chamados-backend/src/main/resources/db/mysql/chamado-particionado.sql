@@ -0,0 +1,45 @@
+-- Tabela chamado no modo particionado (perfil "particionado", só MySQL).
+-- Executado pelo ParticionamentoService quando a tabela ainda não existe; as partições mensais
+-- são acrescentadas logo em seguida (ALTER TABLE ... PARTITION BY RANGE COLUMNS(data_abertura)).
+--
+-- Diferenças para a tabela criada pelo Hibernate:
+--   * a chave primária inclui data_abertura (o MySQL exige a coluna de particionamento em toda chave única);
+--   * não há chaves estrangeiras (o MySQL não aceita FK em tabela particionada), só os índices.
+-- Neste modo o ddl-auto não altera mais esta tabela: coluna nova em Chamado precisa entrar aqui
+-- e, para bancos já existentes, em um ALTER TABLE manual.
+CREATE TABLE chamado (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    titulo VARCHAR(255) NOT NULL,
+    descricao VARCHAR(500) NOT NULL,
+    usuario_id BIGINT NOT NULL,
+    tecnico_id BIGINT,
+    categoria_id BIGINT NOT NULL,
+    setor_id BIGINT,
+    status VARCHAR(255) NOT NULL,
+    prioridade ENUM('BAIXA','MEDIA','ALTA','CRITICA') NOT NULL DEFAULT 'MEDIA',
+    data_abertura DATETIME(6) NOT NULL,
+    data_conclusao DATETIME(6),
+    prazo_primeira_resposta DATETIME(6),
+    prazo_resolucao DATETIME(6),
+    data_primeira_resposta DATETIME(6),
+    sla_resposta_violado BIT NOT NULL DEFAULT 0,
+    sla_resolucao_violado BIT NOT NULL DEFAULT 0,
+    -- Bancos particionados antes desta coluna: ALTER TABLE chamado ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
+    versao BIGINT NOT NULL DEFAULT 0,
+    -- Bancos particionados antes desta coluna:
+    -- ALTER TABLE chamado ADD COLUMN incidente_pai_id BIGINT, ADD INDEX idx_chamado_incidente_pai (incidente_pai_id);
+    incidente_pai_id BIGINT,
+    -- Remoção lógica (o ExpurgoService apaga depois). Bancos particionados antes desta coluna:
+    -- ALTER TABLE chamado ADD COLUMN data_remocao DATETIME(6), ADD INDEX idx_chamado_remocao (data_remocao);
+    data_remocao DATETIME(6),
+    PRIMARY KEY (id, data_abertura),
+    INDEX idx_chamado_usuario (usuario_id),
+    INDEX idx_chamado_tecnico (tecnico_id),
+    INDEX idx_chamado_categoria (categoria_id),
+    INDEX idx_chamado_setor (setor_id),
+    INDEX idx_chamado_status (status),
+    INDEX idx_chamado_incidente_pai (incidente_pai_id),
+    -- O MySQL não tem índice parcial (WHERE data_remocao IS NOT NULL): com quase tudo null, o expurgo
+    -- (data_remocao < ?) percorre só o trecho dos removidos deste índice, o mesmo efeito na prática
+    INDEX idx_chamado_remocao (data_remocao)
+) ENGINE=InnoDB;
@@ -0,0 +1,149 @@
+package com.example.Chamados.config;
+
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Setor;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.service.BancoTeste;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Medição (não roda com os testes: o nome não termina em Test) dos formatos de resposta de GET /chamados
+// com 10 mil chamados: bytes sem e com gzip (o que vai na rede com server.compression ligado) e tempo de
+// serialização, usando os mesmos conversores que o Spring MVC escolhe para cada Accept.
+//
+//   mvn -B test -Dtest=MedicaoFormatosJson -Dspring.profiles.active=h2 [-Dmedicao.chamados=10000 -Dmedicao.rodadas=20]
+class MedicaoFormatosJson extends BancoTeste {
+
+	private static final List<MediaType> FORMATOS = List.of(MediaType.APPLICATION_JSON, JsonConfig.JSON_COMPACTO, JsonConfig.SMILE);
+
+	@Autowired
+	private RequestMappingHandlerAdapter handlerAdapter;
+
+	@Test
+	void medir() throws IOException {
+		int quantidade = Integer.getInteger("medicao.chamados", 10_000);
+		int rodadas = Integer.getInteger("medicao.rodadas", 20);
+		List<Chamado> chamados = chamados(quantidade);
+
+		System.out.printf("%n%d chamados, mediana de %d rodadas (depois de %d de aquecimento)%n", quantidade, rodadas, rodadas);
+		System.out.printf("%-40s %12s %12s %12s%n", "formato", "bytes", "gzip", "ms");
+		for (MediaType formato : FORMATOS) {
+			HttpMessageConverter<Object> conversor = conversor(formato);
+			byte[] corpo = escrever(conversor, chamados, formato);
+			for (int i = 0; i < rodadas; i++) {
+				escrever(conversor, chamados, formato);
+			}
+			double[] tempos = new double[rodadas];
+			for (int i = 0; i < rodadas; i++) {
+				long inicio = System.nanoTime();
+				escrever(conversor, chamados, formato);
+				tempos[i] = (System.nanoTime() - inicio) / 1_000_000.0;
+			}
+			Arrays.sort(tempos);
+			System.out.printf("%-40s %,12d %,12d %12.1f%n", formato, corpo.length, gzip(corpo).length, tempos[rodadas / 2]);
+			assertTrue(corpo.length > quantidade);
+		}
+	}
+
+	// O primeiro conversor que aceita escrever uma lista no tipo pedido, na ordem do Spring MVC
+	@SuppressWarnings("unchecked")
+	private HttpMessageConverter<Object> conversor(MediaType formato) {
+		return (HttpMessageConverter<Object>) handlerAdapter.getMessageConverters().stream()
+				.filter(conversor -> conversor.canWrite(ArrayList.class, formato))
+				.findFirst().orElseThrow();
+	}
+
+	private static byte[] escrever(HttpMessageConverter<Object> conversor, List<Chamado> chamados, MediaType formato)
+			throws IOException {
+		MockHttpOutputMessage mensagem = new MockHttpOutputMessage();
+		conversor.write(chamados, formato, mensagem);
+		return mensagem.getBodyAsBytes();
+	}
+
+	private static byte[] gzip(byte[] corpo) throws IOException {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+			gzip.write(corpo);
+		}
+		return saida.toByteArray();
+	}
+
+	// Lista parecida com a de produção: poucos técnicos, categorias e setores, muitos usuários
+	private static List<Chamado> chamados(int quantidade) {
+		List<Usuario> usuarios = new ArrayList<>();
+		for (long i = 1; i <= 200; i++) {
+			usuarios.add(usuario(i, i <= 10 ? Role.ROLE_TI : Role.ROLE_NORMAL));
+		}
+		List<Categoria> categorias = new ArrayList<>();
+		List<Setor> setores = new ArrayList<>();
+		for (long i = 1; i <= 12; i++) {
+			Categoria categoria = new Categoria();
+			categoria.setId(i);
+			categoria.setNome("Categoria " + i);
+			categorias.add(categoria);
+			Setor setor = new Setor();
+			setor.setId(i);
+			setor.setNome("Setor " + i);
+			setores.add(setor);
+		}
+
+		LocalDateTime base = LocalDateTime.of(2024, 1, 1, 8, 0);
+		Prioridade[] prioridades = Prioridade.values();
+		List<Chamado> chamados = new ArrayList<>(quantidade);
+		for (int i = 0; i < quantidade; i++) {
+			Chamado chamado = new Chamado();
+			chamado.setId((long) i + 1);
+			chamado.setTitulo("Problema " + i + " com o equipamento");
+			chamado.setDescricao("Descrição do chamado " + i + ": o equipamento parou de funcionar depois da atualização de ontem.");
+			chamado.setUsuario(usuarios.get(10 + i % 190));
+			chamado.setCategoria(categorias.get(i % categorias.size()));
+			chamado.setSetor(i % 3 == 0 ? null : setores.get(i % setores.size()));
+			chamado.setPrioridade(prioridades[i % prioridades.length]);
+			LocalDateTime abertura = base.plusMinutes(37L * i);
+			chamado.setDataAbertura(abertura);
+			chamado.setPrazoPrimeiraResposta(abertura.plusHours(4));
+			chamado.setPrazoResolucao(abertura.plusHours(24));
+			if (i % 4 == 0) {
+				chamado.setStatus("ABERTO");
+			} else {
+				chamado.setTecnico(usuarios.get(i % 10));
+				chamado.setDataPrimeiraResposta(abertura.plusMinutes(30));
+				chamado.setStatus(i % 4 == 1 ? "EM_ANDAMENTO" : "FECHADO");
+				if (i % 4 != 1) {
+					chamado.setDataConclusao(abertura.plusHours(6));
+				}
+			}
+			chamados.add(chamado);
+		}
+		return chamados;
+	}
+
+	private static Usuario usuario(long id, Role role) {
+		Usuario usuario = new Usuario();
+		usuario.setId(id);
+		usuario.setNome("Usuário " + id);
+		usuario.setEmail("usuario" + id + "@empresa.com");
+		usuario.setUsername(usuario.getEmail());
+		usuario.setPassword("$2a$10$hashhashhashhashhashhashhashhashhashhashhashhashhash");
+		usuario.setRole(role);
+		usuario.setAtivo(true);
+		return usuario;
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.Chamados.config;
+
+import com.example.Chamados.dto.ChamadoExportDTO;
+import com.example.Chamados.model.AlteracaoEntidadeListener;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NativoConfigTest {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	NativoConfigTest() {
+		new NativoConfig.Dicas().registerHints(hints, getClass().getClassLoader());
+	}
+
+	@Test
+	void jjwtPodeInstanciarAImplementacaoPeloNome() {
+		for (String classe : NativoConfig.Dicas.CLASSES_JJWT) {
+			assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(classe))
+					.withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints), classe);
+		}
+		assertTrue(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Deserializer").test(hints));
+	}
+
+	@Test
+	void entidadesDtosECacheFicamAcessiveis() throws NoSuchMethodException {
+		assertTrue(RuntimeHintsPredicates.reflection().onType(Chamado.class).withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onMethod(Usuario.class.getMethod("getEmail")).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onType(AlteracaoEntidadeListener.class).test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onType(ChamadoExportDTO.class).test(hints));
+		assertTrue(RuntimeHintsPredicates.resource().forResource("application.conf").test(hints));
+		assertTrue(RuntimeHintsPredicates.resource().forResource("db/mysql/chamado-particionado.sql").test(hints));
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.Chamados.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Dois bancos H2 em memória fazem o papel de primário e réplica
+class RoteadorDataSourceTest {
+
+	private final AtomicBoolean forcarPrimario = new AtomicBoolean();
+	private final DataSource dataSource = new LazyConnectionDataSourceProxy(
+			new RoteadorDataSource(h2("primario"), List.of(h2("replica")), forcarPrimario::get));
+	private final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+	private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+	@Test
+	void leituraVaiParaReplicaEEscritaParaPrimario() {
+		assertEquals("REPLICA", banco(true));
+		assertEquals("PRIMARIO", banco(false));
+		// Sem transação (DDL, jobs sem @Transactional): primário
+		assertEquals("PRIMARIO", jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+	}
+
+	@Test
+	void leituraForcadaVaiParaPrimario() {
+		forcarPrimario.set(true);
+		assertEquals("PRIMARIO", banco(true));
+	}
+
+	@Test
+	void janelaDeLeituraDasPropriasEscritas() {
+		Clock clock = Clock.fixed(Instant.ofEpochSecond(1_000), ZoneOffset.UTC);
+		LeituraPropriasEscritas leitura = new LeituraPropriasEscritas(Duration.ofSeconds(5), clock);
+		leitura.registrarEscrita("usuario@comum.com");
+
+		assertTrue(leitura.emJanela("usuario@comum.com", clock.millis() + 4_999));
+		assertFalse(leitura.emJanela("usuario@comum.com", clock.millis() + 5_000));
+		assertFalse(leitura.emJanela("outro@comum.com", clock.millis()));
+	}
+
+	@Test
+	void janelaTrazidaPeloClienteValeEmQualquerInstancia() {
+		Clock clock = Clock.fixed(Instant.ofEpochSecond(1_000), ZoneOffset.UTC);
+		LeituraPropriasEscritas escrita = new LeituraPropriasEscritas(Duration.ofSeconds(5), clock);
+		LeituraPropriasEscritas outraInstancia = new LeituraPropriasEscritas(Duration.ofSeconds(5), clock);
+
+		MockHttpServletRequest fechar = new MockHttpServletRequest("PATCH", "/chamados/7/fechar");
+		MockHttpServletResponse resposta = new MockHttpServletResponse();
+		escrita.preHandle(fechar, resposta, null);
+		String ate = resposta.getHeader(LeituraPropriasEscritas.CABECALHO);
+		assertEquals(Long.toString(clock.millis() + 5_000), ate);
+		escrita.afterCompletion(fechar, resposta, null, null);
+
+		// A leitura seguinte cai em outra instância, que nunca viu a escrita: o cabeçalho basta
+		MockHttpServletRequest leitura = new MockHttpServletRequest("GET", "/chamados/7");
+		leitura.addHeader(LeituraPropriasEscritas.CABECALHO, ate);
+		outraInstancia.preHandle(leitura, new MockHttpServletResponse(), null);
+		assertTrue(outraInstancia.deveUsarPrimario());
+		outraInstancia.afterCompletion(leitura, new MockHttpServletResponse(), null, null);
+
+		// Vencido, além de uma janela (forjado) ou malformado: réplica
+		assertFalse(outraInstancia.emJanelaDoCliente(ate, clock.millis() + 5_000));
+		assertFalse(outraInstancia.emJanelaDoCliente(Long.toString(clock.millis() + 60_000), clock.millis()));
+		assertFalse(outraInstancia.emJanelaDoCliente("amanhã", clock.millis()));
+	}
+
+	private String banco(boolean readOnly) {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(readOnly);
+		return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+	}
+
+	private static DataSource h2(String nome) {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:" + nome + ";DB_CLOSE_DELAY=-1");
+		h2.setUser("sa");
+		return h2;
+	}
+}
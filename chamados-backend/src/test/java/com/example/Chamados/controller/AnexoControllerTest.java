@@ -0,0 +1,103 @@
+package com.example.Chamados.controller;
+
+import com.example.Chamados.model.Anexo;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.service.AnexoService;
+import com.example.Chamados.service.BancoTeste;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AnexoControllerTest extends BancoTeste {
+
+	@Autowired
+	private AnexoController anexoController;
+
+	@Autowired
+	private AnexoService anexoService;
+
+	private Usuario dono;
+	private Chamado chamado;
+	private Anexo anexo;
+
+	@BeforeEach
+	void montar() throws IOException {
+		dono = usuario(Role.ROLE_NORMAL);
+		chamado = chamado(dono, categoria(), null, "ABERTO", LocalDateTime.now(), null);
+		anexo = anexoService.salvar(chamado.getId(), dono, "log.txt", "text/plain",
+				new ByteArrayInputStream("0123456789".getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	@Test
+	void semRangeVaiOArquivoInteiro() throws IOException {
+		MockHttpServletResponse response = baixar(null, dono);
+		assertEquals(200, response.getStatus());
+		assertEquals("0123456789", response.getContentAsString());
+		assertEquals(10, response.getContentLengthLong());
+		assertEquals("bytes", response.getHeader("Accept-Ranges"));
+		assertEquals("\"" + anexo.getHash() + "\"", response.getHeader("ETag"));
+		assertNull(response.getHeader("Content-Range"));
+	}
+
+	@Test
+	void intervalosDeUmRange() throws IOException {
+		parcial("bytes=2-5", "2345", "bytes 2-5/10");
+		parcial("bytes=7-", "789", "bytes 7-9/10");
+		parcial("bytes=-3", "789", "bytes 7-9/10");
+		parcial("bytes=-30", "0123456789", "bytes 0-9/10"); // Sufixo maior que o arquivo: o arquivo todo
+		parcial("bytes=8-100", "89", "bytes 8-9/10");       // Fim além do arquivo é cortado
+		parcial("bytes=4-4", "4", "bytes 4-4/10");
+	}
+
+	@Test
+	void rangeForaDoArquivoE416EFormatoNaoSuportadoVaiInteiro() throws IOException {
+		for (String range : new String[] { "bytes=10-", "bytes=5-2", "bytes=-0" }) {
+			MockHttpServletResponse response = baixar(range, dono);
+			assertEquals(416, response.getStatus(), range);
+			assertEquals("bytes */10", response.getHeader("Content-Range"), range);
+			assertEquals("", response.getContentAsString(), range);
+		}
+		for (String range : new String[] { "bytes=0-1,4-5", "bytes=a-b", "items=0-1", "bytes=1" }) {
+			MockHttpServletResponse response = baixar(range, dono);
+			assertEquals(200, response.getStatus(), range);
+			assertEquals("0123456789", response.getContentAsString(), range);
+		}
+	}
+
+	@Test
+	void acessoPelaRegraDoChamado() throws IOException {
+		assertEquals(403, baixar(null, usuario(Role.ROLE_NORMAL)).getStatus());
+		assertEquals(200, baixar(null, usuario(Role.ROLE_TI)).getStatus());
+		assertEquals(403, anexoController.listar(chamado.getId(), usuario(Role.ROLE_NORMAL)).getStatusCode().value());
+		assertEquals(1, anexoController.listar(chamado.getId(), dono).getBody().size());
+
+		MockHttpServletResponse inexistente = new MockHttpServletResponse();
+		anexoController.baixar(-1L, anexo.getId(), null, dono, inexistente);
+		assertEquals(404, inexistente.getStatus());
+	}
+
+	private void parcial(String range, String corpo, String contentRange) throws IOException {
+		MockHttpServletResponse response = baixar(range, dono);
+		assertEquals(206, response.getStatus(), range);
+		assertEquals(corpo, response.getContentAsString(), range);
+		assertEquals(corpo.length(), response.getContentLengthLong(), range);
+		assertEquals(contentRange, response.getHeader("Content-Range"), range);
+	}
+
+	private MockHttpServletResponse baixar(String range, Usuario usuario) throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		anexoController.baixar(chamado.getId(), anexo.getId(), range, usuario, response);
+		return response;
+	}
+}
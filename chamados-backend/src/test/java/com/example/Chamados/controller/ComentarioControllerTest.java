@@ -0,0 +1,73 @@
+package com.example.Chamados.controller;
+
+import com.example.Chamados.dto.ComentarioDTO;
+import com.example.Chamados.dto.PaginaDTO;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.service.BancoTeste;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ComentarioControllerTest extends BancoTeste {
+
+	@Autowired
+	private ComentarioController comentarioController;
+
+	private Usuario dono;
+	private Chamado chamado;
+
+	@BeforeEach
+	void montar() {
+		dono = usuario(Role.ROLE_NORMAL);
+		chamado = chamado(dono, categoria(), null, "ABERTO", LocalDateTime.now(), null);
+	}
+
+	@Test
+	void paginasDoMaisAntigoAoMaisNovo() {
+		Usuario tecnico = usuario(Role.ROLE_TI);
+		List<Long> ids = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			ids.add(comentar(i % 2 == 0 ? tecnico : dono, "  comentário " + i + " ").getBody().getId());
+		}
+
+		PaginaDTO<ComentarioDTO> primeira = comentarioController.listar(chamado.getId(), 0, 2, dono).getBody();
+		assertEquals(ids.subList(0, 2), primeira.getItens().stream().map(ComentarioDTO::getId).toList());
+		assertEquals("comentário 1", primeira.getItens().get(0).getTexto());
+		assertEquals(5, primeira.getTotalItens());
+		assertEquals(3, primeira.getTotalPaginas());
+
+		PaginaDTO<ComentarioDTO> ultima = comentarioController.listar(chamado.getId(), 2, 2, tecnico).getBody();
+		assertEquals(ids.subList(4, 5), ultima.getItens().stream().map(ComentarioDTO::getId).toList());
+		assertEquals(0, comentarioController.listar(chamado.getId(), 3, 2, dono).getBody().getItens().size());
+
+		assertEquals(400, comentarioController.listar(chamado.getId(), -1, 2, dono).getStatusCode().value());
+		assertEquals(400, comentarioController.listar(chamado.getId(), 0, 0, dono).getStatusCode().value());
+		assertEquals(400, comentarioController.listar(chamado.getId(), 0, 101, dono).getStatusCode().value());
+		assertEquals(200, comentarioController.listar(chamado.getId(), 0, 100, dono).getStatusCode().value());
+	}
+
+	@Test
+	void acessoPelaRegraDoChamado() {
+		Usuario outro = usuario(Role.ROLE_NORMAL);
+		assertEquals(403, comentar(outro, "não é meu").getStatusCode().value());
+		assertEquals(403, comentarioController.listar(chamado.getId(), 0, 20, outro).getStatusCode().value());
+		assertEquals(200, comentarioController.listar(chamado.getId(), 0, 20, usuario(Role.ROLE_ADM)).getStatusCode().value());
+		assertEquals(404, comentarioController.listar(-1L, 0, 20, dono).getStatusCode().value());
+		assertEquals(400, comentar(dono, "   ").getStatusCode().value());
+	}
+
+	private ResponseEntity<ComentarioDTO> comentar(Usuario autor, String texto) {
+		ComentarioDTO dados = new ComentarioDTO();
+		dados.setTexto(texto);
+		return comentarioController.comentar(chamado.getId(), dados, autor);
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.Chamados.controller;
+
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.service.BancoTeste;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UsuarioControllerTest extends BancoTeste {
+
+	@Autowired
+	private UsuarioController usuarioController;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Test
+	void atualizarSemSenhaMantemOHash() {
+		Usuario adm = usuario(Role.ROLE_ADM);
+		Usuario usuario = usuario(Role.ROLE_NORMAL);
+		usuario.setPassword(passwordEncoder.encode("senha-antiga"));
+		usuarioRepository.save(usuario);
+
+		// Corpo do GerenciamentoPage: nome, email e role, sem senha
+		Usuario dados = new Usuario();
+		dados.setNome("Nome novo");
+		dados.setEmail(usuario.getEmail());
+		dados.setRole(Role.ROLE_TI);
+		assertEquals(200, usuarioController.atualizarUsuario(usuario.getId(), dados, adm).getStatusCode().value());
+
+		Usuario gravado = usuarioRepository.findById(usuario.getId()).orElseThrow();
+		assertEquals("Nome novo", gravado.getNome());
+		assertEquals(Role.ROLE_TI, gravado.getRole());
+		assertTrue(passwordEncoder.matches("senha-antiga", gravado.getPassword()));
+
+		// Com senha, troca
+		dados.setPassword("senha-nova");
+		usuarioController.atualizarUsuario(usuario.getId(), dados, adm);
+		assertTrue(passwordEncoder.matches("senha-nova", usuarioRepository.findById(usuario.getId()).orElseThrow().getPassword()));
+	}
+
+	@Test
+	void removidoLiberaOEmailParaUmNovoCadastro() {
+		Usuario adm = usuario(Role.ROLE_ADM);
+		String email = unico("reativado") + "@teste.com";
+		Usuario antigo = usuarioController.criarUsuario(novo(email)).getBody();
+
+		// E-mail de um usuário ativo: conflito, não erro do banco
+		assertEquals(409, usuarioController.criarUsuario(novo(email)).getStatusCode().value());
+
+		assertEquals(204, usuarioController.deletarUsuario(antigo.getId(), adm).getStatusCode().value());
+		Usuario removido = usuarioRepository.findById(antigo.getId()).orElseThrow();
+		assertTrue(removido.getEmail().startsWith(email + "#removido-" + antigo.getId() + "-"));
+		assertFalse(removido.isAtivo());
+
+		// Mesmo e-mail de novo: outro usuário; o login pelo e-mail encontra o novo
+		Usuario recriado = usuarioController.criarUsuario(novo(email)).getBody();
+		assertNotEquals(antigo.getId(), recriado.getId());
+		assertEquals(recriado.getId(), usuarioRepository.findByEmail(email).orElseThrow().getId());
+	}
+
+	@Test
+	void listarComIdsMantemAOrdemESemOsRemovidos() {
+		Usuario normal = usuario(Role.ROLE_NORMAL);
+		Usuario primeiro = usuario(Role.ROLE_TI);
+		Usuario segundo = usuario(Role.ROLE_NORMAL);
+		Usuario removido = usuario(Role.ROLE_NORMAL);
+		usuarioController.deletarUsuario(removido.getId(), usuario(Role.ROLE_ADM));
+
+		// Sem ids é a lista completa: só o ADM
+		assertEquals(403, usuarioController.listarTodos(null, normal).getStatusCode().value());
+
+		// Com ids qualquer usuário busca; na ordem pedida, sem repetir, sem o removido e o inexistente
+		List<Long> pedidos = List.of(segundo.getId(), removido.getId(), Long.MAX_VALUE, primeiro.getId(), segundo.getId());
+		assertEquals(List.of(segundo.getId(), primeiro.getId()),
+				usuarioController.listarTodos(pedidos, normal).getBody().stream().map(Usuario::getId).toList());
+
+		assertEquals(List.of(), usuarioController.listarTodos(List.of(), normal).getBody());
+	}
+
+	private static Usuario novo(String email) {
+		Usuario usuario = new Usuario();
+		usuario.setNome("Usuário reativado");
+		usuario.setEmail(email);
+		usuario.setUsername(email);
+		usuario.setPassword("senha");
+		usuario.setRole(Role.ROLE_NORMAL);
+		usuario.setAtivo(true);
+		return usuario;
+	}
+}
@@ -0,0 +1,137 @@
+package com.example.Chamados.security;
+
+import com.example.Chamados.config.IdempotenciaProperties;
+import com.example.Chamados.service.RegistroIdempotenciaMemoria;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IdempotenciaFilterTest {
+
+	private final IdempotenciaFilter filtro = new IdempotenciaFilter();
+	private final AtomicInteger execucoes = new AtomicInteger();
+
+	@BeforeEach
+	void montar() {
+		IdempotenciaProperties properties = new IdempotenciaProperties();
+		RegistroIdempotenciaMemoria registro = new RegistroIdempotenciaMemoria();
+		ReflectionTestUtils.setField(registro, "properties", properties);
+		registro.criarCache();
+		ReflectionTestUtils.setField(filtro, "properties", properties);
+		ReflectionTestUtils.setField(filtro, "registro", registro);
+		ReflectionTestUtils.setField(filtro, "meterRegistry", new SimpleMeterRegistry());
+		logar("usuario@comum.com");
+	}
+
+	@AfterEach
+	void limpar() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void repeticaoRecebeARespostaGuardadaSemExecutarDeNovo() throws Exception {
+		MockHttpServletResponse primeira = enviar("POST", "/chamados", "chave-1", "{\"titulo\":\"Sem rede\"}", criarChamado());
+		MockHttpServletResponse repetida = enviar("POST", "/chamados", "chave-1", "{\"titulo\":\"Sem rede\"}", criarChamado());
+
+		assertEquals(1, execucoes.get());
+		assertEquals(200, repetida.getStatus());
+		assertEquals(primeira.getContentAsString(), repetida.getContentAsString());
+		assertEquals("\"7-0\"", repetida.getHeader("ETag"));
+		assertEquals("true", repetida.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA));
+		assertNull(primeira.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA));
+
+		// Mesma chave de outro usuário é outra chave; mesma chave com outro corpo é erro do cliente
+		logar("outro@comum.com");
+		enviar("POST", "/chamados", "chave-1", "{\"titulo\":\"Sem rede\"}", criarChamado());
+		assertEquals(2, execucoes.get());
+		assertEquals(422, enviar("POST", "/chamados", "chave-1", "{\"titulo\":\"Outro\"}", criarChamado()).getStatus());
+		assertEquals(2, execucoes.get());
+	}
+
+	@Test
+	void repeticaoDuranteAExecucaoRecebe409EErroNaoFicaGuardado() throws Exception {
+		MockHttpServletResponse[] durante = new MockHttpServletResponse[1];
+		HttpServlet falhaUmaVez = new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+				if (execucoes.incrementAndGet() == 1) {
+					try {
+						durante[0] = enviar("PATCH", "/chamados/7/fechar", "chave-2", "", criarChamado());
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+					resp.setStatus(503);
+				} else {
+					resp.setStatus(200);
+				}
+			}
+		};
+
+		assertEquals(503, enviar("PATCH", "/chamados/7/fechar", "chave-2", "", falhaUmaVez).getStatus());
+		assertEquals(409, durante[0].getStatus());
+		assertEquals("1", durante[0].getHeader("Retry-After"));
+
+		// O 503 não foi guardado: a repetição executa de novo
+		assertEquals(200, enviar("PATCH", "/chamados/7/fechar", "chave-2", "", falhaUmaVez).getStatus());
+		assertEquals(2, execucoes.get());
+	}
+
+	@Test
+	void corpoAcimaDoLimiteRecebe413SemExecutar() throws Exception {
+		IdempotenciaProperties properties = (IdempotenciaProperties) ReflectionTestUtils.getField(filtro, "properties");
+		properties.setCorpoMaximo(DataSize.ofBytes(20));
+
+		assertEquals(413, enviar("POST", "/chamados", "chave-3", "{\"titulo\":\"Longo demais\"}", criarChamado()).getStatus());
+		assertEquals(0, execucoes.get());
+
+		// No limite passa, e a chave não ficou reservada pelo 413
+		assertEquals(200, enviar("POST", "/chamados", "chave-3", "{\"titulo\":\"Curto\"}", criarChamado()).getStatus());
+		assertEquals(1, execucoes.get());
+	}
+
+	private HttpServlet criarChamado() {
+		return new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+				execucoes.incrementAndGet();
+				String corpo = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+				resp.setStatus(200);
+				resp.setContentType("application/json");
+				resp.setHeader("ETag", "\"7-0\"");
+				resp.getWriter().write("{\"id\":7,\"recebido\":" + corpo + "}");
+			}
+		};
+	}
+
+	private MockHttpServletResponse enviar(String metodo, String caminho, String chave, String corpo, HttpServlet servlet)
+			throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest(metodo, caminho);
+		request.addHeader(IdempotenciaFilter.CABECALHO, chave);
+		request.setContent(corpo.getBytes(StandardCharsets.UTF_8));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filtro.doFilter(request, response, new MockFilterChain(servlet));
+		return response;
+	}
+
+	private static void logar(String email) {
+		SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(email, null, "ROLE_NORMAL"));
+	}
+}
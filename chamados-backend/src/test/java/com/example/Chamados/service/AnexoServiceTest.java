@@ -0,0 +1,99 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.AnexosProperties;
+import com.example.Chamados.model.Anexo;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnexoServiceTest extends BancoTeste {
+
+	@Autowired
+	private AnexoService anexoService;
+
+	@Autowired
+	private AnexosProperties properties;
+
+	@Test
+	void conteudoRepetidoReaproveitaOArquivo() throws IOException {
+		Usuario dono = usuario(Role.ROLE_NORMAL);
+		Chamado primeiro = chamado(dono, categoria(), null, "ABERTO", LocalDateTime.now(), null);
+		Chamado segundo = chamado(dono, categoria(), null, "ABERTO", LocalDateTime.now(), null);
+		String conteudo = unico("conteúdo do log");
+
+		Anexo original = salvar(primeiro, "a.log", conteudo);
+		Path arquivo = arquivo(original.getHash());
+		assertTrue(Files.exists(arquivo));
+		FileTime antigo = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+		Files.setLastModifiedTime(arquivo, antigo);
+
+		// Mesmo conteúdo com outro nome, em outro chamado: outra linha, mesmo arquivo (tocado para o expurgo)
+		Anexo copia = salvar(segundo, "b.txt", conteudo);
+		assertNotEquals(original.getId(), copia.getId());
+		assertEquals(original.getHash(), copia.getHash());
+		assertEquals(original.getTamanho(), copia.getTamanho());
+		assertTrue(Files.getLastModifiedTime(arquivo).compareTo(antigo) > 0);
+		assertEquals(List.of(arquivo.getFileName()), arquivosDoPrefixo(original.getHash()));
+
+		Anexo outro = salvar(segundo, "c.txt", conteudo + ".");
+		assertNotEquals(original.getHash(), outro.getHash());
+
+		// O conteúdo volta igual pelos dois anexos
+		assertEquals(conteudo, ler(copia));
+		assertEquals(conteudo, ler(original));
+	}
+
+	@Test
+	void acimaDoLimiteNaoGravaNada() throws IOException {
+		Usuario dono = usuario(Role.ROLE_NORMAL);
+		Chamado chamado = chamado(dono, categoria(), null, "ABERTO", LocalDateTime.now(), null);
+		byte[] grande = new byte[(int) properties.getTamanhoMaximo().toBytes() + 1];
+
+		assertThrows(AnexoService.LimiteExcedidoException.class, () -> anexoService.salvar(chamado.getId(), dono,
+				"grande.bin", "application/octet-stream", new ByteArrayInputStream(grande)));
+		assertEquals(0, jdbcTemplate.queryForObject("select count(*) from anexo where chamado_id = ?",
+				Integer.class, chamado.getId()));
+	}
+
+	private Anexo salvar(Chamado chamado, String nome, String conteudo) throws IOException {
+		return anexoService.salvar(chamado.getId(), chamado.getUsuario(), nome, "text/plain",
+				new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private String ler(Anexo anexo) throws IOException {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		anexoService.transferir(anexo, 0, anexo.getTamanho(), Channels.newChannel(saida));
+		return saida.toString(StandardCharsets.UTF_8);
+	}
+
+	private Path arquivo(String hash) {
+		return Paths.get(properties.getDiretorio()).toAbsolutePath().resolve(hash.substring(0, 2)).resolve(hash);
+	}
+
+	private List<Path> arquivosDoPrefixo(String hash) throws IOException {
+		try (var arquivos = Files.list(arquivo(hash).getParent())) {
+			return arquivos.map(Path::getFileName).filter(nome -> nome.toString().startsWith(hash)).toList();
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.ArquivamentoProperties;
+import com.example.Chamados.controller.AnexoController;
+import com.example.Chamados.controller.ComentarioController;
+import com.example.Chamados.dto.ComentarioDTO;
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.util.FormatoArquivo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArquivamentoServiceTest extends BancoTeste {
+
+	// Colunas de chamado que não vão para o arquivo
+	private static final Set<String> SO_NA_PRINCIPAL = Set.of("VERSAO", "DATA_REMOCAO");
+
+	@Autowired
+	private ArquivamentoService arquivamentoService;
+
+	@Autowired
+	private ArquivamentoProperties properties;
+
+	@Autowired
+	private ChamadoService chamadoService;
+
+	@Autowired
+	private ChamadoExportService chamadoExportService;
+
+	@Autowired
+	private ComentarioController comentarioController;
+
+	@Autowired
+	private AnexoController anexoController;
+
+	@Autowired
+	private AnexoService anexoService;
+
+	private final LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+	private int tamanhoLoteOriginal;
+	private Usuario dono;
+	private Usuario tecnico;
+	private Categoria categoria;
+
+	@BeforeEach
+	void montar() {
+		tamanhoLoteOriginal = properties.getTamanhoLote();
+		dono = usuario(Role.ROLE_NORMAL);
+		tecnico = usuario(Role.ROLE_TI);
+		categoria = categoria();
+	}
+
+	@AfterEach
+	void restaurar() {
+		properties.setTamanhoLote(tamanhoLoteOriginal);
+	}
+
+	@Test
+	void moveSoOsElegiveisComTodasAsColunas() {
+		LocalDateTime antigo = agora.minusDays(400);
+		Chamado pai = chamado(dono, categoria, tecnico, "FECHADO", antigo.minusDays(1), antigo);
+		Chamado completo = chamado(dono, categoria, tecnico, "FECHADO", antigo.minusDays(2), antigo.plusHours(3));
+		completo.setSetor(setor());
+		completo.setPrioridade(Prioridade.CRITICA);
+		completo.setDescricao("Descrição com \"aspas\", vírgula e acentuação");
+		completo.setPrazoPrimeiraResposta(antigo.minusDays(2).plusHours(1));
+		completo.setPrazoResolucao(antigo.minusDays(2).plusHours(4));
+		completo.setDataPrimeiraResposta(antigo.minusDays(2).plusMinutes(90));
+		completo.setSlaRespostaViolado(true);
+		completo.setSlaResolucaoViolado(true);
+		completo.setIncidentePaiId(pai.getId());
+		chamadoRepository.save(completo);
+		Chamado semConclusao = chamado(dono, categoria, null, "FECHADO", antigo, null); // Usa a data de abertura
+
+		Chamado recente = chamado(dono, categoria, tecnico, "FECHADO", agora.minusDays(300), agora.minusDays(299));
+		Chamado abertoAntigo = chamado(dono, categoria, null, "ABERTO", antigo, null);
+		Chamado removido = chamado(dono, categoria, tecnico, "FECHADO", antigo, antigo.plusHours(1));
+		transactionTemplate.executeWithoutResult(status ->
+				chamadoRepository.marcarRemovidosEmLote(List.of(removido.getId()), agora));
+
+		Map<String, Object> antes = linha("chamado", completo.getId());
+
+		properties.setTamanhoLote(2); // Vários lotes, o último incompleto
+		assertTrue(arquivamentoService.arquivar() >= 3);
+
+		List<Long> elegiveis = List.of(pai.getId(), completo.getId(), semConclusao.getId());
+		assertEquals(elegiveis, ids("chamado_arquivado", elegiveis));
+		assertEquals(List.of(), ids("chamado", elegiveis));
+		List<Long> ficam = List.of(recente.getId(), abertoAntigo.getId(), removido.getId());
+		assertEquals(ficam, ids("chamado", ficam));
+		assertEquals(List.of(), ids("chamado_arquivado", ficam));
+
+		// Toda coluna da tabela principal (menos as de controle) existe no arquivo com o mesmo valor:
+		// uma coluna nova no Chamado que não entrar no INSERT ... SELECT quebra aqui
+		Map<String, Object> depois = linha("chamado_arquivado", completo.getId());
+		Set<String> esperadas = new HashSet<>(antes.keySet());
+		esperadas.removeAll(SO_NA_PRINCIPAL);
+		Set<String> arquivadas = new HashSet<>(depois.keySet());
+		arquivadas.remove("DATA_ARQUIVAMENTO");
+		assertEquals(esperadas, arquivadas);
+		for (String coluna : esperadas) {
+			assertEquals(antes.get(coluna), depois.get(coluna), coluna);
+		}
+		assertTrue(antes.values().stream().filter(v -> v == null).count() <= 1); // Só data_remocao vazia
+		assertTrue(depois.get("DATA_ARQUIVAMENTO") != null);
+	}
+
+	@Test
+	void arquivadoContinuaVisivelPelasConsultas() throws IOException {
+		Chamado chamado = chamado(dono, categoria, tecnico, "FECHADO", agora.minusDays(500), agora.minusDays(499));
+		ComentarioDTO comentario = new ComentarioDTO();
+		comentario.setTexto("Resolvido com a troca do cabo");
+		comentarioController.comentar(chamado.getId(), comentario, tecnico);
+		anexoService.salvar(chamado.getId(), dono, "print.png", "image/png",
+				new ByteArrayInputStream(unico("print").getBytes(StandardCharsets.UTF_8)));
+		arquivar(chamado.getId());
+		assertTrue(chamadoRepository.findById(chamado.getId()).isEmpty());
+
+		// buscarPorId
+		ChamadoService.Resultado resultado = chamadoService.buscar(chamado.getId(), dono);
+		assertEquals(ChamadoService.Situacao.OK, resultado.getSituacao());
+		assertEquals(chamado.getTitulo(), resultado.getChamado().getTitulo());
+		assertEquals(tecnico.getId(), resultado.getChamado().getTecnico().getId());
+		Usuario outro = usuario(Role.ROLE_NORMAL);
+		assertEquals(ChamadoService.Situacao.PROIBIDO, chamadoService.buscar(chamado.getId(), outro).getSituacao());
+
+		// Comentários e anexos
+		assertEquals(Optional.of(true), chamadoService.podeAcessar(chamado.getId(), dono));
+		assertEquals(Optional.of(false), chamadoService.podeAcessar(chamado.getId(), outro));
+		List<ComentarioDTO> comentarios = comentarioController.listar(chamado.getId(), 0, 20, dono).getBody().getItens();
+		assertEquals(List.of("Resolvido com a troca do cabo"), comentarios.stream().map(ComentarioDTO::getTexto).toList());
+		assertEquals(1, anexoController.listar(chamado.getId(), usuario(Role.ROLE_TI)).getBody().size());
+		assertEquals(403, anexoController.listar(chamado.getId(), outro).getStatusCode().value());
+
+		// Exportação
+		FiltroChamadoDTO filtro = new FiltroChamadoDTO();
+		filtro.setCategoriaId(categoria.getId());
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		assertEquals(1, chamadoExportService.exportar(filtro, FormatoArquivo.NDJSON, saida));
+		assertTrue(saida.toString(StandardCharsets.UTF_8).contains("\"id\":" + chamado.getId()));
+	}
+
+	private Map<String, Object> linha(String tabela, Long id) {
+		return jdbcTemplate.queryForMap("select * from " + tabela + " where id = ?", id);
+	}
+
+	private List<Long> ids(String tabela, List<Long> ids) {
+		return jdbcTemplate.queryForList("select id from " + tabela + " where id in ("
+				+ String.join(",", ids.stream().map(String::valueOf).toList()) + ") order by id", Long.class);
+	}
+}
@@ -0,0 +1,140 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.AtribuicaoProperties;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AtribuicaoAutomaticaServiceTest {
+
+	private final AtribuicaoAutomaticaService service = new AtribuicaoAutomaticaService();
+	private final AtribuicaoProperties properties = new AtribuicaoProperties();
+	private final ChamadoRepository chamadoRepository = mock(ChamadoRepository.class);
+	private final UsuarioRepository usuarioRepository = mock(UsuarioRepository.class);
+
+	private final Usuario ana = tecnico(1L, "ana@ti.com");
+	private final Usuario bruno = tecnico(2L, "bruno@ti.com");
+	private final Usuario carla = tecnico(3L, "carla@ti.com");
+
+	@BeforeEach
+	void montar() {
+		ReflectionTestUtils.setField(service, "properties", properties);
+		ReflectionTestUtils.setField(service, "chamadoRepository", chamadoRepository);
+		ReflectionTestUtils.setField(service, "usuarioRepository", usuarioRepository);
+		when(usuarioRepository.findByRole(Role.ROLE_TI)).thenReturn(List.of(ana, bruno, carla));
+		when(chamadoRepository.contarAbertosPorTecnico()).thenReturn(List.of(carga(1L, 2L)));
+		service.reconstruir();
+	}
+
+	@Test
+	void escolheOMenosCarregadoEAlternaNosEmpates() {
+		// Bruno e Carla com 0: empate decidido pelo id, depois em rodízio
+		assertEquals(bruno, escolher(chamado(null)));
+		assertEquals(carla, escolher(chamado(null)));
+		assertEquals(bruno, escolher(chamado(null)));
+
+		// A carga só muda com o evento do chamado criado
+		criado(bruno);
+		criado(carla);
+		criado(carla);
+		assertEquals(Map.of(1L, 2, 2L, 1, 3L, 2), service.cargasAtuais());
+		assertEquals(bruno, escolher(chamado(null)));
+
+		// Fechar devolve a carga
+		service.aoAlterarChamado(new ChamadoEvento(ChamadoEvento.Tipo.STATUS_ALTERADO, 10L, "EM_ANDAMENTO", "FECHADO", 3L, 3L));
+		criado(bruno);
+		assertEquals(carla, escolher(chamado(null)));
+	}
+
+	@Test
+	void especialistaVenceDentroDaFolga() {
+		properties.setCategorias(Map.of("Rede", List.of("ANA@ti.com")));
+
+		// Ana tem 2 e o menos carregado tem 0: dentro da folga de 2
+		assertEquals(ana, escolher(chamado("rede")));
+		// Fora da categoria, o menos carregado
+		assertEquals(bruno, escolher(chamado("Impressoras")));
+
+		// Com 3 (folga estourada), perde para o menos carregado
+		criado(ana);
+		assertEquals(carla, escolher(chamado("Rede")));
+
+		// Folga 0: o especialista só vence empatado com o menos carregado
+		properties.setFolgaEspecialista(0);
+		service.aoAlterarChamado(new ChamadoEvento(ChamadoEvento.Tipo.REMOVIDO, 11L, "ABERTO", null, 1L, null));
+		assertEquals(bruno, escolher(chamado("Rede")));
+	}
+
+	@Test
+	void tecnicoNovoEntraComAPropriaContagemSemAAgrupada() {
+		Usuario diego = tecnico(4L, "diego@ti.com");
+		when(chamadoRepository.contarAbertosDoTecnico(4L)).thenReturn(5L);
+
+		service.sincronizarTecnico(diego);
+		assertEquals(5, service.cargasAtuais().get(4L));
+		verify(chamadoRepository).contarAbertosPorTecnico(); // Só a do reconstruir
+
+		// Rebaixado: sai da atribuição sem consultar nada
+		Usuario comum = tecnico(5L, "comum@ti.com");
+		comum.setRole(Role.ROLE_NORMAL);
+		service.sincronizarTecnico(comum);
+		verify(chamadoRepository, never()).contarAbertosDoTecnico(5L);
+
+		// Já no índice: a carga em memória prevalece
+		criado(diego);
+		service.sincronizarTecnico(diego);
+		assertEquals(6, service.cargasAtuais().get(4L));
+	}
+
+	private Usuario escolher(Chamado chamado) {
+		return service.escolherTecnico(chamado).orElseThrow();
+	}
+
+	private void criado(Usuario tecnico) {
+		service.aoAlterarChamado(new ChamadoEvento(ChamadoEvento.Tipo.CRIADO, 100L, null, "EM_ANDAMENTO", null, tecnico.getId()));
+	}
+
+	private static Chamado chamado(String categoria) {
+		Chamado chamado = new Chamado();
+		if (categoria != null) {
+			Categoria c = new Categoria();
+			c.setNome(categoria);
+			chamado.setCategoria(c);
+		}
+		return chamado;
+	}
+
+	private static Usuario tecnico(Long id, String email) {
+		Usuario usuario = new Usuario();
+		usuario.setId(id);
+		usuario.setEmail(email);
+		usuario.setRole(Role.ROLE_TI);
+		usuario.setAtivo(true);
+		return usuario;
+	}
+
+	private static ChamadoRepository.CargaTecnico carga(Long tecnicoId, Long total) {
+		return new ChamadoRepository.CargaTecnico() {
+			@Override
+			public Long getTecnicoId() { return tecnicoId; }
+			@Override
+			public Long getTotal() { return total; }
+		};
+	}
+}
@@ -0,0 +1,110 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Setor;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.CategoriaRepository;
+import com.example.Chamados.repository.ChamadoArquivadoRepository;
+import com.example.Chamados.repository.ChamadoRepository;
+import com.example.Chamados.repository.SetorRepository;
+import com.example.Chamados.repository.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Base dos testes de serviço contra o H2 em memória. As classes que a estendem dividem o mesmo contexto
+// (mesmas propriedades) e o mesmo banco, então cada teste cria os próprios dados com nomes únicos e só confere
+// o que criou. Os jobs que apagam ou movem linhas (expurgo, arquivamento) ficam desligados: os testes os chamam.
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:servicos;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false",
+		"chamados.expurgo.habilitado=false",
+		"chamados.arquivamento.habilitado=false",
+		"chamados.limite.habilitado=false",
+		"chamados.anexos.diretorio=target/anexos-teste"
+})
+@ActiveProfiles("h2")
+public abstract class BancoTeste {
+
+	private static final AtomicInteger SEQUENCIA = new AtomicInteger();
+
+	@Autowired
+	protected UsuarioRepository usuarioRepository;
+
+	@Autowired
+	protected CategoriaRepository categoriaRepository;
+
+	@Autowired
+	protected SetorRepository setorRepository;
+
+	@Autowired
+	protected ChamadoRepository chamadoRepository;
+
+	@Autowired
+	protected ChamadoArquivadoRepository chamadoArquivadoRepository;
+
+	@Autowired
+	protected JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	protected TransactionTemplate transactionTemplate;
+
+	protected static String unico(String prefixo) {
+		return prefixo + "-" + SEQUENCIA.incrementAndGet() + "-" + System.nanoTime();
+	}
+
+	protected Usuario usuario(Role role) {
+		String email = unico(role.name().toLowerCase()) + "@teste.com";
+		Usuario usuario = new Usuario();
+		usuario.setNome(email);
+		usuario.setEmail(email);
+		usuario.setUsername(email);
+		usuario.setPassword("x");
+		usuario.setRole(role);
+		usuario.setAtivo(true);
+		return usuarioRepository.save(usuario);
+	}
+
+	protected Categoria categoria() {
+		Categoria categoria = new Categoria();
+		categoria.setNome(unico("categoria"));
+		return categoriaRepository.save(categoria);
+	}
+
+	protected Setor setor() {
+		Setor setor = new Setor();
+		setor.setNome(unico("setor"));
+		return setorRepository.save(setor);
+	}
+
+	// Grava o chamado direto pelo repositório (sem atribuição automática nem prazos de SLA)
+	protected Chamado chamado(Usuario dono, Categoria categoria, Usuario tecnico, String status,
+							  LocalDateTime abertura, LocalDateTime conclusao) {
+		Chamado chamado = new Chamado();
+		chamado.setTitulo(unico("titulo"));
+		chamado.setDescricao("Descrição do chamado");
+		chamado.setUsuario(dono);
+		chamado.setCategoria(categoria);
+		chamado.setTecnico(tecnico);
+		chamado.setStatus(status);
+		chamado.setDataAbertura(abertura);
+		chamado.setDataConclusao(conclusao);
+		return chamadoRepository.save(chamado);
+	}
+
+	// Move só estes chamados para o arquivo, como um lote do ArquivamentoService
+	protected void arquivar(Long... ids) {
+		transactionTemplate.executeWithoutResult(status -> {
+			chamadoArquivadoRepository.copiarDaTabelaPrincipal(List.of(ids), LocalDateTime.now());
+			chamadoRepository.deletarEmLote(List.of(ids));
+		});
+	}
+}
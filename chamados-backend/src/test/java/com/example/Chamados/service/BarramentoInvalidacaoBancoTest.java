@@ -0,0 +1,110 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.ChamadosApplication;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.CategoriaRepository;
+import com.example.Chamados.repository.UsuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Duas instâncias da aplicação na mesma JVM, com caches separados e o mesmo banco H2 em memória
+class BarramentoInvalidacaoBancoTest {
+
+	private static ConfigurableApplicationContext instanciaA;
+	private static ConfigurableApplicationContext instanciaB;
+
+	@BeforeAll
+	static void subir() {
+		instanciaA = instancia("a");
+		instanciaB = instancia("b");
+	}
+
+	@AfterAll
+	static void derrubar() {
+		instanciaA.close();
+		instanciaB.close();
+	}
+
+	@Test
+	void alteracaoEmUmaInstanciaInvalidaOCacheDaOutra() {
+		CategoriaRepository categoriasA = instanciaA.getBean(CategoriaRepository.class);
+		CategoriaRepository categoriasB = instanciaB.getBean(CategoriaRepository.class);
+
+		Categoria categoria = new Categoria();
+		categoria.setNome("Impressoras");
+		categoria = categoriasA.save(categoria);
+		Long id = categoria.getId();
+
+		// B lê a categoria e fica com ela no cache de segundo nível
+		assertEquals("Impressoras", categoriasB.findById(id).orElseThrow().getNome());
+		assertTrue(emCache(instanciaB, id));
+
+		categoria.setNome("Impressoras e scanners");
+		categoriasA.save(categoria);
+
+		aguardar(() -> !emCache(instanciaB, id));
+		assertEquals("Impressoras e scanners", categoriasB.findById(id).orElseThrow().getNome());
+	}
+
+	@Test
+	void tecnicoPromovidoEmUmaInstanciaEntraNaAtribuicaoDaOutra() {
+		UsuarioRepository usuariosA = instanciaA.getBean(UsuarioRepository.class);
+		AtribuicaoAutomaticaService atribuicaoB = instanciaB.getBean(AtribuicaoAutomaticaService.class);
+
+		Usuario usuario = new Usuario();
+		usuario.setUsername("promovido@comum.com");
+		usuario.setEmail("promovido@comum.com");
+		usuario.setNome("Promovido");
+		usuario.setPassword("x");
+		usuario.setRole(Role.ROLE_NORMAL);
+		usuario.setAtivo(true);
+		usuario = usuariosA.save(usuario);
+		Long id = usuario.getId();
+
+		usuario.setRole(Role.ROLE_TI);
+		usuariosA.save(usuario);
+
+		aguardar(() -> atribuicaoB.cargasAtuais().containsKey(id));
+	}
+
+	private static ConfigurableApplicationContext instancia(String no) {
+		return new SpringApplicationBuilder(ChamadosApplication.class).run(
+				"--spring.profiles.active=h2",
+				"--spring.datasource.url=jdbc:h2:mem:instancias;DB_CLOSE_DELAY=-1",
+				"--server.port=0",
+				"--spring.jpa.show-sql=false",
+				"--chamados.invalidacao.no=" + no,
+				"--chamados.invalidacao.intervalo=100ms");
+	}
+
+	private static boolean emCache(ConfigurableApplicationContext instancia, Long id) {
+		return instancia.getBean(EntityManagerFactory.class).getCache().contains(Categoria.class, id);
+	}
+
+	private static void aguardar(BooleanSupplier condicao) {
+		long limite = System.currentTimeMillis() + 10_000;
+		while (!condicao.getAsBoolean()) {
+			if (System.currentTimeMillis() > limite) {
+				fail("A outra instância não recebeu a alteração");
+			}
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.controller.CategoriaController;
+import com.example.Chamados.controller.UsuarioController;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Cache de segundo nível e de consultas da própria instância (entre instâncias: BarramentoInvalidacaoBancoTest).
+// Cada chamada ao repositório fora de transação abre a própria sessão, então uma leitura repetida
+// só não vai ao banco se vier do cache
+class CacheSegundoNivelTest extends BancoTeste {
+
+	// Chaves das consultas derivadas nas estatísticas do Hibernate (o SQL gerado)
+	private static final String POR_EMAIL = "from usuario u1_0 where u1_0.email=?";
+	private static final String TODAS_CATEGORIAS = "select c1_0.id,c1_0.nome from categoria c1_0";
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private UsuarioController usuarioController;
+
+	@Autowired
+	private CategoriaController categoriaController;
+
+	private Statistics estatisticas;
+
+	@BeforeEach
+	void montar() {
+		estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void findByEmailVemDoCacheDeConsultas() {
+		Usuario usuario = usuario(Role.ROLE_NORMAL);
+		usuarioRepository.findByEmail(usuario.getEmail()); // Primeira: vai ao banco e guarda
+
+		QueryStatistics porEmail = consulta(POR_EMAIL);
+		long execucoes = porEmail.getExecutionCount();
+		long acertos = porEmail.getCacheHitCount();
+
+		assertEquals(usuario.getId(), usuarioRepository.findByEmail(usuario.getEmail()).orElseThrow().getId());
+
+		assertEquals(execucoes, porEmail.getExecutionCount());
+		assertEquals(acertos + 1, porEmail.getCacheHitCount());
+	}
+
+	@Test
+	void alteracaoDoUsuarioPeloControllerDescartaAConsultaEAtualizaAEntidade() {
+		Usuario adm = usuario(Role.ROLE_ADM);
+		Usuario usuario = usuario(Role.ROLE_NORMAL);
+		usuarioRepository.findByEmail(usuario.getEmail());
+		usuarioRepository.findById(usuario.getId());
+
+		Usuario dados = new Usuario();
+		dados.setNome("Nome alterado");
+		dados.setEmail(usuario.getEmail());
+		dados.setRole(Role.ROLE_TI);
+		assertEquals(200, usuarioController.atualizarUsuario(usuario.getId(), dados, adm).getStatusCode().value());
+
+		// A consulta guardada ficou velha (a tabela mudou): executa de novo e traz o novo
+		QueryStatistics porEmail = consulta(POR_EMAIL);
+		long execucoes = porEmail.getExecutionCount();
+		Usuario lido = usuarioRepository.findByEmail(usuario.getEmail()).orElseThrow();
+		assertEquals("Nome alterado", lido.getNome());
+		assertEquals(Role.ROLE_TI, lido.getRole());
+		assertEquals(execucoes + 1, porEmail.getExecutionCount());
+
+		// A entidade em cache não é a antiga
+		assertEquals("Nome alterado", usuarioRepository.findById(usuario.getId()).orElseThrow().getNome());
+	}
+
+	@Test
+	void alteracaoDaCategoriaPeloControllerDescartaAListaEAtualizaAEntidade() {
+		Categoria categoria = categoria();
+		categoriaRepository.findAll();
+		categoriaRepository.findById(categoria.getId());
+
+		Categoria dados = new Categoria();
+		dados.setNome(unico("renomeada"));
+		assertEquals(200, categoriaController.atualizarCategoria(categoria.getId(), dados).getStatusCode().value());
+
+		QueryStatistics todas = consulta(TODAS_CATEGORIAS);
+		long execucoes = todas.getExecutionCount();
+		assertTrue(categoriaRepository.findAll().stream().anyMatch(c -> dados.getNome().equals(c.getNome())));
+		assertEquals(execucoes + 1, todas.getExecutionCount());
+
+		assertEquals(dados.getNome(), categoriaRepository.findById(categoria.getId()).orElseThrow().getNome());
+	}
+
+	@Test
+	void metricasDoCacheFicamNoActuator() {
+		usuarioRepository.findById(usuario(Role.ROLE_NORMAL).getId());
+
+		for (String regiao : new String[] {"usuario", "categoria", "setor"}) {
+			assertFalse(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", regiao).meters().isEmpty(),
+					"sem métrica da região " + regiao);
+			assertFalse(meterRegistry.find("hibernate.second.level.cache.puts").tag("region", regiao).meters().isEmpty());
+		}
+		assertFalse(meterRegistry.find("hibernate.cache.query.requests").meters().isEmpty());
+	}
+
+	private QueryStatistics consulta(String trecho) {
+		String chave = Arrays.stream(estatisticas.getQueries())
+				.filter(q -> q.contains(trecho))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("Consulta não encontrada nas estatísticas: " + trecho));
+		return estatisticas.getQueryStatistics(chave);
+	}
+}
@@ -0,0 +1,147 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.FiltroChamadoDTO;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Setor;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.util.Csv;
+import com.example.Chamados.util.FormatoArquivo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChamadoExportServiceTest extends BancoTeste {
+
+	@Autowired
+	private ChamadoExportService chamadoExportService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final LocalDateTime base = LocalDateTime.of(2024, 5, 10, 9, 0);
+	private Usuario dono;
+	private Usuario tecnico;
+	private Categoria categoria;
+	private Setor setor;
+
+	@BeforeEach
+	void montar() {
+		dono = usuario(Role.ROLE_NORMAL);
+		tecnico = usuario(Role.ROLE_TI);
+		categoria = categoria();
+		setor = setor();
+	}
+
+	@Test
+	void csvEscapaOsCamposEVoltaIgualPeloLeitor() throws IOException {
+		Chamado chamado = chamado(dono, categoria, tecnico, "ABERTO", base, null);
+		chamado.setTitulo("Impressora, 2º andar");
+		chamado.setDescricao("Mensagem: \"papel preso\"\nReiniciar não resolveu");
+		chamado.setSetor(setor);
+		chamadoRepository.save(chamado);
+
+		List<List<String>> linhas = csv(porCategoria());
+
+		assertEquals(Arrays.asList("id", "titulo", "descricao", "status", "prioridade", "categoria", "setor",
+				"usuario", "tecnico", "dataAbertura", "dataConclusao"), linhas.get(0));
+		assertEquals(List.of(chamado.getId().toString(), "Impressora, 2º andar",
+				"Mensagem: \"papel preso\"\nReiniciar não resolveu", "ABERTO", "MEDIA", categoria.getNome(),
+				setor.getNome(), dono.getEmail(), tecnico.getEmail(), base.toString(), ""), linhas.get(1));
+		assertEquals(2, linhas.size());
+	}
+
+	@Test
+	void ndjsonUmObjetoPorLinha() throws IOException {
+		Chamado aberto = chamado(dono, categoria, null, "ABERTO", base, null);
+		Chamado fechado = chamado(dono, categoria, tecnico, "FECHADO", base, base.plusHours(2));
+
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		long total = chamadoExportService.exportar(porCategoria(), FormatoArquivo.NDJSON, saida);
+
+		String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, total);
+		assertEquals(2, linhas.length);
+		JsonNode primeira = objectMapper.readTree(linhas[0]);
+		assertEquals(aberto.getId().longValue(), primeira.get("id").asLong());
+		assertEquals("ABERTO", primeira.get("status").asText());
+		assertEquals(dono.getEmail(), primeira.get("usuario").asText());
+		JsonNode segunda = objectMapper.readTree(linhas[1]);
+		assertEquals(fechado.getId().longValue(), segunda.get("id").asLong());
+		assertEquals(tecnico.getEmail(), segunda.get("tecnico").asText());
+		assertEquals(categoria.getNome(), segunda.get("categoria").asText());
+	}
+
+	@Test
+	void filtrosCombinadosEArquivadosDepoisDaTabelaPrincipal() throws IOException {
+		Chamado aberto = chamado(dono, categoria, null, "ABERTO", base, null);
+		Chamado fechado = chamado(dono, categoria, tecnico, "FECHADO", base.plusDays(1), base.plusDays(2));
+		Chamado noSetor = chamado(dono, categoria, tecnico, "EM_ANDAMENTO", base.plusDays(3), null);
+		noSetor.setSetor(setor);
+		chamadoRepository.save(noSetor);
+		Chamado arquivado = chamado(dono, categoria, tecnico, "FECHADO", base.minusYears(2), base.minusYears(2).plusDays(1));
+		arquivar(arquivado.getId());
+
+		// Só categoria: todos, os arquivados por último
+		assertEquals(List.of(aberto.getId(), fechado.getId(), noSetor.getId(), arquivado.getId()), ids(porCategoria()));
+
+		// Status diferente de FECHADO não consulta o arquivo
+		FiltroChamadoDTO abertos = porCategoria();
+		abertos.setStatus("aberto");
+		assertEquals(List.of(aberto.getId()), ids(abertos));
+
+		FiltroChamadoDTO fechados = porCategoria();
+		fechados.setStatus("FECHADO");
+		assertEquals(List.of(fechado.getId(), arquivado.getId()), ids(fechados));
+
+		// Período de abertura [de, ate) vale nas duas tabelas
+		FiltroChamadoDTO periodo = porCategoria();
+		periodo.setAbertoDe(base.plusDays(1));
+		periodo.setAbertoAte(base.plusDays(3));
+		assertEquals(List.of(fechado.getId()), ids(periodo));
+
+		FiltroChamadoDTO antigos = porCategoria();
+		antigos.setAbertoAte(base);
+		assertEquals(List.of(arquivado.getId()), ids(antigos));
+
+		FiltroChamadoDTO porSetor = porCategoria();
+		porSetor.setSetorId(setor.getId());
+		assertEquals(List.of(noSetor.getId()), ids(porSetor));
+	}
+
+	private FiltroChamadoDTO porCategoria() {
+		FiltroChamadoDTO filtro = new FiltroChamadoDTO();
+		filtro.setCategoriaId(categoria.getId());
+		return filtro;
+	}
+
+	private List<Long> ids(FiltroChamadoDTO filtro) throws IOException {
+		return csv(filtro).stream().skip(1).map(linha -> Long.valueOf(linha.get(0))).toList();
+	}
+
+	private List<List<String>> csv(FiltroChamadoDTO filtro) throws IOException {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+		chamadoExportService.exportar(filtro, FormatoArquivo.CSV, saida);
+
+		Csv.Leitor leitor = new Csv.Leitor(new StringReader(saida.toString(StandardCharsets.UTF_8)));
+		List<List<String>> linhas = new ArrayList<>();
+		for (List<String> linha = leitor.proximoRegistro(); linha != null; linha = leitor.proximoRegistro()) {
+			linhas.add(linha);
+		}
+		return linhas;
+	}
+}
@@ -0,0 +1,110 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.ResultadoImportacaoDTO;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.util.FormatoArquivo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChamadoImportServiceTest extends BancoTeste {
+
+	@Autowired
+	private ChamadoImportService chamadoImportService;
+
+	private Categoria categoria;
+	private Usuario dono;
+	private Usuario tecnico;
+
+	@BeforeEach
+	void montar() {
+		categoria = categoria();
+		dono = usuario(Role.ROLE_NORMAL);
+		tecnico = usuario(Role.ROLE_TI);
+	}
+
+	@Test
+	void csvImportaAsValidasEApontaALinhaDeCadaErro() throws IOException {
+		String c = categoria.getNome();
+		String u = dono.getEmail();
+		String csv = String.join("\n",
+				"status,titulo,descricao,categoria,usuario,tecnico,dataAbertura,dataConclusao",   // 1
+				",Sem rede,Cabo solto,CATEGORIA_,USUARIO_,,2024-03-01T10:00,",                  // 2
+				"EM_ANDAMENTO,\"VPN, filial\",\"Erro \"\"timeout\"\"",                           // 3
+				"depois de 10 min\",categoria_,usuario_,,2024-03-01,",                           // 4 (mesmo registro)
+				"",                                                                               // 5
+				"XYZ,Status errado,x,categoria_,usuario_,,2024-03-01,",                          // 6
+				"FECHADO,Fechado sem data,x,categoria_,usuario_,,2024-03-01,",                   // 7
+				"FECHADO,Conclusão antes,x,categoria_,usuario_,,2024-03-02,2024-03-01T23:00",    // 8
+				"ABERTO,Técnico comum,x,categoria_,usuario_,usuario_,2024-03-01,",               // 9
+				"ABERTO,Categoria errada,x,Inexistente,usuario_,,2024-03-01,",                   // 10
+				"ABERTO,Data errada,x,categoria_,usuario_,,01/03/2024,",                         // 11
+				"fechado,Fechado certo,x,categoria_,usuario_,tecnico_,2024-03-01,2024-03-01T12:00") // 12
+				.replace("CATEGORIA_", c.toUpperCase()).replace("categoria_", c)
+				.replace("USUARIO_", u.toUpperCase()).replace("usuario_", u)
+				.replace("tecnico_", tecnico.getEmail());
+
+		ResultadoImportacaoDTO resultado = importar(csv, FormatoArquivo.CSV);
+
+		assertEquals(9, resultado.getLinhasLidas());
+		assertEquals(3, resultado.getImportados());
+		assertEquals(6, resultado.getComErro());
+		assertEquals(List.of(6L, 7L, 8L, 9L, 10L, 11L),
+				resultado.getErros().stream().map(ResultadoImportacaoDTO.ErroLinha::getLinha).toList());
+		assertTrue(resultado.getErros().get(0).getMensagem().startsWith("Status inválido"));
+
+		List<Map<String, Object>> gravados = gravados();
+		assertEquals(List.of("Sem rede", "VPN, filial", "Fechado certo"), gravados.stream().map(l -> l.get("titulo")).toList());
+		assertEquals("ABERTO", gravados.get(0).get("status")); // Status vazio vira ABERTO
+		assertEquals("Erro \"timeout\"\ndepois de 10 min", gravados.get(1).get("descricao"));
+		assertEquals("FECHADO", gravados.get(2).get("status"));
+		assertEquals(tecnico.getId(), ((Number) gravados.get(2).get("tecnico_id")).longValue());
+	}
+
+	@Test
+	void ndjsonComLinhaQuebradaSegueParaAsProximas() throws IOException {
+		String ndjson = String.join("\n",
+				"{\"titulo\":\"Monitor\",\"descricao\":\"Sem imagem\",\"categoria\":\"C\",\"usuario\":\"U\",\"prioridade\":\"alta\"}", // 1
+				"",                                                                                              // 2
+				"{\"titulo\":\"Quebrado\",",                                                                     // 3
+				"{\"titulo\":\"Status\",\"descricao\":\"x\",\"categoria\":\"C\",\"usuario\":\"U\",\"status\":\"RESOLVIDO\"}", // 4
+				"{\"titulo\":\"Prioridade\",\"descricao\":\"x\",\"categoria\":\"C\",\"usuario\":\"U\",\"prioridade\":\"maxima\"}", // 5
+				"{\"titulo\":\"Teclado\",\"descricao\":\"Tecla presa\",\"categoria\":\"C\",\"usuario\":\"U\",\"status\":\"FECHADO\","
+						+ "\"dataAbertura\":\"2024-03-01T08:00:00\",\"dataConclusao\":\"2024-03-01T09:30:00\"}")     // 6
+				.replace("\"C\"", "\"" + categoria.getNome() + "\"").replace("\"U\"", "\"" + dono.getEmail() + "\"");
+
+		ResultadoImportacaoDTO resultado = importar(ndjson, FormatoArquivo.NDJSON);
+
+		assertEquals(5, resultado.getLinhasLidas());
+		assertEquals(2, resultado.getImportados());
+		assertEquals(List.of(3L, 4L, 5L),
+				resultado.getErros().stream().map(ResultadoImportacaoDTO.ErroLinha::getLinha).toList());
+		assertTrue(resultado.getErros().get(0).getMensagem().startsWith("JSON inválido"));
+
+		List<Map<String, Object>> gravados = gravados();
+		assertEquals(List.of("Monitor", "Teclado"), gravados.stream().map(l -> l.get("titulo")).toList());
+		assertEquals("ALTA", gravados.get(0).get("prioridade"));
+		assertNotNull(gravados.get(0).get("data_abertura")); // Sem dataAbertura: o relógio da aplicação
+	}
+
+	private ResultadoImportacaoDTO importar(String conteudo, FormatoArquivo formato) throws IOException {
+		return chamadoImportService.importar(new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)), formato);
+	}
+
+	private List<Map<String, Object>> gravados() {
+		return jdbcTemplate.queryForList("select titulo, descricao, status, prioridade, tecnico_id, data_abertura "
+				+ "from chamado where categoria_id = ? order by id", categoria.getId());
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.ResultadoLoteDTO;
+import com.example.Chamados.dto.ResultadoLoteDTO.Resultado;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChamadoLoteServiceTest extends BancoTeste {
+
+	private static final Long INEXISTENTE = Long.MAX_VALUE;
+
+	@Autowired
+	private ChamadoLoteService chamadoLoteService;
+
+	private Usuario dono;
+	private Categoria categoria;
+
+	@BeforeEach
+	void montar() {
+		dono = usuario(Role.ROLE_NORMAL);
+		categoria = categoria();
+	}
+
+	@Test
+	void fecharClassificaCadaIdEFechaOsElegiveisDeUmaVez() {
+		Chamado aberto = chamado("ABERTO");
+		Chamado emAndamento = chamado("EM_ANDAMENTO");
+		Chamado fechado = chamado("FECHADO");
+
+		List<ResultadoLoteDTO> resultados = chamadoLoteService.fechar(
+				List.of(aberto.getId(), fechado.getId(), INEXISTENTE, emAndamento.getId(), aberto.getId()));
+
+		// Um resultado por id, na ordem pedida e sem repetir
+		assertEquals(List.of(aberto.getId(), fechado.getId(), INEXISTENTE, emAndamento.getId()),
+				resultados.stream().map(ResultadoLoteDTO::getId).toList());
+		assertEquals(List.of(Resultado.OK, Resultado.CONFLITO, Resultado.NAO_ENCONTRADO, Resultado.OK),
+				resultados.stream().map(ResultadoLoteDTO::getResultado).toList());
+
+		Chamado abertoFechado = chamadoRepository.findById(aberto.getId()).orElseThrow();
+		assertEquals("FECHADO", abertoFechado.getStatus());
+		assertNotNull(abertoFechado.getDataConclusao());
+		assertEquals(aberto.getVersao() + 1, abertoFechado.getVersao()); // update versioned
+		assertEquals("FECHADO", chamadoRepository.findById(emAndamento.getId()).orElseThrow().getStatus());
+		assertEquals(fechado.getVersao(), chamadoRepository.findById(fechado.getId()).orElseThrow().getVersao());
+	}
+
+	@Test
+	void alterarStatusVaiEmMaiusculasEReabrirLimpaAConclusao() {
+		Chamado aberto = chamado("ABERTO");
+		Chamado fechado = chamado("FECHADO");
+
+		List<ResultadoLoteDTO> resultados = chamadoLoteService.alterarStatus(
+				List.of(aberto.getId(), fechado.getId(), INEXISTENTE), "em_andamento");
+
+		assertEquals(List.of(Resultado.OK, Resultado.OK, Resultado.NAO_ENCONTRADO),
+				resultados.stream().map(ResultadoLoteDTO::getResultado).toList());
+		for (Chamado chamado : List.of(aberto, fechado)) {
+			Chamado atual = chamadoRepository.findById(chamado.getId()).orElseThrow();
+			assertEquals("EM_ANDAMENTO", atual.getStatus());
+			assertNull(atual.getDataConclusao());
+		}
+
+		chamadoLoteService.alterarStatus(List.of(aberto.getId()), "FECHADO");
+		assertNotNull(chamadoRepository.findById(aberto.getId()).orElseThrow().getDataConclusao());
+	}
+
+	@Test
+	void atribuirPoeEmAndamentoSoOsAbertos() {
+		Usuario tecnico = usuario(Role.ROLE_TI);
+		Chamado aberto = chamado("ABERTO");
+		Chamado fechado = chamado("FECHADO");
+
+		List<ResultadoLoteDTO> resultados = chamadoLoteService.atribuir(List.of(aberto.getId(), fechado.getId(), INEXISTENTE), tecnico);
+
+		assertEquals(List.of(Resultado.OK, Resultado.OK, Resultado.NAO_ENCONTRADO),
+				resultados.stream().map(ResultadoLoteDTO::getResultado).toList());
+		Chamado atribuido = chamadoRepository.findById(aberto.getId()).orElseThrow();
+		assertEquals(tecnico.getId(), atribuido.getTecnico().getId());
+		assertEquals("EM_ANDAMENTO", atribuido.getStatus());
+		Chamado fechadoAtribuido = chamadoRepository.findById(fechado.getId()).orElseThrow();
+		assertEquals(tecnico.getId(), fechadoAtribuido.getTecnico().getId());
+		assertEquals("FECHADO", fechadoAtribuido.getStatus());
+	}
+
+	@Test
+	void deletarSoPeloAdmESoMarcaARemocao() {
+		Chamado chamado = chamado("ABERTO");
+
+		List<ResultadoLoteDTO> peloTecnico = chamadoLoteService.deletar(List.of(chamado.getId(), INEXISTENTE), usuario(Role.ROLE_TI));
+		assertEquals(List.of(Resultado.PROIBIDO, Resultado.NAO_ENCONTRADO),
+				peloTecnico.stream().map(ResultadoLoteDTO::getResultado).toList());
+		assertTrue(chamadoRepository.findById(chamado.getId()).isPresent());
+
+		List<ResultadoLoteDTO> peloAdm = chamadoLoteService.deletar(List.of(chamado.getId()), usuario(Role.ROLE_ADM));
+		assertEquals(Resultado.OK, peloAdm.get(0).getResultado());
+
+		// Some das consultas JPA, mas a linha fica (com data_remocao) até o expurgo
+		assertTrue(chamadoRepository.findById(chamado.getId()).isEmpty());
+		assertNotNull(jdbcTemplate.queryForObject("select data_remocao from chamado where id = ?",
+				LocalDateTime.class, chamado.getId()));
+
+		// Já removido: não é mais encontrado
+		assertEquals(Resultado.NAO_ENCONTRADO,
+				chamadoLoteService.deletar(List.of(chamado.getId()), usuario(Role.ROLE_ADM)).get(0).getResultado());
+	}
+
+	private Chamado chamado(String status) {
+		LocalDateTime abertura = LocalDateTime.now().minusHours(1);
+		return chamado(dono, categoria, null, status, abertura, status.equals("FECHADO") ? abertura.plusMinutes(30) : null);
+	}
+}
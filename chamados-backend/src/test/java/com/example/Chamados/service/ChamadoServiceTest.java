@@ -0,0 +1,209 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.service.ChamadoService.Resultado;
+import com.example.Chamados.service.ChamadoService.Situacao;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RecordApplicationEvents
+class ChamadoServiceTest extends BancoTeste {
+
+	private static final Long INEXISTENTE = Long.MAX_VALUE;
+
+	@Autowired
+	private ChamadoService chamadoService;
+
+	@Autowired
+	private ApplicationEvents eventos;
+
+	@Test
+	void criarPreencheDonoDataPadroesEPrazos() {
+		Usuario dono = usuario(Role.ROLE_NORMAL);
+		Chamado dados = new Chamado();
+		dados.setTitulo(unico("titulo"));
+		dados.setDescricao("Impressora do segundo andar não imprime");
+		dados.setCategoria(categoria());
+		LocalDateTime antes = LocalDateTime.now().minusSeconds(1);
+
+		Chamado criado = chamadoService.criar(dados, dono);
+
+		Chamado gravado = chamadoRepository.findById(criado.getId()).orElseThrow();
+		assertEquals(dono.getId(), gravado.getUsuario().getId());
+		assertTrue(gravado.getDataAbertura().isAfter(antes));
+		assertEquals(Prioridade.MEDIA, gravado.getPrioridade());
+		assertNotNull(gravado.getPrazoPrimeiraResposta());
+		assertNotNull(gravado.getPrazoResolucao());
+		// A atribuição automática pode ter achado um técnico: então já está em andamento
+		assertEquals(gravado.getTecnico() == null ? "ABERTO" : "EM_ANDAMENTO", gravado.getStatus());
+		assertEquals(List.of(ChamadoEvento.Tipo.CRIADO), tipos(criado.getId()));
+	}
+
+	@Test
+	void alterarStatusFechaReabreEConfereAVersao() {
+		Chamado chamado = chamado(usuario(Role.ROLE_NORMAL), categoria(), null, "ABERTO", LocalDateTime.now(), null);
+		long versao = chamado.getVersao();
+
+		Resultado fechado = chamadoService.alterarStatus(chamado.getId(), "fechado", versao);
+		assertEquals(Situacao.OK, fechado.getSituacao());
+		assertEquals("FECHADO", fechado.getChamado().getStatus());
+		assertNotNull(fechado.getChamado().getDataConclusao());
+
+		// Com a versão de antes: 412 com o chamado atual, sem alterar nada
+		Resultado velho = chamadoService.alterarStatus(chamado.getId(), "ABERTO", versao);
+		assertEquals(Situacao.PRECONDICAO_FALHOU, velho.getSituacao());
+		assertEquals("FECHADO", velho.getChamado().getStatus());
+
+		Resultado reaberto = chamadoService.alterarStatus(chamado.getId(), "ABERTO", fechado.getChamado().getVersao());
+		assertEquals(Situacao.OK, reaberto.getSituacao());
+		assertNull(chamadoRepository.findById(chamado.getId()).orElseThrow().getDataConclusao());
+
+		assertEquals(Situacao.NAO_ENCONTRADO, chamadoService.alterarStatus(INEXISTENTE, "FECHADO", null).getSituacao());
+		assertEquals(List.of(ChamadoEvento.Tipo.STATUS_ALTERADO, ChamadoEvento.Tipo.STATUS_ALTERADO), tipos(chamado.getId()));
+	}
+
+	@Test
+	void assumirSoSemTecnicoENaVersaoEsperada() {
+		Chamado chamado = chamado(usuario(Role.ROLE_NORMAL), categoria(), null, "ABERTO", LocalDateTime.now(), null);
+		Usuario tecnico = usuario(Role.ROLE_TI);
+
+		assertEquals(Situacao.PRECONDICAO_FALHOU,
+				chamadoService.assumir(chamado.getId(), tecnico, chamado.getVersao() + 1).getSituacao());
+
+		Resultado assumido = chamadoService.assumir(chamado.getId(), tecnico, chamado.getVersao());
+		assertEquals(Situacao.OK, assumido.getSituacao());
+		assertEquals(tecnico.getId(), assumido.getChamado().getTecnico().getId());
+		assertEquals("EM_ANDAMENTO", assumido.getChamado().getStatus());
+
+		// Outro técnico chega depois: conflito, o primeiro continua
+		Resultado tarde = chamadoService.assumir(chamado.getId(), usuario(Role.ROLE_TI), null);
+		assertEquals(Situacao.CONFLITO, tarde.getSituacao());
+		assertEquals(tecnico.getId(), chamadoRepository.findById(chamado.getId()).orElseThrow().getTecnico().getId());
+
+		assertEquals(Situacao.NAO_ENCONTRADO, chamadoService.assumir(INEXISTENTE, tecnico, null).getSituacao());
+		assertEquals(List.of(ChamadoEvento.Tipo.ASSUMIDO), tipos(chamado.getId()));
+	}
+
+	@Test
+	void fecharSoPeloDono() {
+		Usuario dono = usuario(Role.ROLE_NORMAL);
+		Chamado chamado = chamado(dono, categoria(), null, "ABERTO", LocalDateTime.now(), null);
+
+		// Nem outro usuário nem o técnico fecham pelo fechar: é do dono
+		assertEquals(Situacao.PROIBIDO, chamadoService.fechar(chamado.getId(), usuario(Role.ROLE_NORMAL), null).getSituacao());
+		assertEquals(Situacao.PROIBIDO, chamadoService.fechar(chamado.getId(), usuario(Role.ROLE_TI), null).getSituacao());
+		assertEquals(Situacao.PRECONDICAO_FALHOU,
+				chamadoService.fechar(chamado.getId(), dono, chamado.getVersao() + 1).getSituacao());
+		assertEquals("ABERTO", chamadoRepository.findById(chamado.getId()).orElseThrow().getStatus());
+
+		assertEquals(Situacao.OK, chamadoService.fechar(chamado.getId(), dono, chamado.getVersao()).getSituacao());
+		assertEquals(Situacao.CONFLITO, chamadoService.fechar(chamado.getId(), dono, null).getSituacao());
+	}
+
+	@Test
+	void deletarMarcaARemocaoETiraDasConsultas() {
+		Usuario dono = usuario(Role.ROLE_NORMAL);
+		Chamado chamado = chamado(dono, categoria(), usuario(Role.ROLE_TI), "EM_ANDAMENTO", LocalDateTime.now(), null);
+
+		assertEquals(Situacao.OK, chamadoService.deletar(chamado.getId()).getSituacao());
+
+		// A linha fica até o expurgo, mas nenhuma consulta a vê
+		assertEquals(Situacao.NAO_ENCONTRADO, chamadoService.buscar(chamado.getId(), dono).getSituacao());
+		assertTrue(chamadoService.listar(dono, null, null).isEmpty());
+		assertNotNull(jdbcTemplate.queryForObject("SELECT data_remocao FROM chamado WHERE id = ?",
+				LocalDateTime.class, chamado.getId()));
+
+		ChamadoEvento removido = eventos.stream(ChamadoEvento.class)
+				.filter(e -> e.getChamadoId().equals(chamado.getId())).findFirst().orElseThrow();
+		assertEquals(ChamadoEvento.Tipo.REMOVIDO, removido.getTipo());
+		assertEquals(chamado.getTecnico().getId(), removido.getTecnicoAnteriorId());
+
+		assertEquals(Situacao.NAO_ENCONTRADO, chamadoService.deletar(chamado.getId()).getSituacao());
+	}
+
+	@Test
+	void buscarVariosAplicaARegraDoBuscarEConsultaOArquivo() {
+		LocalDateTime antigo = LocalDateTime.now().minusDays(500);
+		Usuario dono = usuario(Role.ROLE_NORMAL);
+		Usuario outro = usuario(Role.ROLE_NORMAL);
+		Categoria categoria = categoria();
+
+		Chamado meu = chamado(dono, categoria, null, "ABERTO", LocalDateTime.now(), null);
+		Chamado deOutro = chamado(outro, categoria, null, "ABERTO", LocalDateTime.now(), null);
+		Chamado meuArquivado = chamado(dono, categoria, null, "FECHADO", antigo, antigo.plusHours(2));
+		Chamado deOutroArquivado = chamado(outro, categoria, null, "FECHADO", antigo, antigo.plusHours(3));
+		arquivar(meuArquivado.getId(), deOutroArquivado.getId());
+
+		List<Long> pedidos = List.of(deOutroArquivado.getId(), meuArquivado.getId(), INEXISTENTE, deOutro.getId(),
+				meu.getId(), meuArquivado.getId());
+
+		// Usuário comum: só os próprios, os arquivados inclusive, na ordem pedida e sem repetir
+		assertEquals(List.of(meuArquivado.getId(), meu.getId()), ids(chamadoService.buscarVarios(pedidos, dono)));
+		Chamado arquivado = chamadoService.buscarVarios(List.of(meuArquivado.getId()), dono).get(0);
+		assertEquals(meuArquivado.getTitulo(), arquivado.getTitulo());
+		assertEquals(dono.getId(), arquivado.getUsuario().getId());
+
+		// Outro usuário comum: nenhum dos do dono
+		assertEquals(List.of(deOutroArquivado.getId(), deOutro.getId()), ids(chamadoService.buscarVarios(pedidos, outro)));
+
+		// TI vê todos, da tabela principal e do arquivo
+		assertEquals(List.of(deOutroArquivado.getId(), meuArquivado.getId(), deOutro.getId(), meu.getId()),
+				ids(chamadoService.buscarVarios(pedidos, usuario(Role.ROLE_TI))));
+	}
+
+	@Test
+	void listarPorPeriodoUsaSoOsLimitesInformados() {
+		LocalDateTime marco = LocalDateTime.of(1980, 3, 1, 0, 0);
+		Usuario dono = usuario(Role.ROLE_NORMAL);
+		Categoria categoria = categoria();
+		Chamado inicioDoMes = chamado(dono, categoria, null, "ABERTO", marco, null);
+		Chamado meioDoMes = chamado(dono, categoria, null, "ABERTO", marco.plusDays(14), null);
+		Chamado mesSeguinte = chamado(dono, categoria, null, "ABERTO", marco.plusMonths(1), null);
+		Chamado deOutro = chamado(usuario(Role.ROLE_NORMAL), categoria, null, "ABERTO", marco.plusDays(9), null);
+		List<Long> criados = List.of(inicioDoMes.getId(), meioDoMes.getId(), mesSeguinte.getId(), deOutro.getId());
+
+		// Dono: só os próprios; "de" inclusivo, "ate" exclusivo
+		assertEquals(List.of(inicioDoMes.getId(), meioDoMes.getId()),
+				ordenados(chamadoService.listar(dono, marco, marco.plusMonths(1)), criados));
+		assertEquals(List.of(meioDoMes.getId(), mesSeguinte.getId()),
+				ordenados(chamadoService.listar(dono, marco.plusDays(1), null), criados));
+		assertEquals(List.of(inicioDoMes.getId()), ordenados(chamadoService.listar(dono, null, marco.plusDays(1)), criados));
+
+		// TI: de todos os donos (o banco é dividido com os outros testes: só os criados aqui contam)
+		Usuario tecnico = usuario(Role.ROLE_TI);
+		assertEquals(List.of(inicioDoMes.getId(), meioDoMes.getId(), deOutro.getId()),
+				ordenados(chamadoService.listar(tecnico, marco, marco.plusMonths(1)), criados));
+		assertEquals(List.of(mesSeguinte.getId()), ordenados(chamadoService.listar(tecnico, marco.plusMonths(1), null), criados));
+	}
+
+	// Ids dos chamados da lista que estão em "entre", em ordem crescente
+	private static List<Long> ordenados(List<Chamado> chamados, List<Long> entre) {
+		return chamados.stream().map(Chamado::getId).filter(entre::contains).sorted().toList();
+	}
+
+	private List<ChamadoEvento.Tipo> tipos(Long chamadoId) {
+		return eventos.stream(ChamadoEvento.class)
+				.filter(e -> e.getChamadoId().equals(chamadoId))
+				.map(ChamadoEvento::getTipo)
+				.toList();
+	}
+
+	private static List<Long> ids(List<Chamado> chamados) {
+		return chamados.stream().map(Chamado::getId).toList();
+	}
+}
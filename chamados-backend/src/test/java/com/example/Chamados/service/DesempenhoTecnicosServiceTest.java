@@ -0,0 +1,104 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.DesempenhoTecnicoDTO;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.repository.ChamadoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DesempenhoTecnicosServiceTest extends BancoTeste {
+
+	@Autowired
+	private DesempenhoTecnicosService desempenhoTecnicosService;
+
+	@Test
+	void posicaoDoPercentilArredondaParaCimaComoNaConsulta() {
+		// 10 fechados: mediana é o 5º menor tempo, p90 o 9º
+		assertEquals(5, DesempenhoTecnicosService.posicao(10, 50));
+		assertEquals(9, DesempenhoTecnicosService.posicao(10, 90));
+
+		// Poucos fechados: com 1, mediana e p90 são o mesmo chamado
+		assertEquals(1, DesempenhoTecnicosService.posicao(1, 50));
+		assertEquals(1, DesempenhoTecnicosService.posicao(1, 90));
+		assertEquals(2, DesempenhoTecnicosService.posicao(3, 50));
+		assertEquals(3, DesempenhoTecnicosService.posicao(3, 90));
+	}
+
+	@Test
+	void percentisPorTecnicoComZeroUmEDezFechados() {
+		LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+		Usuario dono = usuario(Role.ROLE_NORMAL);
+		Categoria categoria = categoria();
+		Usuario semFechados = usuario(Role.ROLE_TI);
+		Usuario umFechado = usuario(Role.ROLE_TI);
+		Usuario dezFechados = usuario(Role.ROLE_TI);
+
+		chamado(dono, categoria, semFechados, "ABERTO", agora.minusHours(5), null);
+		chamado(dono, categoria, semFechados, "EM_ANDAMENTO", agora.minusHours(4), null);
+		chamado(dono, categoria, umFechado, "EM_ANDAMENTO", agora.minusHours(3), null);
+		fechado(dono, categoria, umFechado, agora.minusHours(2), 30);
+		// 10, 20, ..., 100 minutos fora de ordem: mediana é o 5º (50 min), p90 o 9º (90 min)
+		for (int minutos : new int[] { 70, 10, 100, 40, 20, 90, 60, 30, 80, 50 }) {
+			fechado(dono, categoria, dezFechados, agora.minusHours(1).minusMinutes(minutos), minutos);
+		}
+		// Fora da janela e removido: não contam
+		fechado(dono, categoria, dezFechados, agora.minusDays(10), 1000);
+		Chamado removido = fechado(dono, categoria, dezFechados, agora.minusHours(1), 1);
+		transactionTemplate.executeWithoutResult(status ->
+				chamadoRepository.marcarRemovidosEmLote(List.of(removido.getId()), agora));
+
+		// A consulta devolve só as posições da mediana e do p90 (uma linha só com um fechado)
+		List<ChamadoRepository.PercentilTecnico> linhas = chamadoRepository.findPercentisResolucaoPorTecnico(
+				agora.minusDays(3), agora.plusMinutes(1));
+		assertEquals(List.of("1 1 1800"), posicoes(linhas, umFechado));
+		assertEquals(List.of("10 5 3000", "10 9 5400"), posicoes(linhas, dezFechados));
+		assertEquals(List.of(), posicoes(linhas, semFechados));
+
+		Map<Long, DesempenhoTecnicoDTO> desempenho = desempenhoTecnicosService.desempenho(3).stream()
+				.collect(Collectors.toMap(DesempenhoTecnicoDTO::getTecnicoId, Function.identity()));
+
+		DesempenhoTecnicoDTO zero = desempenho.get(semFechados.getId());
+		assertEquals(2, zero.getAbertos());
+		assertEquals(0, zero.getFechados());
+		assertNull(zero.getMedianaMinutos());
+		assertNull(zero.getP90Minutos());
+
+		DesempenhoTecnicoDTO um = desempenho.get(umFechado.getId());
+		assertEquals(1, um.getAbertos());
+		assertEquals(1, um.getFechados());
+		assertEquals(30, um.getMedianaMinutos());
+		assertEquals(30, um.getP90Minutos());
+
+		DesempenhoTecnicoDTO dez = desempenho.get(dezFechados.getId());
+		assertEquals(0, dez.getAbertos());
+		assertEquals(10, dez.getFechados());
+		assertEquals(50, dez.getMedianaMinutos());
+		assertEquals(90, dez.getP90Minutos());
+	}
+
+	private Chamado fechado(Usuario dono, Categoria categoria, Usuario tecnico, LocalDateTime conclusao, int minutos) {
+		return chamado(dono, categoria, tecnico, "FECHADO", conclusao.minusMinutes(minutos), conclusao);
+	}
+
+	// Linhas do técnico como "fechados posicao segundos", pela posição
+	private static List<String> posicoes(List<ChamadoRepository.PercentilTecnico> linhas, Usuario tecnico) {
+		return linhas.stream()
+				.filter(p -> p.getTecnicoId().equals(tecnico.getId()))
+				.map(p -> p.getFechados() + " " + p.getPosicao() + " " + p.getSegundos())
+				.sorted()
+				.toList();
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.AnexosProperties;
+import com.example.Chamados.config.ExpurgoProperties;
+import com.example.Chamados.controller.ComentarioController;
+import com.example.Chamados.dto.ComentarioDTO;
+import com.example.Chamados.model.Anexo;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpurgoServiceTest extends BancoTeste {
+
+	@Autowired
+	private ExpurgoService expurgoService;
+
+	@Autowired
+	private ExpurgoProperties properties;
+
+	@Autowired
+	private AnexoService anexoService;
+
+	@Autowired
+	private AnexosProperties anexosProperties;
+
+	@Autowired
+	private ChamadoService chamadoService;
+
+	@Autowired
+	private ComentarioController comentarioController;
+
+	private LocalDateTime agora;
+	private LocalDateTime vencido;    // Removido antes da carência: sai no expurgo
+	private LocalDateTime naCarencia; // Removido há pouco: ainda fica
+	private Usuario dono;
+	private Categoria categoria;
+
+	@BeforeEach
+	void montar() {
+		agora = LocalDateTime.now();
+		vencido = agora.minus(properties.getCarencia()).minusDays(1);
+		naCarencia = agora.minus(properties.getCarencia()).plusDays(1);
+		dono = usuario(Role.ROLE_NORMAL);
+		categoria = categoria();
+	}
+
+	@Test
+	void chamadoVaiComComentariosEAnexosDepoisDaCarencia() throws IOException {
+		Chamado expurgado = chamado(dono, categoria, null, "ABERTO", agora.minusDays(60), null);
+		Chamado recente = chamado(dono, categoria, null, "ABERTO", agora.minusDays(60), null);
+		Chamado fica = chamado(dono, categoria, null, "ABERTO", agora.minusDays(60), null);
+		comentar(expurgado, "Comentário que vai junto");
+		comentar(recente, "Comentário que fica");
+		String exclusivo = unico("log só do expurgado");
+		String compartilhado = unico("print usado pelos dois");
+		Anexo soDoExpurgado = anexar(expurgado, exclusivo);
+		Anexo doExpurgado = anexar(expurgado, compartilhado);
+		Anexo doQueFica = anexar(fica, compartilhado);
+		// Arquivos antigos: fora da carência de arquivos reaproveitados
+		FileTime antigo = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+		Files.setLastModifiedTime(arquivo(soDoExpurgado.getHash()), antigo);
+		Files.setLastModifiedTime(arquivo(doExpurgado.getHash()), antigo);
+
+		remover(expurgado.getId(), vencido);
+		remover(recente.getId(), naCarencia);
+
+		// Na carência: as linhas estão no banco, mas a restrição do Chamado as esconde de todo HQL
+		assertEquals(1, contar("chamado", "id", recente.getId()));
+		assertTrue(chamadoRepository.findById(recente.getId()).isEmpty());
+		assertTrue(chamadoRepository.findById(expurgado.getId()).isEmpty());
+		assertEquals(ChamadoService.Situacao.NAO_ENCONTRADO, chamadoService.buscar(recente.getId(), dono).getSituacao());
+		assertFalse(chamadoRepository.findAllById(List.of(recente.getId(), expurgado.getId())).iterator().hasNext());
+
+		expurgarAte(() -> contar("chamado", "id", expurgado.getId()) == 0);
+
+		// O vencido vai com comentários, anexos e o arquivo que só ele usava
+		assertEquals(0, contar("comentario", "chamado_id", expurgado.getId()));
+		assertEquals(0, contar("anexo", "chamado_id", expurgado.getId()));
+		assertFalse(Files.exists(arquivo(soDoExpurgado.getHash())));
+		assertTrue(Files.exists(arquivo(doQueFica.getHash()))); // Ainda usado pelo anexo do outro chamado
+		assertEquals(1, contar("anexo", "chamado_id", fica.getId()));
+
+		// O da carência continua, com o comentário
+		assertEquals(1, contar("chamado", "id", recente.getId()));
+		assertEquals(1, contar("comentario", "chamado_id", recente.getId()));
+	}
+
+	@Test
+	void usuarioSoVaiQuandoNadaMaisOReferencia() {
+		Usuario comChamado = removido(usuario(Role.ROLE_NORMAL), vencido);
+		Chamado chamado = chamado(comChamado, categoria, null, "FECHADO", agora.minusDays(90), agora.minusDays(89));
+		Usuario tecnicoDoChamado = usuario(Role.ROLE_TI);
+		chamado.setTecnico(tecnicoDoChamado);
+		chamadoRepository.save(chamado);
+		removido(tecnicoDoChamado, vencido);
+		Usuario semReferencias = removido(usuario(Role.ROLE_NORMAL), vencido);
+		Usuario naCarenciaSemReferencias = removido(usuario(Role.ROLE_NORMAL), naCarencia);
+
+		expurgarAte(() -> contar("usuario", "id", semReferencias.getId()) == 0);
+		assertEquals(1, contar("usuario", "id", comChamado.getId()));       // Dono de um chamado
+		assertEquals(1, contar("usuario", "id", tecnicoDoChamado.getId())); // Técnico de um chamado
+		assertEquals(1, contar("usuario", "id", naCarenciaSemReferencias.getId()));
+
+		// Expurgado o chamado, no mesmo lote vão o dono e o técnico
+		remover(chamado.getId(), vencido);
+		expurgarAte(() -> contar("chamado", "id", chamado.getId()) == 0);
+		assertEquals(0, contar("usuario", "id", comChamado.getId()));
+		assertEquals(0, contar("usuario", "id", tecnicoDoChamado.getId()));
+		assertEquals(1, contar("usuario", "id", naCarenciaSemReferencias.getId()));
+	}
+
+	// Roda lotes até a condição valer (outros testes também deixam removidos no banco)
+	private void expurgarAte(BooleanSupplier condicao) {
+		for (int i = 0; i < 50 && !condicao.getAsBoolean(); i++) {
+			if (expurgoService.expurgarLote() == 0) {
+				break;
+			}
+		}
+		assertTrue(condicao.getAsBoolean());
+	}
+
+	private void remover(Long chamadoId, LocalDateTime quando) {
+		transactionTemplate.executeWithoutResult(status -> chamadoRepository.marcarRemovidosEmLote(List.of(chamadoId), quando));
+	}
+
+	private Usuario removido(Usuario usuario, LocalDateTime quando) {
+		usuario.setDataRemocao(quando);
+		usuario.setAtivo(false);
+		return usuarioRepository.save(usuario);
+	}
+
+	private void comentar(Chamado chamado, String texto) {
+		ComentarioDTO comentario = new ComentarioDTO();
+		comentario.setTexto(texto);
+		comentarioController.comentar(chamado.getId(), comentario, dono);
+	}
+
+	private Anexo anexar(Chamado chamado, String conteudo) throws IOException {
+		return anexoService.salvar(chamado.getId(), dono, "anexo.txt", "text/plain",
+				new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private Path arquivo(String hash) {
+		return Paths.get(anexosProperties.getDiretorio()).toAbsolutePath().resolve(hash.substring(0, 2)).resolve(hash);
+	}
+
+	private int contar(String tabela, String coluna, Long id) {
+		return jdbcTemplate.queryForObject("select count(*) from " + tabela + " where " + coluna + " = ?", Integer.class, id);
+	}
+}
@@ -0,0 +1,141 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A fila é única no contexto e recebe os chamados dos outros testes: os daqui são CRITICA e de 1971,
+// então ficam na frente de tudo o que os outros criam
+class FilaChamadosServiceTest extends BancoTeste {
+
+	private static final LocalDateTime INICIO = LocalDateTime.of(1971, 1, 1, 8, 0);
+
+	@Autowired
+	private FilaChamadosService filaChamadosService;
+
+	private Usuario dono;
+	private Categoria categoria;
+
+	@BeforeEach
+	void montar() {
+		dono = usuario(Role.ROLE_NORMAL);
+		categoria = categoria();
+	}
+
+	@Test
+	void doisTecnicosAoMesmoTempoNuncaRecebemOMesmoChamado() throws Exception {
+		Set<Long> enfileirados = new HashSet<>();
+		for (int i = 0; i < 20; i++) {
+			enfileirados.add(enfileirar(INICIO.plusMinutes(i)).getId());
+		}
+		Usuario primeiro = usuario(Role.ROLE_TI);
+		Usuario segundo = usuario(Role.ROLE_TI);
+
+		CountDownLatch largada = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<List<Long>> doPrimeiro = executor.submit(pegar(primeiro, 10, largada));
+			Future<List<Long>> doSegundo = executor.submit(pegar(segundo, 10, largada));
+			largada.countDown();
+
+			List<Long> entregues = new ArrayList<>(doPrimeiro.get(30, TimeUnit.SECONDS));
+			entregues.addAll(doSegundo.get(30, TimeUnit.SECONDS));
+
+			assertEquals(20, entregues.size());
+			assertEquals(enfileirados, new HashSet<>(entregues)); // Sem repetir nenhum
+		} finally {
+			executor.shutdownNow();
+		}
+		for (Long id : enfileirados) {
+			assertTrue(chamadoRepository.findById(id).orElseThrow().getTecnico() != null);
+		}
+	}
+
+	@Test
+	void itemVelhoEPuladoEOProximoEEntregue() {
+		Chamado jaAssumido = enfileirar(INICIO.minusDays(3));
+		Chamado jaFechado = enfileirar(INICIO.minusDays(2));
+		Chamado livre = enfileirar(INICIO.minusDays(1));
+		Usuario outroTecnico = usuario(Role.ROLE_TI);
+
+		// Mudanças direto no banco, sem evento: a fila continua com os dois
+		jdbcTemplate.update("UPDATE chamado SET tecnico_id = ?, status = 'EM_ANDAMENTO' WHERE id = ?",
+				outroTecnico.getId(), jaAssumido.getId());
+		jdbcTemplate.update("UPDATE chamado SET status = 'FECHADO', data_conclusao = ? WHERE id = ?",
+				INICIO, jaFechado.getId());
+		int antes = filaChamadosService.tamanho();
+
+		Usuario tecnico = usuario(Role.ROLE_TI);
+		Chamado entregue = filaChamadosService.proximo(tecnico).orElseThrow();
+
+		assertEquals(livre.getId(), entregue.getId());
+		assertEquals(tecnico.getId(), entregue.getTecnico().getId());
+		assertEquals("EM_ANDAMENTO", entregue.getStatus());
+		assertEquals(antes - 3, filaChamadosService.tamanho()); // Os velhos saíram sem voltar
+
+		Chamado assumido = chamadoRepository.findById(jaAssumido.getId()).orElseThrow();
+		assertEquals(outroTecnico.getId(), assumido.getTecnico().getId());
+		assertEquals("FECHADO", chamadoRepository.findById(jaFechado.getId()).orElseThrow().getStatus());
+	}
+
+	@Test
+	void falhaNoBancoDevolveOItemParaAFila() {
+		Chamado chamado = enfileirar(INICIO.minusYears(1));
+		int antes = filaChamadosService.tamanho();
+
+		// Técnico que não existe no banco: o UPDATE falha
+		Usuario inexistente = new Usuario();
+		inexistente.setId(Long.MAX_VALUE);
+		assertThrows(RuntimeException.class, () -> filaChamadosService.proximo(inexistente));
+
+		assertEquals(antes, filaChamadosService.tamanho());
+		Usuario tecnico = usuario(Role.ROLE_TI);
+		Chamado entregue = filaChamadosService.proximo(tecnico).orElseThrow();
+		assertEquals(chamado.getId(), entregue.getId());
+		assertEquals(tecnico.getId(), entregue.getTecnico().getId());
+	}
+
+	// Chamado aberto, sem técnico e crítico, colocado na fila como faria o evento de criação
+	private Chamado enfileirar(LocalDateTime abertura) {
+		Chamado chamado = chamado(dono, categoria, null, "ABERTO", abertura, null);
+		chamado.setPrioridade(Prioridade.CRITICA);
+		chamado = chamadoRepository.save(chamado);
+		filaChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.CRIADO, chamado, null, null));
+		return chamado;
+	}
+
+	private Callable<List<Long>> pegar(Usuario tecnico, int vezes, CountDownLatch largada) {
+		return () -> {
+			largada.await();
+			List<Long> ids = new ArrayList<>();
+			for (int i = 0; i < vezes; i++) {
+				Optional<Chamado> chamado = filaChamadosService.proximo(tecnico);
+				chamado.ifPresent(c -> ids.add(c.getId()));
+			}
+			return ids;
+		};
+	}
+}
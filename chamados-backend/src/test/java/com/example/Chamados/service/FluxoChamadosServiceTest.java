@@ -0,0 +1,193 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.FluxoChamadosDTO;
+import com.example.Chamados.dto.FluxoChamadosDTO.Agrupamento;
+import com.example.Chamados.dto.FluxoChamadosDTO.Granularidade;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.Setor;
+import com.example.Chamados.model.Usuario;
+import com.example.Chamados.service.ChamadoService.Situacao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FluxoChamadosServiceTest extends BancoTeste {
+
+	@Autowired
+	private FluxoChamadosService fluxoChamadosService;
+
+	@Autowired
+	private ChamadoLoteService chamadoLoteService;
+
+	@Autowired
+	private ChamadoService chamadoService;
+
+	private Usuario dono;
+	private Categoria categoria;
+	private Setor setor;
+
+	@BeforeEach
+	void montar() {
+		dono = usuario(Role.ROLE_NORMAL);
+		categoria = categoria();
+		setor = setor();
+	}
+
+	@Test
+	void horaCaiNoInicioDoPeriodo() {
+		LocalDateTime quinta = LocalDateTime.of(2025, 3, 13, 17, 0); // Quinta-feira
+
+		assertEquals(quinta, FluxoChamadosService.inicioDoPeriodo(quinta, Granularidade.HORA));
+		assertEquals(LocalDateTime.of(2025, 3, 13, 0, 0), FluxoChamadosService.inicioDoPeriodo(quinta, Granularidade.DIA));
+		assertEquals(LocalDateTime.of(2025, 3, 10, 0, 0), FluxoChamadosService.inicioDoPeriodo(quinta, Granularidade.SEMANA));
+		assertEquals(LocalDateTime.of(2025, 3, 1, 0, 0), FluxoChamadosService.inicioDoPeriodo(quinta, Granularidade.MES));
+
+		// Segunda-feira já é o início da própria semana
+		LocalDateTime segunda = LocalDateTime.of(2025, 3, 10, 9, 0);
+		assertEquals(LocalDateTime.of(2025, 3, 10, 0, 0), FluxoChamadosService.inicioDoPeriodo(segunda, Granularidade.SEMANA));
+	}
+
+	@Test
+	void eventosSomamNaHoraEGravamNaTabela() {
+		LocalDateTime abertura = LocalDateTime.of(2020, 1, 6, 10, 15);
+		Chamado chamado = chamado(abertura, null);
+		fluxoChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.CRIADO, chamado, null, null));
+		fluxoChamadosService.gravar();
+
+		LocalDateTime dia = abertura.truncatedTo(ChronoUnit.DAYS);
+		assertEquals(List.of(linha(abertura.withMinute(0), 1, 0)), linhas(dia, dia.plusDays(1), Granularidade.HORA));
+
+		// Fechamento com a entidade: conta na hora da conclusão, com o setor do chamado
+		chamado.setStatus("FECHADO");
+		chamado.setDataConclusao(abertura.plusHours(3).plusMinutes(25));
+		chamado = chamadoRepository.save(chamado);
+		fluxoChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.STATUS_ALTERADO, chamado, "ABERTO", null));
+		fluxoChamadosService.gravar();
+
+		assertEquals(List.of(linha(abertura.withMinute(0), 1, 0), linha(abertura.plusHours(3).withMinute(0), 0, 1)),
+				linhas(dia, dia.plusDays(1), Granularidade.HORA));
+		assertEquals(List.of(linha(dia, 1, 1)), linhas(dia, dia.plusDays(1), Granularidade.DIA));
+		List<FluxoChamadosDTO> porSetor = fluxoChamadosService.consultar(dia, dia.plusDays(1), Granularidade.DIA,
+				setor.getId(), categoria.getId(), Agrupamento.SETOR);
+		assertEquals(List.of(setor.getId()), porSetor.stream().map(FluxoChamadosDTO::getSetorId).toList());
+	}
+
+	@Test
+	void fechamentoEmLoteBuscaSetorECategoriaNaGravacao() {
+		LocalDateTime antes = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+		Chamado comSetor = chamado(antes, null);
+		Chamado semSetor = chamado(antes, null);
+		semSetor.setSetor(null);
+		chamadoRepository.save(semSetor);
+		Chamado removido = chamado(antes, null);
+
+		// O lote não carrega as entidades: os fechamentos (e a remoção) esperam a gravação para ter setor e categoria
+		chamadoLoteService.fechar(List.of(comSetor.getId(), semSetor.getId(), removido.getId()));
+		chamadoLoteService.deletar(List.of(removido.getId()), usuario(Role.ROLE_ADM));
+		fluxoChamadosService.gravar();
+
+		List<FluxoChamadosDTO> porSetor = fluxoChamadosService.consultar(antes, antes.plusHours(3), Granularidade.DIA,
+				null, categoria.getId(), Agrupamento.SETOR);
+		assertEquals(2, porSetor.stream().mapToLong(FluxoChamadosDTO::getFechados).sum()); // O removido é descontado
+		assertEquals(1, porSetor.stream().filter(d -> setor.getId().equals(d.getSetorId()))
+				.mapToLong(FluxoChamadosDTO::getFechados).sum());
+		assertEquals(1, porSetor.stream().filter(d -> d.getSetorId() == null)
+				.mapToLong(FluxoChamadosDTO::getFechados).sum());
+	}
+
+	@Test
+	void recalcularRefazOIntervaloSemContarDuasVezesOQueEstaEmMemoria() {
+		LocalDateTime dia = LocalDateTime.of(2019, 5, 6, 0, 0);
+		chamado(dia.plusHours(9).plusMinutes(10), dia.plusHours(11).plusMinutes(5));
+		Chamado arquivado = chamado(dia.plusHours(9).plusMinutes(50), dia.plusHours(14));
+		arquivar(arquivado.getId());
+		Chamado emMemoria = chamado(dia.plusHours(16), null);
+		Chamado foraDoIntervalo = chamado(dia.plusDays(3).plusHours(8), null);
+
+		// Linha errada no intervalo: o recálculo substitui
+		jdbcTemplate.update("INSERT INTO fluxo_chamados (hora, setor_id, categoria_id, abertos, fechados) VALUES (?, ?, ?, 99, 99)",
+				Timestamp.valueOf(dia.plusHours(9)), setor.getId(), categoria.getId());
+		// Somas ainda não gravadas: a de dentro do intervalo já está no chamado, a de fora não pode se perder
+		fluxoChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.CRIADO, emMemoria, null, null));
+		fluxoChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.CRIADO, foraDoIntervalo, null, null));
+
+		fluxoChamadosService.recalcular(dia, dia.plusDays(1));
+		fluxoChamadosService.gravar();
+
+		assertEquals(List.of(linha(dia.plusHours(9), 2, 0), linha(dia.plusHours(11), 0, 1),
+						linha(dia.plusHours(14), 0, 1), linha(dia.plusHours(16), 1, 0)),
+				linhas(dia, dia.plusDays(1), Granularidade.HORA));
+		assertEquals(List.of(linha(dia.plusDays(3), 1, 0)), linhas(dia.plusDays(1), dia.plusDays(7), Granularidade.DIA));
+	}
+
+	@Test
+	void remocaoDescontaOQueORecalculoNaoConta() {
+		LocalDateTime dia = LocalDateTime.of(2018, 9, 3, 0, 0);
+		Chamado fica = chamado(dia.plusHours(8), null);
+		Chamado removido = chamado(dia.plusHours(8).plusMinutes(30), null);
+		for (Chamado chamado : List.of(fica, removido)) {
+			fluxoChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.CRIADO, chamado, null, null));
+		}
+		removido.setStatus("FECHADO");
+		removido.setDataConclusao(dia.plusHours(10));
+		removido = chamadoRepository.save(removido);
+		fluxoChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.STATUS_ALTERADO, removido, "ABERTO", null));
+		fluxoChamadosService.gravar();
+
+		assertEquals(Situacao.OK, chamadoService.deletar(removido.getId()).getSituacao());
+		fluxoChamadosService.gravar();
+
+		// A hora da conclusão zerou e some do relatório, igual ao que o recálculo grava
+		List<String> esperado = List.of(linha(dia.plusHours(8), 1, 0));
+		assertEquals(esperado, linhas(dia, dia.plusDays(1), Granularidade.HORA));
+		fluxoChamadosService.recalcular(dia, dia.plusDays(1));
+		assertEquals(esperado, linhas(dia, dia.plusDays(1), Granularidade.HORA));
+	}
+
+	@Test
+	void recalculoDeOutraInstanciaDescartaAsSomasDoIntervaloFeitasAntesDele() {
+		LocalDateTime dia = LocalDateTime.of(2017, 2, 13, 0, 0);
+		Chamado recontado = chamado(dia.plusHours(9), null);
+		Chamado foraDoIntervalo = chamado(dia.plusDays(1).plusHours(9), null);
+		fluxoChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.CRIADO, recontado, null, null));
+		fluxoChamadosService.aoAlterarChamado(ChamadoEvento.de(ChamadoEvento.Tipo.CRIADO, foraDoIntervalo, null, null));
+
+		// Outra instância recontou o dia depois dessas somas: a linha dela já inclui o chamado
+		jdbcTemplate.update("INSERT INTO fluxo_chamados (hora, setor_id, categoria_id, abertos, fechados) VALUES (?, ?, ?, 1, 0)",
+				Timestamp.valueOf(dia.plusHours(9)), setor.getId(), categoria.getId());
+		jdbcTemplate.update("INSERT INTO fluxo_recalculo (inicio, fim, data_criacao) VALUES (?, ?, ?)",
+				Timestamp.valueOf(dia), Timestamp.valueOf(dia.plusDays(1)), Timestamp.valueOf(LocalDateTime.now().plusSeconds(1)));
+		fluxoChamadosService.gravar();
+
+		assertEquals(List.of(linha(dia, 1, 0), linha(dia.plusDays(1), 1, 0)),
+				linhas(dia, dia.plusDays(2), Granularidade.DIA));
+	}
+
+	// Chamado do setor e da categoria do teste, fechado se tiver conclusão
+	private Chamado chamado(LocalDateTime abertura, LocalDateTime conclusao) {
+		Chamado chamado = chamado(dono, categoria, null, conclusao != null ? "FECHADO" : "ABERTO", abertura, conclusao);
+		chamado.setSetor(setor);
+		return chamadoRepository.save(chamado);
+	}
+
+	// Linhas da categoria do teste como "inicio abertos fechados"
+	private List<String> linhas(LocalDateTime de, LocalDateTime ate, Granularidade granularidade) {
+		return fluxoChamadosService.consultar(de, ate, granularidade, null, categoria.getId(), Agrupamento.NENHUM).stream()
+				.map(d -> linha(d.getInicio(), d.getAbertos(), d.getFechados()))
+				.toList();
+	}
+
+	private static String linha(LocalDateTime inicio, long abertos, long fechados) {
+		return inicio + " " + abertos + " " + fechados;
+	}
+}
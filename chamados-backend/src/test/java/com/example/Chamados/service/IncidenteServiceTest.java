@@ -0,0 +1,126 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.dto.ChamadoSemelhanteDTO;
+import com.example.Chamados.dto.SlaRiscoDTO;
+import com.example.Chamados.event.ChamadoEvento;
+import com.example.Chamados.event.StatusPropagadoEvento;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.TipoSla;
+import com.example.Chamados.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RecordApplicationEvents
+class IncidenteServiceTest extends BancoTeste {
+
+	@Autowired
+	private ChamadoService chamadoService;
+
+	@Autowired
+	private FilaChamadosService filaChamadosService;
+
+	@Autowired
+	private DuplicadosService duplicadosService;
+
+	@Autowired
+	private SlaService slaService;
+
+	@Autowired
+	private ApplicationEvents eventos;
+
+	private final LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+	private Usuario dono;
+	private Usuario tecnico;
+	private Categoria categoria;
+	private String texto;
+
+	@BeforeEach
+	void montar() {
+		dono = usuario(Role.ROLE_NORMAL);
+		tecnico = usuario(Role.ROLE_TI);
+		categoria = categoria();
+		texto = unico("queda de rede no bloco") + " sem internet desde cedo em todas as salas do andar";
+	}
+
+	@Test
+	void paiLevaOStatusAosFilhosComUmEventoSo() {
+		Chamado pai = chamado(dono, categoria, null, "ABERTO", agora, null);
+		Chamado semTecnico1 = filho(pai, null);
+		Chamado semTecnico2 = filho(pai, null);
+		Chamado comTecnico = filho(pai, tecnico);
+		List<Long> filhos = List.of(semTecnico1.getId(), semTecnico2.getId(), comTecnico.getId());
+
+		// Índices montados do banco, como na subida
+		filaChamadosService.reconstruir();
+		duplicadosService.reconstruir();
+		slaService.reconstruir();
+		int fila = filaChamadosService.tamanho();
+		assertEquals(Set.copyOf(filhos), semelhantes());
+
+		// Em andamento: um evento para os três filhos e a primeira resposta gravada em todos
+		eventos.clear();
+		chamadoService.alterarStatus(pai.getId(), "EM_ANDAMENTO", null);
+		List<StatusPropagadoEvento> propagados = eventos.stream(StatusPropagadoEvento.class).toList();
+		assertEquals(1, propagados.size());
+		assertEquals(Set.copyOf(filhos), Set.copyOf(propagados.get(0).getChamadoIds()));
+		assertEquals(List.of(pai.getId()), eventos.stream(ChamadoEvento.class).map(ChamadoEvento::getChamadoId).toList());
+		for (Long id : filhos) {
+			Chamado gravado = chamadoRepository.findById(id).orElseThrow();
+			assertEquals("EM_ANDAMENTO", gravado.getStatus());
+			assertNotNull(gravado.getDataPrimeiraResposta());
+		}
+		assertEquals(Set.of(TipoSla.RESOLUCAO), tiposPendentes(filhos));
+		assertEquals(fila, filaChamadosService.tamanho()); // Sem técnico, seguem na fila
+
+		// Fechado: saem da fila (o pai e os dois sem técnico), do índice de duplicados e da roda de SLA
+		chamadoService.alterarStatus(pai.getId(), "FECHADO", null);
+		assertEquals(fila - 3, filaChamadosService.tamanho());
+		assertEquals(Set.of(), semelhantes());
+		assertEquals(Set.of(), tiposPendentes(filhos));
+
+		// Reaberto: voltam com os dados lidos do banco
+		chamadoService.alterarStatus(pai.getId(), "ABERTO", null);
+		assertEquals(fila, filaChamadosService.tamanho());
+		assertEquals(Set.copyOf(filhos), semelhantes());
+		assertEquals(Set.of(TipoSla.RESOLUCAO), tiposPendentes(filhos));
+		assertEquals("ABERTO", chamadoRepository.findById(semTecnico1.getId()).orElseThrow().getStatus());
+	}
+
+	// Filho aberto com os dois prazos de SLA pela frente e o texto do incidente
+	private Chamado filho(Chamado pai, Usuario tecnicoDoFilho) {
+		Chamado filho = chamado(dono, categoria, tecnicoDoFilho, "ABERTO", agora, null);
+		filho.setTitulo("Sem rede");
+		filho.setDescricao(texto);
+		filho.setPrazoPrimeiraResposta(agora.plusHours(1));
+		filho.setPrazoResolucao(agora.plusHours(8));
+		filho.setIncidentePaiId(pai.getId());
+		return chamadoRepository.save(filho);
+	}
+
+	private Set<Long> semelhantes() {
+		return Set.copyOf(duplicadosService.semelhantes("Sem rede", texto).stream()
+				.map(ChamadoSemelhanteDTO::getChamadoId).toList());
+	}
+
+	private Set<TipoSla> tiposPendentes(List<Long> ids) {
+		List<SlaRiscoDTO> emRisco = slaService.chamadosEmRisco(Duration.ofDays(1));
+		assertTrue(emRisco.stream().filter(r -> ids.contains(r.getChamadoId()))
+				.allMatch(r -> r.getPrazo().equals(agora.plusHours(8)) || r.getTipo() == TipoSla.PRIMEIRA_RESPOSTA));
+		return Set.copyOf(emRisco.stream().filter(r -> ids.contains(r.getChamadoId())).map(SlaRiscoDTO::getTipo).toList());
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.config.IdempotenciaProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// O registro só vira bean com chamados.idempotencia.tipo=banco: aqui é montado à mão sobre o H2 dos testes
+class RegistroIdempotenciaBancoTest extends BancoTeste {
+
+	private static final Instant INICIO = Instant.parse("2025-03-10T12:00:00Z");
+
+	private final RegistroIdempotenciaBanco registro = new RegistroIdempotenciaBanco();
+	private final IdempotenciaProperties properties = new IdempotenciaProperties();
+
+	@BeforeEach
+	void montar() {
+		ReflectionTestUtils.setField(registro, "properties", properties);
+		ReflectionTestUtils.setField(registro, "jdbcTemplate", jdbcTemplate);
+		relogio(INICIO);
+	}
+
+	@Test
+	void reservaConflitoConclusaoELiberacao() {
+		String chave = unico("chave");
+
+		// Primeira reserva vence; a segunda vê a execução em andamento, com a impressão da primeira
+		assertNull(registro.reservar(chave, "impressao-a"));
+		RegistroIdempotencia.Entrada emAndamento = registro.reservar(chave, "impressao-b");
+		assertTrue(emAndamento.emAndamento());
+		assertEquals("impressao-a", emAndamento.impressao());
+
+		// Liberada (erro na execução): a chave fica livre de novo
+		registro.liberar(chave);
+		assertNull(registro.reservar(chave, "impressao-a"));
+
+		// Concluída: a repetição recebe a resposta guardada, e liberar não a apaga
+		byte[] corpo = "{\"id\":7}".getBytes(StandardCharsets.UTF_8);
+		registro.concluir(chave, new RegistroIdempotencia.Resposta(201, "application/json", "\"7-0\"", corpo));
+		registro.liberar(chave);
+
+		RegistroIdempotencia.Entrada guardada = registro.reservar(chave, "impressao-a");
+		assertNotNull(guardada.resposta());
+		assertEquals(201, guardada.resposta().status());
+		assertEquals("application/json", guardada.resposta().contentType());
+		assertEquals("\"7-0\"", guardada.resposta().etag());
+		assertArrayEquals(corpo, guardada.resposta().corpo());
+	}
+
+	@Test
+	void reservaAbandonadaOuRespostaVencidaPodeSerAssumida() {
+		String abandonada = unico("chave");
+		String concluida = unico("chave");
+		assertNull(registro.reservar(abandonada, "impressao-a"));
+		assertNull(registro.reservar(concluida, "impressao-a"));
+		registro.concluir(concluida, new RegistroIdempotencia.Resposta(200, null, null, null));
+
+		// Antes da execução máxima a reserva ainda é da primeira requisição
+		relogio(INICIO.plus(properties.getExecucaoMaxima()).minusSeconds(1));
+		assertTrue(registro.reservar(abandonada, "impressao-b").emAndamento());
+
+		// Depois dela, a reserva sem resposta é assumida; a resposta guardada continua valendo
+		relogio(INICIO.plus(properties.getExecucaoMaxima()).plusSeconds(1));
+		assertNull(registro.reservar(abandonada, "impressao-b"));
+		assertEquals(200, registro.reservar(concluida, "impressao-b").resposta().status());
+
+		// Vencida a validade, também a resposta guardada dá lugar a uma nova execução
+		relogio(INICIO.plus(properties.getValidade()).plus(Duration.ofSeconds(1)));
+		assertNull(registro.reservar(concluida, "impressao-b"));
+	}
+
+	private void relogio(Instant agora) {
+		ReflectionTestUtils.setField(registro, "clock", Clock.fixed(agora, ZoneId.systemDefault()));
+	}
+}
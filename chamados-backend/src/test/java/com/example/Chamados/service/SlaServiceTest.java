@@ -0,0 +1,242 @@
+package com.example.Chamados.service;
+
+import com.example.Chamados.controller.ChamadoController;
+import com.example.Chamados.dto.SlaRiscoDTO;
+import com.example.Chamados.model.Categoria;
+import com.example.Chamados.model.Chamado;
+import com.example.Chamados.model.Prioridade;
+import com.example.Chamados.model.Role;
+import com.example.Chamados.model.TipoSla;
+import com.example.Chamados.model.Usuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Contexto próprio: relógio controlado pelo teste e tick de 1 minuto (o job agendado quase não roda sozinho)
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:sla;DB_CLOSE_DELAY=-1",
+		"spring.jpa.show-sql=false",
+		"chamados.expurgo.habilitado=false",
+		"chamados.arquivamento.habilitado=false",
+		"chamados.limite.habilitado=false",
+		"chamados.atribuicao.automatica=false",
+		"chamados.sla.primeira-resposta=1h",
+		"chamados.sla.resolucao=8h",
+		"chamados.sla.resolucao-por-prioridade.CRITICA=2h",
+		"chamados.sla.janela-risco=30m",
+		"chamados.sla.tick=1m"
+})
+@ActiveProfiles("h2")
+class SlaServiceTest extends BancoTeste {
+
+	@TestConfiguration
+	static class RelogioConfig {
+		@Bean
+		@Primary
+		Relogio relogio() {
+			return new Relogio(LocalDateTime.of(2030, 1, 7, 8, 0).atZone(ZoneId.systemDefault()).toInstant());
+		}
+	}
+
+	// Relógio que só anda quando o teste manda
+	static final class Relogio extends Clock {
+		private volatile Instant agora;
+
+		Relogio(Instant agora) {
+			this.agora = agora;
+		}
+
+		void avancar(Duration duracao) {
+			agora = agora.plus(duracao);
+		}
+
+		@Override
+		public ZoneId getZone() { return ZoneId.systemDefault(); }
+		@Override
+		public Clock withZone(ZoneId zone) { return Clock.fixed(agora, zone); }
+		@Override
+		public Instant instant() { return agora; }
+	}
+
+	@Autowired
+	private Relogio relogio;
+
+	@Autowired
+	private SlaService slaService;
+
+	@Autowired
+	private ChamadoService chamadoService;
+
+	@Autowired
+	private ChamadoController chamadoController;
+
+	private Usuario dono;
+	private Usuario tecnico;
+	private Categoria categoria;
+
+	@BeforeEach
+	void montar() {
+		dono = usuario(Role.ROLE_NORMAL);
+		tecnico = usuario(Role.ROLE_TI);
+		categoria = categoria();
+	}
+
+	@Test
+	void prazosCalculadosNaCriacao() {
+		LocalDateTime agora = LocalDateTime.now(relogio);
+		Chamado media = criar(null);
+		Chamado critico = criar(Prioridade.CRITICA);
+
+		assertEquals("ABERTO", media.getStatus());
+		assertEquals(agora.plusHours(1), media.getPrazoPrimeiraResposta());
+		assertEquals(agora.plusHours(8), media.getPrazoResolucao());
+		// A prioridade só sobrepõe o que tem configurado
+		assertEquals(agora.plusHours(1), critico.getPrazoPrimeiraResposta());
+		assertEquals(agora.plusHours(2), critico.getPrazoResolucao());
+
+		Chamado gravado = chamadoRepository.findById(critico.getId()).orElseThrow();
+		assertEquals(agora.plusHours(2), gravado.getPrazoResolucao());
+		assertFalse(gravado.isSlaRespostaViolado());
+		assertFalse(gravado.isSlaResolucaoViolado());
+	}
+
+	@Test
+	void violacaoDisparaQuandoORelogioPassaDoPrazo() {
+		Chamado chamado = criar(Prioridade.CRITICA);
+
+		relogio.avancar(Duration.ofMinutes(59));
+		slaService.verificarPrazos();
+		assertFalse(recarregar(chamado).isSlaRespostaViolado());
+
+		relogio.avancar(Duration.ofMinutes(2));
+		slaService.verificarPrazos();
+		aguardar(() -> recarregar(chamado).isSlaRespostaViolado());
+		assertFalse(recarregar(chamado).isSlaResolucaoViolado());
+
+		// Violado sai da roda: não volta como risco nem é marcado de novo
+		assertTrue(doChamado(slaService.chamadosEmRisco(Duration.ofDays(1)), chamado)
+				.stream().noneMatch(r -> r.getTipo() == TipoSla.PRIMEIRA_RESPOSTA));
+
+		relogio.avancar(Duration.ofMinutes(60));
+		slaService.verificarPrazos();
+		aguardar(() -> recarregar(chamado).isSlaResolucaoViolado());
+		assertTrue(doChamado(slaService.chamadosEmRisco(Duration.ofDays(1)), chamado).isEmpty());
+	}
+
+	@Test
+	void primeiraRespostaParaOSlaDeResposta() {
+		Chamado chamado = criar(null);
+
+		relogio.avancar(Duration.ofMinutes(20));
+		LocalDateTime resposta = LocalDateTime.now(relogio);
+		assertEquals(ChamadoService.Situacao.OK, chamadoService.assumir(chamado.getId(), tecnico, null).getSituacao());
+
+		Chamado assumido = recarregar(chamado);
+		assertEquals("EM_ANDAMENTO", assumido.getStatus());
+		assertEquals(resposta, assumido.getDataPrimeiraResposta());
+		List<SlaRiscoDTO> riscos = doChamado(slaService.chamadosEmRisco(Duration.ofDays(1)), chamado);
+		assertEquals(List.of(TipoSla.RESOLUCAO), riscos.stream().map(SlaRiscoDTO::getTipo).toList());
+
+		// O prazo de resposta passa sem violação
+		relogio.avancar(Duration.ofHours(2));
+		slaService.verificarPrazos();
+		assertFalse(recarregar(chamado).isSlaRespostaViolado());
+
+		// Fechar encerra também a resolução
+		chamadoService.alterarStatus(chamado.getId(), "FECHADO", null);
+		relogio.avancar(Duration.ofHours(8));
+		slaService.verificarPrazos();
+		assertFalse(recarregar(chamado).isSlaResolucaoViolado());
+		assertTrue(doChamado(slaService.chamadosEmRisco(Duration.ofDays(1)), chamado).isEmpty());
+	}
+
+	@Test
+	void emRiscoListaOsPrazosDaJanelaDoMaisUrgente() {
+		Chamado media = criar(null);
+		Chamado critico = criar(Prioridade.CRITICA);
+		relogio.avancar(Duration.ofMinutes(45));
+
+		// Janela padrão de 30m: as duas primeiras respostas (vencem em 15m)
+		List<SlaRiscoDTO> padrao = doChamados(chamadoController.chamadosEmRisco(null).getBody(), media, critico);
+		assertEquals(2, padrao.size());
+		assertTrue(padrao.stream().allMatch(r -> r.getTipo() == TipoSla.PRIMEIRA_RESPOSTA && r.getMinutosRestantes() == 15));
+
+		// 90 minutos: entra a resolução do crítico (vence em 75m), depois das respostas
+		List<SlaRiscoDTO> noventa = doChamados(chamadoController.chamadosEmRisco(90L).getBody(), media, critico);
+		assertEquals(3, noventa.size());
+		SlaRiscoDTO ultimo = noventa.get(2);
+		assertEquals(critico.getId(), ultimo.getChamadoId());
+		assertEquals(TipoSla.RESOLUCAO, ultimo.getTipo());
+		assertEquals(75, ultimo.getMinutosRestantes());
+		assertEquals(critico.getPrazoResolucao(), ultimo.getPrazo());
+
+		// A roda remontada do banco dá o mesmo resultado
+		slaService.reconstruir();
+		assertEquals(3, doChamados(slaService.chamadosEmRisco(Duration.ofMinutes(90)), media, critico).size());
+
+		ResponseEntity<List<SlaRiscoDTO>> negativo = chamadoController.chamadosEmRisco(-1L);
+		assertEquals(HttpStatus.BAD_REQUEST, negativo.getStatusCode());
+	}
+
+	private Chamado criar(Prioridade prioridade) {
+		Chamado chamado = new Chamado();
+		chamado.setTitulo(unico("sla"));
+		chamado.setDescricao(unico("descricao"));
+		chamado.setCategoria(categoria);
+		chamado.setPrioridade(prioridade);
+		Chamado criado = chamadoService.criar(chamado, dono);
+		assertNotNull(criado.getPrazoResolucao());
+		assertNull(criado.getTecnico());
+		return criado;
+	}
+
+	// O job agendado pode ter pego o prazo vencido antes da chamada do teste e ainda estar gravando
+	private static void aguardar(BooleanSupplier condicao) {
+		long limite = System.currentTimeMillis() + 5000;
+		while (!condicao.getAsBoolean()) {
+			assertTrue(System.currentTimeMillis() < limite, "Condição não atendida em 5s");
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	private Chamado recarregar(Chamado chamado) {
+		return chamadoRepository.findById(chamado.getId()).orElseThrow();
+	}
+
+	// Outros testes do contexto deixam prazos na roda: confere só os dos próprios chamados
+	private static List<SlaRiscoDTO> doChamado(List<SlaRiscoDTO> riscos, Chamado chamado) {
+		return doChamados(riscos, chamado);
+	}
+
+	private static List<SlaRiscoDTO> doChamados(List<SlaRiscoDTO> riscos, Chamado... chamados) {
+		List<Long> ids = Arrays.stream(chamados).map(Chamado::getId).toList();
+		return riscos.stream().filter(r -> ids.contains(r.getChamadoId())).toList();
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.Chamados.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BaldeFichasTest {
+
+	private static final long SEGUNDO = 1_000_000_000L;
+
+	@Test
+	void rajadaAteACapacidadeEDepoisUmaFichaPorIntervalo() {
+		// 10 fichas por minuto = uma a cada 6s
+		BaldeFichas balde = new BaldeFichas(10, Duration.ofMinutes(1), 0);
+		for (int i = 0; i < 10; i++) {
+			assertEquals(0, balde.consumir(0));
+		}
+		assertEquals(0, balde.restantes(0));
+		assertEquals(6 * SEGUNDO, balde.consumir(0));
+		assertEquals(SEGUNDO, balde.consumir(5 * SEGUNDO));
+
+		assertEquals(0, balde.consumir(6 * SEGUNDO));
+		assertEquals(6 * SEGUNDO, balde.consumir(6 * SEGUNDO));
+
+		// Parado por mais que o período, volta cheio, mas não passa da capacidade
+		assertFalse(balde.cheio(60 * SEGUNDO));
+		assertTrue(balde.cheio(66 * SEGUNDO));
+		assertEquals(10, balde.restantes(10 * 60 * SEGUNDO));
+	}
+
+	@Test
+	void consumoConcorrenteNaoPassaDaCapacidade() throws InterruptedException {
+		BaldeFichas balde = new BaldeFichas(1_000, Duration.ofHours(1), 0);
+		AtomicInteger aceitas = new AtomicInteger();
+		ExecutorService threads = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 5_000; i++) {
+			threads.execute(() -> {
+				if (balde.consumir(0) == 0) {
+					aceitas.incrementAndGet();
+				}
+			});
+		}
+		threads.shutdown();
+		assertTrue(threads.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(1_000, aceitas.get());
+	}
+}
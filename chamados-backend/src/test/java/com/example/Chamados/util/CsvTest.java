@@ -0,0 +1,56 @@
+package com.example.Chamados.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvTest {
+
+	@Test
+	void aspasSoQuandoPrecisaEAspasInternasDuplicadas() throws IOException {
+		assertEquals("simples", Csv.escapar("simples"));
+		assertEquals("\"a,b\"", Csv.escapar("a,b"));
+		assertEquals("\"diz \"\"oi\"\"\"", Csv.escapar("diz \"oi\""));
+		assertEquals("\"linha 1\nlinha 2\"", Csv.escapar("linha 1\nlinha 2"));
+		assertEquals("\"fim\r\"", Csv.escapar("fim\r"));
+
+		StringWriter writer = new StringWriter();
+		Csv.escreverLinha(writer, 1L, null, "a,b", "");
+		assertEquals("1,,\"a,b\",\r\n", writer.toString());
+	}
+
+	@Test
+	void leitorDesfazOEscapeEContaAsLinhasFisicas() throws IOException {
+		StringWriter writer = new StringWriter();
+		Csv.escreverLinha(writer, "id", "titulo");
+		Csv.escreverLinha(writer, 1, "Sem rede, \"urgente\"\nsegunda linha");
+		Csv.escreverLinha(writer, 2, "");
+
+		Csv.Leitor leitor = new Csv.Leitor(new StringReader(writer.toString()));
+		assertEquals(List.of("id", "titulo"), leitor.proximoRegistro());
+		assertEquals(List.of("1", "Sem rede, \"urgente\"\nsegunda linha"), leitor.proximoRegistro());
+		assertEquals(2, leitor.getLinhaDoRegistro());
+		assertEquals(List.of("2", ""), leitor.proximoRegistro());
+		assertEquals(4, leitor.getLinhaDoRegistro()); // O registro anterior ocupou duas linhas
+		assertNull(leitor.proximoRegistro());
+
+		// Sem quebra no fim do arquivo e com "\n" sozinho
+		Csv.Leitor semFinal = new Csv.Leitor(new StringReader("a,b\nc,d"));
+		assertEquals(List.of("a", "b"), semFinal.proximoRegistro());
+		assertEquals(List.of("c", "d"), semFinal.proximoRegistro());
+		assertNull(semFinal.proximoRegistro());
+	}
+
+	@Test
+	void aspasNaoFechadasSaoErro() {
+		Csv.Leitor leitor = new Csv.Leitor(new StringReader("1,\"sem fim\n2,x\n"));
+		assertThrows(IOException.class, leitor::proximoRegistro);
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.Chamados.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EtagChamadoTest {
+
+	@Test
+	void ifNoneMatchAceitaListaFracaEAsterisco() {
+		String etag = EtagChamado.de(7L, 3);
+
+		assertEquals("\"7-3\"", etag);
+		assertTrue(EtagChamado.contem("\"7-2\", W/\"7-3\"", etag));
+		assertTrue(EtagChamado.contem("*", etag));
+		assertFalse(EtagChamado.contem("\"7-2\"", etag));
+		assertFalse(EtagChamado.contem(null, etag));
+	}
+
+	@Test
+	void ifMatchSoAceitaEtagForteDoMesmoChamado() {
+		assertNull(EtagChamado.versaoEsperada(null, 7L));
+		assertNull(EtagChamado.versaoEsperada("*", 7L));
+		assertEquals(3L, EtagChamado.versaoEsperada("\"70-1\", \"7-3\"", 7L));
+		assertEquals(EtagChamado.NENHUMA, EtagChamado.versaoEsperada("W/\"7-3\"", 7L));
+		assertEquals(EtagChamado.NENHUMA, EtagChamado.versaoEsperada("\"8-3\"", 7L));
+		assertEquals(EtagChamado.NENHUMA, EtagChamado.versaoEsperada("\"7-x\"", 7L));
+		// A versão vale em qualquer representação
+		assertEquals(3L, EtagChamado.versaoEsperada("\"7-3-smile\"", 7L));
+	}
+
+	@Test
+	void cadaRepresentacaoTemSuaEtag() {
+		assertEquals("\"7-3\"", EtagChamado.de(7L, 3, EtagChamado.representacao(null)));
+		assertEquals("\"7-3\"", EtagChamado.de(7L, 3, EtagChamado.representacao("application/json, */*")));
+		assertEquals("\"7-3-compacto\"", EtagChamado.de(7L, 3,
+				EtagChamado.representacao("application/vnd.chamados.compacto+json")));
+		assertEquals("\"7-3-smile\"", EtagChamado.de(7L, 3,
+				EtagChamado.representacao("application/json;q=0.5, application/x-jackson-smile")));
+		assertEquals(EtagChamado.JSON, EtagChamado.representacao("application/x-jackson-smile;q=0.1, */*"));
+		assertEquals(EtagChamado.JSON, EtagChamado.representacao("isto não é um tipo"));
+
+		// O 304 só sai para a ETag da mesma representação
+		assertFalse(EtagChamado.contem("\"7-3\"", EtagChamado.de(7L, 3, EtagChamado.SMILE)));
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.Chamados.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndiceMinHashTest {
+
+	private final IndiceMinHash indice = new IndiceMinHash(40, 3);
+
+	@Test
+	void textosQuaseIguaisSaoEncontradosEOsDiferentesNao() {
+		colocar(1, "Internet caiu\nA internet caiu no financeiro");
+		colocar(2, "internet caiu!!\na internet caiu no Financeiro");
+		colocar(3, "Impressora sem toner\nA impressora do RH não imprime");
+		colocar(4, "Sem acesso à internet\nInternet caiu no setor financeiro");
+
+		List<IndiceMinHash.Semelhante> semelhantes = indice.semelhantes(
+				indice.assinatura("Internet caiu\nA internet caiu no financeiro"), 0.5, 5, 1L);
+
+		// Só pontuação e maiúsculas mudam: mesma assinatura
+		assertEquals(2L, semelhantes.get(0).id());
+		assertEquals(1.0, semelhantes.get(0).similaridade());
+		assertTrue(semelhantes.stream().anyMatch(s -> s.id() == 4L));
+		assertTrue(semelhantes.stream().noneMatch(s -> s.id() == 3L || s.id() == 1L));
+	}
+
+	@Test
+	void removerTiraOIdDeTodosOsBaldes() {
+		colocar(1, "VPN não conecta");
+		colocar(2, "VPN nao conecta");
+		assertEquals(List.of(2L), ids(indice.semelhantes(indice.assinatura("vpn não conecta"), 0.5, 5, 1L)));
+
+		indice.remover(2);
+		assertEquals(1, indice.tamanho());
+		assertEquals(List.of(), ids(indice.semelhantes(indice.assinatura("vpn não conecta"), 0.5, 5, 1L)));
+
+		// Recolocar com outro texto substitui a assinatura antiga
+		colocar(1, "Monitor piscando");
+		assertEquals(List.of(), ids(indice.semelhantes(indice.assinatura("VPN não conecta"), 0.5, 5, null)));
+		assertEquals(List.of(1L), ids(indice.semelhantes(indice.assinatura("monitor piscando"), 0.5, 5, null)));
+	}
+
+	@Test
+	void textoSemLetrasNaoTemAssinatura() {
+		assertNull(indice.assinatura("  !!! \n ..."));
+		assertNull(indice.assinatura(null));
+	}
+
+	private void colocar(long id, String texto) {
+		indice.colocar(id, indice.assinatura(texto));
+	}
+
+	private static List<Long> ids(List<IndiceMinHash.Semelhante> semelhantes) {
+		return semelhantes.stream().map(IndiceMinHash.Semelhante::id).toList();
+	}
+}
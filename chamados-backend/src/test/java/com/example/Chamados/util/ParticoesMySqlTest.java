@@ -0,0 +1,55 @@
+package com.example.Chamados.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParticoesMySqlTest {
+
+	@Test
+	void particionaUmMesPorParticaoMaisFuturo() {
+		String sql = ParticoesMySql.particionar(YearMonth.of(2026, 11), YearMonth.of(2027, 1));
+
+		assertEquals("ALTER TABLE chamado PARTITION BY RANGE COLUMNS(data_abertura) ("
+				+ "PARTITION p202611 VALUES LESS THAN ('2026-12-01 00:00:00'), "
+				+ "PARTITION p202612 VALUES LESS THAN ('2027-01-01 00:00:00'), "
+				+ "PARTITION p202701 VALUES LESS THAN ('2027-02-01 00:00:00'), "
+				+ "PARTITION p_futuro VALUES LESS THAN (MAXVALUE))", sql);
+	}
+
+	@Test
+	void criaParticoesReorganizandoFuturo() {
+		String sql = ParticoesMySql.criarParticoes(List.of(YearMonth.of(2027, 2)));
+
+		assertEquals("ALTER TABLE chamado REORGANIZE PARTITION p_futuro INTO ("
+				+ "PARTITION p202702 VALUES LESS THAN ('2027-03-01 00:00:00'), "
+				+ "PARTITION p_futuro VALUES LESS THAN (MAXVALUE))", sql);
+		assertThrows(IllegalArgumentException.class, () -> ParticoesMySql.criarParticoes(List.of()));
+		assertEquals("SELECT 1 FROM chamado PARTITION (p_futuro) LIMIT 1", ParticoesMySql.linhaNoFuturo());
+	}
+
+	@Test
+	void mesesFaltandoContinuamDaUltimaParticao() {
+		List<String> existentes = List.of("p202610", "p202612", "p202611", "p_futuro");
+
+		assertEquals(List.of(YearMonth.of(2027, 1), YearMonth.of(2027, 2)),
+				ParticoesMySql.mesesFaltando(existentes, YearMonth.of(2026, 11), YearMonth.of(2027, 2)));
+		assertTrue(ParticoesMySql.mesesFaltando(existentes, YearMonth.of(2026, 10), YearMonth.of(2026, 12)).isEmpty());
+		// Só p_futuro: começa no mês atual
+		assertEquals(List.of(YearMonth.of(2026, 10)),
+				ParticoesMySql.mesesFaltando(List.of("p_futuro"), YearMonth.of(2026, 10), YearMonth.of(2026, 10)));
+	}
+
+	@Test
+	void nomesDeParticao() {
+		assertEquals("p202603", ParticoesMySql.nomeParticao(YearMonth.of(2026, 3)));
+		assertEquals(YearMonth.of(2026, 3), ParticoesMySql.mesDaParticao("p202603"));
+		assertNull(ParticoesMySql.mesDaParticao("p_futuro"));
+	}
+}
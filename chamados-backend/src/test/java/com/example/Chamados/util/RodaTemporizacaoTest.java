@@ -0,0 +1,61 @@
+package com.example.Chamados.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RodaTemporizacaoTest {
+
+	@Test
+	void venceNoTickDoPrazoEmQualquerNivel() {
+		RodaTemporizacao<String> roda = new RodaTemporizacao<>(1000, 8, 0);
+		roda.agendar("curto", 3_000);
+		roda.agendar("medio", 40_000);          // nível 1
+		roda.agendar("longo", 3 * 3600_000L);    // vários níveis acima
+
+		assertTrue(roda.avancar(2_999).isEmpty());
+		assertEquals(List.of("curto"), roda.avancar(3_000));
+		assertTrue(roda.avancar(39_999).isEmpty());
+		assertEquals(List.of("medio"), roda.avancar(40_000));
+		assertTrue(roda.avancar(3 * 3600_000L - 1).isEmpty());
+		assertEquals(List.of("longo"), roda.avancar(3 * 3600_000L));
+		assertEquals(0, roda.tamanho());
+	}
+
+	@Test
+	void nuncaVenceAntesDoPrazo() {
+		RodaTemporizacao<String> roda = new RodaTemporizacao<>(1000, 8, 0);
+		roda.agendar("quebrado", 2_500);
+
+		assertTrue(roda.avancar(2_999).isEmpty());
+		assertEquals(List.of("quebrado"), roda.avancar(3_000));
+	}
+
+	@Test
+	void cancelarEReagendar() {
+		RodaTemporizacao<String> roda = new RodaTemporizacao<>(1000, 8, 0);
+		roda.agendar("a", 5_000);
+		roda.agendar("b", 5_000);
+
+		assertTrue(roda.cancelar("a"));
+		assertFalse(roda.cancelar("a"));
+		roda.agendar("b", 20_000);
+
+		assertTrue(roda.avancar(10_000).isEmpty());
+		assertEquals(List.of("b"), roda.avancar(20_000));
+	}
+
+	@Test
+	void prazoJaVencidoSaiNoProximoAvanco() {
+		RodaTemporizacao<String> roda = new RodaTemporizacao<>(1000, 8, 10_000);
+		roda.agendar("atrasado", 1_000);
+
+		assertTrue(roda.contem("atrasado"));
+		assertEquals(List.of("atrasado"), roda.avancar(10_000));
+		assertFalse(roda.contem("atrasado"));
+	}
+}
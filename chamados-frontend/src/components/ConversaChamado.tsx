@@ -0,0 +1,189 @@
+// src/components/ConversaChamado.tsx
+import { useState, useEffect } from 'react';
+import {
+  getComentarios,
+  addComentario,
+  getAnexos,
+  uploadAnexo,
+  downloadAnexo
+} from '../services/api';
+import type { Comentario, Anexo } from '../types/models';
+
+const TAMANHO_PAGINA = 20;
+
+// Formata o tamanho do anexo (ex: 1.2 MB)
+const formatarTamanho = (bytes: number) => {
+  if (bytes < 1024) return `${bytes} B`;
+  if (bytes < 1024 * 1024) return `${(bytes / 1024).toFixed(1)} KB`;
+  return `${(bytes / (1024 * 1024)).toFixed(1)} MB`;
+};
+
+// Comentários (paginados) e anexos de um chamado
+export function ConversaChamado({ chamadoId }: { chamadoId: number }) {
+  const [comentarios, setComentarios] = useState<Comentario[]>([]);
+  const [pagina, setPagina] = useState(0);
+  const [totalPaginas, setTotalPaginas] = useState(0);
+  const [anexos, setAnexos] = useState<Anexo[]>([]);
+  const [texto, setTexto] = useState('');
+  const [enviando, setEnviando] = useState(false);
+  const [erro, setErro] = useState<string | null>(null);
+
+  useEffect(() => {
+    const carregar = async () => {
+      try {
+        const [primeiraPagina, listaAnexos] = await Promise.all([
+          getComentarios(chamadoId, 0, TAMANHO_PAGINA),
+          getAnexos(chamadoId)
+        ]);
+        setComentarios(primeiraPagina.itens);
+        setPagina(0);
+        setTotalPaginas(primeiraPagina.totalPaginas);
+        setAnexos(listaAnexos);
+      } catch (err) {
+        console.error("Erro ao carregar comentários/anexos:", err);
+        setErro("Falha ao carregar comentários e anexos.");
+      }
+    };
+    carregar();
+  }, [chamadoId]);
+
+  const handleCarregarMais = async () => {
+    try {
+      const proxima = await getComentarios(chamadoId, pagina + 1, TAMANHO_PAGINA);
+      setComentarios([...comentarios, ...proxima.itens]);
+      setPagina(proxima.pagina);
+      setTotalPaginas(proxima.totalPaginas);
+    } catch (err) {
+      console.error("Erro ao carregar comentários:", err);
+    }
+  };
+
+  const handleComentar = async (e: React.FormEvent) => {
+    e.preventDefault();
+    if (!texto.trim()) return;
+    setEnviando(true);
+    setErro(null);
+    try {
+      const novo = await addComentario(chamadoId, texto);
+      // Só aparece aqui se a última página já foi carregada; senão vem no "carregar mais"
+      if (pagina + 1 >= totalPaginas) {
+        setComentarios([...comentarios, novo]);
+      }
+      setTexto('');
+    } catch (err) {
+      console.error("Erro ao comentar:", err);
+      setErro("Falha ao enviar o comentário.");
+    } finally {
+      setEnviando(false);
+    }
+  };
+
+  const handleUpload = async (e: React.ChangeEvent<HTMLInputElement>) => {
+    const arquivo = e.target.files?.[0];
+    e.target.value = '';
+    if (!arquivo) return;
+    setErro(null);
+    try {
+      const anexo = await uploadAnexo(chamadoId, arquivo);
+      setAnexos([...anexos, anexo]);
+    } catch (err: any) {
+      console.error("Erro ao enviar anexo:", err);
+      setErro(err.response && err.response.status === 413
+        ? "Arquivo maior que o tamanho permitido."
+        : "Falha ao enviar o anexo.");
+    }
+  };
+
+  const handleDownload = async (anexo: Anexo) => {
+    try {
+      const blob = await downloadAnexo(chamadoId, anexo.id);
+      const url = URL.createObjectURL(blob);
+      const link = document.createElement('a');
+      link.href = url;
+      link.download = anexo.nomeArquivo;
+      link.click();
+      URL.revokeObjectURL(url);
+    } catch (err) {
+      console.error("Erro ao baixar anexo:", err);
+      setErro("Falha ao baixar o anexo.");
+    }
+  };
+
+  return (
+    <div className="space-y-6">
+      {erro && (
+        <div className="bg-red-50 text-red-700 p-3 rounded-xl border border-red-100 text-sm">{erro}</div>
+      )}
+
+      {/* Card de Anexos */}
+      <div className="bg-white rounded-2xl shadow-sm border border-slate-200 p-8">
+        <div className="flex items-center justify-between mb-4 border-b border-slate-100 pb-2">
+          <h3 className="text-lg font-bold text-slate-800">Anexos</h3>
+          <label className="text-sm font-bold text-blue-600 hover:text-blue-800 cursor-pointer transition">
+            Anexar arquivo
+            <input type="file" className="hidden" onChange={handleUpload} />
+          </label>
+        </div>
+        {anexos.length === 0 ? (
+          <p className="text-sm text-slate-400">Nenhum anexo.</p>
+        ) : (
+          <ul className="divide-y divide-slate-100">
+            {anexos.map(anexo => (
+              <li key={anexo.id} className="py-2 flex items-center justify-between">
+                <div>
+                  <button onClick={() => handleDownload(anexo)} className="font-medium text-blue-600 hover:text-blue-800 text-sm">
+                    {anexo.nomeArquivo}
+                  </button>
+                  <p className="text-xs text-slate-400">{formatarTamanho(anexo.tamanho)} • {anexo.autorNome}</p>
+                </div>
+                <span className="text-xs text-slate-400">{new Date(anexo.dataEnvio).toLocaleDateString('pt-BR')}</span>
+              </li>
+            ))}
+          </ul>
+        )}
+      </div>
+
+      {/* Card de Comentários */}
+      <div className="bg-white rounded-2xl shadow-sm border border-slate-200 p-8">
+        <h3 className="text-lg font-bold text-slate-800 mb-4 border-b border-slate-100 pb-2">Comentários</h3>
+        <div className="space-y-4">
+          {comentarios.length === 0 && <p className="text-sm text-slate-400">Nenhum comentário ainda.</p>}
+          {comentarios.map(comentario => (
+            <div key={comentario.id} className="bg-slate-50 rounded-xl p-4">
+              <div className="flex justify-between mb-1">
+                <span className="text-sm font-semibold text-slate-700">{comentario.autorNome}</span>
+                <span className="text-xs text-slate-400">
+                  {new Date(comentario.dataCriacao).toLocaleString('pt-BR', { dateStyle: 'short', timeStyle: 'short' })}
+                </span>
+              </div>
+              <p className="text-sm text-slate-600 whitespace-pre-wrap">{comentario.texto}</p>
+            </div>
+          ))}
+          {pagina + 1 < totalPaginas && (
+            <button onClick={handleCarregarMais} className="text-sm font-bold text-blue-600 hover:text-blue-800 transition">
+              Carregar mais
+            </button>
+          )}
+        </div>
+
+        <form onSubmit={handleComentar} className="mt-6 space-y-3">
+          <textarea
+            value={texto}
+            onChange={(e) => setTexto(e.target.value)}
+            maxLength={2000}
+            rows={3}
+            placeholder="Escreva um comentário..."
+            className="w-full bg-slate-50 border border-slate-200 text-slate-700 py-3 px-4 rounded-xl focus:outline-none focus:bg-white focus:border-blue-500 focus:ring-2 focus:ring-blue-100 transition"
+          />
+          <button
+            type="submit"
+            disabled={enviando || !texto.trim()}
+            className="bg-blue-600 hover:bg-blue-700 disabled:opacity-50 text-white text-sm font-bold px-5 py-2 rounded-lg transition"
+          >
+            Comentar
+          </button>
+        </form>
+      </div>
+    </div>
+  );
+}
@@ -1,7 +1,7 @@
 // src/pages/DashboardTIPage.tsx
 import { useState, useEffect, useMemo } from 'react';
-import { Link } from 'react-router-dom';
-import { getChamados } from '../services/api';
+import { Link, useNavigate } from 'react-router-dom';
+import { getChamados, pegarProximoChamado } from '../services/api';
 import type { Chamado } from '../types/models';
 
 // Componente Interno para os Badges de Status
@@ -53,6 +53,23 @@ export function DashboardTIPage() {
   
   // Estado para controlar a ordenação
   const [sortConfig, setSortConfig] = useState<SortConfig>(null);
+  const [aviso, setAviso] = useState<string | null>(null);
+  const navigate = useNavigate();
+
+  // Pega o próximo chamado da fila do servidor (maior prioridade, depois o mais antigo)
+  const handlePegarProximo = async () => {
+    try {
+      setAviso(null);
+      const chamado = await pegarProximoChamado();
+      if (chamado) {
+        navigate(`/ti/chamado/${chamado.id}`);
+      } else {
+        setAviso("Nenhum chamado aguardando técnico.");
+      }
+    } catch {
+      setAviso("Falha ao pegar o próximo chamado.");
+    }
+  };
 
   useEffect(() => {
     const loadChamados = async () => {
@@ -94,8 +111,14 @@ export function DashboardTIPage() {
         return path.split('.').reduce((o, i) => (o ? o[i] : null), obj);
       };
 
-      const aValue = getValue(a, sortConfig.key);
-      const bValue = getValue(b, sortConfig.key);
+      // Prioridade ordena pela gravidade, não pelo nome
+      const ordemPrioridade: Record<string, number> = { BAIXA: 0, MEDIA: 1, ALTA: 2, CRITICA: 3 };
+      const valor = (obj: any) => sortConfig.key === 'prioridade'
+        ? ordemPrioridade[obj.prioridade] ?? 1
+        : getValue(obj, sortConfig.key);
+
+      const aValue = valor(a);
+      const bValue = valor(b);
 
       if (aValue < bValue) {
         return sortConfig.direction === 'asc' ? -1 : 1;
@@ -144,17 +167,32 @@ export function DashboardTIPage() {
     <div className="space-y-6">
       <div className="flex justify-between items-center">
         <h2 className="text-2xl font-bold text-slate-800 tracking-tight">Fila de Chamados (TI)</h2>
-        <span className="text-sm text-slate-500 font-medium bg-slate-100 px-3 py-1 rounded-lg">
-          {sortedChamados.length} chamados ativos
-        </span>
+        <div className="flex items-center gap-3">
+          <span className="text-sm text-slate-500 font-medium bg-slate-100 px-3 py-1 rounded-lg">
+            {sortedChamados.length} chamados ativos
+          </span>
+          <button
+            onClick={handlePegarProximo}
+            className="bg-blue-600 hover:bg-blue-700 text-white text-sm font-bold px-4 py-1.5 rounded-lg transition"
+          >
+            Pegar próximo
+          </button>
+        </div>
       </div>
 
+      {aviso && (
+        <div className="bg-slate-50 text-slate-600 p-3 rounded-xl border border-slate-200 text-sm">
+          {aviso}
+        </div>
+      )}
+
       <div className="bg-white rounded-2xl shadow-sm border border-slate-200 overflow-hidden">
         <table className="w-full text-left border-collapse">
           <thead>
             <tr className="bg-slate-50 border-b border-slate-200 text-slate-600 text-xs uppercase tracking-wider">
               {renderSortableHeader("Título", "titulo")}
               {renderSortableHeader("Status", "status")}
+              {renderSortableHeader("Prioridade", "prioridade")}
               {renderSortableHeader("Solicitante", "usuario.nome")}
               {renderSortableHeader("Categoria", "categoria.nome")}
               {renderSortableHeader("Data de Abertura", "dataAbertura")}
@@ -171,6 +209,9 @@ export function DashboardTIPage() {
                 <td className="px-6 py-4">
                   <StatusBadge status={chamado.status} />
                 </td>
+                <td className="px-6 py-4 text-sm text-slate-600">
+                  {chamado.prioridade}
+                </td>
                 <td className="px-6 py-4">
                   <div className="flex flex-col">
                     <span className="text-sm text-slate-700 font-medium">{chamado.usuario.nome}</span>
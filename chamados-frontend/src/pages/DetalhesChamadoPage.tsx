@@ -6,10 +6,13 @@ import {
   updateChamadoStatus, 
   fecharChamado,
   getTecnicos, 
-  atribuirChamado 
+  getDesempenhoTecnicos,
+  atribuirChamado,
+  getEtagChamado
 } from '../services/api'; 
 import type { Chamado, Usuario } from '../types/models'; 
 import { jwtDecode } from 'jwt-decode'; 
+import { ConversaChamado } from '../components/ConversaChamado';
 
 interface UserToken {
   sub: string;
@@ -44,6 +47,7 @@ export function DetalhesChamadoPage() {
   const [editStatus, setEditStatus] = useState('');
   const [updateMessage, setUpdateMessage] = useState({ type: '', text: '' });
   const [tecnicos, setTecnicos] = useState<Usuario[]>([]);
+  const [cargaTecnicos, setCargaTecnicos] = useState<Record<number, number>>({}); // Abertos por técnico
 
   // --- EFFECT: BUSCAR DADOS ---
   useEffect(() => {
@@ -81,8 +85,12 @@ export function DetalhesChamadoPage() {
         setEditStatus(data.status); 
 
         if (loggedInUserRole === 'ROLE_TI' || loggedInUserRole === 'ROLE_ADM') {
-          const tecnicosData = await getTecnicos();
+          const [tecnicosData, desempenho] = await Promise.all([
+            getTecnicos(),
+            getDesempenhoTecnicos().catch(() => []) // Sem a carga, o seletor continua funcionando
+          ]);
           setTecnicos(tecnicosData);
+          setCargaTecnicos(Object.fromEntries(desempenho.map(d => [d.tecnicoId, d.abertos])));
         }
 
       } catch (err: any) {
@@ -101,18 +109,32 @@ export function DetalhesChamadoPage() {
     
   }, [id, navigate]);
 
-  // --- HANDLERS (Mantidos idênticos) ---
+  // --- HANDLERS ---
+  // As alterações mandam a ETag do chamado exibido (If-Match). 412: alguém alterou antes;
+  // mostramos a versão atual em vez de sobrescrever a alteração da outra pessoa.
+  const recarregarSeAlteradoPorOutro = async (err: any): Promise<boolean> => {
+    if (!chamado || !err.response || err.response.status !== 412) {
+      return false;
+    }
+    const atual = await getChamadoById(chamado.id);
+    setChamado(atual);
+    setEditStatus(atual.status);
+    setUpdateMessage({ type: 'error', text: 'O chamado foi alterado por outra pessoa. Confira a versão atual e tente de novo.' });
+    return true;
+  };
+
   const handleUpdateStatus = async (newStatus: string) => {
     if (!id || !chamado) return;
     setEditStatus(newStatus); 
     setUpdateMessage({ type: '', text: '' }); 
     try {
-      const chamadoAtualizado = await updateChamadoStatus(chamado.id, newStatus);
+      const chamadoAtualizado = await updateChamadoStatus(chamado.id, newStatus, getEtagChamado(chamado.id));
       setChamado(chamadoAtualizado); 
       setUpdateMessage({ type: 'success', text: 'Status atualizado com sucesso!' });
       setTimeout(() => setUpdateMessage({ type: '', text: '' }), 3000);
     } catch (err) {
       console.error("Erro ao atualizar status:", err);
+      if (await recarregarSeAlteradoPorOutro(err)) return;
       setUpdateMessage({ type: 'error', text: 'Falha ao atualizar o status.' });
       setEditStatus(chamado.status);
     }
@@ -129,7 +151,7 @@ export function DetalhesChamadoPage() {
     }
 
     try {
-      const chamadoAtualizado = await atribuirChamado(chamado.id, Number(novoTecnicoId));
+      const chamadoAtualizado = await atribuirChamado(chamado.id, Number(novoTecnicoId), getEtagChamado(chamado.id));
       setChamado(chamadoAtualizado); 
       setEditStatus(chamadoAtualizado.status);
       setUpdateMessage({ type: 'success', text: 'Técnico atribuído com sucesso!' });
@@ -137,6 +159,7 @@ export function DetalhesChamadoPage() {
 
     } catch (err: any) {
       console.error("Erro ao atribuir chamado:", err);
+      if (await recarregarSeAlteradoPorOutro(err)) return;
       setUpdateMessage({ type: 'error', text: 'Falha ao atribuir o chamado.' });
     }
   };
@@ -148,12 +171,13 @@ export function DetalhesChamadoPage() {
     }
     setUpdateMessage({ type: '', text: '' }); 
     try {
-      const chamadoAtualizado = await fecharChamado(chamado.id);
+      const chamadoAtualizado = await fecharChamado(chamado.id, getEtagChamado(chamado.id));
       setChamado(chamadoAtualizado); 
       setEditStatus(chamadoAtualizado.status);
       setUpdateMessage({ type: 'success', text: 'Chamado fechado com sucesso!' });
     } catch (err: any) {
       console.error("Erro ao fechar chamado:", err);
+      if (await recarregarSeAlteradoPorOutro(err)) return;
       if (err.response && err.response.status === 409) {
         setUpdateMessage({ type: 'error', text: 'Este chamado já estava fechado.' });
       } else {
@@ -223,6 +247,9 @@ export function DetalhesChamadoPage() {
             </div>
           </div>
 
+          {/* Anexos e Comentários */}
+          <ConversaChamado chamadoId={chamado.id} />
+
           {/* Área de Resolução (Para Usuário Comum) */}
           {userRole === 'ROLE_NORMAL' && chamado.status !== 'FECHADO' && (
             <div className="bg-slate-50 border border-slate-200 rounded-2xl p-6 flex flex-col sm:flex-row items-center justify-between gap-4">
@@ -291,6 +318,7 @@ export function DetalhesChamadoPage() {
                       {tecnicos.map(tecnico => (
                         <option key={tecnico.id} value={tecnico.id}>
                           {tecnico.nome}
+                          {cargaTecnicos[tecnico.id] !== undefined && ` (${cargaTecnicos[tecnico.id]} abertos)`}
                         </option>
                       ))}
                     </select>
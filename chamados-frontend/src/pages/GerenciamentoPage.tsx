@@ -1,8 +1,9 @@
 // src/pages/GerenciamentoPage.tsx
 import { useState, useEffect } from 'react';
 import type { Categoria, Setor, Usuario } from '../types/models';
-import type { CreateUsuarioDTO, UpdateUsuarioDTO } from '../services/api';
+import type { CreateUsuarioDTO, UpdateUsuarioDTO, DesempenhoTecnico } from '../services/api';
 import {
+  getDesempenhoTecnicos,
   getCategorias, createCategoria, updateCategoria, deleteCategoria,
   getSetores, createSetor, updateSetor, deleteSetor,
   getUsuarios, createUsuario, updateUsuario, deleteUsuario, updateUsuarioRole
@@ -22,11 +23,20 @@ const RoleBadge = ({ role }: { role: string }) => {
   );
 };
 
+// Minutos de resolução em texto curto (ex: 45min, 5,5h, 3d)
+const formatarDuracao = (minutos: number | null) => {
+  if (minutos === null) return '-';
+  if (minutos < 60) return `${minutos}min`;
+  if (minutos < 48 * 60) return `${(minutos / 60).toFixed(1).replace('.', ',')}h`;
+  return `${Math.round(minutos / (24 * 60))}d`;
+};
+
 export function GerenciamentoPage() {
   // --- STATES (Mantidos iguais) ---
   const [usuarios, setUsuarios] = useState<Usuario[]>([]);
   const [setores, setSetores] = useState<Setor[]>([]);
   const [categorias, setCategorias] = useState<Categoria[]>([]);
+  const [desempenho, setDesempenho] = useState<Record<number, DesempenhoTecnico>>({}); // Por id do técnico
 
   const [newUserName, setNewUserName] = useState('');
   const [newUserEmail, setNewUserEmail] = useState('');
@@ -48,12 +58,14 @@ export function GerenciamentoPage() {
     try {
       setLoading(true);
       setError(null);
-      const [usersData, sectorsData, categoriesData] = await Promise.all([
+      const [usersData, sectorsData, categoriesData, desempenhoData] = await Promise.all([
         getUsuarios(),
         getSetores(),
-        getCategorias()
+        getCategorias(),
+        getDesempenhoTecnicos().catch(() => [])
       ]);
       setUsuarios(usersData);
+      setDesempenho(Object.fromEntries(desempenhoData.map(d => [d.tecnicoId, d])));
       setSetores(sectorsData);
       setCategorias(categoriesData);
     } catch (err: any) {
@@ -96,8 +108,7 @@ export function GerenciamentoPage() {
       const payload: UpdateUsuarioDTO = {
         nome: nome,
         email: email,
-        role: user.role,
-        password: user.password
+        role: user.role
       };
       try { await updateUsuario(user.id, payload); loadAllData(); } catch(err) { alert("Erro ao atualizar."); }
     }
@@ -252,6 +263,13 @@ export function GerenciamentoPage() {
                     </td>
                     <td className="py-3 px-2">
                       <RoleBadge role={user.role} />
+                      {desempenho[user.id] && (
+                        <p className="text-xs text-slate-400 mt-1" title="Fechados, mediana e p90 do tempo de resolução nos últimos 30 dias">
+                          {desempenho[user.id].abertos} abertos · {desempenho[user.id].fechados} fechados em 30d
+                          · mediana {formatarDuracao(desempenho[user.id].medianaMinutos)}
+                          · p90 {formatarDuracao(desempenho[user.id].p90Minutos)}
+                        </p>
+                      )}
                     </td>
                     <td className="py-3 px-2 text-right space-x-2">
                       <button onClick={() => handleUpdateUser(user)} className="text-xs font-medium text-slate-500 hover:text-blue-600 transition">
@@ -66,8 +66,11 @@ export function NovoChamadoPage() {
     }
 
     try {
-      await createChamado(payload);
-      setSuccess("Chamado criado com sucesso! Redirecionando...");
+      const novo = await createChamado(payload);
+      const duplicados = novo.possiveisDuplicados ?? [];
+      setSuccess(duplicados.length > 0
+        ? `Chamado criado com sucesso! Já existem chamados abertos parecidos (#${duplicados.join(', #')}). Redirecionando...`
+        : "Chamado criado com sucesso! Redirecionando...");
       
       setTitulo('');
       setDescricao('');
@@ -1,6 +1,6 @@
 // src/services/api.ts
 import axios from 'axios';
-import type { Chamado, Categoria, Usuario, Setor, Role } from '../types/models';
+import type { Chamado, Categoria, Usuario, Setor, Role, Comentario, Anexo, Pagina } from '../types/models';
 
 // --- DTOs (Data Transfer Objects) ---
 // Estes 'types' ajudam a garantir que estamos enviando os dados corretos
@@ -10,17 +10,17 @@ import type { Chamado, Categoria, Usuario, Setor, Role } from '../types/models';
 export type CreateUsuarioDTO = Omit<Usuario, 'id'>;
 export type CreateSetorDTO = Pick<Setor, 'nome'>;
 export type CreateCategoriaDTO = Pick<Categoria, 'nome'>;
-export type CreateChamadoDTO = Pick<Chamado, 'titulo' | 'descricao'> & {
+export type CreateChamadoDTO = Pick<Chamado, 'titulo' | 'descricao'> & Partial<Pick<Chamado, 'prioridade'>> & {
   categoria: { id: number };
   setor?: { id: number };
   usuario?: { id: number }; 
 };
 
 // Para atualizar, enviamos apenas os campos que o controller atualiza
-export type UpdateUsuarioDTO = Pick<Usuario, 'nome' | 'email' | 'password' | 'role'>;
+export type UpdateUsuarioDTO = Pick<Usuario, 'nome' | 'email' | 'role'> & Partial<Pick<Usuario, 'password'>>; // password só para trocar a senha
 export type UpdateSetorDTO = Pick<Setor, 'nome'>;
 export type UpdateCategoriaDTO = Pick<Categoria, 'nome'>;
-export type UpdateChamadoDTO = Pick<Chamado, 'descricao' | 'categoria' | 'setor' | 'status'> & {
+export type UpdateChamadoDTO = Pick<Chamado, 'descricao' | 'categoria' | 'setor' | 'status'> & Partial<Pick<Chamado, 'prioridade'>> & {
   categoria: { id: number };
   setor?: { id: number };
 };
@@ -35,6 +35,41 @@ export type AuthResponse = {
   token: string;
 };
 
+// Resultado por id das operações em lote e da ligação de filhos a um incidente
+export type ResultadoLote = {
+  id: number;
+  resultado: 'OK' | 'NAO_ENCONTRADO' | 'PROIBIDO' | 'CONFLITO';
+  mensagem?: string;
+};
+
+// Carga e desempenho de um técnico (GET /usuarios/tecnicos/desempenho)
+export type DesempenhoTecnico = {
+  tecnicoId: number;
+  nome: string;
+  abertos: number;
+  fechados: number;
+  medianaMinutos: number | null;
+  p90Minutos: number | null;
+};
+
+// Linha do relatório de fluxo (GET /relatorios/fluxo): abertos e fechados de um período
+export type FluxoChamados = {
+  inicio: string;
+  setorId?: number | null;
+  categoriaId?: number | null;
+  abertos: number;
+  fechados: number;
+};
+
+export type FiltroFluxo = {
+  de?: string;  // yyyy-MM-dd (padrão: 30 dias antes de "ate")
+  ate?: string; // yyyy-MM-dd, inclusive (padrão: hoje)
+  granularidade?: 'HORA' | 'DIA' | 'SEMANA' | 'MES';
+  setorId?: number;
+  categoriaId?: number;
+  agruparPor?: 'NENHUM' | 'SETOR' | 'CATEGORIA';
+};
+
 
 // --- Configuração da Instância do Axios ---
 
@@ -42,6 +77,11 @@ const api = axios.create({
   baseURL: 'http://localhost:8080', 
 });
 
+// Depois de uma escrita o backend manda até quando as leituras devem ir ao banco primário (réplicas atrasadas);
+// o valor volta nas requisições seguintes, para a instância que as receber (qualquer uma) respeitar a janela
+const LEITURA_PRIMARIO = 'X-Leitura-Primario-Ate';
+let leituraPrimarioAte: string | undefined;
+
 api.interceptors.request.use(
   (config) => {
     // Ignora o interceptor para a rota de login
@@ -53,6 +93,9 @@ api.interceptors.request.use(
     if (token) {
       config.headers.Authorization = `Bearer ${token}`;
     }
+    if (leituraPrimarioAte) {
+      config.headers[LEITURA_PRIMARIO] = leituraPrimarioAte;
+    }
     return config;
   },
   (error) => {
@@ -60,6 +103,14 @@ api.interceptors.request.use(
   }
 );
 
+api.interceptors.response.use((response) => {
+  const ate = response.headers[LEITURA_PRIMARIO.toLowerCase()];
+  if (ate) {
+    leituraPrimarioAte = ate;
+  }
+  return response;
+});
+
 
 
 // ---  Categoria Service (Mapeado de CategoriaController.java) ---
@@ -128,6 +179,13 @@ export const getTecnicos = async (): Promise<Usuario[]> => {
   return response.data;
 };
 
+// Carga (abertos agora) e desempenho (fechados, mediana e p90 em minutos nos últimos "dias") dos técnicos.
+// O backend guarda o resultado por alguns segundos: pode ser chamado a cada abertura de tela
+export const getDesempenhoTecnicos = async (dias?: number): Promise<DesempenhoTecnico[]> => {
+  const response = await api.get<DesempenhoTecnico[]>('/usuarios/tecnicos/desempenho', { params: { dias } });
+  return response.data;
+};
+
 export const getUsuarioById = async (id: number): Promise<Usuario> => {
   const response = await api.get<Usuario>(`/usuarios/${id}`);
   return response.data;
@@ -162,19 +220,69 @@ export const getChamados = async (): Promise<Chamado[]> => {
   return response.data;
 };
 
+// Última versão recebida de cada chamado, com a ETag. Reabrir um chamado manda If-None-Match:
+// se nada mudou, o backend responde 304 sem corpo e usamos a cópia guardada.
+const chamadosEmCache = new Map<number, { etag: string; chamado: Chamado }>();
+
+const guardarChamado = (chamado: Chamado, etag: string | undefined): Chamado => {
+  if (etag) {
+    chamadosEmCache.set(chamado.id, { etag, chamado });
+  }
+  return chamado;
+};
+
+// ETag da versão do chamado que a tela está mostrando (para o If-Match das alterações)
+export const getEtagChamado = (id: number): string | undefined => chamadosEmCache.get(id)?.etag;
+
+// Cabeçalho If-Match: a alteração só é aplicada se o chamado não mudou desde que foi carregado (senão 412)
+const seInalterado = (etag?: string) => (etag ? { 'If-Match': etag } : {});
+
+// Criar chamado e os PATCH de chamado levam uma Idempotency-Key gerada por operação. Se a requisição
+// ficar sem resposta (queda de rede, timeout) ou a primeira ainda estiver executando (409 com Retry-After),
+// ela é repetida com a MESMA chave: o backend devolve a resposta da primeira execução em vez de
+// executar de novo (sem chamado duplicado).
+const TENTATIVAS = 3;
+const TEMPO_LIMITE_MS = 15_000;
+
+const comRepeticaoSegura = async <T>(
+  enviar: (config: { headers: Record<string, string>; timeout: number }) => Promise<T>,
+  headers: Record<string, string> = {},
+): Promise<T> => {
+  const config = { headers: { ...headers, 'Idempotency-Key': crypto.randomUUID() }, timeout: TEMPO_LIMITE_MS };
+  for (let tentativa = 1; ; tentativa++) {
+    try {
+      return await enviar(config);
+    } catch (erro) {
+      const podeRepetir = axios.isAxiosError(erro)
+        && (!erro.response || (erro.response.status === 409 && erro.response.headers['retry-after'] !== undefined));
+      if (!podeRepetir || tentativa >= TENTATIVAS) {
+        throw erro;
+      }
+      await new Promise((resolve) => setTimeout(resolve, 500 * tentativa));
+    }
+  }
+};
+
 export const getChamadoById = async (id: number): Promise<Chamado> => {
-  const response = await api.get<Chamado>(`/chamados/${id}`);
-  return response.data;
+  const emCache = chamadosEmCache.get(id);
+  const response = await api.get<Chamado>(`/chamados/${id}`, {
+    headers: emCache ? { 'If-None-Match': emCache.etag } : {},
+    validateStatus: (status) => (status >= 200 && status < 300) || status === 304,
+  });
+  if (response.status === 304 && emCache) {
+    return emCache.chamado;
+  }
+  return guardarChamado(response.data, response.headers['etag']);
 };
 
 export const createChamado = async (data: CreateChamadoDTO): Promise<Chamado> => {
-  const response = await api.post<Chamado>('/chamados', data);
+  const response = await comRepeticaoSegura((config) => api.post<Chamado>('/chamados', data, config));
   return response.data;
 };
 
-export const updateChamado = async (id: number, data: UpdateChamadoDTO): Promise<Chamado> => {
-  const response = await api.put<Chamado>(`/chamados/${id}`, data);
-  return response.data;
+export const updateChamado = async (id: number, data: UpdateChamadoDTO, etag?: string): Promise<Chamado> => {
+  const response = await api.put<Chamado>(`/chamados/${id}`, data, { headers: seInalterado(etag) });
+  return guardarChamado(response.data, response.headers['etag']);
 };
 
 
@@ -182,30 +290,94 @@ export const deleteChamado = async (id: number): Promise<void> => {
   await api.delete(`/chamados/${id}`);
 };
 
-export const updateChamadoStatus = async (id: number, status: string): Promise<Chamado> => {
-  const response = await api.patch<Chamado>(`/chamados/${id}/alterar-status`, null, {
-    params: { status }
+export const updateChamadoStatus = async (id: number, status: string, etag?: string): Promise<Chamado> => {
+  const response = await comRepeticaoSegura((config) => api.patch<Chamado>(`/chamados/${id}/alterar-status`, null, {
+    ...config,
+    params: { status },
+  }), seInalterado(etag));
+  return guardarChamado(response.data, response.headers['etag']);
+};
+
+export const assumirChamado = async (id: number, etag?: string): Promise<Chamado> => {
+  const response = await comRepeticaoSegura((config) => api.patch<Chamado>(`/chamados/${id}/assumir`, null, config),
+    seInalterado(etag));
+  return guardarChamado(response.data, response.headers['etag']);
+};
+
+export const fecharChamado = async (id: number, etag?: string): Promise<Chamado> => {
+  const response = await comRepeticaoSegura((config) => api.patch<Chamado>(`/chamados/${id}/fechar`, null, config),
+    seInalterado(etag));
+  return guardarChamado(response.data, response.headers['etag']);
+};
+
+export const atribuirChamado = async (chamadoId: number, tecnicoId: number, etag?: string): Promise<Chamado> => {
+  const response = await comRepeticaoSegura((config) => api.patch<Chamado>(`/chamados/${chamadoId}/atribuir`, null, {
+    ...config,
+    params: { tecnicoId }, // Envia o ID do técnico como um @RequestParam
+  }), seInalterado(etag));
+  return guardarChamado(response.data, response.headers['etag']);
+};
+
+// Pega o próximo chamado da fila (maior prioridade, depois o mais antigo); null se a fila estiver vazia
+export const pegarProximoChamado = async (): Promise<Chamado | null> => {
+  const response = await api.post<Chamado>('/chamados/proximo', null);
+  return response.status === 204 ? null : response.data;
+};
+
+// --- Incidentes: um chamado pai agrupa os filhos; mudar o status do pai muda o de todos os filhos ---
+export const vincularAoIncidente = async (paiId: number, ids: number[]): Promise<ResultadoLote[]> => {
+  const response = await api.post<ResultadoLote[]>(`/chamados/${paiId}/filhos`, ids);
+  return response.data;
+};
+
+export const getFilhosIncidente = async (paiId: number): Promise<Chamado[]> => {
+  const response = await api.get<Chamado[]>(`/chamados/${paiId}/filhos`);
+  return response.data;
+};
+
+export const desvincularDoIncidente = async (id: number): Promise<Chamado> => {
+  const response = await comRepeticaoSegura((config) => api.patch<Chamado>(`/chamados/${id}/desvincular`, null, config));
+  return guardarChamado(response.data, response.headers['etag']);
+};
+
+// --- Comentários e Anexos (ComentarioController / AnexoController) ---
+export const getComentarios = async (chamadoId: number, pagina = 0, tamanho = 20): Promise<Pagina<Comentario>> => {
+  const response = await api.get<Pagina<Comentario>>(`/chamados/${chamadoId}/comentarios`, {
+    params: { pagina, tamanho }
   });
   return response.data;
 };
 
-export const assumirChamado = async (id: number): Promise<Chamado> => {
-  const response = await api.patch<Chamado>(`/chamados/${id}/assumir`, null);
+export const addComentario = async (chamadoId: number, texto: string): Promise<Comentario> => {
+  const response = await api.post<Comentario>(`/chamados/${chamadoId}/comentarios`, { texto });
   return response.data;
 };
 
-export const fecharChamado = async (id: number): Promise<Chamado> => {
-  const response = await api.patch<Chamado>(`/chamados/${id}/fechar`, null);
+export const getAnexos = async (chamadoId: number): Promise<Anexo[]> => {
+  const response = await api.get<Anexo[]>(`/chamados/${chamadoId}/anexos`);
   return response.data;
 };
 
-export const atribuirChamado = async (chamadoId: number, tecnicoId: number): Promise<Chamado> => {
-  const response = await api.patch<Chamado>(`/chamados/${chamadoId}/atribuir`, null, {
-    params: { tecnicoId } // Envia o ID do técnico como um @RequestParam
+// O arquivo vai direto no corpo da requisição (sem multipart)
+export const uploadAnexo = async (chamadoId: number, arquivo: File): Promise<Anexo> => {
+  const response = await api.post<Anexo>(`/chamados/${chamadoId}/anexos`, arquivo, {
+    params: { nome: arquivo.name },
+    headers: { 'Content-Type': arquivo.type || 'application/octet-stream' }
   });
   return response.data;
 };
 
+export const downloadAnexo = async (chamadoId: number, anexoId: number): Promise<Blob> => {
+  const response = await api.get<Blob>(`/chamados/${chamadoId}/anexos/${anexoId}`, { responseType: 'blob' });
+  return response.data;
+};
+
+// ---  Relatórios (Mapeado de RelatorioController.java, só ADM) ---
+export const getFluxoChamados = async (filtro: FiltroFluxo = {}): Promise<FluxoChamados[]> => {
+  const response = await api.get<FluxoChamados[]>('/relatorios/fluxo', { params: filtro });
+  return response.data;
+};
+
 // ---  Auth Service (Mapeado de AuthController.java) ---
 export const login = async (data: AuthRequest): Promise<AuthResponse> => {
   const response = await api.post<AuthResponse>('/auth/login', data);
@@ -9,6 +9,15 @@ export const Role = {
 
 export type Role = typeof Role[keyof typeof Role];
 
+export const Prioridade = {
+  BAIXA: 'BAIXA',
+  MEDIA: 'MEDIA',
+  ALTA: 'ALTA',
+  CRITICA: 'CRITICA',
+} as const;
+
+export type Prioridade = typeof Prioridade[keyof typeof Prioridade];
+
 export interface Setor {
   id: number;
   nome: string;
@@ -34,10 +43,43 @@ export interface Chamado {
   titulo: string;
   descricao: string;
   status: string;
+  prioridade: Prioridade;
   dataAbertura: string;
   usuario: Usuario;
   categoria: Categoria;
   tecnico?: Usuario;
   setor?: Setor;
   dataConclusao?: string;
-}
\ No newline at end of file
+  versao: number; // Muda a cada alteração (vai na ETag de GET /chamados/{id})
+  incidentePaiId?: number; // Chamado pai do incidente, se este faz parte de um
+  possiveisDuplicados?: number[]; // Só na resposta da criação: chamados abertos com texto parecido
+}
+
+export interface Comentario {
+  id: number;
+  chamadoId: number;
+  autorId: number;
+  autorNome: string;
+  texto: string;
+  dataCriacao: string;
+}
+
+export interface Anexo {
+  id: number;
+  chamadoId: number;
+  autorNome: string;
+  nomeArquivo: string;
+  contentType: string;
+  tamanho: number;
+  hash: string;
+  dataEnvio: string;
+}
+
+// Página de resultados (PaginaDTO do back-end)
+export interface Pagina<T> {
+  itens: T[];
+  pagina: number;
+  tamanho: number;
+  totalItens: number;
+  totalPaginas: number;
+}